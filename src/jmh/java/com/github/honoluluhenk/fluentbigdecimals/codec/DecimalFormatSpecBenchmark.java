@@ -0,0 +1,97 @@
+package com.github.honoluluhenk.fluentbigdecimals.codec;
+
+import com.github.honoluluhenk.fluentbigdecimals.ConfigurationFactory;
+import com.github.honoluluhenk.fluentbigdecimals.FluentBigDecimal;
+import com.github.honoluluhenk.fluentbigdecimals.ScalingConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.ParseException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link DecimalFormatSpec} vs. a (cloned, i.e.: thread safe) {@link DecimalFormat} for Swiss amounts like
+ * {@code 1'234.50}.
+ * <p>
+ * Run using: {@code mvn -B -Pjmh verify -DskipTests -Djmh.include=DecimalFormatSpec}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DecimalFormatSpecBenchmark {
+    private static final int SIZE = 1024;
+    private static final ScalingConfiguration<FluentBigDecimal> MONETARY = ConfigurationFactory.monetary(20);
+
+    private DecimalFormatSpec<FluentBigDecimal> spec;
+    private DecimalFormat decimalFormat;
+    private FluentBigDecimal[] amounts;
+    private String[] texts;
+
+    @Setup
+    public void setUp() {
+        spec = DecimalFormatSpec.of(MONETARY).withGroupingSeparator('\'');
+        DecimalFormatSymbols symbols = new DecimalFormatSymbols();
+        symbols.setGroupingSeparator('\'');
+        symbols.setDecimalSeparator('.');
+        decimalFormat = new DecimalFormat("#,##0.00", symbols);
+        decimalFormat.setParseBigDecimal(true);
+
+        Random random = new Random(42);
+        amounts = new FluentBigDecimal[SIZE];
+        texts = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            amounts[i] = MONETARY.of(BigDecimal.valueOf(random.nextInt(200_000_000) - 100_000_000, 2));
+            texts[i] = spec.format(amounts[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void formatDecimalFormat(Blackhole blackhole) {
+        for (FluentBigDecimal amount : amounts) {
+            blackhole.consume(((DecimalFormat) decimalFormat.clone()).format(amount.getValue()));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void format(Blackhole blackhole) {
+        for (FluentBigDecimal amount : amounts) {
+            blackhole.consume(spec.format(amount));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void parseDecimalFormat(Blackhole blackhole) throws ParseException {
+        for (String text : texts) {
+            BigDecimal parsed = (BigDecimal) ((DecimalFormat) decimalFormat.clone()).parse(text);
+            blackhole.consume(MONETARY.of(parsed));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void parse(Blackhole blackhole) {
+        for (String text : texts) {
+            blackhole.consume(spec.parse(text));
+        }
+    }
+}
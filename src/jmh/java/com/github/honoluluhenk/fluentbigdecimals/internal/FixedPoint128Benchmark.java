@@ -0,0 +1,112 @@
+package com.github.honoluluhenk.fluentbigdecimals.internal;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link FixedPoint128} vs. {@link BigDecimal} on values stored as two longs (like a wide
+ * {@code DecimalSegmentArray}): 19 to 24 digit amounts at scale 6 multiplied/divided and rounded back to scale 6
+ * (i.e.: SQL {@code DECIMAL(38, 6)}).
+ * <p>
+ * Run using: {@code mvn -B -Pjmh verify -DskipTests -Djmh.include=FixedPoint128}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FixedPoint128Benchmark {
+    private static final int SIZE = 1024;
+    private static final int SCALE = 6;
+
+    @Param({"20", "38"})
+    private int precision;
+
+    private MathContext mathContext;
+    private long[] words;
+    private BigDecimal rate;
+    private FixedPoint128 fixedRate;
+    private FixedPoint128 divisor;
+
+    @Setup
+    public void setUp() {
+        mathContext = new MathContext(precision, RoundingMode.HALF_UP);
+        Random random = new Random(42);
+        words = new long[2 * SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            BigInteger unscaled = new BigInteger(80, random).add(BigInteger.TEN.pow(18));
+            words[2 * i] = Int128.high(unscaled);
+            words[2 * i + 1] = Int128.low(unscaled);
+        }
+        rate = new BigDecimal("1.083746");
+        fixedRate = FixedPoint128.of(rate);
+        divisor = FixedPoint128.of(12, 0);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void multiplyBigDecimal(Blackhole blackhole) {
+        for (int i = 0; i < SIZE; i++) {
+            BigDecimal value = new BigDecimal(Int128.toBigInteger(words[2 * i], words[2 * i + 1]), SCALE);
+            BigInteger result = value.multiply(rate, mathContext).setScale(SCALE, RoundingMode.HALF_UP).unscaledValue();
+            blackhole.consume(Int128.high(result));
+            blackhole.consume(Int128.low(result));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void multiply(Blackhole blackhole) {
+        for (int i = 0; i < SIZE; i++) {
+            FixedPoint128 value = FixedPoint128.of(words[2 * i], words[2 * i + 1], SCALE);
+            value.multiply(fixedRate);
+            value.round(mathContext);
+            value.setScale(SCALE, RoundingMode.HALF_UP);
+            blackhole.consume(value.unscaledHigh());
+            blackhole.consume(value.unscaledLow());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void divideBigDecimal(Blackhole blackhole) {
+        BigDecimal twelve = BigDecimal.valueOf(12);
+        for (int i = 0; i < SIZE; i++) {
+            BigDecimal value = new BigDecimal(Int128.toBigInteger(words[2 * i], words[2 * i + 1]), SCALE);
+            BigInteger result = value.divide(twelve, mathContext).setScale(SCALE, RoundingMode.HALF_UP).unscaledValue();
+            blackhole.consume(Int128.high(result));
+            blackhole.consume(Int128.low(result));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void divide(Blackhole blackhole) {
+        for (int i = 0; i < SIZE; i++) {
+            FixedPoint128 value = FixedPoint128.of(words[2 * i], words[2 * i + 1], SCALE);
+            value.divide(divisor, mathContext);
+            value.setScale(SCALE, RoundingMode.HALF_UP);
+            blackhole.consume(value.unscaledHigh());
+            blackhole.consume(value.unscaledLow());
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.github.honoluluhenk.fluentbigdecimals.internal;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link LongKernels} (Vector API on JDK 21+) vs. {@link ScalarKernels} on the same data.
+ * <p>
+ * Run using: {@code mvn -B -Pjmh verify -DskipTests}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class LongKernelsBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private long[] a;
+    private long[] b;
+    private long[] result;
+
+    @Setup
+    public void setUp() {
+        if (!LongKernels.isVectorized()) {
+            System.err.println("LongKernels are not vectorized on this JVM, comparing scalar to scalar");
+        }
+
+        Random random = new Random(42);
+        // amounts up to 10 million with 2 decimals
+        a = random.longs(size, -1_000_000_000L, 1_000_000_000L).toArray();
+        b = random.longs(size, -1_000_000_000L, 1_000_000_000L).toArray();
+        result = new long[size];
+    }
+
+    @Benchmark
+    public boolean addScalar() {
+        return ScalarKernels.add(a, b, result, 0, size);
+    }
+
+    @Benchmark
+    public boolean add() {
+        return LongKernels.add(a, b, result);
+    }
+
+    @Benchmark
+    public boolean subtractScalar() {
+        return ScalarKernels.subtract(a, b, result, 0, size);
+    }
+
+    @Benchmark
+    public boolean subtract() {
+        return LongKernels.subtract(a, b, result);
+    }
+
+    @Benchmark
+    public boolean multiplyScalar() {
+        return ScalarKernels.multiply(a, 37, result, 0, size);
+    }
+
+    @Benchmark
+    public boolean multiply() {
+        return LongKernels.multiply(a, 37, result);
+    }
+
+    @Benchmark
+    public boolean rescaleScalar() {
+        return ScalarKernels.multiply(a, 100, result, 0, size);
+    }
+
+    @Benchmark
+    public boolean rescale() {
+        return LongKernels.rescale(a, 2, 4, result);
+    }
+
+    @Benchmark
+    public long[] betweenScalar() {
+        long[] mask = new long[LongKernels.words(size)];
+        for (int word = 0; word < mask.length; word++) {
+            int from = word << 6;
+            mask[word] = ScalarKernels.between(a, from, Math.min(from + Long.SIZE, size), -100_000, 100_000);
+        }
+
+        return mask;
+    }
+
+    @Benchmark
+    public long[] between() {
+        return LongKernels.between(a, -100_000, 100_000);
+    }
+}
@@ -0,0 +1,70 @@
+package com.github.honoluluhenk.fluentbigdecimals.internal;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link PlainDecimals} vs. {@link BigDecimal#toPlainString()} for writing monetary amounts to a byte buffer
+ * (e.g.: CSV or JSON output).
+ * <p>
+ * Run using: {@code mvn -B -Pjmh verify -DskipTests -Djmh.include=PlainDecimals}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlainDecimalsBenchmark {
+    private static final int SIZE = 1024;
+
+    private BigDecimal[] amounts;
+    private byte[] buffer;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        amounts = new BigDecimal[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            amounts[i] = BigDecimal.valueOf(random.nextInt(100_000_000) - 50_000_000, 2);
+        }
+        buffer = new byte[SIZE * 16];
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void toPlainString(Blackhole blackhole) {
+        int offset = 0;
+        for (BigDecimal amount : amounts) {
+            byte[] bytes = amount.toPlainString().getBytes(StandardCharsets.US_ASCII);
+            System.arraycopy(bytes, 0, buffer, offset, bytes.length);
+            offset += bytes.length;
+        }
+        blackhole.consume(offset);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void writePlainAscii(Blackhole blackhole) {
+        int offset = 0;
+        for (BigDecimal amount : amounts) {
+            offset += PlainDecimals.writePlainAscii(buffer, offset, amount);
+        }
+        blackhole.consume(offset);
+    }
+}
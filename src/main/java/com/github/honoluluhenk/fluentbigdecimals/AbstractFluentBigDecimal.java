@@ -1,5 +1,7 @@
 package com.github.honoluluhenk.fluentbigdecimals;
 
+import com.github.honoluluhenk.fluentbigdecimals.internal.DecimalMath;
+import com.github.honoluluhenk.fluentbigdecimals.internal.PlainDecimals;
 import com.github.honoluluhenk.fluentbigdecimals.scaler.Scaler;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -7,10 +9,12 @@ import lombok.var;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.MathContext;
+import java.nio.ByteBuffer;
 import java.util.function.Function;
 
 import static java.util.Objects.requireNonNull;
@@ -133,14 +137,16 @@ class AbstractFluentBigDecimal<T extends AbstractFluentBigDecimal<T>>
 
     @Override
     public @NonNull String toString() {
-        String result = String.format(
-            "%s[%s,%s]",
-            getClass().getSimpleName(),
-            value.toPlainString(),
-            getConfiguration()
-        );
+        StringBuilder result = new StringBuilder(64)
+            .append(getClass().getSimpleName())
+            .append('[');
+        PlainDecimals.appendPlain(result, value);
 
-        return result;
+        return result
+            .append(',')
+            .append(getConfiguration())
+            .append(']')
+            .toString();
     }
 
     /**
@@ -150,6 +156,44 @@ class AbstractFluentBigDecimal<T extends AbstractFluentBigDecimal<T>>
         return getValue().toPlainString();
     }
 
+    /**
+     * Appends {@link #toPlainString()} without creating a String.
+     */
+    public @NonNull StringBuilder appendPlain(@NonNull StringBuilder out) {
+        PlainDecimals.appendPlain(requireNonNull(out, "out required"), getValue());
+
+        return out;
+    }
+
+    /**
+     * Appends {@link #toPlainString()} without creating a String (e.g.: to a {@link java.io.Writer}).
+     */
+    public <A extends Appendable> @NonNull A appendPlain(@NonNull A out) throws IOException {
+        PlainDecimals.appendPlain(requireNonNull(out, "out required"), getValue());
+
+        return out;
+    }
+
+    /**
+     * Writes {@link #toPlainString()} as ASCII bytes at the position of out (e.g.: for JSON or CSV).
+     *
+     * @return the number of bytes written.
+     * @throws java.nio.BufferOverflowException if there is not enough space left, nothing is written then.
+     */
+    public int writePlainAscii(@NonNull ByteBuffer out) {
+        return PlainDecimals.writePlainAscii(requireNonNull(out, "out required"), getValue());
+    }
+
+    /**
+     * Writes {@link #toPlainString()} as ASCII bytes into target, starting at offset.
+     *
+     * @return the number of bytes written.
+     * @throws IndexOutOfBoundsException if there is not enough space left, nothing is written then.
+     */
+    public int writePlainAscii(byte @NonNull [] target, int offset) {
+        return PlainDecimals.writePlainAscii(requireNonNull(target, "target required"), offset, getValue());
+    }
+
     /**
      * See {@link BigDecimal#toEngineeringString()}.
      */
@@ -303,6 +347,75 @@ class AbstractFluentBigDecimal<T extends AbstractFluentBigDecimal<T>>
         return result;
     }
 
+    /**
+     * Square root, see {@link #nthRoot(int)}.
+     */
+    public @NonNull T sqrt() {
+        T result = apply(DecimalMath::sqrt);
+
+        return result;
+    }
+
+    /**
+     * The n-th root at the precision of the {@link MathContext}.
+     *
+     * @throws ArithmeticException for even roots of negative values, non-positive n
+     *                             or unlimited precision.
+     */
+    public @NonNull T nthRoot(int n) {
+        T result = apply((value, mathContext) -> DecimalMath.nthRoot(value, n, mathContext));
+
+        return result;
+    }
+
+    /**
+     * Integer power using exponentiation by squaring with guard digits, rounded once.
+     * <p>
+     * For many powers of the same value, see {@link CompoundFactorTable}.
+     */
+    public @NonNull T pow(int exponent) {
+        T result = apply((value, mathContext) -> DecimalMath.pow(value, exponent, mathContext));
+
+        return result;
+    }
+
+    /**
+     * Power with arbitrary exponent at the precision of the {@link MathContext}.
+     * <p>
+     * Non-integral exponents are computed as {@code exp(exponent * ln(value))}, so value must be positive.
+     */
+    public @NonNull T pow(@Nullable BigDecimal exponent) {
+        T result = apply(DecimalMath::pow, exponent);
+
+        return result;
+    }
+
+    public <Other extends AbstractFluentBigDecimal<Other>> @NonNull T pow(@Nullable Other exponent) {
+        T result = pow(mapValue(exponent));
+
+        return result;
+    }
+
+    /**
+     * The exponential function e^value at the precision of the {@link MathContext}.
+     */
+    public @NonNull T exp() {
+        T result = apply(DecimalMath::exp);
+
+        return result;
+    }
+
+    /**
+     * The natural logarithm at the precision of the {@link MathContext}.
+     *
+     * @throws ArithmeticException for non-positive values or unlimited precision.
+     */
+    public @NonNull T ln() {
+        T result = apply(DecimalMath::ln);
+
+        return result;
+    }
+
     @Override
     public int intValue() {
         return getValue().intValue();
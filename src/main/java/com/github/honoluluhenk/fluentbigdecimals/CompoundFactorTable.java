@@ -0,0 +1,173 @@
+package com.github.honoluluhenk.fluentbigdecimals;
+
+import com.github.honoluluhenk.fluentbigdecimals.internal.DecimalMath;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Precomputed compound factors {@code (1 + rate)^period} for a range of periods,
+ * e.g.: for a daily schedule over 30 years.
+ * <p>
+ * The factors are computed once as a chain of multiplications at the precision of the configuration
+ * plus guard digits (enough to absorb the rounding errors along the chain).
+ * Lookups do not compute anything.
+ * <p>
+ * {@link #getFactor(int)} rounds/scales using the configuration,
+ * {@link #compound(AbstractFluentBigDecimal, int)} multiplies using the unrounded factor,
+ * i.e.: the result is rounded exactly once.
+ * <p>
+ * Immutable, thread safe.
+ */
+public final class CompoundFactorTable<T extends AbstractFluentBigDecimal<T>> {
+    private static final int GUARD_DIGITS = 10;
+
+    private final @NonNull Configuration<T> configuration;
+    private final @NonNull BigDecimal rate;
+    private final int fromPeriod;
+    // at working precision
+    private final @NonNull BigDecimal @NonNull [] rawFactors;
+    private final @NonNull T @NonNull [] factors;
+
+    private CompoundFactorTable(
+        @NonNull Configuration<T> configuration,
+        @NonNull BigDecimal rate,
+        int fromPeriod,
+        @NonNull BigDecimal @NonNull [] rawFactors,
+        @NonNull T @NonNull [] factors
+    ) {
+        this.configuration = configuration;
+        this.rate = rate;
+        this.fromPeriod = fromPeriod;
+        this.rawFactors = rawFactors;
+        this.factors = factors;
+    }
+
+    /**
+     * The factors for the periods 0 to toPeriod (inclusive), using the configuration of rate.
+     */
+    public static <T extends AbstractFluentBigDecimal<T>> @NonNull CompoundFactorTable<T> of(
+        @NonNull T rate,
+        int toPeriod
+    ) {
+        requireNonNull(rate, "rate required");
+
+        return of(rate.getConfiguration(), rate.getValue(), 0, toPeriod);
+    }
+
+    /**
+     * The factors for the periods fromPeriod to toPeriod (both inclusive, negative periods give discount factors).
+     *
+     * @throws IllegalArgumentException if the range is empty or the configuration has unlimited precision.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends AbstractFluentBigDecimal<T>> @NonNull CompoundFactorTable<T> of(
+        @NonNull Configuration<T> configuration,
+        @NonNull BigDecimal rate,
+        int fromPeriod,
+        int toPeriod
+    ) {
+        requireNonNull(configuration, "configuration required");
+        requireNonNull(rate, "rate required");
+        if (fromPeriod > toPeriod) {
+            throw new IllegalArgumentException("Empty range of periods: " + fromPeriod + ".." + toPeriod);
+        }
+        long size = (long) toPeriod - fromPeriod + 1;
+        if (size > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Too many periods: " + fromPeriod + ".." + toPeriod);
+        }
+        int precision = configuration.getMathContext().getPrecision();
+        if (precision == 0) {
+            throw new IllegalArgumentException("Configuration needs a limited precision: " + configuration);
+        }
+
+        // the chain has at most max(|from|, size) roundings
+        long chainLength = Math.max(Math.abs((long) fromPeriod), size);
+        MathContext working = new MathContext(
+            precision + GUARD_DIGITS + String.valueOf(chainLength).length(),
+            RoundingMode.HALF_EVEN
+        );
+
+        BigDecimal base = BigDecimal.ONE.add(rate);
+        BigDecimal[] rawFactors = new BigDecimal[(int) size];
+        T[] factors = (T[]) new AbstractFluentBigDecimal<?>[(int) size];
+        BigDecimal factor = DecimalMath.pow(base, fromPeriod, working);
+        for (int i = 0; i < rawFactors.length; i++) {
+            if (i > 0) {
+                factor = factor.multiply(base, working);
+            }
+            rawFactors[i] = factor;
+            factors[i] = configuration.of(factor);
+        }
+
+        return new CompoundFactorTable<>(configuration, rate, fromPeriod, rawFactors, factors);
+    }
+
+    public @NonNull Configuration<T> getConfiguration() {
+        return configuration;
+    }
+
+    public @NonNull T getRate() {
+        return configuration.ofRaw(rate);
+    }
+
+    public int getFromPeriod() {
+        return fromPeriod;
+    }
+
+    public int getToPeriod() {
+        return fromPeriod + rawFactors.length - 1;
+    }
+
+    /**
+     * {@code (1 + rate)^period}, rounded/scaled using the configuration.
+     *
+     * @throws IndexOutOfBoundsException if period is outside of the table.
+     */
+    public @NonNull T getFactor(int period) {
+        return factors[indexOf(period)];
+    }
+
+    /**
+     * {@code (1 + rate)^period} at internal precision, <strong>not</strong> rounded/scaled by the configuration.
+     *
+     * @throws IndexOutOfBoundsException if period is outside of the table.
+     */
+    public @NonNull T getFactorRaw(int period) {
+        return configuration.ofRaw(rawFactors[indexOf(period)]);
+    }
+
+    /**
+     * {@code principal * (1 + rate)^period}, rounded/scaled once using the configuration of principal.
+     *
+     * @throws IndexOutOfBoundsException if period is outside of the table.
+     */
+    public <P extends AbstractFluentBigDecimal<P>> @NonNull P compound(@NonNull P principal, int period) {
+        requireNonNull(principal, "principal required");
+
+        return principal.multiply(rawFactors[indexOf(period)]);
+    }
+
+    private int indexOf(int period) {
+        long index = (long) period - fromPeriod;
+        if (index < 0 || index >= rawFactors.length) {
+            throw new IndexOutOfBoundsException("Period " + period + " outside of table: "
+                + fromPeriod + ".." + getToPeriod());
+        }
+
+        return (int) index;
+    }
+
+    @Override
+    public @NonNull String toString() {
+        return getClass().getSimpleName()
+            + "[rate=" + rate.toPlainString()
+            + ",periods=" + fromPeriod + ".." + getToPeriod()
+            + ',' + configuration
+            + ']';
+    }
+}
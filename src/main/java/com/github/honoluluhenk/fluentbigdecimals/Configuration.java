@@ -43,12 +43,10 @@ public class Configuration<T extends AbstractFluentBigDecimal<T>> implements Ser
 
     @Override
     public @NonNull String toString() {
-        return String.format(
-            "[%s,%s,%s]",
-            getMathContext().getPrecision(),
-            getMathContext().getRoundingMode(),
-            getScaler()
-        );
+        return "[" + getMathContext().getPrecision()
+            + ',' + getMathContext().getRoundingMode()
+            + ',' + getScaler()
+            + ']';
     }
 
     /**
@@ -0,0 +1,159 @@
+package com.github.honoluluhenk.fluentbigdecimals.aggregate;
+
+import com.github.honoluluhenk.fluentbigdecimals.AbstractFluentBigDecimal;
+import com.github.honoluluhenk.fluentbigdecimals.internal.ScaledLongs;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+import static com.github.honoluluhenk.fluentbigdecimals.internal.ScaledLongs.NOT_REPRESENTABLE;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A decimal value usable as key in hash based collections (e.g.: for grouping) with
+ * {@link BigDecimal#compareTo(BigDecimal)} semantics, i.e.: {@code 1.0} and {@code 1.00} are the same key.
+ * <p>
+ * The value is normalized (trailing zeros stripped) once on creation and the hash code is cached,
+ * so unlike calling {@link BigDecimal#stripTrailingZeros()} for every lookup, equals/hashCode are cheap.
+ * Values with up to 18 significant digits are held as unscaled long.
+ * <p>
+ * Immutable, thread safe.
+ */
+public final class DecimalKey implements Comparable<DecimalKey>, Serializable {
+    private static final long serialVersionUID = -3184067705924281329L;
+
+    // everything with 18 digits is guaranteed to fit into a long
+    private static final int LONG_DIGITS = 18;
+    private static final long LONG_LIMIT = ScaledLongs.powerOfTen(LONG_DIGITS);
+
+    public static final DecimalKey ZERO = new DecimalKey(0, 0, null);
+
+    // the value is either big (if not null) or unscaled * 10^-scale, both without trailing zeros
+    private final long unscaled;
+    private final int scale;
+    private final @Nullable BigDecimal big;
+    private final int hash;
+
+    private DecimalKey(long unscaled, int scale, @Nullable BigDecimal big) {
+        this.unscaled = unscaled;
+        this.scale = scale;
+        this.big = big;
+        this.hash = big != null
+            ? big.hashCode()
+            : 31 * Long.hashCode(unscaled) + scale;
+    }
+
+    public static @NonNull DecimalKey of(@NonNull BigDecimal value) {
+        requireNonNull(value, "value required");
+
+        if (value.precision() <= LONG_DIGITS) {
+            return ofUnscaled(value.unscaledValue().longValue(), value.scale());
+        }
+
+        return ofStripped(value.stripTrailingZeros());
+    }
+
+    public static @NonNull DecimalKey of(@NonNull AbstractFluentBigDecimal<?> value) {
+        requireNonNull(value, "value required");
+
+        return of(value.getValue());
+    }
+
+    public static @NonNull DecimalKey of(@NonNull String value) {
+        return of(new BigDecimal(value));
+    }
+
+    /**
+     * The key of unscaled * 10^-scale.
+     *
+     * @throws IllegalArgumentException for {@link ScaledLongs#NOT_REPRESENTABLE} (i.e.: {@link Long#MIN_VALUE}).
+     */
+    public static @NonNull DecimalKey ofUnscaled(long unscaled, int scale) {
+        if (unscaled == NOT_REPRESENTABLE) {
+            throw new IllegalArgumentException("Long.MIN_VALUE is not supported as unscaled value");
+        }
+        if (unscaled == 0) {
+            return ZERO;
+        }
+
+        long normalized = unscaled;
+        long normalizedScale = scale;
+        while (normalized % 10 == 0) {
+            normalized /= 10;
+            normalizedScale--;
+        }
+        if (normalized <= -LONG_LIMIT || normalized >= LONG_LIMIT || normalizedScale < Integer.MIN_VALUE) {
+            // keep the representation unique: 19 digit values are always held as BigDecimal
+            return ofStripped(BigDecimal.valueOf(unscaled, scale).stripTrailingZeros());
+        }
+
+        return new DecimalKey(normalized, (int) normalizedScale, null);
+    }
+
+    private static @NonNull DecimalKey ofStripped(@NonNull BigDecimal stripped) {
+        if (stripped.signum() == 0) {
+            return ZERO;
+        }
+        if (stripped.precision() <= LONG_DIGITS) {
+            return new DecimalKey(stripped.unscaledValue().longValue(), stripped.scale(), null);
+        }
+
+        return new DecimalKey(0, 0, stripped);
+    }
+
+    /**
+     * The normalized value, i.e.: without trailing zeros.
+     */
+    public @NonNull BigDecimal getValue() {
+        BigDecimal result = big;
+        if (result != null) {
+            return result;
+        }
+
+        return BigDecimal.valueOf(unscaled, scale);
+    }
+
+    @Override
+    public int compareTo(@NonNull DecimalKey other) {
+        if (big == null && other.big == null && scale == other.scale) {
+            return Long.compare(unscaled, other.unscaled);
+        }
+
+        return getValue().compareTo(other.getValue());
+    }
+
+    @Override
+    public boolean equals(@Nullable Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof DecimalKey)) {
+            return false;
+        }
+
+        DecimalKey that = (DecimalKey) other;
+        if (hash != that.hash || unscaled != that.unscaled || scale != that.scale) {
+            return false;
+        }
+
+        BigDecimal thisBig = big;
+        BigDecimal thatBig = that.big;
+        if (thisBig == null || thatBig == null) {
+            return thisBig == thatBig;
+        }
+
+        return thisBig.equals(thatBig);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public @NonNull String toString() {
+        return getValue().toPlainString();
+    }
+}
@@ -0,0 +1,369 @@
+package com.github.honoluluhenk.fluentbigdecimals.aggregate;
+
+import com.github.honoluluhenk.fluentbigdecimals.AbstractFluentBigDecimal;
+import com.github.honoluluhenk.fluentbigdecimals.Configuration;
+import com.github.honoluluhenk.fluentbigdecimals.internal.Configurations;
+import com.github.honoluluhenk.fluentbigdecimals.internal.ScaledLongs;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+
+import static com.github.honoluluhenk.fluentbigdecimals.internal.ScaledLongs.NOT_REPRESENTABLE;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Count and sum of values per group (i.e.: {@code GROUP BY key}).
+ * <p>
+ * Groups are kept in an open addressing hash table (linear probing), the counts and sums of all groups in
+ * primitive arrays, so accepting a value does not allocate (except for new groups).
+ * Use {@link DecimalKey} to group by decimal values with {@link BigDecimal#compareTo(BigDecimal)} semantics
+ * (e.g.: by price bucket), any other key with proper equals/hashCode works as well.
+ * <p>
+ * Sums are held <strong>exactly</strong> as unscaled long at the scale of the configuration,
+ * values that do not fit (or would overflow the sum) spill into a {@link BigDecimal}.
+ * The rounding/scaling of the configuration is only applied by the getters.
+ * <p>
+ * Groups are reported in order of their first occurrence.
+ * <p>
+ * Not thread safe: use one aggregator per thread and {@link #merge(GroupByAggregator)} them.
+ */
+public final class GroupByAggregator<K, T extends AbstractFluentBigDecimal<T>> {
+    private static final int DEFAULT_EXPECTED_GROUPS = 16;
+    // at most half of the hash table is used, keeping probe sequences short
+    private static final int MAX_TABLE_SIZE = 1 << 30;
+    private static final int EMPTY = -1;
+    // Fibonacci hashing: spreads the bits of the key hash codes
+    private static final int HASH_MULTIPLIER = 0x9E3779B9;
+
+    private final @NonNull Configuration<T> configuration;
+    private final int scale;
+
+    // group index per slot or EMPTY
+    private int @NonNull [] table;
+    private int shift;
+    // per group, dense in order of first occurrence
+    private @Nullable Object @NonNull [] keys;
+    private int @NonNull [] hashes;
+    private long @NonNull [] counts;
+    private long @NonNull [] sums;
+    private @Nullable BigDecimal @Nullable [] spills;
+    private int size;
+
+    public GroupByAggregator(@NonNull Configuration<T> configuration) {
+        this(configuration, DEFAULT_EXPECTED_GROUPS);
+    }
+
+    /**
+     * @param expectedGroups sizes the hash table so that this many groups fit without rehashing
+     */
+    public GroupByAggregator(@NonNull Configuration<T> configuration, int expectedGroups) {
+        this.configuration = requireNonNull(configuration, "configuration required");
+        if (expectedGroups < 0 || expectedGroups > MAX_TABLE_SIZE / 2) {
+            throw new IllegalArgumentException("Invalid number of expected groups: " + expectedGroups);
+        }
+        this.scale = ScaledLongs.fixedScale(configuration);
+
+        int capacity = Math.max(expectedGroups, 1);
+        initTable(Integer.highestOneBit(capacity * 2 - 1) * 2);
+        this.keys = new Object[capacity];
+        this.hashes = new int[capacity];
+        this.counts = new long[capacity];
+        this.sums = new long[capacity];
+    }
+
+    private void initTable(int tableSize) {
+        table = new int[tableSize];
+        Arrays.fill(table, EMPTY);
+        shift = Integer.SIZE - Integer.numberOfTrailingZeros(tableSize);
+    }
+
+    public @NonNull Configuration<T> getConfiguration() {
+        return configuration;
+    }
+
+    /**
+     * Number of groups.
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void accept(@NonNull K key, @NonNull AbstractFluentBigDecimal<?> value) {
+        requireNonNull(value, "value required");
+
+        accept(key, value.getValue());
+    }
+
+    public void accept(@NonNull K key, @NonNull BigDecimal value) {
+        requireNonNull(value, "value required");
+
+        int group = groupOf(key);
+        counts[group]++;
+        addToSum(group, value);
+    }
+
+    /**
+     * Accept a value in its unscaled form at the scale of the configuration.
+     *
+     * @throws IllegalArgumentException if the configuration has no fixed scale
+     *                                  or for {@link ScaledLongs#NOT_REPRESENTABLE} (i.e.: {@link Long#MIN_VALUE}).
+     */
+    public void acceptUnscaled(@NonNull K key, long unscaled) {
+        if (scale == ScaledLongs.UNKNOWN_SCALE) {
+            throw new IllegalArgumentException("Configuration has no fixed scale: " + configuration);
+        }
+        if (unscaled == NOT_REPRESENTABLE) {
+            throw new IllegalArgumentException("Long.MIN_VALUE is not supported as unscaled value");
+        }
+
+        int group = groupOf(key);
+        counts[group]++;
+        addUnscaled(group, unscaled);
+    }
+
+    private void addToSum(int group, @NonNull BigDecimal value) {
+        long unscaled = ScaledLongs.toUnscaled(value, scale);
+        if (unscaled == NOT_REPRESENTABLE) {
+            spill(group, value);
+        } else {
+            addUnscaled(group, unscaled);
+        }
+    }
+
+    private void addUnscaled(int group, long unscaled) {
+        long sum = ScaledLongs.add(sums[group], unscaled);
+        if (sum == NOT_REPRESENTABLE) {
+            spill(group, ScaledLongs.toBigDecimal(unscaled, scale));
+        } else {
+            sums[group] = sum;
+        }
+    }
+
+    private void spill(int group, @NonNull BigDecimal value) {
+        BigDecimal[] s = spills;
+        if (s == null) {
+            s = new BigDecimal[keys.length];
+            spills = s;
+        }
+
+        BigDecimal current = s[group];
+        s[group] = current == null ? value : current.add(value);
+    }
+
+    /**
+     * Merge all groups of other into this.
+     *
+     * @throws IllegalArgumentException if other uses a different configuration.
+     */
+    public void merge(@NonNull GroupByAggregator<K, T> other) {
+        requireNonNull(other, "other required");
+        if (!Configurations.roundsAlike(configuration, other.configuration)) {
+            throw new IllegalArgumentException("Configuration mismatch: " + configuration + " vs. " + other.configuration);
+        }
+
+        for (int i = 0; i < other.size; i++) {
+            int group = groupOf(other.key(i));
+            counts[group] += other.counts[i];
+            addUnscaled(group, other.sums[i]);
+            BigDecimal otherSpill = other.spill(i);
+            if (otherSpill != null) {
+                spill(group, otherSpill);
+            }
+        }
+    }
+
+    /**
+     * The group index of key, adding a new group if needed.
+     */
+    private int groupOf(@NonNull K key) {
+        requireNonNull(key, "key required");
+
+        int hash = key.hashCode();
+        int mask = table.length - 1;
+        int slot = (hash * HASH_MULTIPLIER) >>> shift;
+        while (true) {
+            int group = table[slot];
+            if (group == EMPTY) {
+                return addGroup(slot, key, hash);
+            }
+            if (hashes[group] == hash && key.equals(keys[group])) {
+                return group;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * The group index of key or {@link #EMPTY}.
+     */
+    private int findGroup(@NonNull Object key) {
+        requireNonNull(key, "key required");
+
+        int hash = key.hashCode();
+        int mask = table.length - 1;
+        int slot = (hash * HASH_MULTIPLIER) >>> shift;
+        while (true) {
+            int group = table[slot];
+            if (group == EMPTY || (hashes[group] == hash && key.equals(keys[group]))) {
+                return group;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private int addGroup(int slot, @NonNull K key, int hash) {
+        if (size == keys.length) {
+            growGroups();
+        }
+
+        int group = size++;
+        keys[group] = key;
+        hashes[group] = hash;
+        table[slot] = group;
+
+        if (size * 2L > table.length) {
+            rehash();
+        }
+
+        return group;
+    }
+
+    private void growGroups() {
+        int capacity = (int) Math.min(MAX_TABLE_SIZE / 2, keys.length * 2L);
+        if (capacity == keys.length) {
+            throw new IllegalStateException("Too many groups: " + size);
+        }
+
+        keys = Arrays.copyOf(keys, capacity);
+        hashes = Arrays.copyOf(hashes, capacity);
+        counts = Arrays.copyOf(counts, capacity);
+        sums = Arrays.copyOf(sums, capacity);
+        BigDecimal[] s = spills;
+        if (s != null) {
+            spills = Arrays.copyOf(s, capacity);
+        }
+    }
+
+    private void rehash() {
+        initTable(table.length * 2);
+        int mask = table.length - 1;
+        for (int group = 0; group < size; group++) {
+            int slot = (hashes[group] * HASH_MULTIPLIER) >>> shift;
+            while (table[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = group;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private @NonNull K key(int group) {
+        return (K) requireNonNull(keys[group]);
+    }
+
+    private @Nullable BigDecimal spill(int group) {
+        BigDecimal[] s = spills;
+
+        return s == null ? null : s[group];
+    }
+
+    private @NonNull BigDecimal exactSum(int group) {
+        BigDecimal result = ScaledLongs.toBigDecimal(sums[group], scale == ScaledLongs.UNKNOWN_SCALE ? 0 : scale);
+        BigDecimal spill = spill(group);
+        if (spill != null) {
+            result = result.add(spill);
+        }
+
+        return result;
+    }
+
+    public boolean contains(@NonNull Object key) {
+        return findGroup(key) != EMPTY;
+    }
+
+    /**
+     * Number of values of the group, 0 for unknown groups.
+     */
+    public long getCount(@NonNull Object key) {
+        int group = findGroup(key);
+
+        return group == EMPTY ? 0 : counts[group];
+    }
+
+    /**
+     * The exact sum of the group, rounded/scaled once by the configuration.
+     */
+    public @NonNull Optional<T> getSum(@NonNull Object key) {
+        int group = findGroup(key);
+        if (group == EMPTY) {
+            return Optional.empty();
+        }
+
+        return Optional.of(configuration.of(exactSum(group)));
+    }
+
+    /**
+     * The exact, <strong>un</strong>rounded sum of the group.
+     */
+    public @NonNull Optional<T> getSumRaw(@NonNull Object key) {
+        int group = findGroup(key);
+        if (group == EMPTY) {
+            return Optional.empty();
+        }
+
+        return Optional.of(configuration.ofRaw(exactSum(group)));
+    }
+
+    /**
+     * All group keys in order of first occurrence.
+     */
+    public @NonNull List<K> keys() {
+        List<K> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(key(i));
+        }
+
+        return result;
+    }
+
+    /**
+     * Visit key and sum (rounded/scaled once by the configuration) of all groups in order of first occurrence.
+     */
+    public void forEach(@NonNull BiConsumer<? super K, ? super T> consumer) {
+        requireNonNull(consumer, "consumer required");
+
+        for (int i = 0; i < size; i++) {
+            consumer.accept(key(i), configuration.of(exactSum(i)));
+        }
+    }
+
+    /**
+     * Sums per key (rounded/scaled once by the configuration) in order of first occurrence.
+     */
+    public @NonNull Map<K, T> toMap() {
+        Map<K, T> result = new LinkedHashMap<>(size * 2);
+        forEach(result::put);
+
+        return result;
+    }
+
+    @Override
+    public @NonNull String toString() {
+        return getClass().getSimpleName()
+            + "[groups=" + size
+            + ',' + configuration
+            + ']';
+    }
+}
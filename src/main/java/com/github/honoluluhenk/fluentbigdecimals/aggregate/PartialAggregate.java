@@ -0,0 +1,347 @@
+package com.github.honoluluhenk.fluentbigdecimals.aggregate;
+
+import com.github.honoluluhenk.fluentbigdecimals.AbstractFluentBigDecimal;
+import com.github.honoluluhenk.fluentbigdecimals.Configuration;
+import com.github.honoluluhenk.fluentbigdecimals.internal.ScaledLongs;
+import com.github.honoluluhenk.fluentbigdecimals.internal.VarInts;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.StreamCorruptedException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Optional;
+
+import static com.github.honoluluhenk.fluentbigdecimals.internal.ScaledLongs.NOT_REPRESENTABLE;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Count, sum, min and max of values as partial result of a distributed computation (e.g.: per shard of a ledger).
+ * <p>
+ * Everything is held <strong>exactly</strong> (the sum as unscaled magnitude at the largest scale seen so far)
+ * and independent of any {@link Configuration}. Rounding/scaling only happens on extraction,
+ * e.g.: {@link #getSum(Configuration)}.
+ * <p>
+ * {@link #merge(PartialAggregate)} is associative and commutative (up to the scale of min/max on ties),
+ * so merging partial aggregates gives the same result as aggregating all values on one node.
+ * <p>
+ * Partial aggregates can be shipped using the compact binary format of {@link #writeTo(DataOutput)}
+ * (or Java serialization).
+ * <p>
+ * Not thread safe.
+ */
+public final class PartialAggregate implements Serializable {
+    private static final long serialVersionUID = 5178230427915082212L;
+
+    private static final int FORMAT_VERSION = 1;
+    private static final int TAG_LONG = 0;
+    private static final int TAG_BIG = 1;
+    // longs have at most 19 digits
+    private static final int MAX_LONG_POWER_OF_TEN = 18;
+    private static final long[] LONG_POWERS_OF_TEN = longPowersOfTen();
+    // bounds for untrusted input: rescaling and BigInteger allocation are proportional to these
+    private static final int MAX_WIRE_SCALE = 1_000;
+    private static final int MAX_WIRE_LENGTH = 1_024;
+
+    private long count;
+    // the sum is (bigSum != null ? bigSum : sum) * 10^-scale
+    private int scale;
+    private long sum;
+    private @Nullable BigInteger bigSum;
+    private @Nullable BigDecimal min;
+    private @Nullable BigDecimal max;
+
+    public PartialAggregate() {
+        // empty aggregate
+    }
+
+    private static long @NonNull [] longPowersOfTen() {
+        long[] result = new long[MAX_LONG_POWER_OF_TEN + 1];
+        result[0] = 1;
+        for (int i = 1; i < result.length; i++) {
+            result[i] = result[i - 1] * 10;
+        }
+
+        return result;
+    }
+
+    public void accept(@NonNull AbstractFluentBigDecimal<?> value) {
+        requireNonNull(value, "value required");
+
+        accept(value.getValue());
+    }
+
+    public void accept(@NonNull BigDecimal value) {
+        requireNonNull(value, "value required");
+
+        count = Math.addExact(count, 1);
+        addToSum(value);
+        if (min == null || value.compareTo(min) < 0) {
+            min = value;
+        }
+        if (max == null || value.compareTo(max) > 0) {
+            max = value;
+        }
+    }
+
+    /**
+     * Merge other into this.
+     */
+    public void merge(@NonNull PartialAggregate other) {
+        requireNonNull(other, "other required");
+        if (other.count == 0) {
+            return;
+        }
+
+        count = Math.addExact(count, other.count);
+        addToSum(other.exactSum());
+        BigDecimal otherMin = requireNonNull(other.min);
+        BigDecimal otherMax = requireNonNull(other.max);
+        if (min == null || otherMin.compareTo(min) < 0) {
+            min = otherMin;
+        }
+        if (max == null || otherMax.compareTo(max) > 0) {
+            max = otherMax;
+        }
+    }
+
+    private void addToSum(@NonNull BigDecimal value) {
+        if (value.scale() > scale) {
+            rescale(value.scale());
+        }
+
+        if (bigSum == null) {
+            long unscaled = ScaledLongs.toUnscaled(value, scale);
+            long result = ScaledLongs.add(sum, unscaled);
+            if (result != NOT_REPRESENTABLE) {
+                sum = result;
+                return;
+            }
+            bigSum = BigInteger.valueOf(sum);
+        }
+
+        bigSum = bigSum.add(value.setScale(scale).unscaledValue());
+    }
+
+    private void rescale(int newScale) {
+        int digits = newScale - scale;
+        scale = newScale;
+        if (bigSum == null && digits <= MAX_LONG_POWER_OF_TEN) {
+            long factor = LONG_POWERS_OF_TEN[digits];
+            long high = Math.multiplyHigh(sum, factor);
+            long low = sum * factor;
+            // no overflow if the high word is just the sign extension of the low word
+            if (high == (low >> (Long.SIZE - 1)) && low != NOT_REPRESENTABLE) {
+                sum = low;
+                return;
+            }
+        }
+
+        BigInteger current = bigSum != null ? bigSum : BigInteger.valueOf(sum);
+        bigSum = current.multiply(BigInteger.TEN.pow(digits));
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * The exact, <strong>un</strong>rounded sum.
+     */
+    public @NonNull BigDecimal exactSum() {
+        BigInteger big = bigSum;
+        if (big != null) {
+            return new BigDecimal(big, scale);
+        }
+
+        return ScaledLongs.toBigDecimal(sum, scale);
+    }
+
+    /**
+     * The exact sum, rounded/scaled once by the configuration.
+     */
+    public <T extends AbstractFluentBigDecimal<T>> @NonNull T getSum(@NonNull Configuration<T> configuration) {
+        return configuration.of(exactSum());
+    }
+
+    public <T extends AbstractFluentBigDecimal<T>> @NonNull Optional<T> getMin(@NonNull Configuration<T> configuration) {
+        requireNonNull(configuration, "configuration required");
+
+        return Optional.ofNullable(min)
+            .map(configuration::of);
+    }
+
+    public <T extends AbstractFluentBigDecimal<T>> @NonNull Optional<T> getMax(@NonNull Configuration<T> configuration) {
+        requireNonNull(configuration, "configuration required");
+
+        return Optional.ofNullable(max)
+            .map(configuration::of);
+    }
+
+    /**
+     * The exact sum divided by the count (see {@link AbstractFluentBigDecimal#divide(long)}).
+     */
+    public <T extends AbstractFluentBigDecimal<T>> @NonNull Optional<T> getAverage(
+        @NonNull Configuration<T> configuration
+    ) {
+        requireNonNull(configuration, "configuration required");
+        if (count == 0) {
+            return Optional.empty();
+        }
+
+        return Optional.of(configuration.ofRaw(exactSum()).divide(count));
+    }
+
+    /**
+     * Write the compact binary form.
+     * <p>
+     * Format: version byte, count (unsigned varint).
+     * If count &gt; 0: sum, min, max, each as scale (zigzag varint) followed by the unscaled value:
+     * tag byte 0 + zigzag varint if it fits a long, tag byte 1 + length (unsigned varint) + two's complement bytes otherwise.
+     */
+    public void writeTo(@NonNull DataOutput out) throws IOException {
+        requireNonNull(out, "out required");
+
+        out.writeByte(FORMAT_VERSION);
+        VarInts.writeUnsignedLong(out, count);
+        if (count == 0) {
+            return;
+        }
+
+        writeDecimal(out, exactSum());
+        writeDecimal(out, requireNonNull(min));
+        writeDecimal(out, requireNonNull(max));
+    }
+
+    /**
+     * Read the form written by {@link #writeTo(DataOutput)}.
+     *
+     * @throws StreamCorruptedException if the bytes are malformed, or a scale exceeds &plusmn;1000
+     *                                  or an unscaled value 1024 bytes (as input may be untrusted).
+     */
+    public static @NonNull PartialAggregate readFrom(@NonNull DataInput in) throws IOException {
+        requireNonNull(in, "in required");
+
+        int version = in.readUnsignedByte();
+        if (version != FORMAT_VERSION) {
+            throw new StreamCorruptedException("Unsupported format version: " + version);
+        }
+
+        PartialAggregate result = new PartialAggregate();
+        long count = VarInts.readUnsignedLong(in);
+        if (count < 0) {
+            throw new StreamCorruptedException("Negative count: " + count);
+        }
+        if (count == 0) {
+            return result;
+        }
+
+        BigDecimal sum = readDecimal(in);
+        BigDecimal min = readDecimal(in);
+        BigDecimal max = readDecimal(in);
+        if (min.compareTo(max) > 0) {
+            throw new StreamCorruptedException("min > max: " + min + " > " + max);
+        }
+
+        result.count = count;
+        result.addToSum(sum);
+        result.min = min;
+        result.max = max;
+
+        return result;
+    }
+
+    public byte @NonNull [] toByteArray() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writeTo(out);
+        } catch (IOException e) {
+            // cannot happen with a ByteArrayOutputStream
+            throw new UncheckedIOException(e);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Read the form written by {@link #toByteArray()}.
+     *
+     * @throws IllegalArgumentException if bytes are not a valid (complete) partial aggregate.
+     */
+    public static @NonNull PartialAggregate fromByteArray(byte @NonNull [] bytes) {
+        requireNonNull(bytes, "bytes required");
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            PartialAggregate result = readFrom(in);
+            if (in.available() > 0) {
+                throw new IllegalArgumentException("Trailing bytes after partial aggregate: " + in.available());
+            }
+
+            return result;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid partial aggregate: " + e.getMessage(), e);
+        }
+    }
+
+    private static void writeDecimal(@NonNull DataOutput out, @NonNull BigDecimal value) throws IOException {
+        VarInts.writeSignedInt(out, value.scale());
+
+        BigInteger unscaled = value.unscaledValue();
+        if (unscaled.bitLength() < Long.SIZE) {
+            out.writeByte(TAG_LONG);
+            VarInts.writeSignedLong(out, unscaled.longValue());
+        } else {
+            byte[] bytes = unscaled.toByteArray();
+            out.writeByte(TAG_BIG);
+            VarInts.writeUnsignedLong(out, bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    private static @NonNull BigDecimal readDecimal(@NonNull DataInput in) throws IOException {
+        int scale = VarInts.readSignedInt(in);
+        if (scale < -MAX_WIRE_SCALE || scale > MAX_WIRE_SCALE) {
+            throw new StreamCorruptedException("Scale out of range: " + scale);
+        }
+
+        int tag = in.readUnsignedByte();
+        if (tag == TAG_LONG) {
+            return BigDecimal.valueOf(VarInts.readSignedLong(in), scale);
+        }
+        if (tag != TAG_BIG) {
+            throw new StreamCorruptedException("Unknown tag: " + tag);
+        }
+
+        long length = VarInts.readUnsignedLong(in);
+        if (length <= 0 || length > MAX_WIRE_LENGTH) {
+            throw new StreamCorruptedException("Invalid length: " + length);
+        }
+        byte[] bytes = new byte[(int) length];
+        in.readFully(bytes);
+
+        return new BigDecimal(new BigInteger(bytes), scale);
+    }
+
+    @Override
+    public @NonNull String toString() {
+        return getClass().getSimpleName()
+            + "[count=" + count
+            + ",sum=" + exactSum().toPlainString()
+            + ",min=" + (min == null ? "-" : min.toPlainString())
+            + ",max=" + (max == null ? "-" : max.toPlainString())
+            + ']';
+    }
+}
@@ -0,0 +1,387 @@
+package com.github.honoluluhenk.fluentbigdecimals.aggregate;
+
+import com.github.honoluluhenk.fluentbigdecimals.AbstractFluentBigDecimal;
+import com.github.honoluluhenk.fluentbigdecimals.Configuration;
+import com.github.honoluluhenk.fluentbigdecimals.internal.Configurations;
+import com.github.honoluluhenk.fluentbigdecimals.internal.ScaledLongs;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static com.github.honoluluhenk.fluentbigdecimals.internal.ScaledLongs.NOT_REPRESENTABLE;
+import static com.github.honoluluhenk.fluentbigdecimals.internal.ScaledLongs.UNKNOWN_SCALE;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Approximate quantiles (e.g.: p50, p99) of a large number of values in little memory,
+ * using a KLL sketch (Karnin, Lang, Liberty: "Optimal Quantile Approximation in Streams").
+ * <p>
+ * Values are held as unscaled longs at the scale of the configuration (rounded to that scale if needed),
+ * there are no floating point values involved. Compaction uses a deterministic pseudo random sequence,
+ * so feeding the same values in the same order always gives the same quantiles.
+ * Quantiles are values that have actually been accepted, rounded/scaled once by the configuration.
+ * <p>
+ * The rank error is about 1.7/k (i.e.: 1% for the default k of {@value #DEFAULT_K}),
+ * up to about 3k values are retained. As long as no compaction happened (less than k values), results are exact.
+ * Min and max are always exact.
+ * <p>
+ * Sketches can be {@link #merge(QuantileSketch) merged} (e.g.: one per thread or shard).
+ * <p>
+ * Not thread safe.
+ */
+public final class QuantileSketch<T extends AbstractFluentBigDecimal<T>> {
+    public static final int DEFAULT_K = 200;
+    private static final int MIN_K = 8;
+    private static final int MIN_LEVEL_CAPACITY = 2;
+    // capacity of each level relative to the level above
+    private static final double CAPACITY_DECAY = 2.0 / 3;
+    private static final long SEED = 0x5DEECE66DL;
+
+    private final @NonNull Configuration<T> configuration;
+    private final int scale;
+    private final int k;
+
+    private long count;
+    private long min = Long.MAX_VALUE;
+    private long max = Long.MIN_VALUE;
+    // items of level h have weight 2^h
+    private long @NonNull [] @NonNull [] levels;
+    private int @NonNull [] sizes;
+    // per level, only change when a level is added
+    private int @NonNull [] capacities;
+    private int maxRetained;
+    private int retained;
+    private long randomState = SEED;
+
+    public QuantileSketch(@NonNull Configuration<T> configuration) {
+        this(configuration, DEFAULT_K);
+    }
+
+    /**
+     * @param k accuracy parameter: larger k gives more accurate results, using more memory.
+     * @throws IllegalArgumentException if the configuration has no fixed scale or for k &lt; 8.
+     */
+    public QuantileSketch(@NonNull Configuration<T> configuration, int k) {
+        this.configuration = requireNonNull(configuration, "configuration required");
+        this.scale = ScaledLongs.fixedScale(configuration);
+        if (scale == UNKNOWN_SCALE) {
+            throw new IllegalArgumentException("Configuration has no fixed scale: " + configuration);
+        }
+        if (k < MIN_K) {
+            throw new IllegalArgumentException("k must be at least " + MIN_K + ": " + k);
+        }
+        this.k = k;
+
+        this.levels = new long[][]{new long[k]};
+        this.sizes = new int[1];
+        this.capacities = new int[1];
+        updateCapacities();
+    }
+
+    public @NonNull Configuration<T> getConfiguration() {
+        return configuration;
+    }
+
+    public int getK() {
+        return k;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * Number of values currently held by the sketch.
+     */
+    public int getRetained() {
+        return retained;
+    }
+
+    public void accept(@NonNull AbstractFluentBigDecimal<?> value) {
+        requireNonNull(value, "value required");
+
+        accept(value.getValue());
+    }
+
+    /**
+     * @throws ArithmeticException if value (rounded to the scale of the configuration) does not fit into an unscaled long.
+     */
+    public void accept(@NonNull BigDecimal value) {
+        requireNonNull(value, "value required");
+
+        long unscaled = ScaledLongs.toUnscaled(value, scale);
+        if (unscaled == NOT_REPRESENTABLE) {
+            BigDecimal rounded = value.setScale(scale, configuration.getMathContext().getRoundingMode());
+            unscaled = ScaledLongs.toUnscaled(rounded, scale);
+            if (unscaled == NOT_REPRESENTABLE) {
+                throw new ArithmeticException("Value does not fit into an unscaled long at scale " + scale + ": "
+                    + value.toPlainString());
+            }
+        }
+
+        acceptUnscaled(unscaled);
+    }
+
+    /**
+     * Accept a value in its unscaled form at the scale of the configuration.
+     *
+     * @throws IllegalArgumentException for {@link ScaledLongs#NOT_REPRESENTABLE} (i.e.: {@link Long#MIN_VALUE}).
+     */
+    public void acceptUnscaled(long unscaled) {
+        if (unscaled == NOT_REPRESENTABLE) {
+            throw new IllegalArgumentException("Long.MIN_VALUE is not supported as unscaled value");
+        }
+
+        count++;
+        min = Math.min(min, unscaled);
+        max = Math.max(max, unscaled);
+        append(0, unscaled);
+        retained++;
+        compressIfFull();
+    }
+
+    /**
+     * Merge other into this.
+     *
+     * @throws IllegalArgumentException if other uses a different configuration.
+     */
+    public void merge(@NonNull QuantileSketch<T> other) {
+        requireNonNull(other, "other required");
+        if (!Configurations.roundsAlike(configuration, other.configuration)) {
+            throw new IllegalArgumentException("Configuration mismatch: " + configuration + " vs. " + other.configuration);
+        }
+        if (other.count == 0) {
+            return;
+        }
+
+        count += other.count;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        while (levels.length < other.levels.length) {
+            addLevel();
+        }
+        for (int h = 0; h < other.levels.length; h++) {
+            for (int i = 0; i < other.sizes[h]; i++) {
+                append(h, other.levels[h][i]);
+            }
+            retained += other.sizes[h];
+        }
+        compressIfFull();
+    }
+
+    private void append(int level, long value) {
+        long[] items = levels[level];
+        int size = sizes[level];
+        if (size == items.length) {
+            items = Arrays.copyOf(items, Math.max(MIN_LEVEL_CAPACITY, items.length * 2));
+            levels[level] = items;
+        }
+        items[size] = value;
+        sizes[level] = size + 1;
+    }
+
+    private void updateCapacities() {
+        int result = 0;
+        for (int h = 0; h < levels.length; h++) {
+            int depth = levels.length - 1 - h;
+            capacities[h] = Math.max(MIN_LEVEL_CAPACITY, (int) Math.ceil(k * Math.pow(CAPACITY_DECAY, depth)));
+            result += capacities[h];
+        }
+        maxRetained = result;
+    }
+
+    private void compressIfFull() {
+        while (retained >= maxRetained) {
+            for (int h = 0; h < levels.length; h++) {
+                if (sizes[h] >= capacities[h]) {
+                    if (h + 1 == levels.length) {
+                        addLevel();
+                    }
+                    compact(h);
+                    break;
+                }
+            }
+        }
+    }
+
+    private void addLevel() {
+        int height = levels.length;
+        levels = Arrays.copyOf(levels, height + 1);
+        levels[height] = new long[MIN_LEVEL_CAPACITY];
+        sizes = Arrays.copyOf(sizes, height + 1);
+        capacities = new int[height + 1];
+        updateCapacities();
+    }
+
+    /**
+     * Sort the level and promote every other item (starting at a random offset) to the next level,
+     * where it counts twice. An odd item out stays.
+     */
+    private void compact(int level) {
+        long[] items = levels[level];
+        int size = sizes[level];
+        Arrays.sort(items, 0, size);
+
+        int pairs = size / 2;
+        int offset = nextBit();
+        for (int i = 0; i < pairs; i++) {
+            append(level + 1, items[2 * i + offset]);
+        }
+
+        if (size % 2 == 1) {
+            items[0] = items[size - 1];
+            sizes[level] = 1;
+        } else {
+            sizes[level] = 0;
+        }
+        retained -= pairs;
+    }
+
+    private int nextBit() {
+        // xorshift64
+        long x = randomState;
+        x ^= x << 13;
+        x ^= x >>> 7;
+        x ^= x << 17;
+        randomState = x;
+
+        return (int) (x >>> (Long.SIZE - 1));
+    }
+
+    public @NonNull Optional<T> getMin() {
+        return count == 0 ? Optional.empty() : Optional.of(toValue(min));
+    }
+
+    public @NonNull Optional<T> getMax() {
+        return count == 0 ? Optional.empty() : Optional.of(toValue(max));
+    }
+
+    public @NonNull Optional<T> getMedian() {
+        return getQuantile(0.5);
+    }
+
+    /**
+     * The (approximate) value at rank, i.e.: the smallest value such that at least {@code rank * count} values
+     * are less or equal. 0 gives the minimum, 1 the maximum.
+     *
+     * @param rank between 0 and 1, e.g.: 0.99 for p99.
+     */
+    public @NonNull Optional<T> getQuantile(double rank) {
+        checkRank(rank);
+        if (count == 0) {
+            return Optional.empty();
+        }
+
+        return Optional.of(getQuantiles(rank).get(0));
+    }
+
+    /**
+     * See {@link #getQuantile(double)}, evaluating the sketch only once for all ranks.
+     *
+     * @return the quantiles in the order of ranks, empty if the sketch is empty.
+     */
+    public @NonNull List<T> getQuantiles(double @NonNull ... ranks) {
+        requireNonNull(ranks, "ranks required");
+        for (double rank : ranks) {
+            checkRank(rank);
+        }
+        if (count == 0) {
+            return Collections.emptyList();
+        }
+
+        SortedView view = sortedView();
+        List<T> result = new ArrayList<>(ranks.length);
+        for (double rank : ranks) {
+            result.add(toValue(view.quantile(rank)));
+        }
+
+        return result;
+    }
+
+    private static void checkRank(double rank) {
+        if (!(rank >= 0 && rank <= 1)) {
+            throw new IllegalArgumentException("rank must be between 0 and 1: " + rank);
+        }
+    }
+
+    private @NonNull T toValue(long unscaled) {
+        return configuration.of(ScaledLongs.toBigDecimal(unscaled, scale));
+    }
+
+    /**
+     * Merge all (sorted) levels into values with cumulative weights.
+     */
+    private @NonNull SortedView sortedView() {
+        int height = levels.length;
+        long[][] sorted = new long[height][];
+        for (int h = 0; h < height; h++) {
+            sorted[h] = Arrays.copyOf(levels[h], sizes[h]);
+            Arrays.sort(sorted[h]);
+        }
+
+        long[] values = new long[retained];
+        long[] cumulativeWeights = new long[retained];
+        int[] positions = new int[height];
+        long weight = 0;
+        for (int i = 0; i < retained; i++) {
+            int next = -1;
+            for (int h = 0; h < height; h++) {
+                if (positions[h] < sorted[h].length
+                    && (next < 0 || sorted[h][positions[h]] < sorted[next][positions[next]])) {
+                    next = h;
+                }
+            }
+            values[i] = sorted[next][positions[next]++];
+            weight += 1L << next;
+            cumulativeWeights[i] = weight;
+        }
+
+        return new SortedView(values, cumulativeWeights);
+    }
+
+    private final class SortedView {
+        private final long @NonNull [] values;
+        private final long @NonNull [] cumulativeWeights;
+
+        private SortedView(long @NonNull [] values, long @NonNull [] cumulativeWeights) {
+            this.values = values;
+            this.cumulativeWeights = cumulativeWeights;
+        }
+
+        private long quantile(double rank) {
+            if (rank == 0) {
+                return min;
+            }
+            if (rank == 1) {
+                return max;
+            }
+
+            long target = Math.max(1, (long) Math.ceil(rank * count));
+            int index = Arrays.binarySearch(cumulativeWeights, target);
+            if (index < 0) {
+                index = -index - 1;
+            }
+
+            return values[Math.min(index, values.length - 1)];
+        }
+    }
+
+    @Override
+    public @NonNull String toString() {
+        return getClass().getSimpleName()
+            + "[count=" + count
+            + ",k=" + k
+            + ",retained=" + retained
+            + ',' + configuration
+            + ']';
+    }
+}
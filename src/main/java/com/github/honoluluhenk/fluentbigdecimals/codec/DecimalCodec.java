@@ -0,0 +1,361 @@
+package com.github.honoluluhenk.fluentbigdecimals.codec;
+
+import com.github.honoluluhenk.fluentbigdecimals.AbstractFluentBigDecimal;
+import com.github.honoluluhenk.fluentbigdecimals.Configuration;
+import com.github.honoluluhenk.fluentbigdecimals.NotExactException;
+import com.github.honoluluhenk.fluentbigdecimals.internal.ScaledLongs;
+import com.github.honoluluhenk.fluentbigdecimals.internal.VarInts;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static com.github.honoluluhenk.fluentbigdecimals.internal.ScaledLongs.NOT_REPRESENTABLE;
+import static com.github.honoluluhenk.fluentbigdecimals.internal.ScaledLongs.UNKNOWN_SCALE;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Compact binary encoding of values for the wire: the scale and the unscaled value as zigzag varints
+ * (see {@link VarInts}), i.e.: 3 bytes for {@code 1.50} and 5 bytes for {@code 12345.67}.
+ * <p>
+ * Single values: header (unsigned varint: {@code zigzag(scale) << 1 | wide}) followed by the unscaled value,
+ * either as zigzag varint or (wide) as length (unsigned varint) + two's complement bytes if it does not fit a long.
+ * <p>
+ * Blocks ({@link #writeBlock(DataOutput, Collection)}): count (unsigned varint), one header with the largest scale
+ * of all values, followed by all unscaled values at that scale (all wide if one of them does not fit a long).
+ * <p>
+ * Values are read back into the {@link Configuration} of this codec,
+ * i.e.: rounded/scaled or (see {@link #exact(Configuration)}) checked to match it.
+ * <p>
+ * As input may be untrusted, reading rejects wide values with more digits than the precision of the configuration
+ * (at least 38, i.e.: 128 bits, and 1000 for unlimited precision) and scales further than that many digits away
+ * from the scale of the configuration.
+ * <p>
+ * Immutable and thread safe.
+ */
+public final class DecimalCodec<T extends AbstractFluentBigDecimal<T>> {
+    // avoid huge pre-allocations for counts from untrusted input
+    private static final int MAX_INITIAL_CAPACITY = 1024;
+    // 128 bits
+    private static final int MIN_WIDE_DIGITS = 38;
+    private static final int UNLIMITED_WIDE_DIGITS = 1000;
+
+    private final @NonNull Configuration<T> configuration;
+    private final boolean exact;
+    private final int maxWideLength;
+    private final int minScale;
+    private final int maxScale;
+
+    private DecimalCodec(@NonNull Configuration<T> configuration, boolean exact) {
+        this.configuration = requireNonNull(configuration, "configuration required");
+        this.exact = exact;
+
+        int precision = configuration.getMathContext().getPrecision();
+        int maxDigits = precision == 0 ? UNLIMITED_WIDE_DIGITS : Math.max(precision, MIN_WIDE_DIGITS);
+        // two's complement: sign bit + magnitude
+        this.maxWideLength = BigInteger.TEN.pow(maxDigits).bitLength() / Byte.SIZE + 1;
+
+        int fixedScale = ScaledLongs.fixedScale(configuration);
+        int referenceScale = fixedScale == UNKNOWN_SCALE ? 0 : fixedScale;
+        this.minScale = (int) Math.max(Integer.MIN_VALUE, (long) referenceScale - maxDigits);
+        this.maxScale = (int) Math.min(Integer.MAX_VALUE, (long) referenceScale + maxDigits);
+    }
+
+    /**
+     * Values read get rounded/scaled by configuration.
+     */
+    public static <T extends AbstractFluentBigDecimal<T>> @NonNull DecimalCodec<T> of(
+        @NonNull Configuration<T> configuration
+    ) {
+        return new DecimalCodec<>(configuration, false);
+    }
+
+    /**
+     * Reading values that do not already match configuration fails with {@link NotExactException}.
+     */
+    public static <T extends AbstractFluentBigDecimal<T>> @NonNull DecimalCodec<T> exact(
+        @NonNull Configuration<T> configuration
+    ) {
+        return new DecimalCodec<>(configuration, true);
+    }
+
+    public @NonNull Configuration<T> getConfiguration() {
+        return configuration;
+    }
+
+    public boolean isExact() {
+        return exact;
+    }
+
+    public void write(@NonNull DataOutput out, @NonNull AbstractFluentBigDecimal<?> value) throws IOException {
+        requireNonNull(out, "out required");
+        BigDecimal decimal = requireNonNull(value, "value required").getValue();
+
+        long unscaled = ScaledLongs.toUnscaled(decimal, decimal.scale());
+        boolean wide = unscaled == NOT_REPRESENTABLE;
+        VarInts.writeUnsignedLong(out, header(decimal.scale(), wide));
+        if (wide) {
+            writeWide(out, decimal.unscaledValue());
+        } else {
+            VarInts.writeSignedLong(out, unscaled);
+        }
+    }
+
+    /**
+     * @throws java.nio.BufferOverflowException if there is not enough space left, some bytes are written already.
+     */
+    public void write(@NonNull ByteBuffer out, @NonNull AbstractFluentBigDecimal<?> value) {
+        requireNonNull(out, "out required");
+        BigDecimal decimal = requireNonNull(value, "value required").getValue();
+
+        long unscaled = ScaledLongs.toUnscaled(decimal, decimal.scale());
+        boolean wide = unscaled == NOT_REPRESENTABLE;
+        VarInts.writeUnsignedLong(out, header(decimal.scale(), wide));
+        if (wide) {
+            writeWide(out, decimal.unscaledValue());
+        } else {
+            VarInts.writeSignedLong(out, unscaled);
+        }
+    }
+
+    /**
+     * @throws StreamCorruptedException if the bytes are malformed or out of range.
+     * @throws NotExactException        if this codec is {@link #isExact()}
+     *                                  and the value does not match the configuration.
+     */
+    public @NonNull T read(@NonNull DataInput in) throws IOException {
+        requireNonNull(in, "in required");
+
+        long header = VarInts.readUnsignedLong(in);
+        int scale = scale(header);
+        if (isWide(header)) {
+            return toValue(new BigDecimal(readWide(in), scale));
+        }
+
+        return toValue(BigDecimal.valueOf(VarInts.readSignedLong(in), scale));
+    }
+
+    /**
+     * @throws java.nio.BufferUnderflowException if the buffer ends within the value.
+     * @throws IllegalArgumentException          if the bytes are malformed or out of range.
+     * @throws NotExactException                 if this codec is {@link #isExact()}
+     *                                           and the value does not match the configuration.
+     */
+    public @NonNull T read(@NonNull ByteBuffer in) {
+        requireNonNull(in, "in required");
+
+        long header = VarInts.readUnsignedLong(in);
+        int scale = bufferScale(header);
+        if (isWide(header)) {
+            return toValue(new BigDecimal(readWide(in), scale));
+        }
+
+        return toValue(BigDecimal.valueOf(VarInts.readSignedLong(in), scale));
+    }
+
+    public void writeBlock(
+        @NonNull DataOutput out,
+        @NonNull Collection<? extends AbstractFluentBigDecimal<?>> values
+    ) throws IOException {
+        requireNonNull(out, "out required");
+        int scale = sharedScale(values);
+        long[] unscaled = unscaledValues(values, scale);
+        boolean wide = unscaled == null;
+
+        VarInts.writeUnsignedLong(out, values.size());
+        VarInts.writeUnsignedLong(out, header(scale, wide));
+        if (wide) {
+            for (AbstractFluentBigDecimal<?> value : values) {
+                writeWide(out, value.getValue().setScale(scale).unscaledValue());
+            }
+        } else {
+            for (long value : unscaled) {
+                VarInts.writeSignedLong(out, value);
+            }
+        }
+    }
+
+    /**
+     * @throws java.nio.BufferOverflowException if there is not enough space left, some bytes are written already.
+     */
+    public void writeBlock(
+        @NonNull ByteBuffer out,
+        @NonNull Collection<? extends AbstractFluentBigDecimal<?>> values
+    ) {
+        requireNonNull(out, "out required");
+        int scale = sharedScale(values);
+        long[] unscaled = unscaledValues(values, scale);
+        boolean wide = unscaled == null;
+
+        VarInts.writeUnsignedLong(out, values.size());
+        VarInts.writeUnsignedLong(out, header(scale, wide));
+        if (wide) {
+            for (AbstractFluentBigDecimal<?> value : values) {
+                writeWide(out, value.getValue().setScale(scale).unscaledValue());
+            }
+        } else {
+            for (long value : unscaled) {
+                VarInts.writeSignedLong(out, value);
+            }
+        }
+    }
+
+    /**
+     * @throws StreamCorruptedException if the bytes are malformed or out of range.
+     * @throws NotExactException        if this codec is {@link #isExact()}
+     *                                  and a value does not match the configuration.
+     */
+    public @NonNull List<T> readBlock(@NonNull DataInput in) throws IOException {
+        requireNonNull(in, "in required");
+
+        long count = VarInts.readUnsignedLong(in);
+        if (count < 0 || count > Integer.MAX_VALUE) {
+            throw new StreamCorruptedException("Invalid count: " + count);
+        }
+        long header = VarInts.readUnsignedLong(in);
+        int scale = scale(header);
+        boolean wide = isWide(header);
+
+        List<T> result = new ArrayList<>((int) Math.min(count, MAX_INITIAL_CAPACITY));
+        for (long i = 0; i < count; i++) {
+            BigDecimal value = wide
+                ? new BigDecimal(readWide(in), scale)
+                : BigDecimal.valueOf(VarInts.readSignedLong(in), scale);
+            result.add(toValue(value));
+        }
+
+        return result;
+    }
+
+    /**
+     * @throws java.nio.BufferUnderflowException if the buffer ends within the block.
+     * @throws IllegalArgumentException          if the bytes are malformed or out of range.
+     * @throws NotExactException                 if this codec is {@link #isExact()}
+     *                                           and a value does not match the configuration.
+     */
+    public @NonNull List<T> readBlock(@NonNull ByteBuffer in) {
+        requireNonNull(in, "in required");
+
+        long count = VarInts.readUnsignedLong(in);
+        if (count < 0 || count > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid count: " + count);
+        }
+        long header = VarInts.readUnsignedLong(in);
+        int scale = bufferScale(header);
+        boolean wide = isWide(header);
+
+        List<T> result = new ArrayList<>((int) Math.min(count, MAX_INITIAL_CAPACITY));
+        for (long i = 0; i < count; i++) {
+            BigDecimal value = wide
+                ? new BigDecimal(readWide(in), scale)
+                : BigDecimal.valueOf(VarInts.readSignedLong(in), scale);
+            result.add(toValue(value));
+        }
+
+        return result;
+    }
+
+    private @NonNull T toValue(@NonNull BigDecimal value) {
+        return exact ? configuration.ofExact(value) : configuration.of(value);
+    }
+
+    private static long header(int scale, boolean wide) {
+        return VarInts.zigzag(scale) << 1 | (wide ? 1 : 0);
+    }
+
+    private static boolean isWide(long header) {
+        return (header & 1) != 0;
+    }
+
+    private int scale(long header) throws StreamCorruptedException {
+        long scale = VarInts.unzigzag(header >>> 1);
+        if (scale < minScale || scale > maxScale) {
+            throw new StreamCorruptedException("Scale out of range: " + scale);
+        }
+
+        return (int) scale;
+    }
+
+    private int bufferScale(long header) {
+        long scale = VarInts.unzigzag(header >>> 1);
+        if (scale < minScale || scale > maxScale) {
+            throw new IllegalArgumentException("Scale out of range: " + scale);
+        }
+
+        return (int) scale;
+    }
+
+    private static int sharedScale(@NonNull Collection<? extends AbstractFluentBigDecimal<?>> values) {
+        requireNonNull(values, "values required");
+
+        int result = Integer.MIN_VALUE;
+        for (AbstractFluentBigDecimal<?> value : values) {
+            result = Math.max(result, requireNonNull(value, "value required").getValue().scale());
+        }
+
+        return values.isEmpty() ? 0 : result;
+    }
+
+    /**
+     * @return null if a value does not fit a long at scale.
+     */
+    private static long @Nullable [] unscaledValues(
+        @NonNull Collection<? extends AbstractFluentBigDecimal<?>> values,
+        int scale
+    ) {
+        long[] result = new long[values.size()];
+        int i = 0;
+        for (AbstractFluentBigDecimal<?> value : values) {
+            long unscaled = ScaledLongs.toUnscaled(value.getValue(), scale);
+            if (unscaled == NOT_REPRESENTABLE) {
+                return null;
+            }
+            result[i++] = unscaled;
+        }
+
+        return result;
+    }
+
+    private static void writeWide(@NonNull DataOutput out, @NonNull BigInteger unscaled) throws IOException {
+        byte[] bytes = unscaled.toByteArray();
+        VarInts.writeUnsignedLong(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static void writeWide(@NonNull ByteBuffer out, @NonNull BigInteger unscaled) {
+        byte[] bytes = unscaled.toByteArray();
+        VarInts.writeUnsignedLong(out, bytes.length);
+        out.put(bytes);
+    }
+
+    private @NonNull BigInteger readWide(@NonNull DataInput in) throws IOException {
+        long length = VarInts.readUnsignedLong(in);
+        if (length <= 0 || length > maxWideLength) {
+            throw new StreamCorruptedException("Invalid length: " + length);
+        }
+        byte[] bytes = new byte[(int) length];
+        in.readFully(bytes);
+
+        return new BigInteger(bytes);
+    }
+
+    private @NonNull BigInteger readWide(@NonNull ByteBuffer in) {
+        long length = VarInts.readUnsignedLong(in);
+        if (length <= 0 || length > maxWideLength || length > in.remaining()) {
+            throw new IllegalArgumentException("Invalid length: " + length);
+        }
+        byte[] bytes = new byte[(int) length];
+        in.get(bytes);
+
+        return new BigInteger(bytes);
+    }
+}
@@ -0,0 +1,525 @@
+package com.github.honoluluhenk.fluentbigdecimals.codec;
+
+import com.github.honoluluhenk.fluentbigdecimals.AbstractFluentBigDecimal;
+import com.github.honoluluhenk.fluentbigdecimals.Configuration;
+import com.github.honoluluhenk.fluentbigdecimals.NotExactException;
+import com.github.honoluluhenk.fluentbigdecimals.internal.ScaledLongs;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static com.github.honoluluhenk.fluentbigdecimals.internal.ScaledLongs.NOT_REPRESENTABLE;
+import static com.github.honoluluhenk.fluentbigdecimals.internal.ScaledLongs.UNKNOWN_SCALE;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Formats and parses grouped amounts like {@code 1'234.50} (Swiss), {@code 1.234,50} (German)
+ * or {@code (CHF 1 234.50)} without {@link java.text.NumberFormat} or regular expressions.
+ * <p>
+ * Formatting prints the value as is (i.e.: all its decimals) but at least {@link #getMinFractionDigits()} decimals,
+ * which defaults to the scale of the configuration (e.g.: {@code 2} for monetary configurations).
+ * <p>
+ * Parsing ignores surrounding whitespace and accepts the currency symbol and a leading minus as optional.
+ * Grouping separators are optional too, but if present all groups must have 3 digits.
+ * The result is rounded/scaled by the configuration (see {@link #parseExact(CharSequence)} to reject rounding).
+ * <p>
+ * Immutable and thread safe.
+ */
+public final class DecimalFormatSpec<T extends AbstractFluentBigDecimal<T>> {
+    /**
+     * Use with {@link #withGroupingSeparator(char)} to disable grouping.
+     */
+    public static final char NO_GROUPING = '\0';
+
+    private static final int GROUP_SIZE = 3;
+    // longs hold any number with up to 18 digits
+    private static final int LONG_DIGITS = 18;
+    private static final int SCRATCH_SIZE = 128;
+
+    private static final ThreadLocal<char[]> SCRATCH = ThreadLocal.withInitial(() -> new char[SCRATCH_SIZE]);
+
+    public enum NegativeStyle {
+        /**
+         * {@code -1'234.50}, the minus directly precedes the digits.
+         */
+        MINUS,
+        /**
+         * {@code 1'234.50-}, the minus directly follows the digits.
+         */
+        TRAILING_MINUS,
+        /**
+         * {@code (1'234.50)}, the parentheses include the currency symbol.
+         */
+        PARENTHESES
+    }
+
+    private final @NonNull Configuration<T> configuration;
+    private final char groupingSeparator;
+    private final char decimalSeparator;
+    private final @NonNull String currencyPrefix;
+    private final @NonNull String currencySuffix;
+    // the symbols without surrounding whitespace, for parsing
+    private final @NonNull String prefixSymbol;
+    private final @NonNull String suffixSymbol;
+    private final @NonNull NegativeStyle negativeStyle;
+    private final int minFractionDigits;
+
+    private DecimalFormatSpec(
+        @NonNull Configuration<T> configuration,
+        char groupingSeparator,
+        char decimalSeparator,
+        @NonNull String currencyPrefix,
+        @NonNull String currencySuffix,
+        @NonNull NegativeStyle negativeStyle,
+        int minFractionDigits
+    ) {
+        this.configuration = requireNonNull(configuration, "configuration required");
+        this.groupingSeparator = groupingSeparator;
+        this.decimalSeparator = decimalSeparator;
+        this.currencyPrefix = requireNonNull(currencyPrefix, "currencyPrefix required");
+        this.currencySuffix = requireNonNull(currencySuffix, "currencySuffix required");
+        this.prefixSymbol = currencyPrefix.trim();
+        this.suffixSymbol = currencySuffix.trim();
+        this.negativeStyle = requireNonNull(negativeStyle, "negativeStyle required");
+        this.minFractionDigits = minFractionDigits;
+
+        checkSeparator(decimalSeparator, "decimal separator");
+        if (groupingSeparator != NO_GROUPING) {
+            checkSeparator(groupingSeparator, "grouping separator");
+        }
+        if (groupingSeparator == decimalSeparator) {
+            throw new IllegalArgumentException("Grouping and decimal separator must differ: " + decimalSeparator);
+        }
+        if (minFractionDigits < 0 || minFractionDigits > SCRATCH_SIZE / 2) {
+            throw new IllegalArgumentException("Invalid fraction digits: " + minFractionDigits);
+        }
+    }
+
+    /**
+     * Plain format: no grouping, decimal point, no currency symbol.
+     */
+    public static <T extends AbstractFluentBigDecimal<T>> @NonNull DecimalFormatSpec<T> of(
+        @NonNull Configuration<T> configuration
+    ) {
+        int scale = ScaledLongs.fixedScale(requireNonNull(configuration, "configuration required"));
+        int fractionDigits = scale == UNKNOWN_SCALE ? 0 : Math.max(scale, 0);
+
+        return new DecimalFormatSpec<>(configuration, NO_GROUPING, '.', "", "", NegativeStyle.MINUS, fractionDigits);
+    }
+
+    public @NonNull Configuration<T> getConfiguration() {
+        return configuration;
+    }
+
+    public char getGroupingSeparator() {
+        return groupingSeparator;
+    }
+
+    public char getDecimalSeparator() {
+        return decimalSeparator;
+    }
+
+    public @NonNull String getCurrencyPrefix() {
+        return currencyPrefix;
+    }
+
+    public @NonNull String getCurrencySuffix() {
+        return currencySuffix;
+    }
+
+    public @NonNull NegativeStyle getNegativeStyle() {
+        return negativeStyle;
+    }
+
+    public int getMinFractionDigits() {
+        return minFractionDigits;
+    }
+
+    public @NonNull DecimalFormatSpec<T> withConfiguration(@NonNull Configuration<T> configuration) {
+        return new DecimalFormatSpec<>(configuration, groupingSeparator, decimalSeparator,
+            currencyPrefix, currencySuffix, negativeStyle, minFractionDigits);
+    }
+
+    /**
+     * @param groupingSeparator e.g.: {@code '}, {@code .}, a space or {@link #NO_GROUPING}.
+     */
+    public @NonNull DecimalFormatSpec<T> withGroupingSeparator(char groupingSeparator) {
+        return new DecimalFormatSpec<>(configuration, groupingSeparator, decimalSeparator,
+            currencyPrefix, currencySuffix, negativeStyle, minFractionDigits);
+    }
+
+    public @NonNull DecimalFormatSpec<T> withDecimalSeparator(char decimalSeparator) {
+        return new DecimalFormatSpec<>(configuration, groupingSeparator, decimalSeparator,
+            currencyPrefix, currencySuffix, negativeStyle, minFractionDigits);
+    }
+
+    /**
+     * Sets both separators at once (e.g.: to swap them for {@code 1.234,50}).
+     */
+    public @NonNull DecimalFormatSpec<T> withSeparators(char groupingSeparator, char decimalSeparator) {
+        return new DecimalFormatSpec<>(configuration, groupingSeparator, decimalSeparator,
+            currencyPrefix, currencySuffix, negativeStyle, minFractionDigits);
+    }
+
+    /**
+     * @param currencyPrefix printed before the number, including any space (e.g.: {@code "CHF "}).
+     */
+    public @NonNull DecimalFormatSpec<T> withCurrencyPrefix(@NonNull String currencyPrefix) {
+        return new DecimalFormatSpec<>(configuration, groupingSeparator, decimalSeparator,
+            currencyPrefix, currencySuffix, negativeStyle, minFractionDigits);
+    }
+
+    /**
+     * @param currencySuffix printed after the number, including any space (e.g.: {@code " €"}).
+     */
+    public @NonNull DecimalFormatSpec<T> withCurrencySuffix(@NonNull String currencySuffix) {
+        return new DecimalFormatSpec<>(configuration, groupingSeparator, decimalSeparator,
+            currencyPrefix, currencySuffix, negativeStyle, minFractionDigits);
+    }
+
+    public @NonNull DecimalFormatSpec<T> withNegativeStyle(@NonNull NegativeStyle negativeStyle) {
+        return new DecimalFormatSpec<>(configuration, groupingSeparator, decimalSeparator,
+            currencyPrefix, currencySuffix, negativeStyle, minFractionDigits);
+    }
+
+    public @NonNull DecimalFormatSpec<T> withMinFractionDigits(int minFractionDigits) {
+        return new DecimalFormatSpec<>(configuration, groupingSeparator, decimalSeparator,
+            currencyPrefix, currencySuffix, negativeStyle, minFractionDigits);
+    }
+
+    public @NonNull String format(@NonNull AbstractFluentBigDecimal<?> value) {
+        BigDecimal decimal = requireNonNull(value, "value required").getValue();
+        char[] scratch = SCRATCH.get();
+        int start = renderCompact(decimal, scratch);
+        if (start >= 0) {
+            return new String(scratch, start, SCRATCH_SIZE - start);
+        }
+
+        char[] rendered = renderWide(decimal);
+        return new String(rendered);
+    }
+
+    public @NonNull StringBuilder formatTo(@NonNull AbstractFluentBigDecimal<?> value, @NonNull StringBuilder out) {
+        requireNonNull(out, "out required");
+        BigDecimal decimal = requireNonNull(value, "value required").getValue();
+        char[] scratch = SCRATCH.get();
+        int start = renderCompact(decimal, scratch);
+        if (start >= 0) {
+            return out.append(scratch, start, SCRATCH_SIZE - start);
+        }
+
+        return out.append(renderWide(decimal));
+    }
+
+    public <A extends Appendable> @NonNull A formatTo(@NonNull AbstractFluentBigDecimal<?> value, @NonNull A out)
+        throws IOException {
+        requireNonNull(out, "out required");
+        BigDecimal decimal = requireNonNull(value, "value required").getValue();
+        char[] scratch = SCRATCH.get();
+        int start = renderCompact(decimal, scratch);
+        char[] chars = scratch;
+        int end = SCRATCH_SIZE;
+        if (start < 0) {
+            chars = renderWide(decimal);
+            start = 0;
+            end = chars.length;
+        }
+        for (int i = start; i < end; i++) {
+            out.append(chars[i]);
+        }
+
+        return out;
+    }
+
+    /**
+     * @throws NumberFormatException if text is not a number in this format.
+     */
+    public @NonNull T parse(@NonNull CharSequence text) {
+        return configuration.of(parseValue(text));
+    }
+
+    /**
+     * @throws NumberFormatException if text is not a number in this format.
+     * @throws NotExactException     if the number does not match the configuration without rounding/scaling.
+     */
+    public @NonNull T parseExact(@NonNull CharSequence text) {
+        return configuration.ofExact(parseValue(text));
+    }
+
+    /**
+     * Renders values with a long unscaled value and a non-negative scale right-aligned into target.
+     *
+     * @return the start index or -1 if the value needs {@link #renderWide(BigDecimal)}.
+     */
+    private int renderCompact(@NonNull BigDecimal value, char @NonNull [] target) {
+        int scale = value.scale();
+        if (scale < 0 || scale > SCRATCH_SIZE / 2) {
+            return -1;
+        }
+        long unscaled = ScaledLongs.toUnscaled(value, scale);
+        if (unscaled == NOT_REPRESENTABLE) {
+            return -1;
+        }
+        // 19 digits plus grouping, decimals, signs and currency
+        if (currencyPrefix.length() + currencySuffix.length() + Math.max(scale, minFractionDigits) + 32 > target.length) {
+            return -1;
+        }
+
+        return render(unscaled < 0, Math.abs(unscaled), null, scale, target);
+    }
+
+    private char @NonNull [] renderWide(@NonNull BigDecimal value) {
+        int fractionDigits = Math.max(value.scale(), 0);
+        String digits = value.setScale(fractionDigits).unscaledValue().abs().toString();
+        int integerDigits = Math.max(digits.length() - fractionDigits, 1);
+        int length = currencyPrefix.length() + currencySuffix.length() + 2
+            + integerDigits + integerDigits / GROUP_SIZE + 1 + Math.max(fractionDigits, minFractionDigits);
+
+        char[] target = new char[length];
+        int start = render(value.signum() < 0, 0, digits, fractionDigits, target);
+
+        char[] result = new char[length - start];
+        System.arraycopy(target, start, result, 0, result.length);
+
+        return result;
+    }
+
+    /**
+     * Renders right to left, digits either from magnitude or (if not null) from digits.
+     *
+     * @return the start index.
+     */
+    private int render(boolean negative, long magnitude, @Nullable String digits, int scale, char @NonNull [] target) {
+        int position = target.length;
+        boolean parentheses = negative && negativeStyle == NegativeStyle.PARENTHESES;
+        if (parentheses) {
+            target[--position] = ')';
+        }
+        position = putBackwards(currencySuffix, target, position);
+        if (negative && negativeStyle == NegativeStyle.TRAILING_MINUS) {
+            target[--position] = '-';
+        }
+
+        int fractionDigits = Math.max(scale, minFractionDigits);
+        for (int i = scale; i < fractionDigits; i++) {
+            target[--position] = '0';
+        }
+        long remaining = magnitude;
+        int digitIndex = digits == null ? 0 : digits.length();
+        for (int i = 0; i < scale; i++) {
+            if (digits == null) {
+                target[--position] = (char) ('0' + remaining % 10);
+                remaining /= 10;
+            } else {
+                target[--position] = digitIndex > 0 ? digits.charAt(--digitIndex) : '0';
+            }
+        }
+        if (fractionDigits > 0) {
+            target[--position] = decimalSeparator;
+        }
+
+        int integerDigits = 0;
+        do {
+            if (groupingSeparator != NO_GROUPING && integerDigits > 0 && integerDigits % GROUP_SIZE == 0) {
+                target[--position] = groupingSeparator;
+            }
+            if (digits == null) {
+                target[--position] = (char) ('0' + remaining % 10);
+                remaining /= 10;
+            } else {
+                target[--position] = digitIndex > 0 ? digits.charAt(--digitIndex) : '0';
+            }
+            integerDigits++;
+        } while (digits == null ? remaining != 0 : digitIndex > 0);
+
+        if (negative && negativeStyle == NegativeStyle.MINUS) {
+            target[--position] = '-';
+        }
+        position = putBackwards(currencyPrefix, target, position);
+        if (parentheses) {
+            target[--position] = '(';
+        }
+
+        return position;
+    }
+
+    private static int putBackwards(@NonNull String text, char @NonNull [] target, int end) {
+        int position = end - text.length();
+        text.getChars(0, text.length(), target, position);
+
+        return position;
+    }
+
+    private @NonNull BigDecimal parseValue(@NonNull CharSequence text) {
+        requireNonNull(text, "text required");
+
+        int begin = skipWhitespace(text, 0, text.length());
+        int end = skipWhitespaceBackwards(text, begin, text.length());
+        boolean negative = false;
+        if (end - begin >= 2 && text.charAt(begin) == '(' && text.charAt(end - 1) == ')') {
+            negative = true;
+            begin = skipWhitespace(text, begin + 1, end);
+            end = skipWhitespaceBackwards(text, begin, end - 1);
+        }
+
+        // sign and currency in any order
+        for (int i = 0; i < 2; i++) {
+            if (begin < end && text.charAt(begin) == '-' && !negative) {
+                negative = true;
+                begin = skipWhitespace(text, begin + 1, end);
+            }
+            if (begin < end && text.charAt(end - 1) == '-' && !negative) {
+                negative = true;
+                end = skipWhitespaceBackwards(text, begin, end - 1);
+            }
+            begin = skipWhitespace(text, skipPrefix(text, begin, end), end);
+            end = skipWhitespaceBackwards(text, begin, skipSuffix(text, begin, end));
+        }
+
+        return parseNumber(text, begin, end, negative);
+    }
+
+    private @NonNull BigDecimal parseNumber(@NonNull CharSequence text, int begin, int end, boolean negative) {
+        long unscaled = 0;
+        @Nullable StringBuilder wide = null;
+        int significantDigits = 0;
+        int digits = 0;
+        int fractionDigits = 0;
+        boolean fraction = false;
+        // digits since the last grouping separator, -1 if there was none
+        int groupLength = -1;
+
+        for (int i = begin; i < end; i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits++;
+                if (fraction) {
+                    fractionDigits++;
+                } else if (groupLength >= 0) {
+                    groupLength++;
+                }
+                if (significantDigits > 0 || c != '0') {
+                    significantDigits++;
+                }
+                if (wide != null) {
+                    wide.append(c);
+                } else if (significantDigits <= LONG_DIGITS) {
+                    unscaled = unscaled * 10 + (c - '0');
+                } else {
+                    wide = new StringBuilder(end - begin).append(unscaled).append(c);
+                }
+            } else if (c == decimalSeparator && !fraction) {
+                checkGroup(text, groupLength);
+                fraction = true;
+            } else if (isGroupingSeparator(c) && !fraction && digits > 0 && (groupLength < 0 ? digits <= GROUP_SIZE : groupLength == GROUP_SIZE)) {
+                groupLength = 0;
+            } else {
+                throw new NumberFormatException("Unexpected character '" + c + "' at index " + i + " of: " + text);
+            }
+        }
+        if (digits == 0) {
+            throw new NumberFormatException("No digits in: " + text);
+        }
+        if (!fraction) {
+            checkGroup(text, groupLength);
+        }
+
+        if (wide != null) {
+            BigInteger value = new BigInteger(wide.toString());
+            return new BigDecimal(negative ? value.negate() : value, fractionDigits);
+        }
+
+        return BigDecimal.valueOf(negative ? -unscaled : unscaled, fractionDigits);
+    }
+
+    private static void checkGroup(@NonNull CharSequence text, int groupLength) {
+        if (groupLength >= 0 && groupLength != GROUP_SIZE) {
+            throw new NumberFormatException("Digit groups must have " + GROUP_SIZE + " digits: " + text);
+        }
+    }
+
+    private boolean isGroupingSeparator(char c) {
+        if (groupingSeparator == NO_GROUPING) {
+            return false;
+        }
+        if (groupingSeparator == ' ') {
+            // also accept no-break spaces as produced by e.g. java.text.NumberFormat
+            return c == ' ' || c == '\u00A0' || c == '\u202F';
+        }
+
+        return c == groupingSeparator;
+    }
+
+    private int skipPrefix(@NonNull CharSequence text, int begin, int end) {
+        if (!prefixSymbol.isEmpty() && regionMatches(text, begin, end, prefixSymbol)) {
+            return begin + prefixSymbol.length();
+        }
+
+        return begin;
+    }
+
+    private int skipSuffix(@NonNull CharSequence text, int begin, int end) {
+        if (!suffixSymbol.isEmpty() && regionMatches(text, end - suffixSymbol.length(), end, suffixSymbol)) {
+            return end - suffixSymbol.length();
+        }
+
+        return end;
+    }
+
+    private static boolean regionMatches(@NonNull CharSequence text, int begin, int end, @NonNull String symbol) {
+        if (begin < 0 || end - begin < symbol.length()) {
+            return false;
+        }
+        for (int i = 0; i < symbol.length(); i++) {
+            if (text.charAt(begin + i) != symbol.charAt(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static int skipWhitespace(@NonNull CharSequence text, int begin, int end) {
+        int result = begin;
+        while (result < end && isWhitespace(text.charAt(result))) {
+            result++;
+        }
+
+        return result;
+    }
+
+    private static int skipWhitespaceBackwards(@NonNull CharSequence text, int begin, int end) {
+        int result = end;
+        while (result > begin && isWhitespace(text.charAt(result - 1))) {
+            result--;
+        }
+
+        return result;
+    }
+
+    private static boolean isWhitespace(char c) {
+        return Character.isWhitespace(c) || Character.isSpaceChar(c);
+    }
+
+    private static void checkSeparator(char separator, @NonNull String name) {
+        if (Character.isDigit(separator) || separator == '-' || separator == '(' || separator == ')') {
+            throw new IllegalArgumentException("Invalid " + name + ": " + separator);
+        }
+    }
+
+    @Override
+    public @NonNull String toString() {
+        return getClass().getSimpleName()
+            + "[grouping=" + (groupingSeparator == NO_GROUPING ? "none" : String.valueOf(groupingSeparator))
+            + ",decimal=" + decimalSeparator
+            + ",prefix=" + currencyPrefix
+            + ",suffix=" + currencySuffix
+            + ',' + negativeStyle
+            + ",minFractionDigits=" + minFractionDigits
+            + ',' + configuration
+            + ']';
+    }
+}
@@ -0,0 +1,258 @@
+package com.github.honoluluhenk.fluentbigdecimals.codec;
+
+import com.github.honoluluhenk.fluentbigdecimals.AbstractFluentBigDecimal;
+import com.github.honoluluhenk.fluentbigdecimals.Configuration;
+import com.github.honoluluhenk.fluentbigdecimals.NotExactException;
+import com.github.honoluluhenk.fluentbigdecimals.internal.Int128;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Fixed width encoding of values as IEEE 754-2008 decimal64 (one {@code long})
+ * and decimal128 (two {@code long}s: high and low word) using the binary integer significand (BID) layout,
+ * e.g.: for fixed size slots in files, caches or off-heap buffers.
+ * <p>
+ * Encoding is always <strong>exact</strong>: values that need more than 16 (decimal64) or 34 (decimal128) digits
+ * or exceed the exponent range are rejected, nothing gets rounded.
+ * The scale is retained where the format allows (i.e.: except for clamping trailing zeros into range).
+ * <p>
+ * Decoding into a {@link Configuration} fails if the value does not already match it
+ * (see {@link Configuration#ofExact(BigDecimal)}).
+ * Infinities and NaNs are not supported, non-canonical significands decode as zero (as specified by IEEE 754).
+ */
+public final class IeeeDecimals {
+    private static final long SIGN_MASK = Long.MIN_VALUE;
+    // combination field 11xx...: the significand has implicit leading bits 100
+    private static final long LARGE_SIGNIFICAND_MASK = 0x6000_0000_0000_0000L;
+    // combination field 1111x: infinity or NaN
+    private static final long SPECIAL_MASK = 0x7800_0000_0000_0000L;
+
+    private static final int DECIMAL64_DIGITS = 16;
+    private static final int DECIMAL64_BIAS = 398;
+    private static final int DECIMAL64_MAX_EXPONENT = 369;
+    private static final int DECIMAL64_EXPONENT_BITS = 10;
+    private static final int DECIMAL64_SIGNIFICAND_BITS = 53;
+    private static final long DECIMAL64_MAX_SIGNIFICAND = 9_999_999_999_999_999L;
+
+    private static final int DECIMAL128_DIGITS = 34;
+    private static final int DECIMAL128_BIAS = 6176;
+    private static final int DECIMAL128_MAX_EXPONENT = 6111;
+    private static final int DECIMAL128_EXPONENT_BITS = 14;
+    // bits of the significand in the high word
+    private static final int DECIMAL128_SIGNIFICAND_HIGH_BITS = 49;
+    private static final BigInteger DECIMAL128_MAX_SIGNIFICAND = BigInteger.TEN.pow(DECIMAL128_DIGITS)
+        .subtract(BigInteger.ONE);
+
+    // significands with up to this many digits fit a long
+    private static final int LONG_DIGITS = 18;
+
+    private IeeeDecimals() {
+        // utility class
+    }
+
+    /**
+     * @throws ArithmeticException if value has more than 16 significant digits or is out of the exponent range.
+     */
+    public static long toDecimal64(@NonNull AbstractFluentBigDecimal<?> value) {
+        return toDecimal64(requireNonNull(value, "value required").getValue());
+    }
+
+    /**
+     * @throws ArithmeticException if value has more than 16 significant digits or is out of the exponent range.
+     */
+    public static long toDecimal64(@NonNull BigDecimal value) {
+        BigDecimal representable = fitRange(value, DECIMAL64_DIGITS, DECIMAL64_BIAS, DECIMAL64_MAX_EXPONENT, "decimal64");
+        long significand = Math.abs(representable.movePointRight(representable.scale()).longValue());
+        long exponent = (long) DECIMAL64_BIAS - representable.scale();
+        long sign = representable.signum() < 0 ? SIGN_MASK : 0;
+
+        if (significand >>> DECIMAL64_SIGNIFICAND_BITS == 0) {
+            return sign | exponent << DECIMAL64_SIGNIFICAND_BITS | significand;
+        }
+
+        // significand needs 54 bits: the leading bits 100 are implicit
+        long significandMask = (1L << (DECIMAL64_SIGNIFICAND_BITS - 2)) - 1;
+        return sign | LARGE_SIGNIFICAND_MASK | exponent << (DECIMAL64_SIGNIFICAND_BITS - 2) | significand & significandMask;
+    }
+
+    /**
+     * @throws ArithmeticException if bits encode an infinity or NaN.
+     */
+    public static @NonNull BigDecimal fromDecimal64(long bits) {
+        checkFinite(bits);
+
+        long exponent;
+        long significand;
+        if ((bits & LARGE_SIGNIFICAND_MASK) != LARGE_SIGNIFICAND_MASK) {
+            exponent = bits >>> DECIMAL64_SIGNIFICAND_BITS & ((1L << DECIMAL64_EXPONENT_BITS) - 1);
+            significand = bits & ((1L << DECIMAL64_SIGNIFICAND_BITS) - 1);
+        } else {
+            int significandBits = DECIMAL64_SIGNIFICAND_BITS - 2;
+            exponent = bits >>> significandBits & ((1L << DECIMAL64_EXPONENT_BITS) - 1);
+            significand = 1L << DECIMAL64_SIGNIFICAND_BITS | bits & ((1L << significandBits) - 1);
+        }
+        if (significand > DECIMAL64_MAX_SIGNIFICAND) {
+            significand = 0;
+        }
+
+        int scale = (int) (DECIMAL64_BIAS - exponent);
+        return BigDecimal.valueOf(bits < 0 ? -significand : significand, scale);
+    }
+
+    /**
+     * @throws ArithmeticException if bits encode an infinity or NaN.
+     * @throws NotExactException   if the value does not match the configuration.
+     */
+    public static <T extends AbstractFluentBigDecimal<T>> @NonNull T fromDecimal64(
+        long bits,
+        @NonNull Configuration<T> configuration
+    ) {
+        requireNonNull(configuration, "configuration required");
+
+        return configuration.ofExact(fromDecimal64(bits));
+    }
+
+    /**
+     * @return high and low word.
+     * @throws ArithmeticException if value has more than 34 significant digits or is out of the exponent range.
+     */
+    public static long @NonNull [] toDecimal128(@NonNull AbstractFluentBigDecimal<?> value) {
+        return toDecimal128(requireNonNull(value, "value required").getValue());
+    }
+
+    /**
+     * @return high and low word.
+     * @throws ArithmeticException if value has more than 34 significant digits or is out of the exponent range.
+     */
+    public static long @NonNull [] toDecimal128(@NonNull BigDecimal value) {
+        long[] result = new long[2];
+        toDecimal128(value, result, 0);
+
+        return result;
+    }
+
+    /**
+     * Writes high and low word to {@code target[offset]} and {@code target[offset + 1]}.
+     *
+     * @throws ArithmeticException if value has more than 34 significant digits or is out of the exponent range.
+     */
+    public static void toDecimal128(@NonNull BigDecimal value, long @NonNull [] target, int offset) {
+        requireNonNull(target, "target required");
+        BigDecimal representable = fitRange(value, DECIMAL128_DIGITS, DECIMAL128_BIAS, DECIMAL128_MAX_EXPONENT, "decimal128");
+        long exponent = (long) DECIMAL128_BIAS - representable.scale();
+        long sign = representable.signum() < 0 ? SIGN_MASK : 0;
+
+        // at most 113 bits, i.e.: never the large significand form
+        long significandHigh;
+        long significandLow;
+        if (representable.precision() <= LONG_DIGITS) {
+            significandHigh = 0;
+            significandLow = Math.abs(representable.movePointRight(representable.scale()).longValue());
+        } else {
+            BigInteger significand = representable.unscaledValue().abs();
+            significandHigh = Int128.high(significand);
+            significandLow = Int128.low(significand);
+        }
+
+        target[offset] = sign | exponent << DECIMAL128_SIGNIFICAND_HIGH_BITS | significandHigh;
+        target[offset + 1] = significandLow;
+    }
+
+    /**
+     * @throws ArithmeticException if the words encode an infinity or NaN.
+     */
+    public static @NonNull BigDecimal fromDecimal128(long high, long low) {
+        checkFinite(high);
+
+        if ((high & LARGE_SIGNIFICAND_MASK) == LARGE_SIGNIFICAND_MASK) {
+            // implicit leading bits 100 make the significand exceed 10^34 - 1: non-canonical
+            int exponentShift = DECIMAL128_SIGNIFICAND_HIGH_BITS - 2;
+            long exponent = high >>> exponentShift & ((1L << DECIMAL128_EXPONENT_BITS) - 1);
+            return BigDecimal.valueOf(0, (int) (DECIMAL128_BIAS - exponent));
+        }
+
+        long exponent = high >>> DECIMAL128_SIGNIFICAND_HIGH_BITS & ((1L << DECIMAL128_EXPONENT_BITS) - 1);
+        int scale = (int) (DECIMAL128_BIAS - exponent);
+        long significandHigh = high & ((1L << DECIMAL128_SIGNIFICAND_HIGH_BITS) - 1);
+        if (significandHigh == 0 && low >= 0) {
+            return BigDecimal.valueOf(high < 0 ? -low : low, scale);
+        }
+
+        BigInteger significand = Int128.toBigInteger(significandHigh, low);
+        if (significand.compareTo(DECIMAL128_MAX_SIGNIFICAND) > 0) {
+            return BigDecimal.valueOf(0, scale);
+        }
+
+        return new BigDecimal(high < 0 ? significand.negate() : significand, scale);
+    }
+
+    /**
+     * @throws ArithmeticException if the words encode an infinity or NaN.
+     * @throws NotExactException   if the value does not match the configuration.
+     */
+    public static <T extends AbstractFluentBigDecimal<T>> @NonNull T fromDecimal128(
+        long high,
+        long low,
+        @NonNull Configuration<T> configuration
+    ) {
+        requireNonNull(configuration, "configuration required");
+
+        return configuration.ofExact(fromDecimal128(high, low));
+    }
+
+    /**
+     * Exactly the same value with at most digits significant digits and an exponent
+     * ({@code -scale}) within {@code [-bias, maxExponent]}.
+     */
+    private static @NonNull BigDecimal fitRange(
+        @NonNull BigDecimal value,
+        int digits,
+        int bias,
+        int maxExponent,
+        @NonNull String format
+    ) {
+        requireNonNull(value, "value required");
+
+        BigDecimal result = value;
+        try {
+            int excess = result.precision() - digits;
+            if (excess > 0) {
+                // drop just as many trailing zeros as needed to retain as much of the scale as possible
+                long scale = (long) result.scale() - excess;
+                result = result.setScale((int) Math.max(Integer.MIN_VALUE, scale), RoundingMode.UNNECESSARY);
+            }
+
+            long exponent = -(long) result.scale();
+            if (exponent < -bias) {
+                // drop trailing zeros
+                result = result.setScale(bias, RoundingMode.UNNECESSARY);
+            } else if (exponent > maxExponent) {
+                // append trailing zeros ("clamping")
+                result = result.setScale(-maxExponent, RoundingMode.UNNECESSARY);
+            }
+        } catch (ArithmeticException e) {
+            throw notRepresentable(value, format);
+        }
+
+        if (result.signum() != 0 && result.precision() > digits) {
+            throw notRepresentable(value, format);
+        }
+
+        return result;
+    }
+
+    private static @NonNull ArithmeticException notRepresentable(@NonNull BigDecimal value, @NonNull String format) {
+        return new ArithmeticException("Value not exactly representable as " + format + ": " + value);
+    }
+
+    private static void checkFinite(long bits) {
+        if ((bits & SPECIAL_MASK) == SPECIAL_MASK) {
+            throw new ArithmeticException("Infinity/NaN not supported: " + Long.toHexString(bits));
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.github.honoluluhenk.fluentbigdecimals.column;
+
+import com.github.honoluluhenk.fluentbigdecimals.AbstractFluentBigDecimal;
+import com.github.honoluluhenk.fluentbigdecimals.Configuration;
+import com.github.honoluluhenk.fluentbigdecimals.internal.ScaledLongs;
+import com.github.honoluluhenk.fluentbigdecimals.internal.Selection;
+import com.github.honoluluhenk.fluentbigdecimals.scaler.CashRoundingScaler;
+import com.github.honoluluhenk.fluentbigdecimals.scaler.Scaler;
+import com.github.honoluluhenk.fluentbigdecimals.scaler.TickScaler;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static com.github.honoluluhenk.fluentbigdecimals.internal.ScaledLongs.NOT_REPRESENTABLE;
+import static com.github.honoluluhenk.fluentbigdecimals.internal.ScaledLongs.UNKNOWN_SCALE;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Allocate a total into shares (e.g.: distribute an invoice total onto cost centers)
+ * such that the shares add up <strong>exactly</strong> to the total.
+ * <p>
+ * The total is rounded/scaled by its configuration first, then distributed in units of the smallest step
+ * the configuration can produce: one unit at the configurations scale (e.g.: 0.01 for
+ * {@link com.github.honoluluhenk.fluentbigdecimals.scaler.MaxScaleScaler} with 2 decimals)
+ * or the unit of the {@link CashRoundingScaler} (e.g.: 0.05) or {@link TickScaler}.
+ * So each share is a value the configuration produces unchanged.
+ * <p>
+ * Units that cannot be distributed proportionally go to the shares with the largest remainders
+ * (a.k.a. Hamilton's method), ties go to the lower index.
+ * Negative totals are distributed like their magnitude, with negated shares.
+ * <p>
+ * Everything is computed in O(N) on unscaled longs.
+ */
+public final class Allocation {
+
+    private Allocation() {
+        // utility class
+    }
+
+    /**
+     * Split total into n shares that differ by at most one unit, the larger shares come first.
+     *
+     * @throws IllegalArgumentException if n &lt; 1 or the configuration has no fixed scale.
+     * @throws ArithmeticException      if total does not fit into an unscaled long.
+     */
+    public static <T extends AbstractFluentBigDecimal<T>> @NonNull DecimalColumn<T> split(@NonNull T total, int n) {
+        requireNonNull(total, "total required");
+        if (n < 1) {
+            throw new IllegalArgumentException("n must be positive: " + n);
+        }
+
+        Configuration<T> configuration = total.getConfiguration();
+        int scale = requireFixedScale(configuration);
+        long quantum = quantum(configuration.getScaler(), scale);
+        long units = toUnits(total, scale, quantum);
+        long magnitude = Math.abs(units);
+
+        long share = magnitude / n;
+        long remaining = magnitude % n;
+        long[] shares = new long[n];
+        for (int i = 0; i < n; i++) {
+            long value = i < remaining ? share + 1 : share;
+            shares[i] = Long.signum(units) * value * quantum;
+        }
+
+        return new DecimalColumn<>(configuration, shares, null);
+    }
+
+    /**
+     * Allocate total proportional to the ratios.
+     *
+     * @param ratios non-negative weights, at least one must be positive.
+     * @throws IllegalArgumentException if ratios are invalid or the configuration has no fixed scale.
+     * @throws ArithmeticException      if total does not fit into an unscaled long or the sum of ratios overflows.
+     */
+    public static <T extends AbstractFluentBigDecimal<T>> @NonNull DecimalColumn<T> allocate(
+        @NonNull T total,
+        long @NonNull [] ratios
+    ) {
+        requireNonNull(total, "total required");
+        requireNonNull(ratios, "ratios required");
+        if (ratios.length == 0) {
+            throw new IllegalArgumentException("ratios must not be empty");
+        }
+
+        long ratioSum = 0;
+        for (long ratio : ratios) {
+            if (ratio < 0) {
+                throw new IllegalArgumentException("ratios must not be negative: " + ratio);
+            }
+            ratioSum = Math.addExact(ratioSum, ratio);
+        }
+        if (ratioSum == 0) {
+            throw new IllegalArgumentException("At least one ratio must be positive");
+        }
+
+        Configuration<T> configuration = total.getConfiguration();
+        int scale = requireFixedScale(configuration);
+        long quantum = quantum(configuration.getScaler(), scale);
+        long units = toUnits(total, scale, quantum);
+        long magnitude = Math.abs(units);
+
+        long[] shares = new long[ratios.length];
+        long[] remainders = new long[ratios.length];
+        long distributed = 0;
+        for (int i = 0; i < ratios.length; i++) {
+            divide(magnitude, ratios[i], ratioSum, shares, remainders, i);
+            distributed += shares[i];
+        }
+
+        // less than ratios.length units are left
+        int leftover = (int) (magnitude - distributed);
+        if (leftover > 0) {
+            distributeLeftover(shares, remainders, leftover);
+        }
+
+        long signedQuantum = Long.signum(units) * quantum;
+        for (int i = 0; i < shares.length; i++) {
+            shares[i] *= signedQuantum;
+        }
+
+        return new DecimalColumn<>(configuration, shares, null);
+    }
+
+    /**
+     * quotients[i] = floor(units * ratio / ratioSum), remainders[i] = the remainder of this division.
+     */
+    private static void divide(
+        long units,
+        long ratio,
+        long ratioSum,
+        long @NonNull [] quotients,
+        long @NonNull [] remainders,
+        int i
+    ) {
+        long high = Math.multiplyHigh(units, ratio);
+        long low = units * ratio;
+        if (high == 0 && low >= 0) {
+            quotients[i] = low / ratioSum;
+            remainders[i] = low % ratioSum;
+            return;
+        }
+
+        BigInteger[] result = BigInteger.valueOf(units)
+            .multiply(BigInteger.valueOf(ratio))
+            .divideAndRemainder(BigInteger.valueOf(ratioSum));
+        // both fit: quotient <= units, remainder < ratioSum
+        quotients[i] = result[0].longValueExact();
+        remainders[i] = result[1].longValueExact();
+    }
+
+    /**
+     * Add one unit to the leftover shares with the largest remainders (ties: lower index first).
+     */
+    private static void distributeLeftover(long @NonNull [] shares, long @NonNull [] remainders, int leftover) {
+        // the leftover-th largest remainder: everything above gets a unit, the rest goes to the first ties
+        long threshold = Selection.kthLargest(remainders.clone(), leftover);
+
+        int remaining = leftover;
+        for (int i = 0; i < shares.length; i++) {
+            if (remainders[i] > threshold) {
+                shares[i]++;
+                remaining--;
+            }
+        }
+        for (int i = 0; i < shares.length && remaining > 0; i++) {
+            if (remainders[i] == threshold) {
+                shares[i]++;
+                remaining--;
+            }
+        }
+    }
+
+    private static int requireFixedScale(@NonNull Configuration<?> configuration) {
+        int scale = ScaledLongs.fixedScale(configuration);
+        if (scale == UNKNOWN_SCALE) {
+            throw new IllegalArgumentException("Configuration has no fixed scale: " + configuration);
+        }
+
+        return scale;
+    }
+
+    /**
+     * The smallest step (as unscaled long at scale) between two values produced by the scaler.
+     */
+    private static long quantum(@NonNull Scaler scaler, int scale) {
+        if (scaler instanceof CashRoundingScaler) {
+            BigDecimal unit = ((CashRoundingScaler) scaler).getCashRounding().getUnit();
+            long result = ScaledLongs.toUnscaled(unit.abs(), scale);
+            if (result <= 0) {
+                throw new IllegalArgumentException("Unsupported cash rounding unit: " + unit);
+            }
+
+            return result;
+        }
+        if (scaler instanceof TickScaler) {
+            return ((TickScaler) scaler).getUnscaledTick();
+        }
+
+        return 1;
+    }
+
+    private static long toUnits(@NonNull AbstractFluentBigDecimal<?> total, int scale, long quantum) {
+        BigDecimal rounded = total.round().getValue();
+        long unscaled = ScaledLongs.toUnscaled(rounded, scale);
+        if (unscaled == NOT_REPRESENTABLE) {
+            throw new ArithmeticException("Total does not fit into an unscaled long at scale " + scale + ": "
+                + rounded.toPlainString());
+        }
+        if (unscaled % quantum != 0) {
+            throw new ArithmeticException("Total is not a multiple of the rounding unit: " + rounded.toPlainString());
+        }
+
+        return unscaled / quantum;
+    }
+}
@@ -0,0 +1,136 @@
+package com.github.honoluluhenk.fluentbigdecimals.column;
+
+import com.github.honoluluhenk.fluentbigdecimals.internal.LongKernels;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Operations on bitmasks as returned by {@link DecimalPredicates}.
+ * <p>
+ * A bitmask holds one bit per element: bit {@code i % 64} of word {@code i / 64}.
+ * Bits beyond the size of the column are always 0.
+ */
+public final class Bitmasks {
+
+    private Bitmasks() {
+        // utility class
+    }
+
+    /**
+     * An empty bitmask for size elements.
+     */
+    public static long @NonNull [] of(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Negative size: " + size);
+        }
+
+        return new long[LongKernels.words(size)];
+    }
+
+    public static boolean get(long @NonNull [] mask, int index) {
+        return (mask[index >>> 6] & (1L << index)) != 0;
+    }
+
+    public static void set(long @NonNull [] mask, int index, boolean value) {
+        long bit = 1L << index;
+        if (value) {
+            mask[index >>> 6] |= bit;
+        } else {
+            mask[index >>> 6] &= ~bit;
+        }
+    }
+
+    /**
+     * Number of set bits.
+     */
+    public static int cardinality(long @NonNull [] mask) {
+        requireNonNull(mask, "mask required");
+
+        return LongKernels.cardinality(mask);
+    }
+
+    public static long @NonNull [] and(long @NonNull [] a, long @NonNull [] b) {
+        checkSameLength(a, b);
+
+        long[] result = new long[a.length];
+        for (int i = 0; i < a.length; i++) {
+            result[i] = a[i] & b[i];
+        }
+
+        return result;
+    }
+
+    public static long @NonNull [] or(long @NonNull [] a, long @NonNull [] b) {
+        checkSameLength(a, b);
+
+        long[] result = new long[a.length];
+        for (int i = 0; i < a.length; i++) {
+            result[i] = a[i] | b[i];
+        }
+
+        return result;
+    }
+
+    /**
+     * Bits set in a but not in b.
+     */
+    public static long @NonNull [] andNot(long @NonNull [] a, long @NonNull [] b) {
+        checkSameLength(a, b);
+
+        long[] result = new long[a.length];
+        for (int i = 0; i < a.length; i++) {
+            result[i] = a[i] & ~b[i];
+        }
+
+        return result;
+    }
+
+    /**
+     * The complement of mask for size elements.
+     */
+    public static long @NonNull [] not(long @NonNull [] mask, int size) {
+        requireNonNull(mask, "mask required");
+        if (mask.length != LongKernels.words(size)) {
+            throw new IllegalArgumentException("Mask does not match size " + size + ": " + mask.length + " words");
+        }
+
+        long[] result = new long[mask.length];
+        for (int i = 0; i < mask.length; i++) {
+            result[i] = ~mask[i];
+        }
+        int used = size & (Long.SIZE - 1);
+        if (used != 0) {
+            result[result.length - 1] &= (1L << used) - 1;
+        }
+
+        return result;
+    }
+
+    /**
+     * The indexes of all set bits in ascending order (e.g.: for {@link DecimalColumn#select(int[])}).
+     */
+    public static int @NonNull [] indexes(long @NonNull [] mask) {
+        requireNonNull(mask, "mask required");
+
+        int[] result = new int[LongKernels.cardinality(mask)];
+        int count = 0;
+        for (int word = 0; word < mask.length; word++) {
+            long bits = mask[word];
+            while (bits != 0) {
+                result[count++] = (word << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+            }
+        }
+
+        return result;
+    }
+
+    private static void checkSameLength(long @NonNull [] a, long @NonNull [] b) {
+        requireNonNull(a, "a required");
+        requireNonNull(b, "b required");
+        if (a.length != b.length) {
+            throw new IllegalArgumentException("Length mismatch: " + a.length + " vs. " + b.length);
+        }
+    }
+}
@@ -0,0 +1,432 @@
+package com.github.honoluluhenk.fluentbigdecimals.column;
+
+import com.github.honoluluhenk.fluentbigdecimals.AbstractFluentBigDecimal;
+import com.github.honoluluhenk.fluentbigdecimals.Configuration;
+import com.github.honoluluhenk.fluentbigdecimals.internal.Configurations;
+import com.github.honoluluhenk.fluentbigdecimals.internal.LongKernels;
+import com.github.honoluluhenk.fluentbigdecimals.internal.ScaledLongs;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.math.BigDecimal;
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.BinaryOperator;
+
+import static com.github.honoluluhenk.fluentbigdecimals.internal.ScaledLongs.NOT_REPRESENTABLE;
+import static com.github.honoluluhenk.fluentbigdecimals.internal.ScaledLongs.UNKNOWN_SCALE;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An immutable column of values under one {@link Configuration}, meant for bulk operations on large amounts of data.
+ * <p>
+ * Values are held in their unscaled {@code long} form at the scale of the configurations
+ * {@link com.github.honoluluhenk.fluentbigdecimals.scaler.Scaler} (i.e.: like a {@code DECIMAL(p, s)} database column).
+ * Values that do not fit (overflow, more decimals than the scale or configurations without a fixed scale)
+ * are held as {@link BigDecimal}.
+ * <p>
+ * Values are stored exactly, i.e.: <strong>un</strong>rounded (see {@link Configuration#ofRaw(BigDecimal)}),
+ * but normalized to the column scale.
+ */
+public final class DecimalColumn<T extends AbstractFluentBigDecimal<T>> {
+
+    private final @NonNull Configuration<T> configuration;
+    private final int scale;
+    private final long @NonNull [] unscaled;
+    // null if all values are representable as unscaled long
+    private final @Nullable BigDecimal @Nullable [] overflow;
+
+    DecimalColumn(
+        @NonNull Configuration<T> configuration,
+        long @NonNull [] unscaled,
+        @Nullable BigDecimal @Nullable [] overflow
+    ) {
+        this.configuration = configuration;
+        this.scale = ScaledLongs.fixedScale(configuration);
+        this.unscaled = unscaled;
+        this.overflow = overflow;
+    }
+
+    public static <T extends AbstractFluentBigDecimal<T>> @NonNull DecimalColumn<T> of(
+        @NonNull Configuration<T> configuration,
+        @NonNull Collection<? extends AbstractFluentBigDecimal<?>> values
+    ) {
+        requireNonNull(values, "values required");
+
+        Builder<T> builder = new Builder<>(configuration, values.size());
+        for (AbstractFluentBigDecimal<?> value : values) {
+            builder.add(value.getValue());
+        }
+
+        return builder.build();
+    }
+
+    public static <T extends AbstractFluentBigDecimal<T>> @NonNull DecimalColumn<T> of(
+        @NonNull Configuration<T> configuration,
+        @NonNull BigDecimal @NonNull ... values
+    ) {
+        requireNonNull(values, "values required");
+
+        Builder<T> builder = new Builder<>(configuration, values.length);
+        for (BigDecimal value : values) {
+            builder.add(value);
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Create a column from (a copy of) unscaled values at the scale of the configuration.
+     *
+     * @throws IllegalArgumentException if the configuration has no fixed scale
+     *                                  or values contains {@link Long#MIN_VALUE} (which is reserved).
+     */
+    public static <T extends AbstractFluentBigDecimal<T>> @NonNull DecimalColumn<T> ofUnscaled(
+        @NonNull Configuration<T> configuration,
+        long @NonNull [] unscaled
+    ) {
+        requireNonNull(configuration, "configuration required");
+        requireNonNull(unscaled, "unscaled required");
+        if (ScaledLongs.fixedScale(configuration) == ScaledLongs.UNKNOWN_SCALE) {
+            throw new IllegalArgumentException("Configuration has no fixed scale: " + configuration);
+        }
+        for (long value : unscaled) {
+            if (value == NOT_REPRESENTABLE) {
+                throw new IllegalArgumentException("Long.MIN_VALUE is not supported as unscaled value");
+            }
+        }
+
+        return new DecimalColumn<>(configuration, unscaled.clone(), null);
+    }
+
+    public @NonNull Configuration<T> getConfiguration() {
+        return configuration;
+    }
+
+    /**
+     * The scale of the unscaled values, see {@link #getUnscaled(int)}.
+     */
+    public int getScale() {
+        return scale;
+    }
+
+    public int size() {
+        return unscaled.length;
+    }
+
+    public boolean isEmpty() {
+        return unscaled.length == 0;
+    }
+
+    /**
+     * The (unrounded) value at index.
+     */
+    public @NonNull T get(int index) {
+        return configuration.ofRaw(getValue(index));
+    }
+
+    public @NonNull BigDecimal getValue(int index) {
+        BigDecimal big = overflowAt(index);
+        if (big != null) {
+            return big;
+        }
+
+        return ScaledLongs.toBigDecimal(unscaled[index], scale);
+    }
+
+    /**
+     * True if the value at index is available as unscaled long, see {@link #getUnscaled(int)}.
+     */
+    public boolean hasUnscaled(int index) {
+        return unscaled[index] != NOT_REPRESENTABLE;
+    }
+
+    /**
+     * True if all values are available as unscaled long, see {@link #toUnscaledArray()}.
+     */
+    public boolean isAllUnscaled() {
+        return overflow == null;
+    }
+
+    /**
+     * The value at index in its unscaled form at {@link #getScale()}.
+     *
+     * @throws ArithmeticException if the value is not representable as unscaled long.
+     */
+    public long getUnscaled(int index) {
+        long result = unscaled[index];
+        if (result == NOT_REPRESENTABLE) {
+            throw new ArithmeticException("Value at index " + index + " does not fit into an unscaled long: "
+                + getValue(index).toPlainString());
+        }
+
+        return result;
+    }
+
+    /**
+     * A copy of all values in their unscaled form at {@link #getScale()}.
+     *
+     * @throws ArithmeticException if any value is not representable as unscaled long.
+     */
+    public long @NonNull [] toUnscaledArray() {
+        if (overflow != null) {
+            throw new ArithmeticException("Not all values fit into an unscaled long");
+        }
+
+        return unscaled.clone();
+    }
+
+    /**
+     * An unmodifiable view of all (unrounded) values.
+     */
+    public @NonNull List<T> toList() {
+        return new AbstractList<T>() {
+            @Override
+            public T get(int index) {
+                return DecimalColumn.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return DecimalColumn.this.size();
+            }
+        };
+    }
+
+    /**
+     * The running balance starting at {@link Configuration#ZERO()}, see {@link #runningBalance(AbstractFluentBigDecimal)}.
+     */
+    public @NonNull DecimalColumn<T> runningBalance() {
+        return runningBalance(configuration.ZERO());
+    }
+
+    /**
+     * The running balance (i.e.: the prefix sum) starting at opening.
+     * <p>
+     * The result is identical to a sequential loop of {@code balance = balance.add(get(i))},
+     * see {@link RunningBalance} for details.
+     */
+    public @NonNull DecimalColumn<T> runningBalance(@NonNull T opening) {
+        return RunningBalance.of(opening, this);
+    }
+
+    /**
+     * The values in ascending order, see {@link Sorting#sort(DecimalColumn)}.
+     */
+    public @NonNull DecimalColumn<T> sorted() {
+        return Sorting.sort(this);
+    }
+
+    /**
+     * The indexes of the values in ascending order, see {@link Sorting#argsort(DecimalColumn)}.
+     */
+    public int @NonNull [] argsort() {
+        return Sorting.argsort(this);
+    }
+
+    /**
+     * The k largest values in descending order, see {@link Sorting#top(DecimalColumn, int)}.
+     */
+    public @NonNull DecimalColumn<T> top(int k) {
+        return Sorting.top(this, k);
+    }
+
+    /**
+     * A new column with the values at indexes (e.g.: the result of {@link #argsort()}), in that order.
+     *
+     * @throws IndexOutOfBoundsException if an index is out of range.
+     */
+    public @NonNull DecimalColumn<T> select(int @NonNull [] indexes) {
+        requireNonNull(indexes, "indexes required");
+
+        long[] selected = new long[indexes.length];
+        BigDecimal[] selectedOverflow = null;
+        for (int i = 0; i < indexes.length; i++) {
+            int index = indexes[i];
+            selected[i] = unscaled[index];
+            BigDecimal big = overflowAt(index);
+            if (big != null) {
+                if (selectedOverflow == null) {
+                    selectedOverflow = new BigDecimal[indexes.length];
+                }
+                selectedOverflow[i] = big;
+            }
+        }
+
+        return new DecimalColumn<>(configuration, selected, selectedOverflow);
+    }
+
+    /**
+     * A new column with the values whose bit is set in mask (e.g.: the result of a {@link DecimalPredicates} filter).
+     */
+    public @NonNull DecimalColumn<T> filter(long @NonNull [] mask) {
+        requireNonNull(mask, "mask required");
+        if (mask.length != Bitmasks.of(size()).length) {
+            throw new IllegalArgumentException("Mask does not match size " + size() + ": " + mask.length + " words");
+        }
+
+        return select(Bitmasks.indexes(mask));
+    }
+
+    /**
+     * The exact (i.e.: unrounded) sums of the values at the same index.
+     *
+     * @throws IllegalArgumentException if the sizes or configurations do not match.
+     */
+    public @NonNull DecimalColumn<T> add(@NonNull DecimalColumn<T> other) {
+        checkCompatible(other);
+
+        if (overflow == null && other.overflow == null) {
+            long[] result = new long[size()];
+            if (LongKernels.add(unscaled, other.unscaled, result)) {
+                return new DecimalColumn<>(configuration, result, null);
+            }
+        }
+
+        return combine(other, BigDecimal::add);
+    }
+
+    /**
+     * The exact (i.e.: unrounded) differences of the values at the same index.
+     *
+     * @throws IllegalArgumentException if the sizes or configurations do not match.
+     */
+    public @NonNull DecimalColumn<T> subtract(@NonNull DecimalColumn<T> other) {
+        checkCompatible(other);
+
+        if (overflow == null && other.overflow == null) {
+            long[] result = new long[size()];
+            if (LongKernels.subtract(unscaled, other.unscaled, result)) {
+                return new DecimalColumn<>(configuration, result, null);
+            }
+        }
+
+        return combine(other, BigDecimal::subtract);
+    }
+
+    /**
+     * All values multiplied exactly (i.e.: unrounded) by factor (e.g.: a quantity).
+     */
+    public @NonNull DecimalColumn<T> multiply(long factor) {
+        if (overflow == null) {
+            long[] result = new long[size()];
+            if (LongKernels.multiply(unscaled, factor, result)) {
+                return new DecimalColumn<>(configuration, result, null);
+            }
+        }
+
+        BigDecimal multiplicand = BigDecimal.valueOf(factor);
+        Builder<T> builder = new Builder<>(configuration, size());
+        for (int i = 0; i < size(); i++) {
+            builder.add(getValue(i).multiply(multiplicand));
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Switch to a new configuration <i>without</i> rounding/scaling the values
+     * (like {@link AbstractFluentBigDecimal#withConfiguration(Configuration)}).
+     * <p>
+     * Unscaled values are converted to the scale of the new configuration.
+     */
+    public @NonNull DecimalColumn<T> withConfiguration(@NonNull Configuration<T> configuration) {
+        requireNonNull(configuration, "configuration required");
+
+        int targetScale = ScaledLongs.fixedScale(configuration);
+        if (overflow == null && scale != UNKNOWN_SCALE && targetScale != UNKNOWN_SCALE) {
+            long[] result = new long[size()];
+            if (LongKernels.rescale(unscaled, scale, targetScale, result)) {
+                return new DecimalColumn<>(configuration, result, null);
+            }
+        }
+
+        Builder<T> builder = new Builder<>(configuration, size());
+        for (int i = 0; i < size(); i++) {
+            builder.add(getValue(i));
+        }
+
+        return builder.build();
+    }
+
+    private void checkCompatible(@NonNull DecimalColumn<T> other) {
+        requireNonNull(other, "other required");
+        if (size() != other.size()) {
+            throw new IllegalArgumentException("Size mismatch: " + size() + " vs. " + other.size());
+        }
+        if (!Configurations.roundsAlike(configuration, other.configuration)) {
+            throw new IllegalArgumentException("Configuration mismatch: " + configuration + " vs. " + other.configuration);
+        }
+    }
+
+    private @NonNull DecimalColumn<T> combine(
+        @NonNull DecimalColumn<T> other,
+        @NonNull BinaryOperator<BigDecimal> operator
+    ) {
+        Builder<T> builder = new Builder<>(configuration, size());
+        for (int i = 0; i < size(); i++) {
+            builder.add(operator.apply(getValue(i), other.getValue(i)));
+        }
+
+        return builder.build();
+    }
+
+    // package internal: no copy
+    long @NonNull [] unscaledArray() {
+        return unscaled;
+    }
+
+    @Nullable BigDecimal overflowAt(int index) {
+        BigDecimal @Nullable [] big = overflow;
+        if (big == null) {
+            return null;
+        }
+
+        return big[index];
+    }
+
+    @Override
+    public @NonNull String toString() {
+        return getClass().getSimpleName() + "[size=" + size() + ',' + configuration + ']';
+    }
+
+    /**
+     * Collects values into a new column.
+     */
+    static final class Builder<T extends AbstractFluentBigDecimal<T>> {
+        private final @NonNull Configuration<T> configuration;
+        private final int scale;
+        private final long @NonNull [] unscaled;
+        private @Nullable BigDecimal @Nullable [] overflow;
+        private int size;
+
+        Builder(@NonNull Configuration<T> configuration, int size) {
+            this.configuration = requireNonNull(configuration, "configuration required");
+            this.scale = ScaledLongs.fixedScale(configuration);
+            this.unscaled = new long[size];
+        }
+
+        void add(@NonNull BigDecimal value) {
+            set(size, value);
+            size++;
+        }
+
+        void set(int index, @NonNull BigDecimal value) {
+            requireNonNull(value, "value required");
+
+            long converted = ScaledLongs.toUnscaled(value, scale);
+            unscaled[index] = converted;
+            if (converted == NOT_REPRESENTABLE) {
+                if (overflow == null) {
+                    overflow = new BigDecimal[unscaled.length];
+                }
+                overflow[index] = value;
+            }
+        }
+
+        @NonNull DecimalColumn<T> build() {
+            return new DecimalColumn<>(configuration, unscaled, overflow);
+        }
+    }
+}
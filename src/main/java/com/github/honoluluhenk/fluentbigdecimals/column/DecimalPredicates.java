@@ -0,0 +1,226 @@
+package com.github.honoluluhenk.fluentbigdecimals.column;
+
+import com.github.honoluluhenk.fluentbigdecimals.AbstractFluentBigDecimal;
+import com.github.honoluluhenk.fluentbigdecimals.internal.LongKernels;
+import com.github.honoluluhenk.fluentbigdecimals.internal.ScaledLongs;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.function.Predicate;
+
+import static com.github.honoluluhenk.fluentbigdecimals.internal.ScaledLongs.NOT_REPRESENTABLE;
+import static com.github.honoluluhenk.fluentbigdecimals.internal.ScaledLongs.UNKNOWN_SCALE;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Bulk comparisons of all values of a {@link DecimalColumn}, returning a bitmask of the matching indexes
+ * (see {@link Bitmasks}).
+ * <p>
+ * All comparisons have {@link BigDecimal#compareTo(BigDecimal)} semantics (like
+ * {@link AbstractFluentBigDecimal#comparesTo(BigDecimal)}), i.e.: the scale does not matter.
+ * <p>
+ * Each predicate is turned into a range of unscaled longs at the scale of the column once,
+ * then checked for all values in a loop without data dependent branches.
+ * Values that are not available as unscaled long (see {@link DecimalColumn#hasUnscaled(int)}) are compared
+ * as {@link BigDecimal}.
+ */
+public final class DecimalPredicates {
+
+    private DecimalPredicates() {
+        // utility class
+    }
+
+    /**
+     * Values &gt; threshold.
+     */
+    public static long @NonNull [] greaterThan(@NonNull DecimalColumn<?> column, @NonNull BigDecimal threshold) {
+        requireNonNull(threshold, "threshold required");
+        int scale = column.getScale();
+
+        return filter(column,
+            scale == UNKNOWN_SCALE ? null : threshold.setScale(scale, RoundingMode.FLOOR).add(ulp(scale)),
+            null,
+            value -> value.compareTo(threshold) > 0);
+    }
+
+    public static long @NonNull [] greaterThan(
+        @NonNull DecimalColumn<?> column,
+        @NonNull AbstractFluentBigDecimal<?> threshold
+    ) {
+        return greaterThan(column, requireNonNull(threshold, "threshold required").getValue());
+    }
+
+    /**
+     * Values &gt;= threshold.
+     */
+    public static long @NonNull [] greaterThanOrEqualTo(@NonNull DecimalColumn<?> column, @NonNull BigDecimal threshold) {
+        requireNonNull(threshold, "threshold required");
+        int scale = column.getScale();
+
+        return filter(column,
+            scale == UNKNOWN_SCALE ? null : threshold.setScale(scale, RoundingMode.CEILING),
+            null,
+            value -> value.compareTo(threshold) >= 0);
+    }
+
+    public static long @NonNull [] greaterThanOrEqualTo(
+        @NonNull DecimalColumn<?> column,
+        @NonNull AbstractFluentBigDecimal<?> threshold
+    ) {
+        return greaterThanOrEqualTo(column, requireNonNull(threshold, "threshold required").getValue());
+    }
+
+    /**
+     * Values &lt; threshold.
+     */
+    public static long @NonNull [] lessThan(@NonNull DecimalColumn<?> column, @NonNull BigDecimal threshold) {
+        requireNonNull(threshold, "threshold required");
+        int scale = column.getScale();
+
+        return filter(column,
+            null,
+            scale == UNKNOWN_SCALE ? null : threshold.setScale(scale, RoundingMode.CEILING).subtract(ulp(scale)),
+            value -> value.compareTo(threshold) < 0);
+    }
+
+    public static long @NonNull [] lessThan(
+        @NonNull DecimalColumn<?> column,
+        @NonNull AbstractFluentBigDecimal<?> threshold
+    ) {
+        return lessThan(column, requireNonNull(threshold, "threshold required").getValue());
+    }
+
+    /**
+     * Values &lt;= threshold.
+     */
+    public static long @NonNull [] lessThanOrEqualTo(@NonNull DecimalColumn<?> column, @NonNull BigDecimal threshold) {
+        requireNonNull(threshold, "threshold required");
+        int scale = column.getScale();
+
+        return filter(column,
+            null,
+            scale == UNKNOWN_SCALE ? null : threshold.setScale(scale, RoundingMode.FLOOR),
+            value -> value.compareTo(threshold) <= 0);
+    }
+
+    public static long @NonNull [] lessThanOrEqualTo(
+        @NonNull DecimalColumn<?> column,
+        @NonNull AbstractFluentBigDecimal<?> threshold
+    ) {
+        return lessThanOrEqualTo(column, requireNonNull(threshold, "threshold required").getValue());
+    }
+
+    /**
+     * Values comparing equal to other (i.e.: 1.0 matches 1.00).
+     */
+    public static long @NonNull [] comparesTo(@NonNull DecimalColumn<?> column, @NonNull BigDecimal other) {
+        return between(column, other, other);
+    }
+
+    public static long @NonNull [] comparesTo(@NonNull DecimalColumn<?> column, @NonNull AbstractFluentBigDecimal<?> other) {
+        return comparesTo(column, requireNonNull(other, "other required").getValue());
+    }
+
+    /**
+     * Values with low &lt;= value &lt;= high.
+     */
+    public static long @NonNull [] between(
+        @NonNull DecimalColumn<?> column,
+        @NonNull BigDecimal low,
+        @NonNull BigDecimal high
+    ) {
+        requireNonNull(low, "low required");
+        requireNonNull(high, "high required");
+        int scale = column.getScale();
+
+        return filter(column,
+            scale == UNKNOWN_SCALE ? null : low.setScale(scale, RoundingMode.CEILING),
+            scale == UNKNOWN_SCALE ? null : high.setScale(scale, RoundingMode.FLOOR),
+            value -> value.compareTo(low) >= 0 && value.compareTo(high) <= 0);
+    }
+
+    public static long @NonNull [] between(
+        @NonNull DecimalColumn<?> column,
+        @NonNull AbstractFluentBigDecimal<?> low,
+        @NonNull AbstractFluentBigDecimal<?> high
+    ) {
+        return between(
+            column,
+            requireNonNull(low, "low required").getValue(),
+            requireNonNull(high, "high required").getValue()
+        );
+    }
+
+    public static long @NonNull [] isZero(@NonNull DecimalColumn<?> column) {
+        return comparesTo(column, BigDecimal.ZERO);
+    }
+
+    /**
+     * Values with the given {@link BigDecimal#signum()}.
+     *
+     * @param signum -1, 0 or 1
+     */
+    public static long @NonNull [] signum(@NonNull DecimalColumn<?> column, int signum) {
+        switch (signum) {
+            case -1:
+                return lessThan(column, BigDecimal.ZERO);
+            case 0:
+                return isZero(column);
+            case 1:
+                return greaterThan(column, BigDecimal.ZERO);
+            default:
+                throw new IllegalArgumentException("signum must be -1, 0 or 1: " + signum);
+        }
+    }
+
+    private static @NonNull BigDecimal ulp(int scale) {
+        return BigDecimal.valueOf(1, scale);
+    }
+
+    /**
+     * @param low   inclusive lower bound at the column scale, null: unbounded
+     * @param high  inclusive upper bound at the column scale, null: unbounded
+     * @param exact the predicate for values not available as unscaled long
+     */
+    private static long @NonNull [] filter(
+        @NonNull DecimalColumn<?> column,
+        @Nullable BigDecimal low,
+        @Nullable BigDecimal high,
+        @NonNull Predicate<BigDecimal> exact
+    ) {
+        requireNonNull(column, "column required");
+
+        int size = column.size();
+        long[] mask;
+        int scale = column.getScale();
+        long lowUnscaled = low == null ? Long.MIN_VALUE : ScaledLongs.toUnscaled(low, scale);
+        long highUnscaled = high == null ? Long.MAX_VALUE : ScaledLongs.toUnscaled(high, scale);
+        if (lowUnscaled == NOT_REPRESENTABLE && low != null && low.signum() > 0
+            || highUnscaled == NOT_REPRESENTABLE && high != null && high.signum() < 0
+            || scale == UNKNOWN_SCALE) {
+            // out of range of all unscaled values
+            mask = Bitmasks.of(size);
+        } else {
+            if (highUnscaled == NOT_REPRESENTABLE) {
+                highUnscaled = Long.MAX_VALUE;
+            }
+            // NOT_REPRESENTABLE as lower bound is Long.MIN_VALUE, i.e.: unbounded
+            mask = lowUnscaled <= highUnscaled
+                ? LongKernels.between(column.unscaledArray(), lowUnscaled, highUnscaled)
+                : Bitmasks.of(size);
+        }
+
+        if (!column.isAllUnscaled()) {
+            for (int i = 0; i < size; i++) {
+                BigDecimal big = column.overflowAt(i);
+                if (big != null) {
+                    Bitmasks.set(mask, i, exact.test(big));
+                }
+            }
+        }
+
+        return mask;
+    }
+}
@@ -0,0 +1,450 @@
+package com.github.honoluluhenk.fluentbigdecimals.column;
+
+import com.github.honoluluhenk.fluentbigdecimals.AbstractFluentBigDecimal;
+import com.github.honoluluhenk.fluentbigdecimals.Configuration;
+import com.github.honoluluhenk.fluentbigdecimals.internal.Configurations;
+import com.github.honoluluhenk.fluentbigdecimals.internal.ExactSum;
+import com.github.honoluluhenk.fluentbigdecimals.internal.FixedPoint128;
+import com.github.honoluluhenk.fluentbigdecimals.internal.Int128;
+import com.github.honoluluhenk.fluentbigdecimals.internal.OffHeapLongs;
+import com.github.honoluluhenk.fluentbigdecimals.internal.ScaledLongs;
+import com.github.honoluluhenk.fluentbigdecimals.scaler.FixedScaleScaler;
+import com.github.honoluluhenk.fluentbigdecimals.scaler.IntegerScaler;
+import com.github.honoluluhenk.fluentbigdecimals.scaler.MaxScaleScaler;
+import com.github.honoluluhenk.fluentbigdecimals.scaler.Scaler;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+import static com.github.honoluluhenk.fluentbigdecimals.internal.ScaledLongs.NOT_REPRESENTABLE;
+import static com.github.honoluluhenk.fluentbigdecimals.internal.ScaledLongs.UNKNOWN_SCALE;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A mutable, fixed size array of values under one {@link Configuration}, stored outside of the java heap
+ * (i.e.: hundreds of millions of values without putting pressure on the garbage collector).
+ * <p>
+ * Values are stored as unscaled long at the scale of the configurations
+ * {@link com.github.honoluluhenk.fluentbigdecimals.scaler.Scaler}.
+ * Configurations with a precision of more than 18 digits (or unlimited precision)
+ * use two longs per value (a 128 bit integer, i.e.: up to 38 digits), see {@link #isWide()}.
+ * <p>
+ * Unlike {@link DecimalColumn}, all values are rounded/scaled by the configuration
+ * (like {@link Configuration#of(BigDecimal)}), this includes the results of the bulk operations.
+ * Bulk operations work on the unscaled values and only use {@link BigDecimal} for results that need rounding.
+ * <p>
+ * On JDK 22+ the memory is a {@code MemorySegment} that is released on {@link #close()}.
+ * On older JDKs direct buffers are used which are released by the garbage collector.
+ * <p>
+ * Not thread safe.
+ */
+public final class DecimalSegmentArray<T extends AbstractFluentBigDecimal<T>> implements AutoCloseable {
+    private static final int SAFE_LONG_DIGITS = 18;
+    private static final int SAFE_INT128_DIGITS = 38;
+
+    private final @NonNull Configuration<T> configuration;
+    private final int scale;
+    private final long size;
+    private final boolean wide;
+    // narrow: the unscaled value at index. wide: high word at 2 * index, low word at 2 * index + 1
+    private final @NonNull OffHeapLongs words;
+    // false: all results need rounding by the configuration
+    private final boolean hasLimit;
+    // largest magnitude passing the configuration unchanged, see ScaledLongs.maxExactUnscaled()
+    private final long limitHigh;
+    private final long limitLow;
+
+    private DecimalSegmentArray(@NonNull Configuration<T> configuration, int scale, long size, boolean wide) {
+        this.configuration = configuration;
+        this.scale = scale;
+        this.size = size;
+        this.wide = wide;
+        this.words = OffHeapLongs.allocate(wide ? Math.multiplyExact(size, 2) : size);
+
+        long limit = ScaledLongs.maxExactUnscaled(configuration);
+        int precision = configuration.getMathContext().getPrecision();
+        this.hasLimit = limit >= 0;
+        if (!wide || limit < 0) {
+            this.limitHigh = Int128.signExtension(limit);
+            this.limitLow = limit;
+        } else if (precision == 0 || precision > SAFE_INT128_DIGITS) {
+            this.limitHigh = Long.MAX_VALUE;
+            this.limitLow = -1;
+        } else {
+            BigInteger wideLimit = BigInteger.TEN.pow(precision).subtract(BigInteger.ONE);
+            this.limitHigh = Int128.high(wideLimit);
+            this.limitLow = Int128.low(wideLimit);
+        }
+    }
+
+    /**
+     * An array of size zeros.
+     *
+     * @throws IllegalArgumentException if the configuration has no fixed scale.
+     */
+    public static <T extends AbstractFluentBigDecimal<T>> @NonNull DecimalSegmentArray<T> allocate(
+        @NonNull Configuration<T> configuration,
+        long size
+    ) {
+        requireNonNull(configuration, "configuration required");
+        if (size < 0) {
+            throw new IllegalArgumentException("Negative size: " + size);
+        }
+        int scale = ScaledLongs.fixedScale(configuration);
+        if (scale == UNKNOWN_SCALE) {
+            throw new IllegalArgumentException("Configuration has no fixed scale: " + configuration);
+        }
+
+        int precision = configuration.getMathContext().getPrecision();
+        boolean wide = precision == 0 || precision > SAFE_LONG_DIGITS;
+
+        return new DecimalSegmentArray<>(configuration, scale, size, wide);
+    }
+
+    public @NonNull Configuration<T> getConfiguration() {
+        return configuration;
+    }
+
+    /**
+     * The scale of the unscaled values.
+     */
+    public int getScale() {
+        return scale;
+    }
+
+    public long size() {
+        return size;
+    }
+
+    /**
+     * True if values are stored as 128 bit integers.
+     */
+    public boolean isWide() {
+        return wide;
+    }
+
+    public @NonNull T get(long index) {
+        return configuration.ofRaw(getValue(index));
+    }
+
+    public @NonNull BigDecimal getValue(long index) {
+        if (!wide) {
+            return ScaledLongs.toBigDecimal(words.get(index), scale);
+        }
+
+        checkIndex(index);
+        return new BigDecimal(Int128.toBigInteger(words.get(2 * index), words.get(2 * index + 1)), scale);
+    }
+
+    /**
+     * Stores value, rounded/scaled by the configuration.
+     *
+     * @throws ArithmeticException if the rounded value does not fit into the array (see {@link #isWide()}).
+     */
+    public void set(long index, @NonNull BigDecimal value) {
+        requireNonNull(value, "value required");
+        checkIndex(index);
+
+        store(index, value);
+    }
+
+    public void set(long index, @NonNull AbstractFluentBigDecimal<?> value) {
+        set(index, requireNonNull(value, "value required").getValue());
+    }
+
+    /**
+     * Adds other to this array (element by element).
+     *
+     * @throws IllegalArgumentException if the sizes or configurations do not match.
+     * @throws ArithmeticException      if a result does not fit, values up to this index are updated already.
+     */
+    public void add(@NonNull DecimalSegmentArray<T> other) {
+        checkCompatible(other);
+
+        for (long i = 0; i < size; i++) {
+            if (wide) {
+                long aHigh = words.get(2 * i);
+                long aLow = words.get(2 * i + 1);
+                long bHigh = other.words.get(2 * i);
+                long bLow = other.words.get(2 * i + 1);
+                long low = aLow + bLow;
+                long high = aHigh + bHigh + Int128.carry(aLow, low);
+                if (Int128.addOverflows(aHigh, bHigh, high) || !isExact(high, low)) {
+                    storeSum(i, other, false);
+                } else {
+                    words.set(2 * i, high);
+                    words.set(2 * i + 1, low);
+                }
+            } else {
+                long a = words.get(i);
+                long b = other.words.get(i);
+                long sum = a + b;
+                if (((a ^ sum) & (b ^ sum)) < 0 || !isExact(sum)) {
+                    storeSum(i, other, false);
+                } else {
+                    words.set(i, sum);
+                }
+            }
+        }
+    }
+
+    /**
+     * Subtracts other from this array (element by element).
+     *
+     * @throws IllegalArgumentException if the sizes or configurations do not match.
+     * @throws ArithmeticException      if a result does not fit, values up to this index are updated already.
+     */
+    public void subtract(@NonNull DecimalSegmentArray<T> other) {
+        checkCompatible(other);
+
+        for (long i = 0; i < size; i++) {
+            if (wide) {
+                long aHigh = words.get(2 * i);
+                long aLow = words.get(2 * i + 1);
+                long bHigh = other.words.get(2 * i);
+                long bLow = other.words.get(2 * i + 1);
+                long low = aLow - bLow;
+                long high = aHigh - bHigh - Int128.borrow(aLow, bLow);
+                if (Int128.subtractOverflows(aHigh, bHigh, high) || !isExact(high, low)) {
+                    storeSum(i, other, true);
+                } else {
+                    words.set(2 * i, high);
+                    words.set(2 * i + 1, low);
+                }
+            } else {
+                long a = words.get(i);
+                long b = other.words.get(i);
+                long difference = a - b;
+                if (((a ^ b) & (a ^ difference)) < 0 || !isExact(difference)) {
+                    storeSum(i, other, true);
+                } else {
+                    words.set(i, difference);
+                }
+            }
+        }
+    }
+
+    /**
+     * Multiplies all values by factor (e.g.: a quantity).
+     *
+     * @throws ArithmeticException if a result does not fit, values up to this index are updated already.
+     */
+    public void multiply(long factor) {
+        FixedPoint128 multiplicand = FixedPoint128.of(factor, 0);
+        for (long i = 0; i < size; i++) {
+            if (wide) {
+                long high = words.get(2 * i);
+                long low = words.get(2 * i + 1);
+                // 64 x 64 bits always fit into 128 bits
+                long productHigh = Math.multiplyHigh(low, factor);
+                long productLow = low * factor;
+                if (!Int128.fitsLong(high, low) || !isExact(productHigh, productLow)) {
+                    storeProduct(i, multiplicand);
+                } else {
+                    words.set(2 * i, productHigh);
+                    words.set(2 * i + 1, productLow);
+                }
+            } else {
+                long value = words.get(i);
+                long product = value * factor;
+                if (Math.multiplyHigh(value, factor) != Int128.signExtension(product) || !isExact(product)) {
+                    storeProduct(i, multiplicand);
+                } else {
+                    words.set(i, product);
+                }
+            }
+        }
+    }
+
+    /**
+     * Multiplies all values by factor (e.g.: an exchange rate),
+     * results are rounded like {@code get(index).multiply(factor)}.
+     *
+     * @throws ArithmeticException if a result does not fit, values up to this index are updated already.
+     */
+    public void multiply(@NonNull BigDecimal factor) {
+        requireNonNull(factor, "factor required");
+
+        @Nullable FixedPoint128 multiplicand = FixedPoint128.of(factor);
+        for (long i = 0; i < size; i++) {
+            if (multiplicand == null) {
+                store(i, getValue(i).multiply(factor));
+            } else {
+                storeProduct(i, multiplicand);
+            }
+        }
+    }
+
+    public void multiply(@NonNull AbstractFluentBigDecimal<?> factor) {
+        multiply(requireNonNull(factor, "factor required").getValue());
+    }
+
+    /**
+     * Divides all values by divisor (e.g.: a number of installments),
+     * results are rounded like {@code get(index).divide(divisor)}.
+     *
+     * @throws ArithmeticException if divisor is zero or a result does not fit
+     *                             (values up to this index are updated already).
+     */
+    public void divide(long divisor) {
+        if (divisor == 0) {
+            throw new ArithmeticException("Division by zero");
+        }
+
+        MathContext mathContext = configuration.getMathContext();
+        FixedPoint128 denominator = FixedPoint128.of(divisor, 0);
+        for (long i = 0; i < size; i++) {
+            FixedPoint128 quotient = element(i);
+            if (!quotient.divide(denominator, mathContext) || !storeRounded(i, quotient)) {
+                store(i, getValue(i).divide(BigDecimal.valueOf(divisor), mathContext));
+            }
+        }
+    }
+
+    /**
+     * The exact sum of all values, rounded/scaled once by the configuration.
+     */
+    public @NonNull T sum() {
+        ExactSum sum = new ExactSum(scale);
+        for (long i = 0; i < size; i++) {
+            if (wide) {
+                sum.add(words.get(2 * i), words.get(2 * i + 1));
+            } else {
+                sum.add(words.get(i));
+            }
+        }
+
+        return configuration.of(sum.toBigDecimal());
+    }
+
+    /**
+     * Releases the memory, all further accesses fail with {@link IllegalStateException}.
+     */
+    @Override
+    public void close() {
+        words.close();
+    }
+
+    private boolean isExact(long unscaled) {
+        return hasLimit && unscaled <= limitLow && unscaled >= -limitLow;
+    }
+
+    private boolean isExact(long high, long low) {
+        return hasLimit && Int128.compareMagnitude(high, low, limitHigh, limitLow) <= 0;
+    }
+
+    private @NonNull FixedPoint128 element(long index) {
+        if (wide) {
+            return FixedPoint128.of(words.get(2 * index), words.get(2 * index + 1), scale);
+        }
+
+        return FixedPoint128.of(words.get(index), scale);
+    }
+
+    private void storeSum(long index, @NonNull DecimalSegmentArray<T> other, boolean subtract) {
+        FixedPoint128 sum = element(index);
+        boolean exact = subtract ? sum.subtract(other.element(index)) : sum.add(other.element(index));
+        if (!exact || !storeRounded(index, sum)) {
+            BigDecimal value = getValue(index);
+            store(index, subtract ? value.subtract(other.getValue(index)) : value.add(other.getValue(index)));
+        }
+    }
+
+    private void storeProduct(long index, @NonNull FixedPoint128 factor) {
+        FixedPoint128 product = element(index);
+        if (!product.multiply(factor) || !storeRounded(index, product)) {
+            store(index, getValue(index).multiply(factor.toBigDecimal()));
+        }
+    }
+
+    /**
+     * Stores value rounded/scaled like the configuration would, computed on 128 bits.
+     *
+     * @return false if the scaler or the result need {@link BigDecimal}, value is unspecified then.
+     */
+    private boolean storeRounded(long index, @NonNull FixedPoint128 value) {
+        MathContext mathContext = configuration.getMathContext();
+        Scaler scaler = configuration.getScaler();
+        if (!value.round(mathContext)) {
+            return false;
+        }
+
+        if (scaler instanceof MaxScaleScaler) {
+            int maxScale = ((MaxScaleScaler) scaler).getMaxScale();
+            if (value.precision() - value.getScale() > mathContext.getPrecision() - maxScale) {
+                // let the scaler throw
+                return false;
+            }
+        } else if (!(scaler instanceof FixedScaleScaler || scaler instanceof IntegerScaler)) {
+            return false;
+        }
+
+        // rounds to the scale of the scaler, MaxScaleScaler results with less decimals are padded (exact)
+        if (!value.setScale(scale, mathContext.getRoundingMode())) {
+            return false;
+        }
+
+        if (!wide) {
+            long unscaled = value.unscaledLow();
+            if (!value.fitsLong() || unscaled == NOT_REPRESENTABLE) {
+                return false;
+            }
+            words.set(index, unscaled);
+            return true;
+        }
+
+        if (!value.fitsInt128()) {
+            return false;
+        }
+        words.set(2 * index, value.unscaledHigh());
+        words.set(2 * index + 1, value.unscaledLow());
+
+        return true;
+    }
+
+    private void store(long index, @NonNull BigDecimal value) {
+        BigDecimal rounded = configuration.of(value).getValue();
+        if (!wide) {
+            long unscaled = ScaledLongs.toUnscaled(rounded, scale);
+            if (unscaled == NOT_REPRESENTABLE) {
+                throw new ArithmeticException("Value does not fit into an unscaled long at scale " + scale + ": "
+                    + rounded.toPlainString());
+            }
+            words.set(index, unscaled);
+            return;
+        }
+
+        BigInteger unscaled = rounded.setScale(scale, RoundingMode.UNNECESSARY).unscaledValue();
+        if (!Int128.fits(unscaled)) {
+            throw new ArithmeticException("Value does not fit into 128 bits at scale " + scale + ": "
+                + rounded.toPlainString());
+        }
+        words.set(2 * index, Int128.high(unscaled));
+        words.set(2 * index + 1, Int128.low(unscaled));
+    }
+
+    private void checkIndex(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+    }
+
+    private void checkCompatible(@NonNull DecimalSegmentArray<T> other) {
+        requireNonNull(other, "other required");
+        if (size != other.size) {
+            throw new IllegalArgumentException("Size mismatch: " + size + " vs. " + other.size);
+        }
+        if (!Configurations.roundsAlike(configuration, other.configuration)) {
+            throw new IllegalArgumentException("Configuration mismatch: " + configuration + " vs. " + other.configuration);
+        }
+    }
+
+    @Override
+    public @NonNull String toString() {
+        return getClass().getSimpleName() + "[size=" + size() + ",wide=" + wide + ',' + configuration + ']';
+    }
+}
@@ -0,0 +1,216 @@
+package com.github.honoluluhenk.fluentbigdecimals.column;
+
+import com.github.honoluluhenk.fluentbigdecimals.AbstractFluentBigDecimal;
+import com.github.honoluluhenk.fluentbigdecimals.Configuration;
+import com.github.honoluluhenk.fluentbigdecimals.internal.ScaledLongs;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.github.honoluluhenk.fluentbigdecimals.internal.ScaledLongs.NOT_REPRESENTABLE;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Running balances (a.k.a. prefix sums), e.g.: the balance after each transaction of an account statement.
+ * <p>
+ * The result is <strong>identical</strong> to a sequential loop of {@link AbstractFluentBigDecimal#add} calls:
+ * <pre>{@code
+ * T balance = opening;
+ * for (amount : amounts) {
+ *     balance = balance.add(amount);
+ *     result.add(balance);
+ * }
+ * }</pre>
+ * <p>
+ * But: it is computed as parallel prefix scan on the exact values (see {@link Arrays#parallelPrefix(long[], java.util.function.LongBinaryOperator)}).
+ * This is possible because adding up values that already fit the configuration does not need any rounding.
+ * Only if rounding/scaling of the configuration changes some intermediate balance,
+ * the remainder of the balances is computed sequentially.
+ * <p>
+ * For {@link DecimalColumn}s with a configuration that only scales
+ * (e.g.: {@link com.github.honoluluhenk.fluentbigdecimals.scaler.MaxScaleScaler}),
+ * the whole computation is done on unscaled longs.
+ */
+public final class RunningBalance {
+
+    private RunningBalance() {
+        // utility class
+    }
+
+    /**
+     * The running balances starting at {@link Configuration#ZERO()}.
+     */
+    public static <T extends AbstractFluentBigDecimal<T>> @NonNull List<T> of(
+        @NonNull Configuration<T> configuration,
+        @NonNull List<? extends AbstractFluentBigDecimal<?>> amounts
+    ) {
+        return of(configuration.ZERO(), amounts);
+    }
+
+    /**
+     * The running balances starting at opening (using the configuration of opening).
+     */
+    public static <T extends AbstractFluentBigDecimal<T>> @NonNull List<T> of(
+        @NonNull T opening,
+        @NonNull List<? extends AbstractFluentBigDecimal<?>> amounts
+    ) {
+        requireNonNull(opening, "opening required");
+        requireNonNull(amounts, "amounts required");
+
+        BigDecimal[] values = new BigDecimal[amounts.size()];
+        int i = 0;
+        for (AbstractFluentBigDecimal<?> amount : amounts) {
+            values[i++] = amount.getValue();
+        }
+
+        T[] balances = exactThenRound(opening, values);
+
+        return Collections.unmodifiableList(Arrays.asList(balances));
+    }
+
+    /**
+     * The running balances of the column, see {@link DecimalColumn#runningBalance(AbstractFluentBigDecimal)}.
+     */
+    static <T extends AbstractFluentBigDecimal<T>> @NonNull DecimalColumn<T> of(
+        @NonNull T opening,
+        @NonNull DecimalColumn<T> amounts
+    ) {
+        requireNonNull(opening, "opening required");
+        requireNonNull(amounts, "amounts required");
+
+        Configuration<T> configuration = amounts.getConfiguration();
+        T start = configuration.ofRaw(opening.getValue());
+        long maxUnscaled = ScaledLongs.maxExactUnscaled(configuration);
+        long openingUnscaled = ScaledLongs.toUnscaled(start.getValue(), amounts.getScale());
+        if (maxUnscaled < 0 || !amounts.isAllUnscaled() || openingUnscaled == NOT_REPRESENTABLE) {
+            return ofValues(start, amounts);
+        }
+
+        long[] balances = amounts.unscaledArray().clone();
+        if (balances.length == 0) {
+            return amounts;
+        }
+        balances[0] = ScaledLongs.add(openingUnscaled, balances[0]);
+        Arrays.parallelPrefix(balances, ScaledLongs::add);
+
+        int firstInexact = firstInexact(balances, maxUnscaled);
+        if (firstInexact == balances.length) {
+            return new DecimalColumn<>(configuration, balances, null);
+        }
+
+        return continueSequentially(start, amounts, balances, firstInexact);
+    }
+
+    private static int firstInexact(long @NonNull [] balances, long maxUnscaled) {
+        for (int i = 0; i < balances.length; i++) {
+            long balance = balances[i];
+            // NOT_REPRESENTABLE is caught here, too
+            if (balance < -maxUnscaled || balance > maxUnscaled) {
+                return i;
+            }
+        }
+
+        return balances.length;
+    }
+
+    private static <T extends AbstractFluentBigDecimal<T>> @NonNull DecimalColumn<T> continueSequentially(
+        @NonNull T opening,
+        @NonNull DecimalColumn<T> amounts,
+        long @NonNull [] exactBalances,
+        int firstInexact
+    ) {
+        Configuration<T> configuration = amounts.getConfiguration();
+        DecimalColumn.Builder<T> builder = new DecimalColumn.Builder<>(configuration, amounts.size());
+        for (int i = 0; i < firstInexact; i++) {
+            builder.add(ScaledLongs.toBigDecimal(exactBalances[i], amounts.getScale()));
+        }
+
+        T balance = firstInexact == 0
+            ? opening
+            : configuration.ofRaw(ScaledLongs.toBigDecimal(exactBalances[firstInexact - 1], amounts.getScale()));
+        for (int i = firstInexact; i < amounts.size(); i++) {
+            balance = balance.add(amounts.getValue(i));
+            builder.add(balance.getValue());
+        }
+
+        return builder.build();
+    }
+
+    private static <T extends AbstractFluentBigDecimal<T>> @NonNull DecimalColumn<T> ofValues(
+        @NonNull T opening,
+        @NonNull DecimalColumn<T> amounts
+    ) {
+        BigDecimal[] values = new BigDecimal[amounts.size()];
+        Arrays.setAll(values, amounts::getValue);
+
+        T[] balances = exactThenRound(opening, values);
+
+        DecimalColumn.Builder<T> builder = new DecimalColumn.Builder<>(amounts.getConfiguration(), balances.length);
+        for (T balance : balances) {
+            builder.add(balance.getValue());
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Exact parallel prefix sum, then parallel rounding/scaling of each balance.
+     * <p>
+     * As long as rounding/scaling does not change a balance, the next exact balance is exactly
+     * what the sequential loop would compute before rounding.
+     * Starting at the first balance that gets changed, fall back to the sequential loop.
+     */
+    private static <T extends AbstractFluentBigDecimal<T>> T @NonNull [] exactThenRound(
+        @NonNull T opening,
+        @NonNull BigDecimal @NonNull [] amounts
+    ) {
+        @SuppressWarnings("unchecked")
+        T[] result = (T[]) new AbstractFluentBigDecimal<?>[amounts.length];
+        if (amounts.length == 0) {
+            return result;
+        }
+
+        Configuration<T> configuration = opening.getConfiguration();
+        BigDecimal[] exact = amounts.clone();
+        exact[0] = opening.getValue().add(exact[0]);
+        Arrays.parallelPrefix(exact, BigDecimal::add);
+
+        int firstChanged = IntStream.range(0, exact.length)
+            .parallel()
+            .filter(i -> !roundsUnchanged(configuration, exact, result, i))
+            .min()
+            .orElse(exact.length);
+
+        if (firstChanged < exact.length) {
+            // also re-throws exceptions at the same index as the sequential loop
+            T balance = firstChanged == 0 ? opening : result[firstChanged - 1];
+            for (int i = firstChanged; i < amounts.length; i++) {
+                balance = balance.add(amounts[i]);
+                result[i] = balance;
+            }
+        }
+
+        return result;
+    }
+
+    private static <T extends AbstractFluentBigDecimal<T>> boolean roundsUnchanged(
+        @NonNull Configuration<T> configuration,
+        @NonNull BigDecimal @NonNull [] exact,
+        T @NonNull [] result,
+        int index
+    ) {
+        try {
+            T rounded = configuration.of(exact[index]);
+            result[index] = rounded;
+
+            return rounded.getValue().equals(exact[index]);
+        } catch (ArithmeticException e) {
+            // e.g.: MaxScaleScaler overflow, gets handled by the sequential fallback
+            return false;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.github.honoluluhenk.fluentbigdecimals.column;
+
+import com.github.honoluluhenk.fluentbigdecimals.AbstractFluentBigDecimal;
+import com.github.honoluluhenk.fluentbigdecimals.internal.RadixSort;
+import com.github.honoluluhenk.fluentbigdecimals.internal.Selection;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Comparator;
+
+import static com.github.honoluluhenk.fluentbigdecimals.internal.ScaledLongs.NOT_REPRESENTABLE;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Sorting, argsort and top-k selection on {@link DecimalColumn}s.
+ * <p>
+ * Columns with all values available as unscaled long (see {@link DecimalColumn#isAllUnscaled()})
+ * are sorted using a radix sort on the unscaled values, top-k uses selection (see {@link Selection}) instead of sorting
+ * everything. Other columns fall back to sorting indexes by comparing the values
+ * (on unscaled longs where possible, using {@link BigDecimal#compareTo(BigDecimal)} otherwise).
+ * <p>
+ * All orderings are stable: equal values keep their relative order.
+ */
+public final class Sorting {
+
+    private Sorting() {
+        // utility class
+    }
+
+    /**
+     * A new column with the values in ascending order.
+     */
+    public static <T extends AbstractFluentBigDecimal<T>> @NonNull DecimalColumn<T> sort(@NonNull DecimalColumn<T> column) {
+        return sort(column, false);
+    }
+
+    /**
+     * Like {@link #sort(DecimalColumn)}, sorting in parallel.
+     */
+    public static <T extends AbstractFluentBigDecimal<T>> @NonNull DecimalColumn<T> parallelSort(
+        @NonNull DecimalColumn<T> column
+    ) {
+        return sort(column, true);
+    }
+
+    private static <T extends AbstractFluentBigDecimal<T>> @NonNull DecimalColumn<T> sort(
+        @NonNull DecimalColumn<T> column,
+        boolean parallel
+    ) {
+        requireNonNull(column, "column required");
+        if (!column.isAllUnscaled()) {
+            return column.select(argsort(column, parallel));
+        }
+
+        long[] sorted = column.toUnscaledArray();
+        if (parallel) {
+            RadixSort.parallelSort(sorted);
+        } else {
+            RadixSort.sort(sorted);
+        }
+
+        return new DecimalColumn<>(column.getConfiguration(), sorted, null);
+    }
+
+    /**
+     * The indexes of the values in ascending order of the values (stable), i.e.: {@code column.get(result[0])}
+     * is the smallest value.
+     */
+    public static int @NonNull [] argsort(@NonNull DecimalColumn<?> column) {
+        return argsort(column, false);
+    }
+
+    /**
+     * Like {@link #argsort(DecimalColumn)}, sorting in parallel.
+     */
+    public static int @NonNull [] parallelArgsort(@NonNull DecimalColumn<?> column) {
+        return argsort(column, true);
+    }
+
+    private static int @NonNull [] argsort(@NonNull DecimalColumn<?> column, boolean parallel) {
+        requireNonNull(column, "column required");
+        if (column.isAllUnscaled()) {
+            long[] keys = column.unscaledArray();
+
+            return parallel ? RadixSort.parallelArgsort(keys) : RadixSort.argsort(keys);
+        }
+
+        return sortIndexes(column, false, parallel);
+    }
+
+    /**
+     * Fallback: sort boxed indexes by comparing values.
+     */
+    private static int @NonNull [] sortIndexes(@NonNull DecimalColumn<?> column, boolean descending, boolean parallel) {
+        Integer[] indexes = new Integer[column.size()];
+        Arrays.setAll(indexes, i -> i);
+        Comparator<Integer> byValue = descending
+            ? (a, b) -> compare(column, b, a)
+            : (a, b) -> compare(column, a, b);
+        // both are stable for objects
+        if (parallel) {
+            Arrays.parallelSort(indexes, byValue);
+        } else {
+            Arrays.sort(indexes, byValue);
+        }
+
+        return Arrays.stream(indexes)
+            .mapToInt(Integer::intValue)
+            .toArray();
+    }
+
+    private static int compare(@NonNull DecimalColumn<?> column, int a, int b) {
+        long unscaledA = column.unscaledArray()[a];
+        long unscaledB = column.unscaledArray()[b];
+        if (unscaledA != NOT_REPRESENTABLE && unscaledB != NOT_REPRESENTABLE) {
+            return Long.compare(unscaledA, unscaledB);
+        }
+
+        return column.getValue(a).compareTo(column.getValue(b));
+    }
+
+    /**
+     * The k largest values in descending order (ties: lower index first).
+     *
+     * @throws IllegalArgumentException if k is negative or larger than the column.
+     */
+    public static <T extends AbstractFluentBigDecimal<T>> @NonNull DecimalColumn<T> top(
+        @NonNull DecimalColumn<T> column,
+        int k
+    ) {
+        return column.select(topIndexes(column, k));
+    }
+
+    /**
+     * The k smallest values in ascending order (ties: lower index first).
+     *
+     * @throws IllegalArgumentException if k is negative or larger than the column.
+     */
+    public static <T extends AbstractFluentBigDecimal<T>> @NonNull DecimalColumn<T> bottom(
+        @NonNull DecimalColumn<T> column,
+        int k
+    ) {
+        return column.select(bottomIndexes(column, k));
+    }
+
+    /**
+     * The indexes of the k largest values, see {@link #top(DecimalColumn, int)}.
+     */
+    public static int @NonNull [] topIndexes(@NonNull DecimalColumn<?> column, int k) {
+        return selectIndexes(column, k, true);
+    }
+
+    /**
+     * The indexes of the k smallest values, see {@link #bottom(DecimalColumn, int)}.
+     */
+    public static int @NonNull [] bottomIndexes(@NonNull DecimalColumn<?> column, int k) {
+        return selectIndexes(column, k, false);
+    }
+
+    private static int @NonNull [] selectIndexes(@NonNull DecimalColumn<?> column, int k, boolean largest) {
+        requireNonNull(column, "column required");
+        int size = column.size();
+        if (k < 0 || k > size) {
+            throw new IllegalArgumentException("k out of range: " + k + " (size " + size + ')');
+        }
+        if (k == 0) {
+            return new int[0];
+        }
+
+        if (!column.isAllUnscaled()) {
+            return Arrays.copyOf(sortIndexes(column, largest, false), k);
+        }
+
+        // negating (never Long.MIN_VALUE) turns "k largest" into "k smallest"
+        long[] keys = column.toUnscaledArray();
+        if (largest) {
+            for (int i = 0; i < size; i++) {
+                keys[i] = -keys[i];
+            }
+        }
+
+        long threshold = Selection.kthSmallest(keys.clone(), k - 1);
+        int[] selected = new int[k];
+        long[] selectedKeys = new long[k];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (keys[i] < threshold) {
+                selected[count] = i;
+                selectedKeys[count++] = keys[i];
+            }
+        }
+        for (int i = 0; i < size && count < k; i++) {
+            if (keys[i] == threshold) {
+                selected[count] = i;
+                selectedKeys[count++] = keys[i];
+            }
+        }
+        // selected is in index order, so the stable argsort keeps ties in index order
+        int[] order = RadixSort.argsort(selectedKeys);
+        int[] result = new int[k];
+        for (int i = 0; i < k; i++) {
+            result[i] = selected[order[i]];
+        }
+
+        return result;
+    }
+}
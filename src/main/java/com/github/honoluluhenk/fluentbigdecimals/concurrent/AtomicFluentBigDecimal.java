@@ -0,0 +1,349 @@
+package com.github.honoluluhenk.fluentbigdecimals.concurrent;
+
+import com.github.honoluluhenk.fluentbigdecimals.AbstractFluentBigDecimal;
+import com.github.honoluluhenk.fluentbigdecimals.Configuration;
+import com.github.honoluluhenk.fluentbigdecimals.Projection;
+import com.github.honoluluhenk.fluentbigdecimals.internal.ScaledLongs;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+import static com.github.honoluluhenk.fluentbigdecimals.internal.ScaledLongs.NOT_REPRESENTABLE;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An atomically updatable value, a replacement for hand-rolled {@link AtomicReference} loops.
+ * <p>
+ * If the configuration only scales (e.g.: {@link com.github.honoluluhenk.fluentbigdecimals.scaler.MaxScaleScaler})
+ * the value is held in its unscaled {@code long} form. Then additions and {@link #compareAndSet} are a
+ * plain CAS on that long and retries do not allocate. Values that do not fit are held as instance
+ * (under a lock) and the result of all operations is the same as with the fluent API
+ * (e.g.: {@link AbstractFluentBigDecimal#add(BigDecimal)}).
+ * <p>
+ * In contrast to {@link AtomicReference}, values are compared numerically
+ * (see {@link AbstractFluentBigDecimal#comparesTo(BigDecimal)}) and values held in long form
+ * are returned at the scale of the configuration.
+ */
+public class AtomicFluentBigDecimal<T extends AbstractFluentBigDecimal<T>> {
+    private static final VarHandle UNSCALED;
+    private static final VarHandle REFERENCE;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            UNSCALED = lookup.findVarHandle(AtomicFluentBigDecimal.class, "unscaled", long.class);
+            REFERENCE = lookup.findVarHandle(AtomicFluentBigDecimal.class, "reference", AbstractFluentBigDecimal.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final @NonNull Configuration<T> configuration;
+    private final int scale;
+    // -1: no long form at all
+    private final long maxUnscaled;
+
+    // NOT_REPRESENTABLE: the value is held in reference
+    private volatile long unscaled = NOT_REPRESENTABLE;
+    // guarded by this if there is a long form, lock-free otherwise
+    private volatile @Nullable T reference;
+
+    protected AtomicFluentBigDecimal(@NonNull Configuration<T> configuration, @NonNull T initialValue) {
+        this.configuration = requireNonNull(configuration, "configuration required");
+        this.scale = ScaledLongs.fixedScale(configuration);
+        this.maxUnscaled = ScaledLongs.maxExactUnscaled(configuration);
+
+        store(requireNonNull(initialValue, "initialValue required"));
+    }
+
+    /**
+     * Start with {@link Configuration#ZERO()}.
+     */
+    public static <T extends AbstractFluentBigDecimal<T>> @NonNull AtomicFluentBigDecimal<T> of(
+        @NonNull Configuration<T> configuration
+    ) {
+        return new AtomicFluentBigDecimal<>(configuration, configuration.ZERO());
+    }
+
+    /**
+     * Start with initialValue and use its configuration.
+     */
+    public static <T extends AbstractFluentBigDecimal<T>> @NonNull AtomicFluentBigDecimal<T> of(
+        @NonNull T initialValue
+    ) {
+        return new AtomicFluentBigDecimal<>(initialValue.getConfiguration(), initialValue);
+    }
+
+    public @NonNull Configuration<T> getConfiguration() {
+        return configuration;
+    }
+
+    public @NonNull T get() {
+        long current = unscaled;
+        if (current != NOT_REPRESENTABLE) {
+            return materialize(current);
+        }
+        if (!hasLongForm()) {
+            return requireNonNull(reference);
+        }
+
+        synchronized (this) {
+            T result = currentLocked();
+            store(result);
+
+            return result;
+        }
+    }
+
+    public void set(@NonNull T newValue) {
+        getAndSet(newValue);
+    }
+
+    public @NonNull T getAndSet(@NonNull T newValue) {
+        requireNonNull(newValue, "newValue required");
+
+        return update(ignored -> newValue, true);
+    }
+
+    /**
+     * Atomically set to update if the current value {@link AbstractFluentBigDecimal#comparesTo} expected.
+     */
+    public boolean compareAndSet(@NonNull AbstractFluentBigDecimal<?> expected, @NonNull T update) {
+        requireNonNull(expected, "expected required");
+        requireNonNull(update, "update required");
+
+        if (!hasLongForm()) {
+            return compareAndSetReference(expected, update);
+        }
+
+        long expectedUnscaled = toLongForm(expected.getValue());
+        long updateUnscaled = toLongForm(update.getValue());
+        if (updateUnscaled != NOT_REPRESENTABLE) {
+            long current = unscaled;
+            while (current != NOT_REPRESENTABLE) {
+                if (current != expectedUnscaled) {
+                    return false;
+                }
+                if (UNSCALED.compareAndSet(this, current, updateUnscaled)) {
+                    return true;
+                }
+                current = unscaled;
+            }
+        }
+
+        return compareAndSetLocked(expected, update);
+    }
+
+    private boolean compareAndSetReference(@NonNull AbstractFluentBigDecimal<?> expected, @NonNull T update) {
+        while (true) {
+            T current = requireNonNull(reference);
+            if (current.compareTo(expected) != 0) {
+                return false;
+            }
+            if (REFERENCE.compareAndSet(this, current, update)) {
+                return true;
+            }
+        }
+    }
+
+    private synchronized boolean compareAndSetLocked(@NonNull AbstractFluentBigDecimal<?> expected, @NonNull T update) {
+        T current = currentLocked();
+        boolean matches = current.compareTo(expected) == 0;
+        store(matches ? update : current);
+
+        return matches;
+    }
+
+    /**
+     * Atomically add, see {@link AbstractFluentBigDecimal#add(BigDecimal)}.
+     *
+     * @return the updated value
+     */
+    public @NonNull T addAndGet(@NonNull BigDecimal addend) {
+        return add(addend, false);
+    }
+
+    /**
+     * Atomically add, see {@link AbstractFluentBigDecimal#add(BigDecimal)}.
+     *
+     * @return the updated value
+     */
+    public @NonNull T addAndGet(@NonNull AbstractFluentBigDecimal<?> addend) {
+        return add(addend.getValue(), false);
+    }
+
+    /**
+     * Atomically add, see {@link AbstractFluentBigDecimal#add(BigDecimal)}.
+     *
+     * @return the previous value
+     */
+    public @NonNull T getAndAdd(@NonNull BigDecimal addend) {
+        return add(addend, true);
+    }
+
+    /**
+     * Atomically add, see {@link AbstractFluentBigDecimal#add(BigDecimal)}.
+     *
+     * @return the previous value
+     */
+    public @NonNull T getAndAdd(@NonNull AbstractFluentBigDecimal<?> addend) {
+        return add(addend.getValue(), true);
+    }
+
+    /**
+     * Atomically apply projection, see {@link AbstractFluentBigDecimal#apply(Projection)}.
+     * <p>
+     * The projection might get called more than once on contention and thus should be side-effect-free.
+     *
+     * @return the updated value
+     */
+    public @NonNull T accumulateAndGet(@NonNull Projection projection) {
+        requireNonNull(projection, "projection required");
+
+        return update(current -> current.apply(projection), false);
+    }
+
+    /**
+     * Atomically apply projection, see {@link AbstractFluentBigDecimal#apply(Projection)}.
+     * <p>
+     * The projection might get called more than once on contention and thus should be side-effect-free.
+     *
+     * @return the previous value
+     */
+    public @NonNull T getAndAccumulate(@NonNull Projection projection) {
+        requireNonNull(projection, "projection required");
+
+        return update(current -> current.apply(projection), true);
+    }
+
+    private @NonNull T add(@NonNull BigDecimal addend, boolean returnPrevious) {
+        requireNonNull(addend, "addend required");
+
+        long addendUnscaled = toLongForm(addend);
+        if (addendUnscaled != NOT_REPRESENTABLE) {
+            long current = unscaled;
+            while (current != NOT_REPRESENTABLE) {
+                long next = toLongForm(ScaledLongs.add(current, addendUnscaled));
+                if (next == NOT_REPRESENTABLE) {
+                    break;
+                }
+                if (UNSCALED.compareAndSet(this, current, next)) {
+                    return materialize(returnPrevious ? current : next);
+                }
+                current = unscaled;
+            }
+        }
+
+        return update(current -> current.add(addend), returnPrevious);
+    }
+
+    private @NonNull T update(@NonNull UnaryOperator<T> function, boolean returnPrevious) {
+        if (!hasLongForm()) {
+            return updateReference(function, returnPrevious);
+        }
+
+        long current = unscaled;
+        while (current != NOT_REPRESENTABLE) {
+            T previous = materialize(current);
+            T next = function.apply(previous);
+            long nextUnscaled = toLongForm(next.getValue());
+            if (nextUnscaled == NOT_REPRESENTABLE) {
+                break;
+            }
+            if (UNSCALED.compareAndSet(this, current, nextUnscaled)) {
+                return returnPrevious ? previous : next;
+            }
+            current = unscaled;
+        }
+
+        return updateLocked(function, returnPrevious);
+    }
+
+    private @NonNull T updateReference(@NonNull UnaryOperator<T> function, boolean returnPrevious) {
+        while (true) {
+            T previous = requireNonNull(reference);
+            T next = function.apply(previous);
+            if (REFERENCE.compareAndSet(this, previous, next)) {
+                return returnPrevious ? previous : next;
+            }
+        }
+    }
+
+    private synchronized @NonNull T updateLocked(@NonNull UnaryOperator<T> function, boolean returnPrevious) {
+        T previous = currentLocked();
+        T next;
+        try {
+            next = function.apply(previous);
+        } catch (RuntimeException e) {
+            store(previous);
+            throw e;
+        }
+        store(next);
+
+        return returnPrevious ? previous : next;
+    }
+
+    /**
+     * Switches to the reference form so that no CAS on the long form can happen until {@link #store} gets called.
+     * Must hold the lock.
+     */
+    private @NonNull T currentLocked() {
+        long current = (long) UNSCALED.getAndSet(this, NOT_REPRESENTABLE);
+        if (current != NOT_REPRESENTABLE) {
+            T result = materialize(current);
+            reference = result;
+
+            return result;
+        }
+
+        return requireNonNull(reference);
+    }
+
+    /**
+     * Must hold the lock if there is a long form.
+     */
+    private void store(@NonNull T value) {
+        long valueUnscaled = hasLongForm() ? toLongForm(value.getValue()) : NOT_REPRESENTABLE;
+        if (valueUnscaled == NOT_REPRESENTABLE) {
+            reference = value;
+            unscaled = NOT_REPRESENTABLE;
+        } else {
+            reference = null;
+            unscaled = valueUnscaled;
+        }
+    }
+
+    private boolean hasLongForm() {
+        return maxUnscaled >= 0;
+    }
+
+    private long toLongForm(@NonNull BigDecimal value) {
+        if (!hasLongForm()) {
+            return NOT_REPRESENTABLE;
+        }
+
+        return toLongForm(ScaledLongs.toUnscaled(value, scale));
+    }
+
+    private long toLongForm(long unscaledValue) {
+        if (unscaledValue == NOT_REPRESENTABLE || Math.abs(unscaledValue) > maxUnscaled) {
+            return NOT_REPRESENTABLE;
+        }
+
+        return unscaledValue;
+    }
+
+    private @NonNull T materialize(long unscaledValue) {
+        return configuration.ofRaw(ScaledLongs.toBigDecimal(unscaledValue, scale));
+    }
+
+    @Override
+    public @NonNull String toString() {
+        return String.valueOf(get());
+    }
+}
@@ -0,0 +1,280 @@
+package com.github.honoluluhenk.fluentbigdecimals.concurrent;
+
+import com.github.honoluluhenk.fluentbigdecimals.AbstractFluentBigDecimal;
+import com.github.honoluluhenk.fluentbigdecimals.Configuration;
+import com.github.honoluluhenk.fluentbigdecimals.internal.ScaledLongs;
+import lombok.var;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+import static com.github.honoluluhenk.fluentbigdecimals.internal.ScaledLongs.NOT_REPRESENTABLE;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Concurrent map of running totals (e.g.: per-account balances) under one {@link Configuration}.
+ * <p>
+ * Totals are kept <strong>exactly</strong> in mutable per-key slots.
+ * Postings are applied lock-free by a CAS on the unscaled {@code long} form of the total
+ * (using the scale of the configurations {@link com.github.honoluluhenk.fluentbigdecimals.scaler.Scaler}).
+ * A slot only falls back to a (locked) {@link BigDecimal} total if a posting would overflow the long
+ * or has more decimals than the scale allows.
+ * <p>
+ * Rounding/scaling according to the configuration is applied when reading a total,
+ * see {@link #get(Object)} and {@link #snapshot()}.
+ */
+public class ConcurrentDecimalMap<K, T extends AbstractFluentBigDecimal<T>> {
+
+    private final @NonNull Configuration<T> configuration;
+    private final int scale;
+    private final @NonNull ConcurrentHashMap<K, Slot> slots;
+
+    protected ConcurrentDecimalMap(@NonNull Configuration<T> configuration, int initialCapacity) {
+        this.configuration = requireNonNull(configuration, "configuration required");
+        this.scale = ScaledLongs.fixedScale(configuration);
+        this.slots = new ConcurrentHashMap<>(initialCapacity);
+    }
+
+    public static <K, T extends AbstractFluentBigDecimal<T>> @NonNull ConcurrentDecimalMap<K, T> of(
+        @NonNull Configuration<T> configuration
+    ) {
+        return new ConcurrentDecimalMap<>(configuration, 16);
+    }
+
+    /**
+     * See {@link ConcurrentHashMap#ConcurrentHashMap(int)} for initialCapacity.
+     */
+    public static <K, T extends AbstractFluentBigDecimal<T>> @NonNull ConcurrentDecimalMap<K, T> of(
+        @NonNull Configuration<T> configuration,
+        int initialCapacity
+    ) {
+        return new ConcurrentDecimalMap<>(configuration, initialCapacity);
+    }
+
+    public @NonNull Configuration<T> getConfiguration() {
+        return configuration;
+    }
+
+    /**
+     * Atomically add amount to the total of key (a missing key starts with zero).
+     */
+    public void addTo(@NonNull K key, @NonNull BigDecimal amount) {
+        requireNonNull(key, "key required");
+        requireNonNull(amount, "amount required");
+
+        long unscaled = ScaledLongs.toUnscaled(amount, scale);
+        boolean added;
+        do {
+            Slot slot = slots.computeIfAbsent(key, ignored -> new Slot(scale));
+            added = slot.add(unscaled, amount, scale);
+        } while (!added);
+    }
+
+    /**
+     * Atomically add amount to the total of key (a missing key starts with zero).
+     */
+    public void addTo(@NonNull K key, @NonNull AbstractFluentBigDecimal<?> amount) {
+        addTo(key, amount.getValue());
+    }
+
+    /**
+     * The total of key, rounded/scaled according to the configuration.
+     *
+     * @return null if there is no total for key.
+     */
+    public @Nullable T get(@NonNull K key) {
+        Slot slot = slots.get(key);
+        if (slot == null) {
+            return null;
+        }
+
+        return configuration.of(slot.total(scale));
+    }
+
+    /**
+     * The total of key, rounded/scaled according to the configuration or {@link Configuration#ZERO()} for missing keys.
+     */
+    public @NonNull T getOrZero(@NonNull K key) {
+        T result = get(key);
+        if (result == null) {
+            return configuration.ZERO();
+        }
+
+        return result;
+    }
+
+    /**
+     * Removes the total of key.
+     * <p>
+     * Postings that happen concurrently are either contained in the returned total
+     * or start a new total for key.
+     *
+     * @return the removed total, rounded/scaled according to the configuration or null if there was none.
+     */
+    public @Nullable T remove(@NonNull K key) {
+        Slot slot = slots.get(key);
+        if (slot == null) {
+            return null;
+        }
+
+        BigDecimal total = slot.retire(scale);
+        slots.remove(key, slot);
+        if (total == null) {
+            // some other thread was faster
+            return null;
+        }
+
+        return configuration.of(total);
+    }
+
+    public boolean containsKey(@NonNull K key) {
+        return slots.containsKey(key);
+    }
+
+    public int size() {
+        return slots.size();
+    }
+
+    public boolean isEmpty() {
+        return slots.isEmpty();
+    }
+
+    public void clear() {
+        slots.keySet()
+            .forEach(this::remove);
+    }
+
+    /**
+     * Call action with each total, rounded/scaled according to the configuration.
+     * <p>
+     * Weakly consistent, see {@link ConcurrentHashMap#forEach(BiConsumer)}.
+     */
+    public void forEach(@NonNull BiConsumer<? super K, ? super T> action) {
+        slots.forEach((key, slot) -> action.accept(key, configuration.of(slot.total(scale))));
+    }
+
+    /**
+     * An unmodifiable copy of all totals, rounded/scaled according to the configuration.
+     * <p>
+     * Each total is read atomically, the map as a whole is weakly consistent (see {@link ConcurrentHashMap}).
+     */
+    public @NonNull Map<K, T> snapshot() {
+        var result = new HashMap<K, T>(slots.size() * 4 / 3 + 1);
+        forEach(result::put);
+
+        return Collections.unmodifiableMap(result);
+    }
+
+    @Override
+    public @NonNull String toString() {
+        return getClass().getSimpleName() + '[' + configuration + ",size=" + size() + ']';
+    }
+
+    /**
+     * The mutable total of one key.
+     * <p>
+     * Lives in long-mode (lock free) until it is inflated to a {@link BigDecimal} (locked) or retired.
+     * Both states are sticky and signalled by {@link ScaledLongs#NOT_REPRESENTABLE} in {@link #value}.
+     */
+    private static final class Slot {
+        private static final VarHandle VALUE;
+
+        static {
+            try {
+                VALUE = MethodHandles.lookup()
+                    .findVarHandle(Slot.class, "value", long.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        private volatile long value;
+        // guarded by this
+        private @Nullable BigDecimal inflated;
+        // guarded by this
+        private boolean retired;
+
+        Slot(int scale) {
+            if (scale == ScaledLongs.UNKNOWN_SCALE) {
+                inflated = BigDecimal.ZERO;
+                value = NOT_REPRESENTABLE;
+            }
+        }
+
+        /**
+         * @return false if this slot has been retired and the posting must go to a fresh slot.
+         */
+        boolean add(long unscaled, @NonNull BigDecimal amount, int scale) {
+            if (unscaled != NOT_REPRESENTABLE) {
+                long current = value;
+                while (current != NOT_REPRESENTABLE) {
+                    long next = ScaledLongs.add(current, unscaled);
+                    if (next == NOT_REPRESENTABLE) {
+                        break;
+                    }
+                    if (VALUE.compareAndSet(this, current, next)) {
+                        return true;
+                    }
+                    current = value;
+                }
+            }
+
+            return addInflated(amount, scale);
+        }
+
+        private synchronized boolean addInflated(@NonNull BigDecimal amount, int scale) {
+            if (retired) {
+                return false;
+            }
+
+            inflated = inflate(scale).add(amount);
+
+            return true;
+        }
+
+        // must hold the lock
+        private @NonNull BigDecimal inflate(int scale) {
+            long current = (long) VALUE.getAndSet(this, NOT_REPRESENTABLE);
+            BigDecimal result = inflated;
+            if (current != NOT_REPRESENTABLE) {
+                result = ScaledLongs.toBigDecimal(current, scale);
+                inflated = result;
+            }
+
+            return requireNonNull(result);
+        }
+
+        @NonNull BigDecimal total(int scale) {
+            long current = value;
+            if (current != NOT_REPRESENTABLE) {
+                return ScaledLongs.toBigDecimal(current, scale);
+            }
+
+            synchronized (this) {
+                return requireNonNull(inflated);
+            }
+        }
+
+        /**
+         * @return the final total or null if this slot was already retired.
+         */
+        synchronized @Nullable BigDecimal retire(int scale) {
+            if (retired) {
+                return null;
+            }
+
+            BigDecimal result = inflate(scale);
+            retired = true;
+
+            return result;
+        }
+    }
+}
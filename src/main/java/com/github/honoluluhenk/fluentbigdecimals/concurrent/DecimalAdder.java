@@ -0,0 +1,278 @@
+package com.github.honoluluhenk.fluentbigdecimals.concurrent;
+
+import com.github.honoluluhenk.fluentbigdecimals.AbstractFluentBigDecimal;
+import com.github.honoluluhenk.fluentbigdecimals.Configuration;
+import com.github.honoluluhenk.fluentbigdecimals.internal.ScaledLongs;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.math.BigDecimal;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.github.honoluluhenk.fluentbigdecimals.internal.ScaledLongs.NOT_REPRESENTABLE;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A sum under one {@link Configuration} that is updated by many threads, in the spirit of {@link LongAdder}.
+ * <p>
+ * Concurrent {@link #add(BigDecimal)} calls are spread across padded cells holding the unscaled {@code long} form
+ * (using the scale of the configurations {@link com.github.honoluluhenk.fluentbigdecimals.scaler.Scaler}).
+ * Amounts that would overflow a cell or carry more decimals than the scale allows go to a (locked)
+ * {@link BigDecimal} spill.
+ * <p>
+ * {@link #sum()} combines everything exactly and applies the configurations rounding/scaling <strong>once</strong>.
+ * As with {@link LongAdder}, the sum is not an atomic snapshot if there are concurrent updates.
+ */
+public class DecimalAdder<T extends AbstractFluentBigDecimal<T>> {
+    private static final VarHandle BASE;
+    private static final VarHandle CELLS;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            BASE = lookup.findVarHandle(DecimalAdder.class, "base", long.class);
+            CELLS = lookup.findVarHandle(DecimalAdder.class, "cells", Cell[].class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static final int NUMBER_OF_CELLS = cellCount(Runtime.getRuntime().availableProcessors());
+
+    private static final ThreadLocal<int[]> PROBE = ThreadLocal.withInitial(
+        () -> new int[]{ThreadLocalRandom.current().nextInt() | 1}
+    );
+
+    private final @NonNull Configuration<T> configuration;
+    private final int scale;
+
+    // used as long as there is no contention
+    private volatile long base;
+    private volatile Cell @Nullable [] cells;
+
+    private final Object spillLock = new Object();
+    // guarded by spillLock
+    private @NonNull BigDecimal spill = BigDecimal.ZERO;
+
+    protected DecimalAdder(@NonNull Configuration<T> configuration) {
+        this.configuration = requireNonNull(configuration, "configuration required");
+        this.scale = ScaledLongs.fixedScale(configuration);
+    }
+
+    public static <T extends AbstractFluentBigDecimal<T>> @NonNull DecimalAdder<T> of(
+        @NonNull Configuration<T> configuration
+    ) {
+        return new DecimalAdder<>(configuration);
+    }
+
+    public @NonNull Configuration<T> getConfiguration() {
+        return configuration;
+    }
+
+    public void add(@NonNull BigDecimal amount) {
+        requireNonNull(amount, "amount required");
+
+        long unscaled = ScaledLongs.toUnscaled(amount, scale);
+        if (unscaled == NOT_REPRESENTABLE) {
+            addToSpill(amount);
+            return;
+        }
+
+        if (cells == null) {
+            long current = base;
+            long next = ScaledLongs.add(current, unscaled);
+            if (next == NOT_REPRESENTABLE) {
+                addToSpill(amount);
+                return;
+            }
+            if (BASE.compareAndSet(this, current, next)) {
+                return;
+            }
+        }
+
+        addToCells(unscaled, amount);
+    }
+
+    public void add(@NonNull AbstractFluentBigDecimal<?> amount) {
+        add(amount.getValue());
+    }
+
+    private void addToCells(long unscaled, @NonNull BigDecimal amount) {
+        int[] probe = PROBE.get();
+        Cell[] cs = cellsOrCreate();
+        while (true) {
+            Cell cell = cs[probe[0] & (cs.length - 1)];
+            long current = cell.value;
+            long next = ScaledLongs.add(current, unscaled);
+            if (next == NOT_REPRESENTABLE) {
+                addToSpill(amount);
+                return;
+            }
+            if (cell.compareAndSet(current, next)) {
+                return;
+            }
+            // collision: try another cell next time
+            probe[0] = advanceProbe(probe[0]);
+        }
+    }
+
+    private Cell @NonNull [] cellsOrCreate() {
+        Cell[] cs = cells;
+        if (cs != null) {
+            return cs;
+        }
+
+        Cell[] created = new Cell[NUMBER_OF_CELLS];
+        for (int i = 0; i < created.length; i++) {
+            created[i] = new Cell();
+        }
+        Cell[] witness = (Cell[]) CELLS.compareAndExchange(this, (Cell[]) null, created);
+
+        return witness == null ? created : witness;
+    }
+
+    private void addToSpill(@NonNull BigDecimal amount) {
+        synchronized (spillLock) {
+            spill = spill.add(amount);
+        }
+    }
+
+    /**
+     * The exact sum, rounded/scaled according to the configuration.
+     */
+    public @NonNull T sum() {
+        return configuration.of(exactSum(false));
+    }
+
+    /**
+     * The exact sum, <strong>un</strong>rounded (see {@link Configuration#ofRaw(BigDecimal)}).
+     */
+    public @NonNull T sumRaw() {
+        return configuration.ofRaw(exactSum(false));
+    }
+
+    /**
+     * Same as {@link #sum()} followed by {@link #reset()}.
+     * <p>
+     * Amounts added concurrently are either contained in the result or in the next sum.
+     */
+    public @NonNull T sumThenReset() {
+        return configuration.of(exactSum(true));
+    }
+
+    /**
+     * Reset the sum to zero.
+     * <p>
+     * Only effective if there are no concurrent updates.
+     */
+    public void reset() {
+        exactSum(true);
+    }
+
+    private @NonNull BigDecimal exactSum(boolean reset) {
+        long longSum = 0;
+        BigDecimal overflow = BigDecimal.ZERO;
+
+        long[] parts = collectParts(reset);
+        for (long part : parts) {
+            long next = ScaledLongs.add(longSum, part);
+            if (next == NOT_REPRESENTABLE) {
+                overflow = overflow.add(ScaledLongs.toBigDecimal(longSum, scale));
+                next = part;
+            }
+            longSum = next;
+        }
+
+        BigDecimal spilled;
+        synchronized (spillLock) {
+            spilled = spill;
+            if (reset) {
+                spill = BigDecimal.ZERO;
+            }
+        }
+
+        if (scale == ScaledLongs.UNKNOWN_SCALE) {
+            return spilled;
+        }
+
+        BigDecimal result = ScaledLongs.toBigDecimal(longSum, scale)
+            .add(overflow)
+            .add(spilled);
+
+        return result;
+    }
+
+    private long @NonNull [] collectParts(boolean reset) {
+        Cell[] cs = cells;
+        int cellCount = cs == null ? 0 : cs.length;
+        long[] result = new long[cellCount + 1];
+
+        result[0] = reset ? (long) BASE.getAndSet(this, 0L) : base;
+        for (int i = 0; i < cellCount; i++) {
+            Cell cell = cs[i];
+            result[i + 1] = reset ? cell.getAndReset() : cell.value;
+        }
+
+        return result;
+    }
+
+    @Override
+    public @NonNull String toString() {
+        return getClass().getSimpleName() + '[' + exactSum(false).toPlainString() + ',' + configuration + ']';
+    }
+
+    private static int cellCount(int processors) {
+        int result = Integer.highestOneBit(Math.max(processors, 2) - 1) << 1;
+
+        return result;
+    }
+
+    private static int advanceProbe(int probe) {
+        // xorshift, see ThreadLocalRandom
+        int result = probe;
+        result ^= result << 13;
+        result ^= result >>> 17;
+        result ^= result << 5;
+
+        return result;
+    }
+
+    // padding: keep cells in different cache lines (JDK-internal @Contended is not available to us)
+    @SuppressWarnings("unused")
+    private static class LeftPadding {
+        long p01, p02, p03, p04, p05, p06, p07;
+    }
+
+    private static class CellValue extends LeftPadding {
+        protected volatile long value;
+    }
+
+    @SuppressWarnings("unused")
+    private static class RightPadding extends CellValue {
+        long p11, p12, p13, p14, p15, p16, p17;
+    }
+
+    private static final class Cell extends RightPadding {
+        private static final VarHandle VALUE;
+
+        static {
+            try {
+                VALUE = MethodHandles.lookup()
+                    .findVarHandle(CellValue.class, "value", long.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        boolean compareAndSet(long expected, long next) {
+            return VALUE.compareAndSet(this, expected, next);
+        }
+
+        long getAndReset() {
+            return (long) VALUE.getAndSet(this, 0L);
+        }
+    }
+}
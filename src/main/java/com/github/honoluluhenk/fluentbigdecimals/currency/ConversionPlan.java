@@ -0,0 +1,222 @@
+package com.github.honoluluhenk.fluentbigdecimals.currency;
+
+import com.github.honoluluhenk.fluentbigdecimals.AbstractFluentBigDecimal;
+import com.github.honoluluhenk.fluentbigdecimals.Configuration;
+import com.github.honoluluhenk.fluentbigdecimals.column.DecimalColumn;
+import com.github.honoluluhenk.fluentbigdecimals.internal.ScaledLongs;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static com.github.honoluluhenk.fluentbigdecimals.internal.ScaledLongs.NOT_REPRESENTABLE;
+import static com.github.honoluluhenk.fluentbigdecimals.internal.ScaledLongs.UNKNOWN_SCALE;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The precomputed conversion of one {@link CurrencyPair}: an amount is converted by
+ * <strong>one</strong> exact multiplication with the (resolved) rate followed by
+ * <strong>one</strong> rounding/scaling of the target configuration, i.e.:
+ * {@code target.of(amount * multiplier)}.
+ * <p>
+ * If the target configuration only scales (see {@link com.github.honoluluhenk.fluentbigdecimals.scaler.MaxScaleScaler})
+ * and the multiplier fits into an unscaled long,
+ * converting a {@link DecimalColumn} or unscaled longs works on longs only
+ * (a 64 bit multiplication and a rounding division by a power of ten).
+ * Values where this is not possible (overflow, rounding to the precision of the target) fall back to
+ * {@link BigDecimal} arithmetics with identical results.
+ * <p>
+ * Immutable, thread safe. Created by {@link CurrencyConverter#plan(java.util.Currency, java.util.Currency)}.
+ */
+public final class ConversionPlan<T extends AbstractFluentBigDecimal<T>> {
+    private final @NonNull CurrencyPair pair;
+    private final @NonNull BigDecimal multiplier;
+    private final @NonNull Configuration<T> target;
+    private final int targetScale;
+    private final @NonNull RoundingMode roundingMode;
+    // -1: no unscaled long fast path
+    private final long maxExact;
+    // exclusive: products of at least this magnitude would be rounded to the precision of the target
+    private final long productLimit;
+    // the multiplier in unscaled form, NOT_REPRESENTABLE if it does not fit
+    private final long unscaledMultiplier;
+    private final int multiplierScale;
+
+    ConversionPlan(@NonNull CurrencyPair pair, @NonNull BigDecimal multiplier, @NonNull Configuration<T> target) {
+        this.pair = requireNonNull(pair, "pair required");
+        this.multiplier = requireNonNull(multiplier, "multiplier required");
+        this.target = requireNonNull(target, "target required");
+        this.targetScale = ScaledLongs.fixedScale(target);
+        this.roundingMode = target.getMathContext().getRoundingMode();
+        this.maxExact = ScaledLongs.maxExactUnscaled(target);
+
+        int precision = target.getMathContext().getPrecision();
+        this.productLimit = precision == 0 || precision > 18
+            ? Long.MAX_VALUE
+            : ScaledLongs.powerOfTen(precision);
+
+        BigDecimal stripped = multiplier.stripTrailingZeros();
+        if (stripped.scale() < 0) {
+            stripped = stripped.setScale(0);
+        }
+        this.multiplierScale = stripped.scale();
+        this.unscaledMultiplier = ScaledLongs.toUnscaled(stripped, multiplierScale);
+    }
+
+    public @NonNull CurrencyPair getPair() {
+        return pair;
+    }
+
+    /**
+     * The resolved rate (possibly inverted and/or triangulated), amounts get multiplied by.
+     */
+    public @NonNull BigDecimal getMultiplier() {
+        return multiplier;
+    }
+
+    public @NonNull Configuration<T> getTarget() {
+        return target;
+    }
+
+    public @NonNull T convert(@NonNull AbstractFluentBigDecimal<?> amount) {
+        requireNonNull(amount, "amount required");
+
+        return convert(amount.getValue());
+    }
+
+    public @NonNull T convert(@NonNull BigDecimal amount) {
+        requireNonNull(amount, "amount required");
+
+        return target.of(amount.multiply(multiplier));
+    }
+
+    /**
+     * Convert all amounts of the column, the result uses the target configuration.
+     */
+    public @NonNull DecimalColumn<T> convert(@NonNull DecimalColumn<?> amounts) {
+        requireNonNull(amounts, "amounts required");
+
+        int size = amounts.size();
+        if (targetScale == UNKNOWN_SCALE) {
+            return DecimalColumn.of(target, convertAll(amounts, size));
+        }
+
+        int sourceScale = amounts.getScale();
+        long[] result = new long[size];
+        for (int i = 0; i < size; i++) {
+            long converted = amounts.hasUnscaled(i)
+                ? convertFast(amounts.getUnscaled(i), sourceScale)
+                : NOT_REPRESENTABLE;
+            if (converted == NOT_REPRESENTABLE) {
+                converted = ScaledLongs.toUnscaled(convert(amounts.getValue(i)).getValue(), targetScale);
+            }
+            if (converted == NOT_REPRESENTABLE) {
+                // very rare: some result does not fit into a long
+                return DecimalColumn.of(target, convertAll(amounts, size));
+            }
+            result[i] = converted;
+        }
+
+        return DecimalColumn.ofUnscaled(target, result);
+    }
+
+    private @NonNull BigDecimal @NonNull [] convertAll(@NonNull DecimalColumn<?> amounts, int size) {
+        BigDecimal[] result = new BigDecimal[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = convert(amounts.getValue(i)).getValue();
+        }
+
+        return result;
+    }
+
+    /**
+     * Convert unscaled amounts (at sourceScale) into unscaled amounts at the scale of the target configuration.
+     *
+     * @throws IllegalArgumentException if the target configuration has no fixed scale.
+     * @throws ArithmeticException      if some result does not fit into an unscaled long.
+     */
+    public long @NonNull [] convertUnscaled(long @NonNull [] unscaled, int sourceScale) {
+        requireNonNull(unscaled, "unscaled required");
+        if (targetScale == UNKNOWN_SCALE) {
+            throw new IllegalArgumentException("Target configuration has no fixed scale: " + target);
+        }
+
+        long[] result = new long[unscaled.length];
+        for (int i = 0; i < unscaled.length; i++) {
+            long converted = convertFast(unscaled[i], sourceScale);
+            if (converted == NOT_REPRESENTABLE) {
+                converted = convertSlow(unscaled[i], sourceScale);
+            }
+            result[i] = converted;
+        }
+
+        return result;
+    }
+
+    private long convertSlow(long unscaled, int sourceScale) {
+        if (unscaled == NOT_REPRESENTABLE) {
+            throw new IllegalArgumentException("Long.MIN_VALUE is not supported as unscaled value");
+        }
+
+        BigDecimal converted = convert(ScaledLongs.toBigDecimal(unscaled, sourceScale)).getValue();
+        long result = ScaledLongs.toUnscaled(converted, targetScale);
+        if (result == NOT_REPRESENTABLE) {
+            throw new ArithmeticException("Value does not fit into an unscaled long at scale " + targetScale + ": "
+                + converted.toPlainString());
+        }
+
+        return result;
+    }
+
+    /**
+     * @return NOT_REPRESENTABLE if the result cannot be computed on longs (with the same result as {@link #convert(BigDecimal)}).
+     */
+    private long convertFast(long amount, int sourceScale) {
+        if (maxExact < 0 || unscaledMultiplier == NOT_REPRESENTABLE || amount == NOT_REPRESENTABLE) {
+            return NOT_REPRESENTABLE;
+        }
+
+        long product = amount * unscaledMultiplier;
+        // no overflow if the high word is just the sign extension of the low word
+        boolean overflow = Math.multiplyHigh(amount, unscaledMultiplier) != (product >> (Long.SIZE - 1));
+        if (overflow || product == NOT_REPRESENTABLE || Math.abs(product) >= productLimit) {
+            return NOT_REPRESENTABLE;
+        }
+
+        long result = rescale(product, (long) sourceScale + multiplierScale - targetScale);
+        if (result == NOT_REPRESENTABLE || result < -maxExact || result > maxExact) {
+            return NOT_REPRESENTABLE;
+        }
+
+        return result;
+    }
+
+    private long rescale(long product, long digitsToDrop) {
+        if (digitsToDrop == 0) {
+            return product;
+        }
+        if (Math.abs(digitsToDrop) > 18) {
+            return NOT_REPRESENTABLE;
+        }
+        if (digitsToDrop > 0) {
+            return ScaledLongs.divideRounded(product, ScaledLongs.powerOfTen((int) digitsToDrop), roundingMode);
+        }
+
+        long factor = ScaledLongs.powerOfTen((int) -digitsToDrop);
+        long result = product * factor;
+        if (Math.multiplyHigh(product, factor) != (result >> (Long.SIZE - 1))) {
+            return NOT_REPRESENTABLE;
+        }
+
+        return result;
+    }
+
+    @Override
+    public @NonNull String toString() {
+        return getClass().getSimpleName()
+            + '[' + pair
+            + ",multiplier=" + multiplier.toPlainString()
+            + ',' + target
+            + ']';
+    }
+}
@@ -0,0 +1,243 @@
+package com.github.honoluluhenk.fluentbigdecimals.currency;
+
+import com.github.honoluluhenk.fluentbigdecimals.AbstractFluentBigDecimal;
+import com.github.honoluluhenk.fluentbigdecimals.CashRounding;
+import com.github.honoluluhenk.fluentbigdecimals.CashRoundingUnits;
+import com.github.honoluluhenk.fluentbigdecimals.Configuration;
+import com.github.honoluluhenk.fluentbigdecimals.ConfigurationFactory;
+import com.github.honoluluhenk.fluentbigdecimals.Factory;
+import com.github.honoluluhenk.fluentbigdecimals.FluentBigDecimal;
+import com.github.honoluluhenk.fluentbigdecimals.ScalingConfiguration;
+import com.github.honoluluhenk.fluentbigdecimals.scaler.CashRoundingScaler;
+import com.github.honoluluhenk.fluentbigdecimals.scaler.MaxScaleScaler;
+import com.github.honoluluhenk.fluentbigdecimals.scaler.NopScaler;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.math.MathContext;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Currency;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Shared configurations per currency, using the ISO 4217 minor unit of the currency as scale
+ * (e.g.: 2 for EUR, 0 for JPY, 3 for BHD, see {@link Currency#getDefaultFractionDigits()}).
+ * <p>
+ * Configurations are created lazily on first use and then re-used,
+ * so their constants caches (see {@link Configuration#ZERO()}) are shared as well.
+ * Lookups are indexed by the ISO 4217 numeric code (see {@link Currency#getNumericCode()}).
+ * <p>
+ * Cash variants (see {@link #cash(Currency)}) use a {@link CashRoundingScaler} for currencies with a known
+ * cash rounding unit (CHF, AUD, CAD: 0.05, NZD: 0.10, more can be added using
+ * {@link #withCashRounding(Currency, CashRoundingUnits)}).
+ * <p>
+ * Immutable, thread safe.
+ */
+public final class CurrencyConfigurations<T extends AbstractFluentBigDecimal<T>> {
+    // ISO 4217 numeric codes have 3 digits
+    private static final int NUMERIC_CODES = 1000;
+
+    private static final @NonNull Map<String, CashRoundingUnits> DEFAULT_CASH_ROUNDING = defaultCashRounding();
+    // by math context and factory
+    private static final @NonNull ConcurrentHashMap<List<Object>, CurrencyConfigurations<?>> SHARED =
+        new ConcurrentHashMap<>();
+
+    private final @NonNull MathContext mathContext;
+    private final @NonNull Factory<T> factory;
+    // by currency code, sorted
+    private final @NonNull Map<String, CashRoundingUnits> cashRounding;
+
+    private final @NonNull AtomicReferenceArray<Configuration<T>> configurations =
+        new AtomicReferenceArray<>(NUMERIC_CODES);
+    private final @NonNull AtomicReferenceArray<Configuration<T>> cashConfigurations =
+        new AtomicReferenceArray<>(NUMERIC_CODES);
+    // currencies without a valid numeric code (e.g.: custom currencies)
+    private final @NonNull ConcurrentHashMap<Currency, Configuration<T>> otherConfigurations = new ConcurrentHashMap<>();
+    private final @NonNull ConcurrentHashMap<Currency, Configuration<T>> otherCashConfigurations =
+        new ConcurrentHashMap<>();
+
+    private CurrencyConfigurations(
+        @NonNull MathContext mathContext,
+        @NonNull Factory<T> factory,
+        @NonNull Map<String, CashRoundingUnits> cashRounding
+    ) {
+        this.mathContext = mathContext;
+        this.factory = factory;
+        this.cashRounding = cashRounding;
+    }
+
+    private static @NonNull Map<String, CashRoundingUnits> defaultCashRounding() {
+        Map<String, CashRoundingUnits> result = new TreeMap<>();
+        result.put("CHF", CashRoundingUnits.ROUND_DOT05);
+        result.put("AUD", CashRoundingUnits.ROUND_DOT05);
+        result.put("CAD", CashRoundingUnits.ROUND_DOT05);
+        result.put("NZD", CashRoundingUnits.ROUND_DOT10);
+
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * The shared registry for {@link FluentBigDecimal} with the given precision and
+     * {@link ConfigurationFactory#DEFAULT_MONETARY_ROUNDING}, i.e.: like {@link ConfigurationFactory#monetary(int)}
+     * but with the scale of the currency.
+     */
+    public static @NonNull CurrencyConfigurations<FluentBigDecimal> monetary(int precision) {
+        return shared(
+            new MathContext(precision, ConfigurationFactory.DEFAULT_MONETARY_ROUNDING),
+            ConfigurationFactory.FLUENT_BIGDECIMAL_FACTORY
+        );
+    }
+
+    /**
+     * The shared registry for mathContext and factory (e.g.: {@link ConfigurationFactory#FLUENT_BIGDECIMAL_FACTORY}),
+     * created on first use.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends AbstractFluentBigDecimal<T>> @NonNull CurrencyConfigurations<T> shared(
+        @NonNull MathContext mathContext,
+        @NonNull Factory<T> factory
+    ) {
+        requireNonNull(mathContext, "mathContext required");
+        requireNonNull(factory, "factory required");
+
+        // the factory determines T
+        return (CurrencyConfigurations<T>) SHARED.computeIfAbsent(
+            Arrays.asList(mathContext, factory),
+            key -> of(mathContext, factory)
+        );
+    }
+
+    /**
+     * A new registry, keep it in some constant for sharing (or see {@link #shared(MathContext, Factory)}).
+     */
+    public static <T extends AbstractFluentBigDecimal<T>> @NonNull CurrencyConfigurations<T> of(
+        @NonNull MathContext mathContext,
+        @NonNull Factory<T> factory
+    ) {
+        requireNonNull(mathContext, "mathContext required");
+        requireNonNull(factory, "factory required");
+
+        return new CurrencyConfigurations<>(mathContext, factory, DEFAULT_CASH_ROUNDING);
+    }
+
+    /**
+     * A new registry with an additional/different cash rounding unit for currency.
+     */
+    public @NonNull CurrencyConfigurations<T> withCashRounding(
+        @NonNull Currency currency,
+        @NonNull CashRoundingUnits unit
+    ) {
+        requireNonNull(currency, "currency required");
+        requireNonNull(unit, "unit required");
+
+        Map<String, CashRoundingUnits> units = new TreeMap<>(cashRounding);
+        units.put(currency.getCurrencyCode(), unit);
+
+        return new CurrencyConfigurations<>(mathContext, factory, Collections.unmodifiableMap(units));
+    }
+
+    public @NonNull MathContext getMathContext() {
+        return mathContext;
+    }
+
+    public @NonNull Factory<T> getFactory() {
+        return factory;
+    }
+
+    /**
+     * The configuration for amounts in currency: a {@link ScalingConfiguration} with a {@link MaxScaleScaler}
+     * using the minor unit of the currency
+     * (or a {@link NopScaler} for pseudo currencies without minor unit, e.g.: XAU).
+     */
+    public @NonNull Configuration<T> get(@NonNull Currency currency) {
+        requireNonNull(currency, "currency required");
+
+        return lookup(configurations, otherConfigurations, currency, false);
+    }
+
+    /**
+     * Convenience: see {@link #get(Currency)}, using {@link Currency#getInstance(String)}.
+     */
+    public @NonNull Configuration<T> get(@NonNull String currencyCode) {
+        return get(Currency.getInstance(currencyCode));
+    }
+
+    /**
+     * The configuration for cash amounts in currency: using a {@link CashRoundingScaler} if the currency has
+     * a cash rounding unit, same as {@link #get(Currency)} otherwise.
+     */
+    public @NonNull Configuration<T> cash(@NonNull Currency currency) {
+        requireNonNull(currency, "currency required");
+
+        return lookup(cashConfigurations, otherCashConfigurations, currency, true);
+    }
+
+    public @NonNull Optional<CashRoundingUnits> getCashRoundingUnit(@NonNull Currency currency) {
+        requireNonNull(currency, "currency required");
+
+        return Optional.ofNullable(cashRounding.get(currency.getCurrencyCode()));
+    }
+
+    private @NonNull Configuration<T> lookup(
+        @NonNull AtomicReferenceArray<Configuration<T>> byNumericCode,
+        @NonNull ConcurrentHashMap<Currency, Configuration<T>> others,
+        @NonNull Currency currency,
+        boolean cash
+    ) {
+        int numericCode = currency.getNumericCode();
+        if (numericCode <= 0 || numericCode >= NUMERIC_CODES) {
+            return others.computeIfAbsent(currency, c -> create(c, cash));
+        }
+
+        Configuration<T> existing = byNumericCode.get(numericCode);
+        if (existing != null) {
+            return existing;
+        }
+
+        Configuration<T> created = create(currency, cash);
+        // on a race: use whatever was set first, so everybody shares the same instance
+        if (byNumericCode.compareAndSet(numericCode, null, created)) {
+            return created;
+        }
+
+        return requireNonNull(byNumericCode.get(numericCode));
+    }
+
+    private @NonNull Configuration<T> create(@NonNull Currency currency, boolean cash) {
+        @Nullable CashRoundingUnits unit = cash ? cashRounding.get(currency.getCurrencyCode()) : null;
+        if (unit != null) {
+            return Configuration.createConfiguration(
+                mathContext,
+                new CashRoundingScaler(CashRounding.of(unit)),
+                factory
+            );
+        }
+        if (cash) {
+            return get(currency);
+        }
+
+        int minorUnit = currency.getDefaultFractionDigits();
+        if (minorUnit < 0) {
+            return Configuration.createConfiguration(mathContext, new NopScaler(), factory);
+        }
+
+        return new ScalingConfiguration<>(mathContext, new MaxScaleScaler(minorUnit), factory);
+    }
+
+    @Override
+    public @NonNull String toString() {
+        return getClass().getSimpleName()
+            + '[' + mathContext.getPrecision()
+            + ',' + mathContext.getRoundingMode()
+            + ",cash=" + cashRounding.keySet()
+            + ']';
+    }
+}
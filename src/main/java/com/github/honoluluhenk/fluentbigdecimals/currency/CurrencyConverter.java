@@ -0,0 +1,246 @@
+package com.github.honoluluhenk.fluentbigdecimals.currency;
+
+import com.github.honoluluhenk.fluentbigdecimals.AbstractFluentBigDecimal;
+import com.github.honoluluhenk.fluentbigdecimals.Configuration;
+import com.github.honoluluhenk.fluentbigdecimals.column.DecimalColumn;
+import com.github.honoluluhenk.fluentbigdecimals.scaler.MaxScaleScaler;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Converts amounts between currencies using a table of rates.
+ * <p>
+ * Each target currency has its own {@link Configuration}: either set explicitly
+ * (e.g.: using a {@link com.github.honoluluhenk.fluentbigdecimals.scaler.CashRoundingScaler})
+ * or derived from the template configuration using a {@link MaxScaleScaler} with the ISO 4217 minor unit of the currency
+ * (see {@link CurrencyConfigurations#get(Currency)}, taken from the registry shared by all converters with the same
+ * math context and factory unless set using {@link Builder#configurations(CurrencyConfigurations)}).
+ * <p>
+ * The rate of a {@link CurrencyPair} is resolved in this order:
+ * <ol>
+ *     <li>the rate given for the pair</li>
+ *     <li>the inverse of the rate given for the inverse pair</li>
+ *     <li>triangulation via the base currency: from &rarr; base &rarr; to (each resolved like above)</li>
+ * </ol>
+ * Inverse and triangulated rates are computed once at the precision of the template configuration plus guard digits.
+ * <p>
+ * Resolved rates and target configurations are kept in {@link ConversionPlan}s, cached per pair.
+ * So each conversion is just one multiplication and one rounding/scaling.
+ * <p>
+ * Immutable, thread safe.
+ */
+public final class CurrencyConverter<T extends AbstractFluentBigDecimal<T>> {
+    private static final int GUARD_DIGITS = 10;
+
+    private final @NonNull Configuration<T> template;
+    private final @NonNull CurrencyConfigurations<T> defaults;
+    private final @NonNull Map<Currency, Configuration<T>> targets;
+    private final @NonNull Map<CurrencyPair, BigDecimal> rates;
+    private final @Nullable Currency baseCurrency;
+    private final @NonNull MathContext rateMathContext;
+    private final @NonNull ConcurrentHashMap<CurrencyPair, ConversionPlan<T>> plans = new ConcurrentHashMap<>();
+
+    private CurrencyConverter(@NonNull Builder<T> builder) {
+        this.template = builder.template;
+        this.defaults = builder.configurations != null
+            ? builder.configurations
+            : CurrencyConfigurations.shared(template.getMathContext(), template.getFactory());
+        this.targets = new ConcurrentHashMap<>(builder.targets);
+        this.rates = new HashMap<>(builder.rates);
+        this.baseCurrency = builder.baseCurrency;
+
+        int precision = template.getMathContext().getPrecision();
+        // unlimited precision cannot handle non-terminating divisions
+        int ratePrecision = precision == 0 ? MathContext.DECIMAL128.getPrecision() : precision;
+        this.rateMathContext = new MathContext(ratePrecision + GUARD_DIGITS, RoundingMode.HALF_EVEN);
+    }
+
+    /**
+     * @param template precision, rounding and factory used for the target configurations of all currencies
+     *                 not configured explicitly using {@link Builder#target(Currency, Configuration)}.
+     */
+    public static <T extends AbstractFluentBigDecimal<T>> @NonNull Builder<T> builder(@NonNull Configuration<T> template) {
+        return new Builder<>(template);
+    }
+
+    /**
+     * The configuration of amounts converted to currency.
+     */
+    public @NonNull Configuration<T> getConfiguration(@NonNull Currency currency) {
+        requireNonNull(currency, "currency required");
+
+        return targets.computeIfAbsent(currency, this::defaultConfiguration);
+    }
+
+    private @NonNull Configuration<T> defaultConfiguration(@NonNull Currency currency) {
+        int minorUnit = currency.getDefaultFractionDigits();
+        if (minorUnit < 0) {
+            // pseudo currencies (e.g.: XAU) have no minor unit
+            return template;
+        }
+
+        return defaults.get(currency);
+    }
+
+    public @Nullable Currency getBaseCurrency() {
+        return baseCurrency;
+    }
+
+    /**
+     * The cached plan for converting from into to.
+     *
+     * @throws IllegalArgumentException if there is no rate for the pair.
+     */
+    public @NonNull ConversionPlan<T> plan(@NonNull Currency from, @NonNull Currency to) {
+        CurrencyPair pair = CurrencyPair.of(from, to);
+
+        return plans.computeIfAbsent(pair, this::createPlan);
+    }
+
+    private @NonNull ConversionPlan<T> createPlan(@NonNull CurrencyPair pair) {
+        return new ConversionPlan<>(pair, resolveRate(pair), getConfiguration(pair.getTo()));
+    }
+
+    private @NonNull BigDecimal resolveRate(@NonNull CurrencyPair pair) {
+        BigDecimal result = directOrInverse(pair.getFrom(), pair.getTo());
+        if (result != null) {
+            return result;
+        }
+
+        Currency base = baseCurrency;
+        if (base != null) {
+            BigDecimal toBase = directOrInverse(pair.getFrom(), base);
+            BigDecimal fromBase = directOrInverse(base, pair.getTo());
+            if (toBase != null && fromBase != null) {
+                return toBase.multiply(fromBase, rateMathContext);
+            }
+        }
+
+        throw new IllegalArgumentException("No rate for " + pair);
+    }
+
+    private @Nullable BigDecimal directOrInverse(@NonNull Currency from, @NonNull Currency to) {
+        if (from.equals(to)) {
+            return BigDecimal.ONE;
+        }
+
+        BigDecimal direct = rates.get(CurrencyPair.of(from, to));
+        if (direct != null) {
+            return direct;
+        }
+
+        BigDecimal inverse = rates.get(CurrencyPair.of(to, from));
+        if (inverse != null) {
+            return BigDecimal.ONE.divide(inverse, rateMathContext);
+        }
+
+        return null;
+    }
+
+    /**
+     * Convert one amount, see {@link ConversionPlan#convert(AbstractFluentBigDecimal)}.
+     */
+    public @NonNull T convert(@NonNull AbstractFluentBigDecimal<?> amount, @NonNull Currency from, @NonNull Currency to) {
+        return plan(from, to).convert(amount);
+    }
+
+    /**
+     * Convert all amounts of the column, see {@link ConversionPlan#convert(DecimalColumn)}.
+     */
+    public @NonNull DecimalColumn<T> convert(@NonNull DecimalColumn<?> amounts, @NonNull Currency from, @NonNull Currency to) {
+        return plan(from, to).convert(amounts);
+    }
+
+    @Override
+    public @NonNull String toString() {
+        return getClass().getSimpleName()
+            + "[rates=" + rates.size()
+            + ",base=" + (baseCurrency == null ? "-" : baseCurrency.getCurrencyCode())
+            + ',' + template
+            + ']';
+    }
+
+    /**
+     * Collects rates and target configurations for a {@link CurrencyConverter}.
+     */
+    public static final class Builder<T extends AbstractFluentBigDecimal<T>> {
+        private final @NonNull Configuration<T> template;
+        private final @NonNull Map<Currency, Configuration<T>> targets = new HashMap<>();
+        private final @NonNull Map<CurrencyPair, BigDecimal> rates = new HashMap<>();
+        private @Nullable Currency baseCurrency;
+        private @Nullable CurrencyConfigurations<T> configurations;
+
+        private Builder(@NonNull Configuration<T> template) {
+            this.template = requireNonNull(template, "template required");
+        }
+
+        /**
+         * 1 from = rate to.
+         *
+         * @throws IllegalArgumentException if rate is not positive.
+         */
+        public @NonNull Builder<T> rate(@NonNull Currency from, @NonNull Currency to, @NonNull BigDecimal rate) {
+            requireNonNull(rate, "rate required");
+            if (rate.signum() <= 0) {
+                throw new IllegalArgumentException("rate must be positive: " + rate);
+            }
+
+            rates.put(CurrencyPair.of(from, to), rate);
+
+            return this;
+        }
+
+        /**
+         * Convenience: see {@link #rate(Currency, Currency, BigDecimal)}, using {@link BigDecimal#BigDecimal(String)}.
+         */
+        public @NonNull Builder<T> rate(@NonNull Currency from, @NonNull Currency to, @NonNull String rate) {
+            return rate(from, to, new BigDecimal(rate));
+        }
+
+        /**
+         * Currency for triangulation if there is no (inverse) rate for a pair.
+         */
+        public @NonNull Builder<T> baseCurrency(@NonNull Currency baseCurrency) {
+            this.baseCurrency = requireNonNull(baseCurrency, "baseCurrency required");
+
+            return this;
+        }
+
+        /**
+         * Explicit configuration of amounts converted to currency.
+         */
+        public @NonNull Builder<T> target(@NonNull Currency currency, @NonNull Configuration<T> configuration) {
+            requireNonNull(currency, "currency required");
+            requireNonNull(configuration, "configuration required");
+
+            targets.put(currency, configuration);
+
+            return this;
+        }
+
+        /**
+         * Registry for the target configurations of currencies not configured explicitly using
+         * {@link #target(Currency, Configuration)}, defaults to the registry shared by all converters with the
+         * same math context and factory as the template (see {@link CurrencyConfigurations#shared(MathContext, Factory)}).
+         */
+        public @NonNull Builder<T> configurations(@NonNull CurrencyConfigurations<T> configurations) {
+            this.configurations = requireNonNull(configurations, "configurations required");
+
+            return this;
+        }
+
+        public @NonNull CurrencyConverter<T> build() {
+            return new CurrencyConverter<>(this);
+        }
+    }
+}
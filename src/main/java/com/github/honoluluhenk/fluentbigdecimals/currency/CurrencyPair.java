@@ -0,0 +1,38 @@
+package com.github.honoluluhenk.fluentbigdecimals.currency;
+
+import lombok.Value;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.io.Serializable;
+import java.util.Currency;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A conversion direction: amounts in {@link #getFrom()} are converted to {@link #getTo()}.
+ */
+@Value
+public class CurrencyPair implements Serializable {
+    private static final long serialVersionUID = -2310958460126713474L;
+
+    @NonNull Currency from;
+    @NonNull Currency to;
+
+    private CurrencyPair(@NonNull Currency from, @NonNull Currency to) {
+        this.from = requireNonNull(from, "from required");
+        this.to = requireNonNull(to, "to required");
+    }
+
+    public static @NonNull CurrencyPair of(@NonNull Currency from, @NonNull Currency to) {
+        return new CurrencyPair(from, to);
+    }
+
+    public @NonNull CurrencyPair inverse() {
+        return new CurrencyPair(to, from);
+    }
+
+    @Override
+    public @NonNull String toString() {
+        return from.getCurrencyCode() + '/' + to.getCurrencyCode();
+    }
+}
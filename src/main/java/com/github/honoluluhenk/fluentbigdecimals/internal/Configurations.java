@@ -0,0 +1,27 @@
+package com.github.honoluluhenk.fluentbigdecimals.internal;
+
+import com.github.honoluluhenk.fluentbigdecimals.Configuration;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Helpers for {@link Configuration}s.
+ * <p>
+ * Not part of the public API.
+ */
+public final class Configurations {
+
+    private Configurations() {
+        // utility class
+    }
+
+    /**
+     * True if both configurations round and scale the same way.
+     * <p>
+     * Not using {@link Configuration#equals(Object)} since it also compares internal caches.
+     */
+    public static boolean roundsAlike(@NonNull Configuration<?> first, @NonNull Configuration<?> second) {
+        return first == second
+            || first.getMathContext().equals(second.getMathContext())
+            && first.getScaler().equals(second.getScaler());
+    }
+}
@@ -0,0 +1,390 @@
+package com.github.honoluluhenk.fluentbigdecimals.internal;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Roots, powers, exponential function and natural logarithm for {@link BigDecimal}.
+ * <p>
+ * Iterations are seeded using {@code double} arithmetics (about 15 correct digits)
+ * and then refined using Newton (roots) or Halley (logarithm) iterations,
+ * increasing the working precision with each step.
+ * All computations use some guard digits, the final result is rounded once to the requested {@link MathContext}.
+ * <p>
+ * Not part of the public API.
+ */
+public final class DecimalMath {
+    // digits a double seed is trusted to have
+    private static final int SEED_DIGITS = 14;
+    private static final int GUARD_DIGITS = 10;
+    // iterations at full working precision, usually 1-2 suffice (last digit may oscillate)
+    private static final int MAX_FINAL_ITERATIONS = 4;
+    private static final BigDecimal TWO = BigDecimal.valueOf(2);
+
+    // per precision up to MAX_CACHED_PRECISION: the coefficients of the exp() series, i.e. 1/k!
+    private static final ConcurrentHashMap<Integer, BigDecimal[]> EXP_COEFFICIENTS = new ConcurrentHashMap<>();
+    // bounds the cache (to a few MB), higher precisions compute the terms on the fly
+    private static final int MAX_CACHED_PRECISION = 200;
+
+    private DecimalMath() {
+        // utility class
+    }
+
+    public static @NonNull BigDecimal sqrt(@NonNull BigDecimal value, @NonNull MathContext mathContext) {
+        return nthRoot(value, 2, mathContext);
+    }
+
+    /**
+     * The n-th root, negative values are only supported for odd n.
+     */
+    public static @NonNull BigDecimal nthRoot(@NonNull BigDecimal value, int n, @NonNull MathContext mathContext) {
+        requireNonNull(value, "value required");
+        requireLimitedPrecision(mathContext);
+        if (n < 1) {
+            throw new ArithmeticException("Root must be positive: " + n);
+        }
+        if (value.signum() < 0 && n % 2 == 0) {
+            throw new ArithmeticException("Even root of negative value: " + value);
+        }
+        if (value.signum() == 0 || n == 1) {
+            return value.round(mathContext);
+        }
+        if (value.signum() < 0) {
+            return nthRoot(value.negate(), n, mathContext).negate();
+        }
+
+        int workingPrecision = mathContext.getPrecision() + GUARD_DIGITS;
+        BigDecimal bigN = BigDecimal.valueOf(n);
+        BigDecimal nMinusOne = BigDecimal.valueOf(n - 1L);
+
+        // seed via log10(value) = log10(mantissa) + exponent, with 1 <= mantissa < 10
+        int exponent = exponentOf(value);
+        double log10Root = (Math.log10(value.movePointLeft(exponent).doubleValue()) + exponent) / n;
+        double rootExponent = Math.floor(log10Root);
+        BigDecimal root = new BigDecimal(Math.pow(10, log10Root - rootExponent))
+            .movePointRight((int) rootExponent);
+
+        // Newton: root = ((n - 1) * root + value / root^(n - 1)) / n, doubling the correct digits each step
+        int precision = SEED_DIGITS;
+        int finalIterations = 0;
+        @Nullable BigDecimal previous = null;
+        while (finalIterations < MAX_FINAL_ITERATIONS) {
+            precision = Math.min(2 * precision, workingPrecision);
+            MathContext mc = new MathContext(precision, RoundingMode.HALF_EVEN);
+
+            BigDecimal quotient = value.divide(root.pow(n - 1, mc), mc);
+            root = nMinusOne.multiply(root, mc)
+                .add(quotient, mc)
+                .divide(bigN, mc);
+
+            if (precision == workingPrecision) {
+                if (previous != null && previous.compareTo(root) == 0) {
+                    break;
+                }
+                previous = root;
+                finalIterations++;
+            }
+        }
+
+        return root.round(mathContext);
+    }
+
+    /**
+     * Integer power using exponentiation by squaring.
+     * <p>
+     * All multiplications use guard digits (enough to absorb the error of the about 2 * log2(exponent) roundings),
+     * the result is rounded once to the requested {@link MathContext}.
+     * With unlimited precision, the result is exact (negative exponents must then result in a terminating division,
+     * an {@link ArithmeticException} is thrown otherwise).
+     */
+    public static @NonNull BigDecimal pow(@NonNull BigDecimal value, int exponent, @NonNull MathContext mathContext) {
+        requireNonNull(value, "value required");
+        requireNonNull(mathContext, "mathContext required");
+        if (value.signum() == 0 && exponent < 0) {
+            throw new ArithmeticException("Division by zero: 0^" + exponent);
+        }
+        if (mathContext.getPrecision() == 0) {
+            // BigDecimal.pow(int, MathContext) rejects negative exponents with unlimited precision
+            return exponent >= 0
+                ? value.pow(exponent)
+                : BigDecimal.ONE.divide(value.pow(-exponent));
+        }
+        if (exponent == 0) {
+            return BigDecimal.ONE.round(mathContext);
+        }
+        if (value.signum() == 0) {
+            return BigDecimal.ZERO;
+        }
+
+        long magnitude = Math.abs((long) exponent);
+        // each rounding adds at most 1/2 ulp, there are at most 2 * 64 - 2 roundings
+        int exponentDigits = String.valueOf(magnitude).length();
+        MathContext working = new MathContext(
+            mathContext.getPrecision() + GUARD_DIGITS + exponentDigits,
+            RoundingMode.HALF_EVEN
+        );
+
+        BigDecimal result = powBySquaring(value, magnitude, working);
+        if (exponent < 0) {
+            result = BigDecimal.ONE.divide(result, working);
+        }
+
+        return result.round(mathContext);
+    }
+
+    private static @NonNull BigDecimal powBySquaring(
+        @NonNull BigDecimal value,
+        long exponent,
+        @NonNull MathContext mathContext
+    ) {
+        BigDecimal result = BigDecimal.ONE;
+        BigDecimal square = value;
+        long remaining = exponent;
+        while (true) {
+            if ((remaining & 1) != 0) {
+                result = result.multiply(square, mathContext);
+            }
+            remaining >>>= 1;
+            if (remaining == 0) {
+                return result;
+            }
+            square = square.multiply(square, mathContext);
+        }
+    }
+
+    /**
+     * Power with arbitrary exponent.
+     * <p>
+     * Integral exponents are computed as {@link #pow(BigDecimal, int, MathContext)},
+     * everything else as {@code exp(exponent * ln(value))} (so value must be positive).
+     */
+    public static @NonNull BigDecimal pow(
+        @NonNull BigDecimal value,
+        @NonNull BigDecimal exponent,
+        @NonNull MathContext mathContext
+    ) {
+        requireNonNull(value, "value required");
+        requireNonNull(exponent, "exponent required");
+
+        Integer integral = toIntExact(exponent);
+        if (integral != null) {
+            return pow(value, integral, mathContext);
+        }
+
+        requireLimitedPrecision(mathContext);
+        if (value.signum() == 0 && exponent.signum() > 0) {
+            return BigDecimal.ZERO;
+        }
+        if (value.signum() <= 0) {
+            throw new ArithmeticException("Non-integral power of non-positive value: " + value + "^" + exponent);
+        }
+
+        // exp() turns the absolute error of the product into a relative error of the result,
+        // so the product needs additional digits for its integer part
+        int productDigits = integerDigits(exponent) + String.valueOf(Math.abs(exponentOf(value)) + 1).length();
+        MathContext working = new MathContext(
+            mathContext.getPrecision() + GUARD_DIGITS + productDigits,
+            RoundingMode.HALF_EVEN
+        );
+        BigDecimal product = exponent.multiply(ln(value, working), working);
+
+        return exp(product, working).round(mathContext);
+    }
+
+    private static @Nullable Integer toIntExact(@NonNull BigDecimal value) {
+        if (value.signum() == 0) {
+            return 0;
+        }
+        BigDecimal stripped = value.stripTrailingZeros();
+        if (stripped.scale() > 0) {
+            return null;
+        }
+        try {
+            return stripped.intValueExact();
+        } catch (ArithmeticException e) {
+            return null;
+        }
+    }
+
+    /**
+     * The exponential function e^value.
+     */
+    public static @NonNull BigDecimal exp(@NonNull BigDecimal value, @NonNull MathContext mathContext) {
+        requireNonNull(value, "value required");
+        requireLimitedPrecision(mathContext);
+        if (value.signum() == 0) {
+            return BigDecimal.ONE.round(mathContext);
+        }
+
+        // argument reduction: exp(x) = exp(x / 2^halvings)^(2^halvings), with |x / 2^halvings| < 1/8
+        int halvings = Math.max(0, integerBits(value) + 3);
+        // each squaring doubles the relative error: log10(2) ~ 0.3 digits each
+        int workingPrecision = mathContext.getPrecision() + GUARD_DIGITS + (halvings * 3 + 9) / 10;
+        MathContext working = new MathContext(workingPrecision, RoundingMode.HALF_EVEN);
+
+        BigDecimal reduced = value.divide(TWO.pow(halvings), working);
+        BigDecimal result = expSeries(reduced, working);
+        for (int i = 0; i < halvings; i++) {
+            result = result.multiply(result, working);
+        }
+
+        return result.round(mathContext);
+    }
+
+    /**
+     * Taylor series for small |value|, using the cached coefficients 1/k! for precisions up to
+     * {@link #MAX_CACHED_PRECISION}.
+     */
+    private static @NonNull BigDecimal expSeries(@NonNull BigDecimal value, @NonNull MathContext mathContext) {
+        int precision = mathContext.getPrecision();
+        if (precision > MAX_CACHED_PRECISION) {
+            return uncachedExpSeries(value, mathContext);
+        }
+
+        BigDecimal epsilon = BigDecimal.ONE.movePointLeft(precision + 1);
+        BigDecimal sum = BigDecimal.ONE.add(value, mathContext);
+        BigDecimal power = value;
+        BigDecimal[] coefficients = expCoefficients(precision);
+        for (int k = 2; ; k++) {
+            if (k >= coefficients.length) {
+                coefficients = expCoefficients(precision, k * 2);
+            }
+            power = power.multiply(value, mathContext);
+            BigDecimal term = power.multiply(coefficients[k], mathContext);
+            sum = sum.add(term, mathContext);
+            if (term.abs().compareTo(epsilon) < 0) {
+                return sum;
+            }
+        }
+    }
+
+    /**
+     * Taylor series for small |value|, computing each term from the previous one: x^k/k! = x^(k-1)/(k-1)! * x / k.
+     */
+    private static @NonNull BigDecimal uncachedExpSeries(
+        @NonNull BigDecimal value,
+        @NonNull MathContext mathContext
+    ) {
+        BigDecimal epsilon = BigDecimal.ONE.movePointLeft(mathContext.getPrecision() + 1);
+        BigDecimal sum = BigDecimal.ONE.add(value, mathContext);
+        BigDecimal term = value;
+        for (int k = 2; ; k++) {
+            term = term.multiply(value, mathContext)
+                .divide(BigDecimal.valueOf(k), mathContext);
+            sum = sum.add(term, mathContext);
+            if (term.abs().compareTo(epsilon) < 0) {
+                return sum;
+            }
+        }
+    }
+
+    // visible for testing
+    static BigDecimal @NonNull [] expCoefficients(int precision) {
+        return expCoefficients(precision, 16);
+    }
+
+    private static BigDecimal @NonNull [] expCoefficients(int precision, int minLength) {
+        BigDecimal[] cached = EXP_COEFFICIENTS.get(precision);
+        if (cached != null && cached.length >= minLength) {
+            return cached;
+        }
+
+        return EXP_COEFFICIENTS.compute(precision, (key, current) -> {
+            if (current != null && current.length >= minLength) {
+                return current;
+            }
+
+            MathContext mc = new MathContext(precision, RoundingMode.HALF_EVEN);
+            BigDecimal[] result = new BigDecimal[minLength];
+            BigInteger factorial = BigInteger.ONE;
+            for (int k = 0; k < minLength; k++) {
+                if (k > 0) {
+                    factorial = factorial.multiply(BigInteger.valueOf(k));
+                }
+                result[k] = current != null && k < current.length
+                    ? current[k]
+                    : BigDecimal.ONE.divide(new BigDecimal(factorial), mc);
+            }
+
+            return result;
+        });
+    }
+
+    /**
+     * The natural logarithm, value must be positive.
+     */
+    public static @NonNull BigDecimal ln(@NonNull BigDecimal value, @NonNull MathContext mathContext) {
+        requireNonNull(value, "value required");
+        requireLimitedPrecision(mathContext);
+        if (value.signum() <= 0) {
+            throw new ArithmeticException("Logarithm of non-positive value: " + value);
+        }
+        if (value.compareTo(BigDecimal.ONE) == 0) {
+            return BigDecimal.ZERO;
+        }
+
+        // seed: ln(mantissa * 10^exponent) = ln(mantissa) + exponent * ln(10)
+        int exponent = exponentOf(value);
+        double mantissa = value.movePointLeft(exponent).doubleValue();
+        BigDecimal result = new BigDecimal(Math.log(mantissa) + exponent * Math.log(10));
+
+        // the result needs as many additional digits as it has integer digits
+        // and (close to 1) as many as there are leading zeros in value - 1
+        int leadingZeros = Math.max(0, -exponentOf(value.subtract(BigDecimal.ONE)));
+        int workingPrecision = mathContext.getPrecision() + GUARD_DIGITS + integerDigits(result) + leadingZeros;
+
+        // Halley: y = y + 2 * (value - exp(y)) / (value + exp(y)), tripling the correct digits each step
+        int precision = SEED_DIGITS;
+        int finalIterations = 0;
+        while (finalIterations < MAX_FINAL_ITERATIONS) {
+            precision = Math.min(3 * precision, workingPrecision);
+            MathContext mc = new MathContext(precision, RoundingMode.HALF_EVEN);
+
+            BigDecimal exp = exp(result, mc);
+            BigDecimal correction = TWO.multiply(value.subtract(exp, mc), mc)
+                .divide(value.add(exp, mc), mc);
+            result = result.add(correction, mc);
+
+            if (precision == workingPrecision) {
+                boolean converged = correction.signum() == 0
+                    || exponentOf(correction) < exponentOf(result) - precision + 1;
+                if (converged) {
+                    break;
+                }
+                finalIterations++;
+            }
+        }
+
+        return result.round(mathContext);
+    }
+
+    private static void requireLimitedPrecision(@NonNull MathContext mathContext) {
+        requireNonNull(mathContext, "mathContext required");
+        if (mathContext.getPrecision() == 0) {
+            throw new ArithmeticException("Non-terminating result needs a limited precision: " + mathContext);
+        }
+    }
+
+    /**
+     * The decimal exponent of the most significant digit, i.e.: 0 for 1.23, 2 for 123, -2 for 0.0123.
+     */
+    private static int exponentOf(@NonNull BigDecimal value) {
+        return value.precision() - value.scale() - 1;
+    }
+
+    private static int integerDigits(@NonNull BigDecimal value) {
+        return Math.max(0, exponentOf(value) + 1);
+    }
+
+    private static int integerBits(@NonNull BigDecimal value) {
+        return value.abs().toBigInteger().bitLength();
+    }
+}
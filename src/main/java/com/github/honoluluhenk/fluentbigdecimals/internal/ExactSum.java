@@ -0,0 +1,117 @@
+package com.github.honoluluhenk.fluentbigdecimals.internal;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static com.github.honoluluhenk.fluentbigdecimals.internal.ScaledLongs.NOT_REPRESENTABLE;
+import static com.github.honoluluhenk.fluentbigdecimals.internal.ScaledLongs.UNKNOWN_SCALE;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A mutable, exact sum of values at a fixed scale.
+ * <p>
+ * Values are summed up as unscaled 128 bit integer (see {@link Int128}), values of up to 38 digits are converted
+ * using {@link FixedPoint128}. Values that do not fit (or would overflow the sum) are added to a {@link BigDecimal} spill.
+ * <p>
+ * Not thread safe, not part of the public API.
+ */
+public final class ExactSum {
+    private final int scale;
+    // the unscaled sum in two's complement
+    private long high;
+    private long low;
+    private @NonNull BigDecimal spill = BigDecimal.ZERO;
+
+    public ExactSum(int scale) {
+        this.scale = scale;
+    }
+
+    public int getScale() {
+        return scale;
+    }
+
+    /**
+     * Add an unscaled value at {@link #getScale()}, must not be {@link ScaledLongs#NOT_REPRESENTABLE}.
+     */
+    public void add(long addend) {
+        add(Int128.signExtension(addend), addend);
+    }
+
+    /**
+     * Add an unscaled 128 bit value at {@link #getScale()} in two's complement.
+     */
+    public void add(long addendHigh, long addendLow) {
+        long sumLow = low + addendLow;
+        long sumHigh = high + addendHigh + Int128.carry(low, sumLow);
+        if (Int128.addOverflows(high, addendHigh, sumHigh)) {
+            spill = spill.add(new BigDecimal(Int128.toBigInteger(addendHigh, addendLow), scale));
+        } else {
+            high = sumHigh;
+            low = sumLow;
+        }
+    }
+
+    public void add(@NonNull BigDecimal addend) {
+        requireNonNull(addend, "addend required");
+
+        long converted = ScaledLongs.toUnscaled(addend, scale);
+        if (converted != NOT_REPRESENTABLE) {
+            add(converted);
+            return;
+        }
+
+        @Nullable FixedPoint128 wide = scale == UNKNOWN_SCALE ? null : FixedPoint128.of(addend);
+        if (wide != null && wide.setScale(scale, RoundingMode.UNNECESSARY) && wide.fitsInt128()) {
+            add(wide.unscaledHigh(), wide.unscaledLow());
+        } else {
+            spill = spill.add(addend);
+        }
+    }
+
+    public void add(@NonNull ExactSum other) {
+        if (other.scale != scale) {
+            throw new IllegalArgumentException("Scale mismatch: " + scale + " vs. " + other.scale);
+        }
+
+        add(other.high, other.low);
+        spill = spill.add(other.spill);
+    }
+
+    /**
+     * The sum if it is representable as unscaled long, {@link ScaledLongs#NOT_REPRESENTABLE} otherwise.
+     */
+    public long toUnscaled() {
+        if (scale == UNKNOWN_SCALE) {
+            return NOT_REPRESENTABLE;
+        }
+        if (spill.signum() != 0) {
+            return ScaledLongs.toUnscaled(toBigDecimal(), scale);
+        }
+
+        // Long.MIN_VALUE happens to be NOT_REPRESENTABLE
+        return Int128.fitsLong(high, low) ? low : NOT_REPRESENTABLE;
+    }
+
+    public @NonNull BigDecimal toBigDecimal() {
+        if (scale == UNKNOWN_SCALE) {
+            return spill;
+        }
+
+        BigDecimal result = Int128.fitsLong(high, low)
+            ? ScaledLongs.toBigDecimal(low, scale)
+            : new BigDecimal(Int128.toBigInteger(high, low), scale);
+        if (spill.signum() != 0) {
+            result = result.add(spill);
+        }
+
+        return result;
+    }
+
+    @Override
+    public @NonNull String toString() {
+        return getClass().getSimpleName() + '[' + toBigDecimal().toPlainString() + ']';
+    }
+}
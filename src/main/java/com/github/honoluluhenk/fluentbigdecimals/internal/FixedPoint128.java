@@ -0,0 +1,576 @@
+package com.github.honoluluhenk.fluentbigdecimals.internal;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+/**
+ * A mutable decimal held as 128 bit unscaled value (sign and magnitude in two longs) and a scale,
+ * i.e.: all values of up to 38 digits, computed without {@link BigInteger}.
+ * <p>
+ * Rounding ({@link #round(MathContext)}, {@link #setScale(int, RoundingMode)} and
+ * {@link #divide(FixedPoint128, MathContext)}) gives the same value <strong>and</strong> scale
+ * as the {@link BigDecimal} methods, for all {@link RoundingMode}s.
+ * <p>
+ * Operations return false if the result does not fit into 128 bits
+ * (or for {@link RoundingMode#UNNECESSARY} if rounding is necessary),
+ * the value is unspecified afterwards and the caller is expected to fall back to {@link BigDecimal}.
+ * <p>
+ * Not thread safe, not part of the public API.
+ */
+public final class FixedPoint128 {
+    public static final int MAX_PRECISION = 38;
+
+    // BigDecimal keeps values of up to 18 digits in a long
+    private static final int COMPACT_DIGITS = 18;
+    // keeps all scale arithmetic far from int overflows (where BigDecimal throws)
+    private static final int MAX_ABS_SCALE = 1 << 28;
+    // 10^0 ... 10^38
+    private static final long @NonNull [] POWERS_OF_TEN_HIGH = new long[MAX_PRECISION + 1];
+    private static final long @NonNull [] POWERS_OF_TEN_LOW = new long[MAX_PRECISION + 1];
+
+    static {
+        BigInteger power = BigInteger.ONE;
+        for (int i = 0; i <= MAX_PRECISION; i++) {
+            POWERS_OF_TEN_HIGH[i] = Int128.high(power);
+            POWERS_OF_TEN_LOW[i] = Int128.low(power);
+            power = power.multiply(BigInteger.TEN);
+        }
+    }
+
+    private boolean negative;
+    // unsigned magnitude
+    private long high;
+    private long low;
+    private int scale;
+    // set by divideRounded(): true if the division was exact
+    private boolean exact;
+
+    private FixedPoint128(boolean negative, long high, long low, int scale) {
+        this.negative = negative;
+        this.high = high;
+        this.low = low;
+        this.scale = scale;
+        normalizeZero();
+    }
+
+    public static @NonNull FixedPoint128 of(long unscaled, int scale) {
+        // the magnitude of Long.MIN_VALUE is 2^63 when read as unsigned
+        return new FixedPoint128(unscaled < 0, 0, Math.abs(unscaled), requireModerateScale(scale));
+    }
+
+    /**
+     * The 128 bit unscaled value in two's complement (see {@link Int128}).
+     */
+    public static @NonNull FixedPoint128 of(long unscaledHigh, long unscaledLow, int scale) {
+        requireModerateScale(scale);
+        if (unscaledHigh < 0) {
+            return new FixedPoint128(true, Int128.negateHigh(unscaledHigh, unscaledLow), -unscaledLow, scale);
+        }
+
+        return new FixedPoint128(false, unscaledHigh, unscaledLow, scale);
+    }
+
+    /**
+     * The value or null if it has more than {@value #MAX_PRECISION} digits (or an extreme scale).
+     */
+    public static @Nullable FixedPoint128 of(@NonNull BigDecimal value) {
+        if (value.precision() > MAX_PRECISION || !isModerate(value.scale())) {
+            return null;
+        }
+        if (value.precision() <= COMPACT_DIGITS) {
+            // at scale 0 longValue() returns the compact unscaled value without creating a BigInteger
+            return of(value.scaleByPowerOfTen(value.scale()).longValue(), value.scale());
+        }
+
+        BigInteger unscaled = value.unscaledValue();
+        return of(Int128.high(unscaled), Int128.low(unscaled), value.scale());
+    }
+
+    public @NonNull FixedPoint128 copy() {
+        return new FixedPoint128(negative, high, low, scale);
+    }
+
+    public int getScale() {
+        return scale;
+    }
+
+    public int signum() {
+        if (isZero()) {
+            return 0;
+        }
+
+        return negative ? -1 : 1;
+    }
+
+    /**
+     * The number of digits of the unscaled value (1 for zero, like {@link BigDecimal#precision()}).
+     */
+    public int precision() {
+        return Math.max(1, digits());
+    }
+
+    /**
+     * True if the unscaled value fits into the signed 128 bits of {@link #unscaledHigh()}/{@link #unscaledLow()}.
+     */
+    public boolean fitsInt128() {
+        return high >= 0 || (negative && high == Long.MIN_VALUE && low == 0);
+    }
+
+    /**
+     * True if the unscaled value fits into a long, see {@link #unscaledLow()}.
+     */
+    public boolean fitsLong() {
+        return high == 0 && (low >= 0 || (negative && low == Long.MIN_VALUE));
+    }
+
+    /**
+     * The high word of the unscaled value in two's complement, see {@link #fitsInt128()}.
+     */
+    public long unscaledHigh() {
+        return negative ? Int128.negateHigh(high, low) : high;
+    }
+
+    /**
+     * The low word of the unscaled value in two's complement, i.e.: the unscaled value if {@link #fitsLong()}.
+     */
+    public long unscaledLow() {
+        return negative ? -low : low;
+    }
+
+    public @NonNull BigDecimal toBigDecimal() {
+        if (fitsLong()) {
+            return BigDecimal.valueOf(unscaledLow(), scale);
+        }
+
+        byte[] magnitude = new byte[2 * Long.BYTES];
+        for (int i = 0; i < Long.BYTES; i++) {
+            magnitude[i] = (byte) (high >>> (Long.SIZE - Byte.SIZE * (i + 1)));
+            magnitude[Long.BYTES + i] = (byte) (low >>> (Long.SIZE - Byte.SIZE * (i + 1)));
+        }
+
+        return new BigDecimal(new BigInteger(negative ? -1 : 1, magnitude), scale);
+    }
+
+    /**
+     * Exact sum, the scale is the maximum of both scales (like {@link BigDecimal#add(BigDecimal)}).
+     */
+    public boolean add(@NonNull FixedPoint128 other) {
+        return add(other, other.negative);
+    }
+
+    /**
+     * Exact difference, the scale is the maximum of both scales (like {@link BigDecimal#subtract(BigDecimal)}).
+     */
+    public boolean subtract(@NonNull FixedPoint128 other) {
+        return add(other, !other.negative);
+    }
+
+    /**
+     * Exact product, the scale is the sum of both scales (like {@link BigDecimal#multiply(BigDecimal)}).
+     */
+    public boolean multiply(@NonNull FixedPoint128 other) {
+        int productScale = scale + other.scale;
+        if (!isModerate(productScale) || !multiplyMagnitude(other.high, other.low)) {
+            return false;
+        }
+
+        negative ^= other.negative;
+        scale = productScale;
+        normalizeZero();
+
+        return true;
+    }
+
+    /**
+     * Like {@link BigDecimal#round(MathContext)}.
+     */
+    public boolean round(@NonNull MathContext mathContext) {
+        int precision = mathContext.getPrecision();
+        if (precision == 0) {
+            return true;
+        }
+
+        int drop = digits() - precision;
+        while (drop > 0) {
+            boolean rounded = isModerate(scale - drop)
+                && divideRounded(POWERS_OF_TEN_HIGH[drop], POWERS_OF_TEN_LOW[drop], mathContext.getRoundingMode());
+            if (!rounded) {
+                return false;
+            }
+            scale -= drop;
+            // rounding up 99..9 adds a digit
+            drop = digits() - precision;
+        }
+
+        return true;
+    }
+
+    /**
+     * Like {@link BigDecimal#setScale(int, RoundingMode)}.
+     */
+    public boolean setScale(int newScale, @NonNull RoundingMode roundingMode) {
+        if (!isModerate(newScale)) {
+            return false;
+        }
+        if (newScale >= scale) {
+            if (!multiplyByPowerOfTen(newScale - scale)) {
+                return false;
+            }
+        } else {
+            int drop = scale - newScale;
+            if (drop > MAX_PRECISION) {
+                // the magnitude is less than half of 10^drop: the quotient is zero, the remainder is the magnitude
+                boolean inexact = !isZero();
+                high = 0;
+                low = 0;
+                if (!roundQuotient(inexact, -1, roundingMode)) {
+                    return false;
+                }
+            } else if (!divideRounded(POWERS_OF_TEN_HIGH[drop], POWERS_OF_TEN_LOW[drop], roundingMode)) {
+                return false;
+            }
+        }
+
+        scale = newScale;
+        return true;
+    }
+
+    /**
+     * Like {@link BigDecimal#divide(BigDecimal, MathContext)} for a non-zero divisor,
+     * not supported for unlimited precision (i.e.: returns false).
+     */
+    public boolean divide(@NonNull FixedPoint128 divisor, @NonNull MathContext mathContext) {
+        int precision = mathContext.getPrecision();
+        if (divisor.isZero() || precision == 0) {
+            return false;
+        }
+
+        int preferredScale = scale - divisor.scale;
+        if (isZero()) {
+            scale = preferredScale;
+            return isModerate(scale);
+        }
+
+        // like BigDecimal: compute a quotient of exactly precision digits,
+        // exact quotients are stripped of trailing zeros down to the preferred scale
+        int dividendDigits = digits();
+        int divisorDigits = divisor.digits();
+        if (compareNormalized(dividendDigits, divisor, divisorDigits) > 0) {
+            divisorDigits--;
+        }
+
+        int raise = precision + divisorDigits - dividendDigits;
+        FixedPoint128 denominator = divisor.copy();
+        boolean fits = raise >= 0
+            ? multiplyByPowerOfTen(raise)
+            : denominator.multiplyByPowerOfTen(-raise);
+        int quotientScale = preferredScale + raise;
+        if (!fits || !isModerate(quotientScale)) {
+            return false;
+        }
+
+        negative ^= divisor.negative;
+        scale = quotientScale;
+        if (!divideRounded(denominator.high, denominator.low, mathContext.getRoundingMode())) {
+            return false;
+        }
+        if (exact) {
+            while (scale > preferredScale && divideIfMultipleOfTen()) {
+                scale--;
+            }
+        }
+
+        // a rounded up quotient might have one digit too much
+        return round(mathContext);
+    }
+
+    @Override
+    public @NonNull String toString() {
+        return getClass().getSimpleName() + '[' + toBigDecimal().toPlainString() + ']';
+    }
+
+    private static boolean isModerate(long scale) {
+        return scale >= -MAX_ABS_SCALE && scale <= MAX_ABS_SCALE;
+    }
+
+    private static int requireModerateScale(int scale) {
+        if (!isModerate(scale)) {
+            throw new ArithmeticException("Scale out of range: " + scale);
+        }
+
+        return scale;
+    }
+
+    private boolean isZero() {
+        return (high | low) == 0;
+    }
+
+    private void normalizeZero() {
+        if (isZero()) {
+            negative = false;
+        }
+    }
+
+    private boolean add(@NonNull FixedPoint128 other, boolean otherNegative) {
+        int sumScale = Math.max(scale, other.scale);
+        FixedPoint128 addend = other.copy();
+        if (!multiplyByPowerOfTen(sumScale - scale) || !addend.multiplyByPowerOfTen(sumScale - other.scale)) {
+            return false;
+        }
+
+        scale = sumScale;
+        if (negative == otherNegative) {
+            long sumLow = low + addend.low;
+            long carry = Int128.carry(low, sumLow);
+            long partialHigh = high + addend.high;
+            long sumHigh = partialHigh + carry;
+            if (Long.compareUnsigned(partialHigh, high) < 0 || (carry != 0 && sumHigh == 0)) {
+                return false;
+            }
+            high = sumHigh;
+            low = sumLow;
+        } else if (compareMagnitude(addend.high, addend.low) >= 0) {
+            subtractMagnitude(addend.high, addend.low);
+        } else {
+            addend.subtractMagnitude(high, low);
+            negative = otherNegative;
+            high = addend.high;
+            low = addend.low;
+        }
+
+        normalizeZero();
+        return true;
+    }
+
+    private int digits() {
+        int bits = high != 0
+            ? 2 * Long.SIZE - Long.numberOfLeadingZeros(high)
+            : Long.SIZE - Long.numberOfLeadingZeros(low);
+        // same estimate as BigDecimal.longDigitLength(), off by at most one
+        int estimate = ((bits + 1) * 1233) >>> 12;
+        if (estimate > MAX_PRECISION
+            || compareMagnitude(POWERS_OF_TEN_HIGH[estimate], POWERS_OF_TEN_LOW[estimate]) < 0) {
+            return estimate;
+        }
+
+        return estimate + 1;
+    }
+
+    private int compareMagnitude(long otherHigh, long otherLow) {
+        return compareUnsigned(high, low, otherHigh, otherLow);
+    }
+
+    private static int compareUnsigned(long leftHigh, long leftLow, long rightHigh, long rightLow) {
+        int result = Long.compareUnsigned(leftHigh, rightHigh);
+
+        return result != 0 ? result : Long.compareUnsigned(leftLow, rightLow);
+    }
+
+    /**
+     * Compares the magnitudes as if both were normalized to [0.1, 1).
+     */
+    private int compareNormalized(int digits, @NonNull FixedPoint128 other, int otherDigits) {
+        if (digits < otherDigits) {
+            FixedPoint128 scaled = copy();
+            scaled.multiplyByPowerOfTen(otherDigits - digits);
+            return scaled.compareMagnitude(other.high, other.low);
+        }
+        if (digits > otherDigits) {
+            FixedPoint128 scaled = other.copy();
+            scaled.multiplyByPowerOfTen(digits - otherDigits);
+            return compareMagnitude(scaled.high, scaled.low);
+        }
+
+        return compareMagnitude(other.high, other.low);
+    }
+
+    /**
+     * Requires other magnitude to be less than or equal to this.
+     */
+    private void subtractMagnitude(long otherHigh, long otherLow) {
+        long borrow = Int128.borrow(low, otherLow);
+        low -= otherLow;
+        high = high - otherHigh - borrow;
+    }
+
+    private boolean multiplyMagnitude(long factor) {
+        if (Int128.multiplyHighUnsigned(high, factor) != 0) {
+            return false;
+        }
+
+        long lowProductHigh = Int128.multiplyHighUnsigned(low, factor);
+        long productHigh = high * factor + lowProductHigh;
+        if (Long.compareUnsigned(productHigh, lowProductHigh) < 0) {
+            return false;
+        }
+
+        high = productHigh;
+        low *= factor;
+
+        return true;
+    }
+
+    private boolean multiplyMagnitude(long factorHigh, long factorLow) {
+        if (factorHigh == 0) {
+            return multiplyMagnitude(factorLow);
+        }
+        if (high != 0) {
+            return false;
+        }
+
+        long factor = low;
+        high = factorHigh;
+        low = factorLow;
+
+        return multiplyMagnitude(factor);
+    }
+
+    private boolean multiplyByPowerOfTen(int exponent) {
+        if (exponent == 0 || isZero()) {
+            return true;
+        }
+        if (exponent > MAX_PRECISION) {
+            return false;
+        }
+
+        return multiplyMagnitude(POWERS_OF_TEN_HIGH[exponent], POWERS_OF_TEN_LOW[exponent]);
+    }
+
+    /**
+     * Replaces the magnitude by the rounded quotient of magnitude and divisor (unsigned).
+     *
+     * @return false if the rounding mode is {@link RoundingMode#UNNECESSARY} but rounding is necessary.
+     */
+    private boolean divideRounded(long divisorHigh, long divisorLow, @NonNull RoundingMode roundingMode) {
+        long remainderHigh;
+        long remainderLow;
+        if (divisorHigh == 0) {
+            long quotientHigh = Long.divideUnsigned(high, divisorLow);
+            long restHigh = high - quotientHigh * divisorLow;
+            long quotientLow = Int128.divideUnsigned(restHigh, low, divisorLow);
+            remainderHigh = 0;
+            remainderLow = low - quotientLow * divisorLow;
+            high = quotientHigh;
+            low = quotientLow;
+        } else if (compareMagnitude(divisorHigh, divisorLow) < 0) {
+            remainderHigh = high;
+            remainderLow = low;
+            high = 0;
+            low = 0;
+        } else {
+            // Hacker's Delight: the quotient fits into 64 bits, estimate it using the top 64 bits of the divisor.
+            // The estimate is at most one too small.
+            int shift = Long.numberOfLeadingZeros(divisorHigh);
+            long divisorTop = shift == 0
+                ? divisorHigh
+                : (divisorHigh << shift) | (divisorLow >>> (Long.SIZE - shift));
+            long quotient = Int128.divideUnsigned(high >>> 1, (low >>> 1) | (high << 63), divisorTop)
+                >>> (Long.SIZE - 1 - shift);
+            if (quotient != 0) {
+                quotient--;
+            }
+
+            long productLow = quotient * divisorLow;
+            long productHigh = Int128.multiplyHighUnsigned(quotient, divisorLow) + quotient * divisorHigh;
+            remainderLow = low - productLow;
+            remainderHigh = high - productHigh - Int128.borrow(low, productLow);
+            if (compareUnsigned(remainderHigh, remainderLow, divisorHigh, divisorLow) >= 0) {
+                quotient++;
+                long borrow = Int128.borrow(remainderLow, divisorLow);
+                remainderLow -= divisorLow;
+                remainderHigh = remainderHigh - divisorHigh - borrow;
+            }
+            high = 0;
+            low = quotient;
+        }
+
+        exact = (remainderHigh | remainderLow) == 0;
+        int half = exact ? -1 : compareDoubled(remainderHigh, remainderLow, divisorHigh, divisorLow);
+
+        return roundQuotient(!exact, half, roundingMode);
+    }
+
+    /**
+     * Increments the truncated quotient magnitude if required by the rounding mode.
+     *
+     * @param half the remainder compared to half of the divisor
+     * @return false if the rounding mode is {@link RoundingMode#UNNECESSARY} but rounding is necessary.
+     */
+    private boolean roundQuotient(boolean inexact, int half, @NonNull RoundingMode roundingMode) {
+        if (!inexact) {
+            normalizeZero();
+            return true;
+        }
+
+        boolean increment;
+        switch (roundingMode) {
+            case UP:
+                increment = true;
+                break;
+            case DOWN:
+                increment = false;
+                break;
+            case CEILING:
+                increment = !negative;
+                break;
+            case FLOOR:
+                increment = negative;
+                break;
+            case HALF_UP:
+                increment = half >= 0;
+                break;
+            case HALF_DOWN:
+                increment = half > 0;
+                break;
+            case HALF_EVEN:
+                increment = half > 0 || (half == 0 && (low & 1) != 0);
+                break;
+            default:
+                // UNNECESSARY
+                return false;
+        }
+
+        if (increment) {
+            low++;
+            if (low == 0) {
+                high++;
+            }
+        }
+        normalizeZero();
+
+        return true;
+    }
+
+    /**
+     * Compares twice the remainder to the divisor, i.e.: the remainder to half of the divisor.
+     */
+    private static int compareDoubled(long remainderHigh, long remainderLow, long divisorHigh, long divisorLow) {
+        if (remainderHigh < 0) {
+            // doubled is at least 2^128
+            return 1;
+        }
+
+        return compareUnsigned((remainderHigh << 1) | (remainderLow >>> 63), remainderLow << 1, divisorHigh, divisorLow);
+    }
+
+    private boolean divideIfMultipleOfTen() {
+        boolean oldNegative = negative;
+        long oldHigh = high;
+        long oldLow = low;
+        divideRounded(0, 10, RoundingMode.DOWN);
+        if (exact) {
+            return true;
+        }
+
+        negative = oldNegative;
+        high = oldHigh;
+        low = oldLow;
+
+        return false;
+    }
+}
@@ -0,0 +1,169 @@
+package com.github.honoluluhenk.fluentbigdecimals.internal;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.math.BigInteger;
+
+/**
+ * Helpers for signed 128 bit integers in two's complement, held as pair of longs:
+ * the high word (signed) and the low word (unsigned).
+ * <p>
+ * Not part of the public API.
+ */
+public final class Int128 {
+    private static final BigInteger TWO_POW_64 = BigInteger.ONE.shiftLeft(Long.SIZE);
+
+    private Int128() {
+        // utility class
+    }
+
+    /**
+     * The high word of the sign extended long value.
+     */
+    public static long signExtension(long value) {
+        return value >> 63;
+    }
+
+    /**
+     * True if high/low is the sign extension of low, i.e.: the value fits into a long.
+     */
+    public static boolean fitsLong(long high, long low) {
+        return high == signExtension(low);
+    }
+
+    /**
+     * The carry of low = a + b (unsigned), i.e.: 0 or 1.
+     */
+    public static long carry(long a, long low) {
+        return Long.compareUnsigned(low, a) < 0 ? 1 : 0;
+    }
+
+    /**
+     * The borrow of low = a - b (unsigned), i.e.: 0 or 1.
+     */
+    public static long borrow(long a, long b) {
+        return Long.compareUnsigned(a, b) < 0 ? 1 : 0;
+    }
+
+    /**
+     * True if the signed sum of the high words (including the carry) overflowed.
+     */
+    public static boolean addOverflows(long aHigh, long bHigh, long high) {
+        return ((aHigh ^ high) & (bHigh ^ high)) < 0;
+    }
+
+    /**
+     * True if the signed difference of the high words (including the borrow) overflowed.
+     */
+    public static boolean subtractOverflows(long aHigh, long bHigh, long high) {
+        return ((aHigh ^ bHigh) & (aHigh ^ high)) < 0;
+    }
+
+    /**
+     * Compares the magnitudes (absolute values) of two 128 bit values.
+     * The minimum value (-2^127) is treated as the largest magnitude.
+     */
+    public static int compareMagnitude(long aHigh, long aLow, long bHigh, long bLow) {
+        long aAbsHigh = aHigh < 0 ? negateHigh(aHigh, aLow) : aHigh;
+        long aAbsLow = aHigh < 0 ? -aLow : aLow;
+        long bAbsHigh = bHigh < 0 ? negateHigh(bHigh, bLow) : bHigh;
+        long bAbsLow = bHigh < 0 ? -bLow : bLow;
+
+        int result = Long.compareUnsigned(aAbsHigh, bAbsHigh);
+        if (result != 0) {
+            return result;
+        }
+
+        return Long.compareUnsigned(aAbsLow, bAbsLow);
+    }
+
+    /**
+     * The high word of -(high, low), the low word is simply {@code -low}.
+     */
+    public static long negateHigh(long high, long low) {
+        return ~high + (low == 0 ? 1 : 0);
+    }
+
+    /**
+     * The high word of the unsigned 128 bit product of a and b (both unsigned).
+     */
+    public static long multiplyHighUnsigned(long a, long b) {
+        return Math.multiplyHigh(a, b) + ((a >> 63) & b) + ((b >> 63) & a);
+    }
+
+    /**
+     * The unsigned quotient of the unsigned 128 bit value (high, low) and divisor.
+     * <p>
+     * Requires {@code high < divisor} (unsigned), i.e.: the quotient fits into 64 bits.
+     * The remainder is {@code low - quotient * divisor}.
+     */
+    public static long divideUnsigned(long high, long low, long divisor) {
+        // Hacker's Delight divlu: long division in 32 bit digits after normalizing the divisor
+        int shift = Long.numberOfLeadingZeros(divisor);
+        long normalizedDivisor = divisor << shift;
+        long dividendHigh = shift == 0 ? high : (high << shift) | (low >>> (Long.SIZE - shift));
+        long dividendLow = low << shift;
+
+        long divisorHigh = normalizedDivisor >>> 32;
+        long divisorLow = normalizedDivisor & 0xFFFF_FFFFL;
+
+        long quotientHigh = Long.divideUnsigned(dividendHigh, divisorHigh);
+        long rest = dividendHigh - quotientHigh * divisorHigh;
+        while ((quotientHigh >>> 32) != 0
+            || Long.compareUnsigned(quotientHigh * divisorLow, (rest << 32) | (dividendLow >>> 32)) > 0) {
+            quotientHigh--;
+            rest += divisorHigh;
+            if ((rest >>> 32) != 0) {
+                break;
+            }
+        }
+
+        long partial = (dividendHigh << 32) + (dividendLow >>> 32) - quotientHigh * normalizedDivisor;
+        long quotientLow = Long.divideUnsigned(partial, divisorHigh);
+        rest = partial - quotientLow * divisorHigh;
+        while ((quotientLow >>> 32) != 0
+            || Long.compareUnsigned(quotientLow * divisorLow, (rest << 32) | (dividendLow & 0xFFFF_FFFFL)) > 0) {
+            quotientLow--;
+            rest += divisorHigh;
+            if ((rest >>> 32) != 0) {
+                break;
+            }
+        }
+
+        return (quotientHigh << 32) | quotientLow;
+    }
+
+    public static @NonNull BigInteger toBigInteger(long high, long low) {
+        if (fitsLong(high, low)) {
+            return BigInteger.valueOf(low);
+        }
+
+        BigInteger unsignedLow = BigInteger.valueOf(low);
+        if (low < 0) {
+            unsignedLow = unsignedLow.add(TWO_POW_64);
+        }
+
+        return BigInteger.valueOf(high).shiftLeft(Long.SIZE).add(unsignedLow);
+    }
+
+    /**
+     * True if value is representable in 128 bits.
+     */
+    public static boolean fits(@NonNull BigInteger value) {
+        return value.bitLength() < 2 * Long.SIZE;
+    }
+
+    /**
+     * The high word of value, see {@link #fits(BigInteger)}.
+     */
+    public static long high(@NonNull BigInteger value) {
+        return value.shiftRight(Long.SIZE).longValue();
+    }
+
+    /**
+     * The low word of value, see {@link #fits(BigInteger)}.
+     */
+    public static long low(@NonNull BigInteger value) {
+        return value.longValue();
+    }
+}
@@ -0,0 +1,117 @@
+package com.github.honoluluhenk.fluentbigdecimals.internal;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Bulk loops on arrays of unscaled longs, written without data dependent branches
+ * so the JIT can use conditional moves/SIMD instructions.
+ * <p>
+ * On JDK 21+ the multi-release JAR replaces this class by an implementation using the
+ * {@code jdk.incubator.vector} API (if the module is available, i.e.: {@code --add-modules jdk.incubator.vector}).
+ * Both implementations return identical results.
+ * <p>
+ * Bitmasks hold one bit per element: bit {@code i % 64} of word {@code i / 64}.
+ * <p>
+ * The arithmetic kernels must not be called with {@link ScaledLongs#NOT_REPRESENTABLE} values.
+ * They return false if any result overflows (or is {@link ScaledLongs#NOT_REPRESENTABLE}),
+ * the content of result is undefined in this case.
+ * <p>
+ * Not part of the public API.
+ */
+public final class LongKernels {
+
+    private LongKernels() {
+        // utility class
+    }
+
+    /**
+     * True if the kernels use the Vector API.
+     */
+    public static boolean isVectorized() {
+        return false;
+    }
+
+    /**
+     * Number of long words needed for a bitmask of size bits.
+     */
+    public static int words(int size) {
+        return (size + Long.SIZE - 1) >>> 6;
+    }
+
+    /**
+     * Bitmask of all values with low &lt;= value &lt;= high.
+     *
+     * @param low must be &lt;= high.
+     */
+    public static long @NonNull [] between(long @NonNull [] values, long low, long high) {
+        int length = values.length;
+        long[] mask = new long[words(length)];
+        for (int word = 0; word < mask.length; word++) {
+            int from = word << 6;
+            mask[word] = ScalarKernels.between(values, from, Math.min(from + Long.SIZE, length), low, high);
+        }
+
+        return mask;
+    }
+
+    public static int cardinality(long @NonNull [] mask) {
+        int result = 0;
+        for (long word : mask) {
+            result += Long.bitCount(word);
+        }
+
+        return result;
+    }
+
+    /**
+     * result[i] = a[i] + b[i].
+     *
+     * @return false on overflow.
+     */
+    public static boolean add(long @NonNull [] a, long @NonNull [] b, long @NonNull [] result) {
+        ScalarKernels.checkLengths(a.length, b.length, result.length);
+
+        return ScalarKernels.add(a, b, result, 0, a.length);
+    }
+
+    /**
+     * result[i] = a[i] - b[i].
+     *
+     * @return false on overflow.
+     */
+    public static boolean subtract(long @NonNull [] a, long @NonNull [] b, long @NonNull [] result) {
+        ScalarKernels.checkLengths(a.length, b.length, result.length);
+
+        return ScalarKernels.subtract(a, b, result, 0, a.length);
+    }
+
+    /**
+     * result[i] = values[i] * factor.
+     *
+     * @return false on overflow.
+     */
+    public static boolean multiply(long @NonNull [] values, long factor, long @NonNull [] result) {
+        ScalarKernels.checkLengths(values.length, values.length, result.length);
+
+        return ScalarKernels.multiply(values, factor, result, 0, values.length);
+    }
+
+    /**
+     * Converts unscaled values from one scale to another without rounding.
+     *
+     * @return false on overflow or if a value has more decimals than toScale.
+     */
+    public static boolean rescale(long @NonNull [] values, int fromScale, int toScale, long @NonNull [] result) {
+        ScalarKernels.checkLengths(values.length, values.length, result.length);
+        long factor = ScalarKernels.rescaleFactor(fromScale, toScale);
+        if (factor == ScaledLongs.NOT_REPRESENTABLE) {
+            return false;
+        }
+
+        if (toScale >= fromScale) {
+            return ScalarKernels.multiply(values, factor, result, 0, values.length);
+        }
+
+        return ScalarKernels.divideExact(values, factor, result, 0, values.length);
+    }
+}
@@ -0,0 +1,87 @@
+package com.github.honoluluhenk.fluentbigdecimals.internal;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+
+/**
+ * A fixed size, zero initialized array of longs outside of the java heap.
+ * <p>
+ * This implementation uses direct buffers in chunks of 2^27 longs (direct buffers are limited to 2 GiB),
+ * their memory is released by the garbage collector some time after {@link #close()}.
+ * On JDK 22+ the multi-release JAR replaces this class by an implementation using a
+ * {@code MemorySegment} of a shared {@code Arena} that releases the memory on {@link #close()}.
+ * <p>
+ * Thread safe for accesses to distinct indexes, not part of the public API.
+ */
+public final class OffHeapLongs implements AutoCloseable {
+    private static final int CHUNK_BITS = 27;
+    private static final int CHUNK_MASK = (1 << CHUNK_BITS) - 1;
+
+    private final long size;
+    private volatile @NonNull LongBuffer @Nullable [] chunks;
+
+    private OffHeapLongs(long size, @NonNull LongBuffer @NonNull [] chunks) {
+        this.size = size;
+        this.chunks = chunks;
+    }
+
+    public static @NonNull OffHeapLongs allocate(long size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Negative size: " + size);
+        }
+
+        long chunkCount = (size + CHUNK_MASK) >>> CHUNK_BITS;
+        LongBuffer[] chunks = new LongBuffer[Math.toIntExact(chunkCount)];
+        for (int i = 0; i < chunks.length; i++) {
+            long chunkSize = Math.min(size - ((long) i << CHUNK_BITS), 1L << CHUNK_BITS);
+            chunks[i] = ByteBuffer.allocateDirect(Math.toIntExact(chunkSize * Long.BYTES))
+                .order(ByteOrder.nativeOrder())
+                .asLongBuffer();
+        }
+
+        return new OffHeapLongs(size, chunks);
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public long get(long index) {
+        checkIndex(index);
+
+        return chunks()[(int) (index >>> CHUNK_BITS)].get((int) index & CHUNK_MASK);
+    }
+
+    public void set(long index, long value) {
+        checkIndex(index);
+
+        chunks()[(int) (index >>> CHUNK_BITS)].put((int) index & CHUNK_MASK, value);
+    }
+
+    /**
+     * Releases the memory, all further accesses fail with {@link IllegalStateException}.
+     */
+    @Override
+    public void close() {
+        chunks = null;
+    }
+
+    private @NonNull LongBuffer @NonNull [] chunks() {
+        LongBuffer[] result = chunks;
+        if (result == null) {
+            throw new IllegalStateException("Already closed");
+        }
+
+        return result;
+    }
+
+    private void checkIndex(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.github.honoluluhenk.fluentbigdecimals.internal;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+import static com.github.honoluluhenk.fluentbigdecimals.internal.ScaledLongs.NOT_REPRESENTABLE;
+
+/**
+ * Renders {@link BigDecimal#toPlainString()} directly into the output without creating a String.
+ * <p>
+ * Digits are generated from the unscaled long (from right to left), values that do not fit a long
+ * and outputs longer than {@link #SCRATCH_SIZE} characters (i.e.: extreme scales)
+ * fall back to {@link BigDecimal#toPlainString()}.
+ * <p>
+ * Not part of the public API.
+ */
+public final class PlainDecimals {
+    // sign, 19 digits, decimal point and a few zeros
+    private static final int SCRATCH_SIZE = 64;
+
+    private static final ThreadLocal<byte[]> SCRATCH = ThreadLocal.withInitial(() -> new byte[SCRATCH_SIZE]);
+
+    private PlainDecimals() {
+        // utility class
+    }
+
+    public static void appendPlain(@NonNull Appendable out, @NonNull BigDecimal value) throws IOException {
+        long unscaled = ScaledLongs.toUnscaled(value, value.scale());
+        long length = unscaled == NOT_REPRESENTABLE ? Long.MAX_VALUE : length(unscaled, value.scale());
+        if (length > SCRATCH_SIZE) {
+            out.append(value.toPlainString());
+            return;
+        }
+
+        byte[] scratch = SCRATCH.get();
+        render(unscaled, value.scale(), (int) length, scratch, 0);
+        for (int i = 0; i < length; i++) {
+            out.append((char) scratch[i]);
+        }
+    }
+
+    public static void appendPlain(@NonNull StringBuilder out, @NonNull BigDecimal value) {
+        try {
+            appendPlain((Appendable) out, value);
+        } catch (IOException e) {
+            throw new AssertionError("StringBuilder does not throw", e);
+        }
+    }
+
+    /**
+     * @return the number of bytes written.
+     * @throws BufferOverflowException if there is not enough space left, nothing is written then.
+     */
+    public static int writePlainAscii(@NonNull ByteBuffer out, @NonNull BigDecimal value) {
+        long unscaled = ScaledLongs.toUnscaled(value, value.scale());
+        if (unscaled == NOT_REPRESENTABLE) {
+            return writeAscii(out, value.toPlainString());
+        }
+
+        long length = length(unscaled, value.scale());
+        if (length > out.remaining()) {
+            throw new BufferOverflowException();
+        }
+
+        if (out.hasArray()) {
+            render(unscaled, value.scale(), (int) length, out.array(), out.arrayOffset() + out.position());
+            out.position(out.position() + (int) length);
+        } else if (length <= SCRATCH_SIZE) {
+            byte[] scratch = SCRATCH.get();
+            render(unscaled, value.scale(), (int) length, scratch, 0);
+            out.put(scratch, 0, (int) length);
+        } else {
+            return writeAscii(out, value.toPlainString());
+        }
+
+        return (int) length;
+    }
+
+    /**
+     * @return the number of bytes written.
+     * @throws IndexOutOfBoundsException if there is not enough space left, nothing is written then.
+     */
+    public static int writePlainAscii(byte @NonNull [] target, int offset, @NonNull BigDecimal value) {
+        long unscaled = ScaledLongs.toUnscaled(value, value.scale());
+        if (unscaled == NOT_REPRESENTABLE) {
+            return writeAscii(target, offset, value.toPlainString());
+        }
+
+        long length = length(unscaled, value.scale());
+        checkSpace(target, offset, length);
+        render(unscaled, value.scale(), (int) length, target, offset);
+
+        return (int) length;
+    }
+
+    /**
+     * Length of the plain string of {@code unscaled * 10^-scale} (like {@link BigDecimal#toPlainString()}).
+     */
+    static long length(long unscaled, int scale) {
+        long sign = unscaled < 0 ? 1 : 0;
+        int digits = digits(Math.abs(unscaled));
+        if (scale <= 0) {
+            // trailing zeros, none for zero
+            return sign + digits + (unscaled == 0 ? 0 : -(long) scale);
+        }
+        if (scale < digits) {
+            // decimal point
+            return sign + digits + 1;
+        }
+
+        // "0." and leading zeros
+        return sign + 2 + scale;
+    }
+
+    private static void render(long unscaled, int scale, int length, byte @NonNull [] target, int offset) {
+        int end = offset + length;
+        int position = offset;
+        if (unscaled < 0) {
+            target[position++] = '-';
+        }
+
+        long remaining = Math.abs(unscaled);
+        int digits = digits(remaining);
+        int digitsEnd = end;
+        int pointIndex = -1;
+        if (scale <= 0) {
+            digitsEnd = end + (unscaled == 0 ? 0 : scale);
+            for (int i = digitsEnd; i < end; i++) {
+                target[i] = '0';
+            }
+        } else if (scale < digits) {
+            pointIndex = end - scale - 1;
+        } else {
+            target[position++] = '0';
+            target[position++] = '.';
+            for (int i = position; i < end - digits; i++) {
+                target[i] = '0';
+            }
+        }
+
+        int i = digitsEnd;
+        do {
+            i--;
+            if (i == pointIndex) {
+                target[i--] = '.';
+            }
+            target[i] = (byte) ('0' + remaining % 10);
+            remaining /= 10;
+        } while (remaining != 0);
+    }
+
+    private static int digits(long magnitude) {
+        int result = 1;
+        for (long limit = 10; result < 19 && magnitude >= limit; limit *= 10) {
+            result++;
+        }
+
+        return result;
+    }
+
+    private static int writeAscii(@NonNull ByteBuffer out, @NonNull String plain) {
+        if (plain.length() > out.remaining()) {
+            throw new BufferOverflowException();
+        }
+        for (int i = 0; i < plain.length(); i++) {
+            out.put((byte) plain.charAt(i));
+        }
+
+        return plain.length();
+    }
+
+    private static int writeAscii(byte @NonNull [] target, int offset, @NonNull String plain) {
+        checkSpace(target, offset, plain.length());
+        for (int i = 0; i < plain.length(); i++) {
+            target[offset + i] = (byte) plain.charAt(i);
+        }
+
+        return plain.length();
+    }
+
+    private static void checkSpace(byte @NonNull [] target, int offset, long length) {
+        if (offset < 0 || offset > target.length || length > target.length - offset) {
+            throw new IndexOutOfBoundsException("Cannot write " + length + " bytes at offset " + offset
+                + " into array of length " + target.length);
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.github.honoluluhenk.fluentbigdecimals.internal;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * LSD radix sort (8 bit digits) on primitive longs, plus a stable argsort (the permutation that sorts).
+ * <p>
+ * Linear time, no comparisons. Passes where all values share the same digit are skipped,
+ * so e.g. small non-negative values only need a few passes.
+ * <p>
+ * The parallel variants partition by the most significant digit first and then sort the partitions in parallel.
+ * <p>
+ * Not part of the public API.
+ */
+public final class RadixSort {
+    private static final int BITS = 8;
+    private static final int RADIX = 1 << BITS;
+    private static final int MASK = RADIX - 1;
+    private static final int DIGITS = Long.SIZE / BITS;
+    // below this size, insertion sort is faster than counting
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+    // below this size, parallel sorting does not pay off
+    private static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    private RadixSort() {
+        // utility class
+    }
+
+    /**
+     * Digit of the value with flipped sign bit, so unsigned digit order equals signed value order.
+     */
+    private static int digit(long value, int shift) {
+        return (int) (((value ^ Long.MIN_VALUE) >>> shift) & MASK);
+    }
+
+    /**
+     * Sort values ascending, in place.
+     */
+    public static void sort(long @NonNull [] values) {
+        sortRange(values, new long[values.length], 0, values.length, DIGITS);
+    }
+
+    /**
+     * Like {@link #sort(long[])}, sorting partitions in parallel (common fork join pool).
+     */
+    public static void parallelSort(long @NonNull [] values) {
+        int length = values.length;
+        if (length < PARALLEL_THRESHOLD) {
+            sort(values);
+            return;
+        }
+
+        long[] partitioned = new long[length];
+        int shift = (DIGITS - 1) * BITS;
+        int[] starts = new int[RADIX + 1];
+        for (long value : values) {
+            starts[digit(value, shift) + 1]++;
+        }
+        for (int d = 0; d < RADIX; d++) {
+            starts[d + 1] += starts[d];
+        }
+        int[] positions = Arrays.copyOf(starts, RADIX);
+        for (long value : values) {
+            partitioned[positions[digit(value, shift)]++] = value;
+        }
+
+        // values serves as scratch space for the partitions
+        IntStream.range(0, RADIX)
+            .parallel()
+            .forEach(d -> sortRange(partitioned, values, starts[d], starts[d + 1], DIGITS - 1));
+
+        System.arraycopy(partitioned, 0, values, 0, length);
+    }
+
+    /**
+     * LSD sort of values[from, to) on the lowest digits, using scratch[from, to).
+     */
+    private static void sortRange(long @NonNull [] values, long @NonNull [] scratch, int from, int to, int digits) {
+        if (to - from < INSERTION_SORT_THRESHOLD) {
+            insertionSort(values, from, to);
+            return;
+        }
+
+        long[] source = values;
+        long[] target = scratch;
+        int[] counts = new int[RADIX];
+        for (int pass = 0; pass < digits; pass++) {
+            int shift = pass * BITS;
+            Arrays.fill(counts, 0);
+            for (int i = from; i < to; i++) {
+                counts[digit(source[i], shift)]++;
+            }
+            if (counts[digit(source[from], shift)] == to - from) {
+                // all values share this digit
+                continue;
+            }
+
+            int offset = from;
+            for (int d = 0; d < RADIX; d++) {
+                int count = counts[d];
+                counts[d] = offset;
+                offset += count;
+            }
+            for (int i = from; i < to; i++) {
+                long value = source[i];
+                target[counts[digit(value, shift)]++] = value;
+            }
+
+            long[] tmp = source;
+            source = target;
+            target = tmp;
+        }
+
+        if (source != values) {
+            System.arraycopy(source, from, values, from, to - from);
+        }
+    }
+
+    private static void insertionSort(long @NonNull [] values, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            long value = values[i];
+            int j = i - 1;
+            while (j >= from && values[j] > value) {
+                values[j + 1] = values[j];
+                j--;
+            }
+            values[j + 1] = value;
+        }
+    }
+
+    /**
+     * The indexes of keys in ascending order of keys, i.e.: keys[result[0]] is the smallest key.
+     * Stable: equal keys keep their relative order.
+     */
+    public static int @NonNull [] argsort(long @NonNull [] keys) {
+        int length = keys.length;
+        long[] sortedKeys = keys.clone();
+        int[] indexes = identity(length);
+        argsortRange(sortedKeys, indexes, new long[length], new int[length], 0, length, DIGITS);
+
+        return indexes;
+    }
+
+    /**
+     * Like {@link #argsort(long[])}, sorting partitions in parallel (common fork join pool).
+     */
+    public static int @NonNull [] parallelArgsort(long @NonNull [] keys) {
+        int length = keys.length;
+        if (length < PARALLEL_THRESHOLD) {
+            return argsort(keys);
+        }
+
+        long[] partitionedKeys = new long[length];
+        int[] partitionedIndexes = new int[length];
+        int shift = (DIGITS - 1) * BITS;
+        int[] starts = new int[RADIX + 1];
+        for (long key : keys) {
+            starts[digit(key, shift) + 1]++;
+        }
+        for (int d = 0; d < RADIX; d++) {
+            starts[d + 1] += starts[d];
+        }
+        int[] positions = Arrays.copyOf(starts, RADIX);
+        for (int i = 0; i < length; i++) {
+            int position = positions[digit(keys[i], shift)]++;
+            partitionedKeys[position] = keys[i];
+            partitionedIndexes[position] = i;
+        }
+
+        long[] scratchKeys = new long[length];
+        int[] scratchIndexes = new int[length];
+        IntStream.range(0, RADIX)
+            .parallel()
+            .forEach(d -> argsortRange(partitionedKeys, partitionedIndexes, scratchKeys, scratchIndexes,
+                starts[d], starts[d + 1], DIGITS - 1));
+
+        return partitionedIndexes;
+    }
+
+    /**
+     * Stable LSD sort of keys[from, to) (moving indexes along) on the lowest digits, using the scratch arrays.
+     */
+    private static void argsortRange(
+        long @NonNull [] keys,
+        int @NonNull [] indexes,
+        long @NonNull [] scratchKeys,
+        int @NonNull [] scratchIndexes,
+        int from,
+        int to,
+        int digits
+    ) {
+        if (to - from < INSERTION_SORT_THRESHOLD) {
+            insertionSort(keys, indexes, from, to);
+            return;
+        }
+
+        long[] sourceKeys = keys;
+        int[] sourceIndexes = indexes;
+        long[] targetKeys = scratchKeys;
+        int[] targetIndexes = scratchIndexes;
+        int[] counts = new int[RADIX];
+        for (int pass = 0; pass < digits; pass++) {
+            int shift = pass * BITS;
+            Arrays.fill(counts, 0);
+            for (int i = from; i < to; i++) {
+                counts[digit(sourceKeys[i], shift)]++;
+            }
+            if (counts[digit(sourceKeys[from], shift)] == to - from) {
+                continue;
+            }
+
+            int offset = from;
+            for (int d = 0; d < RADIX; d++) {
+                int count = counts[d];
+                counts[d] = offset;
+                offset += count;
+            }
+            for (int i = from; i < to; i++) {
+                int position = counts[digit(sourceKeys[i], shift)]++;
+                targetKeys[position] = sourceKeys[i];
+                targetIndexes[position] = sourceIndexes[i];
+            }
+
+            long[] tmpKeys = sourceKeys;
+            sourceKeys = targetKeys;
+            targetKeys = tmpKeys;
+            int[] tmpIndexes = sourceIndexes;
+            sourceIndexes = targetIndexes;
+            targetIndexes = tmpIndexes;
+        }
+
+        if (sourceKeys != keys) {
+            System.arraycopy(sourceKeys, from, keys, from, to - from);
+            System.arraycopy(sourceIndexes, from, indexes, from, to - from);
+        }
+    }
+
+    private static void insertionSort(long @NonNull [] keys, int @NonNull [] indexes, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            long key = keys[i];
+            int index = indexes[i];
+            int j = i - 1;
+            while (j >= from && keys[j] > key) {
+                keys[j + 1] = keys[j];
+                indexes[j + 1] = indexes[j];
+                j--;
+            }
+            keys[j + 1] = key;
+            indexes[j + 1] = index;
+        }
+    }
+
+    private static int @NonNull [] identity(int length) {
+        int[] result = new int[length];
+        for (int i = 0; i < length; i++) {
+            result[i] = i;
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,112 @@
+package com.github.honoluluhenk.fluentbigdecimals.internal;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import static com.github.honoluluhenk.fluentbigdecimals.internal.ScaledLongs.NOT_REPRESENTABLE;
+
+/**
+ * The plain Java implementations of {@link LongKernels}, working on the index range [from, to).
+ * <p>
+ * Also used by the JDK 21 implementation of {@link LongKernels} for the tail that does not fill a whole vector
+ * and for the lanes that need the exact overflow check.
+ */
+final class ScalarKernels {
+
+    private ScalarKernels() {
+        // utility class
+    }
+
+    static long between(long @NonNull [] values, int from, int to, long low, long high) {
+        // low <= v <= high  <=>  (v - low) <= (high - low) as unsigned, flipping the sign bit makes it a signed compare
+        long range = (high - low) ^ Long.MIN_VALUE;
+        long bits = 0;
+        for (int i = from; i < to; i++) {
+            long shifted = (values[i] - low) ^ Long.MIN_VALUE;
+            bits |= (shifted <= range ? 1L : 0L) << (i - from);
+        }
+
+        return bits;
+    }
+
+    static boolean add(long @NonNull [] a, long @NonNull [] b, long @NonNull [] result, int from, int to) {
+        long invalid = 0;
+        for (int i = from; i < to; i++) {
+            long x = a[i];
+            long y = b[i];
+            long sum = x + y;
+            result[i] = sum;
+            invalid |= ((x ^ sum) & (y ^ sum)) | reserved(sum);
+        }
+
+        return invalid >= 0;
+    }
+
+    static boolean subtract(long @NonNull [] a, long @NonNull [] b, long @NonNull [] result, int from, int to) {
+        long invalid = 0;
+        for (int i = from; i < to; i++) {
+            long x = a[i];
+            long y = b[i];
+            long difference = x - y;
+            result[i] = difference;
+            invalid |= ((x ^ y) & (x ^ difference)) | reserved(difference);
+        }
+
+        return invalid >= 0;
+    }
+
+    static boolean multiply(long @NonNull [] values, long factor, long @NonNull [] result, int from, int to) {
+        long highBits = 0;
+        long invalid = 0;
+        for (int i = from; i < to; i++) {
+            long x = values[i];
+            long product = x * factor;
+            result[i] = product;
+            // the high 64 bits of the 128 bit product must be the sign extension of the low 64 bits
+            highBits |= Math.multiplyHigh(x, factor) ^ (product >> 63);
+            invalid |= reserved(product);
+        }
+
+        return highBits == 0 && invalid >= 0;
+    }
+
+    /**
+     * Divides by divisor, fails if any value has a remainder.
+     */
+    static boolean divideExact(long @NonNull [] values, long divisor, long @NonNull [] result, int from, int to) {
+        long remainders = 0;
+        for (int i = from; i < to; i++) {
+            long x = values[i];
+            long quotient = x / divisor;
+            result[i] = quotient;
+            remainders |= x - quotient * divisor;
+        }
+
+        return remainders == 0;
+    }
+
+    /**
+     * 10^|toScale - fromScale| or {@link ScaledLongs#NOT_REPRESENTABLE} if out of range.
+     */
+    static long rescaleFactor(int fromScale, int toScale) {
+        long difference = Math.abs((long) toScale - fromScale);
+        if (difference > 18) {
+            return NOT_REPRESENTABLE;
+        }
+
+        return ScaledLongs.powerOfTen((int) difference);
+    }
+
+    static void checkLengths(int a, int b, int result) {
+        if (a != b || a != result) {
+            throw new IllegalArgumentException("Length mismatch: " + a + ", " + b + ", " + result);
+        }
+    }
+
+    /**
+     * Sign bit set if value is {@link ScaledLongs#NOT_REPRESENTABLE}
+     * (the only value where {@code value - 1} overflows).
+     */
+    static long reserved(long value) {
+        return value & ~(value - 1);
+    }
+}
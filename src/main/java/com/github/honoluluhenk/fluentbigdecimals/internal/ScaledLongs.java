@@ -0,0 +1,235 @@
+package com.github.honoluluhenk.fluentbigdecimals.internal;
+
+import com.github.honoluluhenk.fluentbigdecimals.Configuration;
+import com.github.honoluluhenk.fluentbigdecimals.scaler.CashRoundingScaler;
+import com.github.honoluluhenk.fluentbigdecimals.scaler.FixedScaleScaler;
+import com.github.honoluluhenk.fluentbigdecimals.scaler.IntegerScaler;
+import com.github.honoluluhenk.fluentbigdecimals.scaler.MaxScaleScaler;
+import com.github.honoluluhenk.fluentbigdecimals.scaler.Scaler;
+import com.github.honoluluhenk.fluentbigdecimals.scaler.TickScaler;
+import lombok.var;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Helpers for handling values in their unscaled {@code long} form at a fixed scale
+ * (i.e.: {@code 12.34} at scale 2 is the long {@code 1234}).
+ * <p>
+ * Not part of the public API.
+ */
+public final class ScaledLongs {
+
+    /**
+     * Marker for values that cannot be represented as unscaled long.
+     * <p>
+     * As a consequence, {@link Long#MIN_VALUE} itself is never used as a regular unscaled value.
+     */
+    public static final long NOT_REPRESENTABLE = Long.MIN_VALUE;
+
+    /**
+     * Marker for scalers that do not guarantee a maximum scale (e.g.: {@link com.github.honoluluhenk.fluentbigdecimals.scaler.NopScaler}).
+     */
+    public static final int UNKNOWN_SCALE = Integer.MIN_VALUE;
+
+    // longs have at most 19 digits, everything with 18 digits is guaranteed to fit.
+    private static final int SAFE_LONG_DIGITS = 18;
+    private static final long[] POWERS_OF_TEN = powersOfTen();
+
+    private ScaledLongs() {
+        // utility class
+    }
+
+    private static long @NonNull [] powersOfTen() {
+        long[] result = new long[SAFE_LONG_DIGITS + 1];
+        result[0] = 1;
+        for (int i = 1; i < result.length; i++) {
+            result[i] = result[i - 1] * 10;
+        }
+
+        return result;
+    }
+
+    /**
+     * 10^exponent for 0 &lt;= exponent &lt;= 18.
+     */
+    public static long powerOfTen(int exponent) {
+        return POWERS_OF_TEN[exponent];
+    }
+
+    /**
+     * The maximum scale of all values produced by the configurations scaler or {@link #UNKNOWN_SCALE}.
+     */
+    public static int fixedScale(@NonNull Configuration<?> configuration) {
+        return fixedScale(configuration.getScaler());
+    }
+
+    /**
+     * The maximum scale of all values produced by the scaler or {@link #UNKNOWN_SCALE}.
+     */
+    public static int fixedScale(@NonNull Scaler scaler) {
+        if (scaler instanceof MaxScaleScaler) {
+            return ((MaxScaleScaler) scaler).getMaxScale();
+        }
+        if (scaler instanceof FixedScaleScaler) {
+            return ((FixedScaleScaler) scaler).getScale();
+        }
+        if (scaler instanceof IntegerScaler) {
+            return 0;
+        }
+        if (scaler instanceof CashRoundingScaler) {
+            return ((CashRoundingScaler) scaler).getCashRounding().getUnit().scale();
+        }
+        if (scaler instanceof TickScaler) {
+            return ((TickScaler) scaler).getScale();
+        }
+
+        return UNKNOWN_SCALE;
+    }
+
+    /**
+     * The largest magnitude of an unscaled long (at {@link #fixedScale(Configuration)}) that is guaranteed
+     * to pass rounding and scaling of the configuration unchanged.
+     * <p>
+     * Only scalers that do nothing but (re-)scaling qualify, i.e. arithmetics on such values
+     * is exact as long as the result stays within this limit.
+     *
+     * @return -1 if there is no such guarantee (e.g.: unknown or cash-rounding scalers).
+     */
+    public static long maxExactUnscaled(@NonNull Configuration<?> configuration) {
+        Scaler scaler = configuration.getScaler();
+        boolean scalesOnly = scaler instanceof MaxScaleScaler
+            || scaler instanceof FixedScaleScaler
+            || scaler instanceof IntegerScaler;
+        if (!scalesOnly) {
+            return -1;
+        }
+
+        int precision = configuration.getMathContext().getPrecision();
+        // precision 0 means: unlimited
+        if (precision == 0 || precision > SAFE_LONG_DIGITS) {
+            return Long.MAX_VALUE;
+        }
+
+        return POWERS_OF_TEN[precision] - 1;
+    }
+
+    /**
+     * The unscaled long of value at the given scale or {@link #NOT_REPRESENTABLE} if this is not possible
+     * without rounding or overflow.
+     */
+    public static long toUnscaled(@NonNull BigDecimal value, int scale) {
+        if (scale == UNKNOWN_SCALE) {
+            return NOT_REPRESENTABLE;
+        }
+
+        int digitsToShift = scale - value.scale();
+        if (digitsToShift < 0) {
+            // more decimals than allowed: representable only if these are trailing zeros
+            return toUnscaledStripped(value, scale);
+        }
+
+        long resultingPrecision = (long) value.precision() + digitsToShift;
+        if (resultingPrecision > SAFE_LONG_DIGITS + 1) {
+            return NOT_REPRESENTABLE;
+        }
+
+        BigDecimal shifted = value.movePointRight(scale);
+        if (resultingPrecision <= SAFE_LONG_DIGITS) {
+            return shifted.longValue();
+        }
+
+        var unscaled = shifted.toBigInteger();
+        if (unscaled.bitLength() > Long.SIZE - 1) {
+            return NOT_REPRESENTABLE;
+        }
+        long result = unscaled.longValue();
+
+        return result == NOT_REPRESENTABLE ? NOT_REPRESENTABLE : result;
+    }
+
+    private static long toUnscaledStripped(@NonNull BigDecimal value, int scale) {
+        BigDecimal stripped = value.stripTrailingZeros();
+        if (stripped.scale() > scale) {
+            return NOT_REPRESENTABLE;
+        }
+
+        return toUnscaled(stripped, scale);
+    }
+
+    public static @NonNull BigDecimal toBigDecimal(long unscaled, int scale) {
+        return BigDecimal.valueOf(unscaled, scale);
+    }
+
+    /**
+     * Overflow-aware addition.
+     *
+     * @return the sum or {@link #NOT_REPRESENTABLE} if either argument is not representable or the sum overflows.
+     */
+    public static long add(long augend, long addend) {
+        if (augend == NOT_REPRESENTABLE || addend == NOT_REPRESENTABLE) {
+            return NOT_REPRESENTABLE;
+        }
+
+        long result = augend + addend;
+        boolean overflow = ((augend ^ result) & (addend ^ result)) < 0;
+        if (overflow) {
+            return NOT_REPRESENTABLE;
+        }
+
+        return result;
+    }
+
+    /**
+     * dividend / divisor, rounded like {@link BigDecimal#divide(BigDecimal, RoundingMode)}.
+     *
+     * @param divisor must be positive.
+     * @throws ArithmeticException for {@link RoundingMode#UNNECESSARY} if rounding is needed.
+     */
+    public static long divideRounded(long dividend, long divisor, @NonNull RoundingMode roundingMode) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (remainder == 0) {
+            return quotient;
+        }
+
+        int sign = dividend < 0 ? -1 : 1;
+        boolean awayFromZero;
+        switch (roundingMode) {
+            case UP:
+                awayFromZero = true;
+                break;
+            case DOWN:
+                awayFromZero = false;
+                break;
+            case CEILING:
+                awayFromZero = sign > 0;
+                break;
+            case FLOOR:
+                awayFromZero = sign < 0;
+                break;
+            case HALF_UP:
+            case HALF_DOWN:
+            case HALF_EVEN:
+                // compare |remainder| to half the divisor without overflowing
+                long magnitude = Math.abs(remainder);
+                int comparison = Long.compare(magnitude, divisor - magnitude);
+                if (comparison != 0) {
+                    awayFromZero = comparison > 0;
+                } else if (roundingMode == RoundingMode.HALF_UP) {
+                    awayFromZero = true;
+                } else if (roundingMode == RoundingMode.HALF_DOWN) {
+                    awayFromZero = false;
+                } else {
+                    awayFromZero = (quotient & 1) != 0;
+                }
+                break;
+            default:
+                throw new ArithmeticException("Rounding necessary: " + dividend + " / " + divisor);
+        }
+
+        return awayFromZero ? quotient + sign : quotient;
+    }
+
+}
@@ -0,0 +1,122 @@
+package com.github.honoluluhenk.fluentbigdecimals.internal;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Selection (a.k.a. nth_element) on primitive arrays in expected linear time,
+ * i.e.: without sorting everything.
+ * <p>
+ * Not part of the public API.
+ */
+public final class Selection {
+    // below this size, insertion sort is faster than partitioning
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    private Selection() {
+        // utility class
+    }
+
+    /**
+     * The k-th largest value (k = 1: the maximum).
+     * <p>
+     * <strong>Reorders</strong> values (pass a copy if needed).
+     */
+    public static long kthLargest(long @NonNull [] values, int k) {
+        if (k < 1 || k > values.length) {
+            throw new IllegalArgumentException("k out of range: " + k + " (length " + values.length + ')');
+        }
+
+        return kthSmallest(values, values.length - k);
+    }
+
+    /**
+     * The value at index k (0-based) if values were sorted ascending.
+     * <p>
+     * <strong>Reorders</strong> values such that everything before k is &lt;= and everything after k is &gt;= values[k].
+     */
+    public static long kthSmallest(long @NonNull [] values, int k) {
+        if (k < 0 || k >= values.length) {
+            throw new IllegalArgumentException("k out of range: " + k + " (length " + values.length + ')');
+        }
+
+        int from = 0;
+        int to = values.length - 1;
+        while (to - from >= INSERTION_SORT_THRESHOLD) {
+            int pivotIndex = partition(values, from, to, medianOfThree(values, from, from + (to - from) / 2, to));
+            if (pivotIndex == k) {
+                return values[k];
+            }
+            if (k < pivotIndex) {
+                to = pivotIndex - 1;
+            } else {
+                from = pivotIndex + 1;
+            }
+        }
+
+        insertionSort(values, from, to);
+
+        return values[k];
+    }
+
+    private static int medianOfThree(long @NonNull [] values, int a, int b, int c) {
+        long va = values[a];
+        long vb = values[b];
+        long vc = values[c];
+        if (va < vb) {
+            if (vb < vc) {
+                return b;
+            }
+            return va < vc ? c : a;
+        }
+        if (va < vc) {
+            return a;
+        }
+        return vb < vc ? c : b;
+    }
+
+    /**
+     * Lomuto partition around values[pivotIndex], values equal to the pivot are spread to both sides.
+     *
+     * @return the final index of the pivot.
+     */
+    private static int partition(long @NonNull [] values, int from, int to, int pivotIndex) {
+        long pivot = values[pivotIndex];
+        swap(values, pivotIndex, to);
+        int store = from;
+        boolean equalGoesLeft = false;
+        for (int i = from; i < to; i++) {
+            long value = values[i];
+            boolean left = value < pivot;
+            if (value == pivot) {
+                // alternate on ties so many equal values do not degrade to quadratic runtime
+                equalGoesLeft = !equalGoesLeft;
+                left = equalGoesLeft;
+            }
+            if (left) {
+                swap(values, i, store);
+                store++;
+            }
+        }
+        swap(values, store, to);
+
+        return store;
+    }
+
+    private static void insertionSort(long @NonNull [] values, int from, int to) {
+        for (int i = from + 1; i <= to; i++) {
+            long value = values[i];
+            int j = i - 1;
+            while (j >= from && values[j] > value) {
+                values[j + 1] = values[j];
+                j--;
+            }
+            values[j + 1] = value;
+        }
+    }
+
+    private static void swap(long @NonNull [] values, int a, int b) {
+        long tmp = values[a];
+        values[a] = values[b];
+        values[b] = tmp;
+    }
+}
@@ -0,0 +1,114 @@
+package com.github.honoluluhenk.fluentbigdecimals.internal;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+
+/**
+ * Variable length encoding of integers (LEB128, as used by e.g. Protocol Buffers).
+ * <p>
+ * Unsigned values use 7 bits per byte, the high bit marks that more bytes follow.
+ * Signed values are zigzag-encoded first, so small magnitudes need few bytes regardless of the sign.
+ * <p>
+ * Not part of the public API.
+ */
+public final class VarInts {
+    // ceil(64 / 7)
+    public static final int MAX_LONG_BYTES = 10;
+
+    private VarInts() {
+        // utility class
+    }
+
+    public static void writeUnsignedLong(@NonNull DataOutput out, long value) throws IOException {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            out.writeByte((int) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        out.writeByte((int) remaining);
+    }
+
+    public static long readUnsignedLong(@NonNull DataInput in) throws IOException {
+        long result = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            int b = in.readUnsignedByte();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+
+        throw new StreamCorruptedException("Malformed variable length integer");
+    }
+
+    /**
+     * @throws java.nio.BufferOverflowException if there is not enough space left, some bytes are written already.
+     */
+    public static void writeUnsignedLong(@NonNull ByteBuffer out, long value) {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            out.put((byte) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        out.put((byte) remaining);
+    }
+
+    /**
+     * @throws java.nio.BufferUnderflowException if the buffer ends within the value.
+     * @throws IllegalArgumentException          if the value is longer than {@link #MAX_LONG_BYTES}.
+     */
+    public static long readUnsignedLong(@NonNull ByteBuffer in) {
+        long result = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            int b = in.get() & 0xFF;
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+
+        throw new IllegalArgumentException("Malformed variable length integer");
+    }
+
+    public static void writeSignedLong(@NonNull DataOutput out, long value) throws IOException {
+        writeUnsignedLong(out, zigzag(value));
+    }
+
+    public static long readSignedLong(@NonNull DataInput in) throws IOException {
+        return unzigzag(readUnsignedLong(in));
+    }
+
+    public static void writeSignedLong(@NonNull ByteBuffer out, long value) {
+        writeUnsignedLong(out, zigzag(value));
+    }
+
+    public static long readSignedLong(@NonNull ByteBuffer in) {
+        return unzigzag(readUnsignedLong(in));
+    }
+
+    public static void writeSignedInt(@NonNull DataOutput out, int value) throws IOException {
+        writeSignedLong(out, value);
+    }
+
+    public static int readSignedInt(@NonNull DataInput in) throws IOException {
+        long result = readSignedLong(in);
+        if (result < Integer.MIN_VALUE || result > Integer.MAX_VALUE) {
+            throw new StreamCorruptedException("Value out of int range: " + result);
+        }
+
+        return (int) result;
+    }
+
+    public static long zigzag(long value) {
+        return (value << 1) ^ (value >> (Long.SIZE - 1));
+    }
+
+    public static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
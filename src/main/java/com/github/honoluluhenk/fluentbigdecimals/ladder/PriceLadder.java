@@ -0,0 +1,324 @@
+package com.github.honoluluhenk.fluentbigdecimals.ladder;
+
+import com.github.honoluluhenk.fluentbigdecimals.AbstractFluentBigDecimal;
+import com.github.honoluluhenk.fluentbigdecimals.scaler.TickScaler;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.OptionalLong;
+import java.util.function.LongFunction;
+import java.util.function.ObjLongConsumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Levels (e.g.: the orders of an order book) keyed by price, stored in an array indexed by the tick index of the price
+ * (see {@link TickScaler#toIndex(BigDecimal)}).
+ * <p>
+ * Lookups are O(1) array accesses instead of e.g. {@code TreeMap<BigDecimal, L>} lookups.
+ * Prices off the tick grid are mapped to a tick using the rounding mode of the {@link TickScaler}.
+ * <p>
+ * The array covers a window of consecutive ticks that grows as needed,
+ * so the ladder is meant for prices that are reasonably close to each other (as in an order book).
+ * <p>
+ * Not thread safe.
+ */
+public final class PriceLadder<L> {
+    private static final int DEFAULT_CAPACITY = 64;
+    // some VMs reserve header words in arrays
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private final @NonNull TickScaler ticks;
+    // tick index of levels[0]
+    private long baseIndex;
+    private @Nullable Object @NonNull [] levels;
+    private int size;
+    // slots of the lowest/highest level, only valid if size > 0
+    private int lowestSlot;
+    private int highestSlot;
+
+    public PriceLadder(@NonNull TickScaler ticks) {
+        this(ticks, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param initialCapacity number of ticks covered initially
+     */
+    public PriceLadder(@NonNull TickScaler ticks, int initialCapacity) {
+        this.ticks = requireNonNull(ticks, "ticks required");
+        if (initialCapacity < 1 || initialCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Invalid initial capacity: " + initialCapacity);
+        }
+
+        this.levels = new Object[initialCapacity];
+    }
+
+    public @NonNull TickScaler getTicks() {
+        return ticks;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * The level at the tick of price or null.
+     */
+    public @Nullable L get(@NonNull AbstractFluentBigDecimal<?> price) {
+        return getAt(ticks.toIndex(price));
+    }
+
+    /**
+     * The level at the tick of price or null.
+     */
+    public @Nullable L get(@NonNull BigDecimal price) {
+        return getAt(ticks.toIndex(price));
+    }
+
+    /**
+     * The level at the tick index or null.
+     */
+    public @Nullable L getAt(long index) {
+        int slot = slotOf(index);
+        if (slot < 0) {
+            return null;
+        }
+
+        return level(slot);
+    }
+
+    /**
+     * @return the previous level or null.
+     */
+    public @Nullable L put(@NonNull AbstractFluentBigDecimal<?> price, @NonNull L level) {
+        return putAt(ticks.toIndex(price), level);
+    }
+
+    /**
+     * @return the previous level or null.
+     */
+    public @Nullable L put(@NonNull BigDecimal price, @NonNull L level) {
+        return putAt(ticks.toIndex(price), level);
+    }
+
+    /**
+     * @return the previous level or null.
+     */
+    public @Nullable L putAt(long index, @NonNull L level) {
+        requireNonNull(level, "level required");
+
+        int slot = ensureSlot(index);
+        L previous = level(slot);
+        levels[slot] = level;
+        if (previous == null) {
+            added(slot);
+        }
+
+        return previous;
+    }
+
+    /**
+     * The level at the tick of price, created by factory (called with the tick index) if there is none yet.
+     */
+    public @NonNull L computeIfAbsent(@NonNull AbstractFluentBigDecimal<?> price, @NonNull LongFunction<? extends L> factory) {
+        return computeIfAbsentAt(ticks.toIndex(price), factory);
+    }
+
+    /**
+     * The level at the tick index, created by factory (called with the tick index) if there is none yet.
+     */
+    public @NonNull L computeIfAbsentAt(long index, @NonNull LongFunction<? extends L> factory) {
+        requireNonNull(factory, "factory required");
+
+        L existing = getAt(index);
+        if (existing != null) {
+            return existing;
+        }
+
+        L created = requireNonNull(factory.apply(index), "factory must not return null");
+        putAt(index, created);
+
+        return created;
+    }
+
+    /**
+     * @return the removed level or null.
+     */
+    public @Nullable L remove(@NonNull AbstractFluentBigDecimal<?> price) {
+        return removeAt(ticks.toIndex(price));
+    }
+
+    /**
+     * @return the removed level or null.
+     */
+    public @Nullable L remove(@NonNull BigDecimal price) {
+        return removeAt(ticks.toIndex(price));
+    }
+
+    /**
+     * @return the removed level or null.
+     */
+    public @Nullable L removeAt(long index) {
+        int slot = slotOf(index);
+        if (slot < 0) {
+            return null;
+        }
+
+        L previous = level(slot);
+        if (previous != null) {
+            levels[slot] = null;
+            removed(slot);
+        }
+
+        return previous;
+    }
+
+    /**
+     * The tick index of the lowest price with a level (e.g.: the best ask).
+     */
+    public @NonNull OptionalLong lowestIndex() {
+        return size == 0 ? OptionalLong.empty() : OptionalLong.of(baseIndex + lowestSlot);
+    }
+
+    /**
+     * The tick index of the highest price with a level (e.g.: the best bid).
+     */
+    public @NonNull OptionalLong highestIndex() {
+        return size == 0 ? OptionalLong.empty() : OptionalLong.of(baseIndex + highestSlot);
+    }
+
+    /**
+     * The price of a tick index, see {@link TickScaler#toValue(long)}.
+     */
+    public @NonNull BigDecimal priceAt(long index) {
+        return ticks.toValue(index);
+    }
+
+    /**
+     * Visit all levels in ascending order of price.
+     */
+    public void forEach(@NonNull ObjLongConsumer<? super L> consumer) {
+        requireNonNull(consumer, "consumer required");
+        if (size == 0) {
+            return;
+        }
+
+        for (int slot = lowestSlot; slot <= highestSlot; slot++) {
+            L level = level(slot);
+            if (level != null) {
+                consumer.accept(level, baseIndex + slot);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private @Nullable L level(int slot) {
+        return (L) levels[slot];
+    }
+
+    private void added(int slot) {
+        if (size == 0) {
+            lowestSlot = slot;
+            highestSlot = slot;
+        } else {
+            lowestSlot = Math.min(lowestSlot, slot);
+            highestSlot = Math.max(highestSlot, slot);
+        }
+        size++;
+    }
+
+    private void removed(int slot) {
+        size--;
+        if (size == 0) {
+            return;
+        }
+        if (slot == lowestSlot) {
+            while (levels[lowestSlot] == null) {
+                lowestSlot++;
+            }
+        }
+        if (slot == highestSlot) {
+            while (levels[highestSlot] == null) {
+                highestSlot--;
+            }
+        }
+    }
+
+    /**
+     * The slot of index, moving/growing the window if needed.
+     */
+    private int ensureSlot(long index) {
+        if (size == 0) {
+            // re-center the empty window around index
+            baseIndex = lowerBy(index, levels.length / 2);
+        }
+
+        int slot = slotOf(index);
+        if (slot >= 0) {
+            return slot;
+        }
+
+        long lowest = Math.min(index, baseIndex + lowestSlot);
+        long highest = Math.max(index, baseIndex + highestSlot);
+        long span = highest - lowest + 1;
+        if (span > MAX_CAPACITY || span <= 0) {
+            throw new IllegalArgumentException("Price too far away from the other prices: tick index " + index);
+        }
+
+        // slide within the current array if the levels occupy at most half of it, grow otherwise
+        int capacity = span * 2 <= levels.length ? levels.length : (int) Math.min(MAX_CAPACITY, span * 2);
+        // leave some room on both sides
+        long newBase = lowerBy(lowest, (capacity - span) / 2);
+        int offset = (int) (baseIndex - newBase);
+        int count = highestSlot - lowestSlot + 1;
+        Object[] target = capacity == levels.length ? levels : new Object[capacity];
+        System.arraycopy(levels, lowestSlot, target, lowestSlot + offset, count);
+        if (target == levels) {
+            // clear the slots not overwritten by the move
+            if (offset > 0) {
+                Arrays.fill(levels, lowestSlot, Math.min(highestSlot + 1, lowestSlot + offset), null);
+            } else {
+                Arrays.fill(levels, Math.max(lowestSlot, highestSlot + 1 + offset), highestSlot + 1, null);
+            }
+        }
+
+        levels = target;
+        baseIndex = newBase;
+        lowestSlot += offset;
+        highestSlot += offset;
+
+        return (int) (index - baseIndex);
+    }
+
+    /**
+     * The slot of index within the current window or -1.
+     */
+    private int slotOf(long index) {
+        long slot = index - baseIndex;
+        // the subtraction overflowed if index and baseIndex have different signs and slot not the sign of index
+        boolean overflow = ((index ^ baseIndex) & (index ^ slot)) < 0;
+        if (overflow || slot < 0 || slot >= levels.length) {
+            return -1;
+        }
+
+        return (int) slot;
+    }
+
+    /**
+     * index - distance, but at least {@link Long#MIN_VALUE}.
+     */
+    private static long lowerBy(long index, long distance) {
+        return index < Long.MIN_VALUE + distance ? Long.MIN_VALUE : index - distance;
+    }
+
+    @Override
+    public @NonNull String toString() {
+        return getClass().getSimpleName() + "[size=" + size + ',' + ticks + ']';
+    }
+}
@@ -37,6 +37,6 @@ public class CashRoundingScaler implements Scaler {
 
     @Override
     public String toString() {
-        return String.format("%s[%s]", CashRoundingScaler.class.getSimpleName(), cashRounding);
+        return CashRoundingScaler.class.getSimpleName() + '[' + cashRounding + ']';
     }
 }
@@ -24,6 +24,6 @@ public class FixedScaleScaler implements Scaler, WithScale<FixedScaleScaler> {
 
     @Override
     public String toString() {
-        return String.format("FixedScaleScaler[%d]", scale);
+        return "FixedScaleScaler[" + scale + ']';
     }
 }
@@ -66,10 +66,7 @@ public class MaxScaleScaler implements Scaler, WithScale<MaxScaleScaler> {
 
     @Override
     public String toString() {
-        return String.format("%s[%d]",
-            getClass().getSimpleName(),
-            getMaxScale()
-        );
+        return getClass().getSimpleName() + '[' + getMaxScale() + ']';
     }
 
     @Override
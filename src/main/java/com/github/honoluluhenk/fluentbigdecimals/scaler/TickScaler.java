@@ -0,0 +1,153 @@
+package com.github.honoluluhenk.fluentbigdecimals.scaler;
+
+import com.github.honoluluhenk.fluentbigdecimals.AbstractFluentBigDecimal;
+import com.github.honoluluhenk.fluentbigdecimals.CashRounding;
+import com.github.honoluluhenk.fluentbigdecimals.internal.ScaledLongs;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+import static com.github.honoluluhenk.fluentbigdecimals.internal.ScaledLongs.NOT_REPRESENTABLE;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Quantize to multiples of an arbitrary tick size (e.g.: price ticks of 0.25 or 0.0005),
+ * generalizing the unit rounding of {@link CashRounding}.
+ * <p>
+ * Besides scaling, a tick scaler maps values to a dense {@code long} tick index (the value divided by the tick size)
+ * and back, see {@link #toIndex(BigDecimal)} and {@link #toValue(long)}.
+ * Values off the tick grid are rounded using the rounding mode of this scaler.
+ * <p>
+ * The resulting values have the scale of the tick (at least 0).
+ */
+@Getter
+@EqualsAndHashCode(callSuper = false)
+public class TickScaler implements Scaler {
+    private static final long serialVersionUID = -4087327013862917513L;
+
+    private final @NonNull BigDecimal tick;
+    private final @NonNull RoundingMode roundingMode;
+    @EqualsAndHashCode.Exclude
+    private final int scale;
+    // the tick as unscaled long at scale
+    @EqualsAndHashCode.Exclude
+    private final long unscaledTick;
+
+    /**
+     * @throws IllegalArgumentException if tick is not positive or too large to be represented as unscaled long.
+     */
+    public TickScaler(@NonNull BigDecimal tick, @NonNull RoundingMode roundingMode) {
+        this.tick = requireNonNull(tick, "tick required");
+        this.roundingMode = requireNonNull(roundingMode, "roundingMode required");
+        if (tick.signum() <= 0) {
+            throw new IllegalArgumentException("tick must be positive: " + tick);
+        }
+
+        this.scale = Math.max(0, tick.scale());
+        this.unscaledTick = ScaledLongs.toUnscaled(tick, scale);
+        if (unscaledTick == NOT_REPRESENTABLE) {
+            throw new IllegalArgumentException("Unsupported tick: " + tick.toPlainString());
+        }
+    }
+
+    public static @NonNull TickScaler of(@NonNull BigDecimal tick, @NonNull RoundingMode roundingMode) {
+        return new TickScaler(tick, roundingMode);
+    }
+
+    public static @NonNull TickScaler of(@NonNull String tick, @NonNull RoundingMode roundingMode) {
+        return new TickScaler(new BigDecimal(tick), roundingMode);
+    }
+
+    /**
+     * The ticks of the unit of cashRounding, using the same rounding mode.
+     */
+    public static @NonNull TickScaler of(@NonNull CashRounding cashRounding) {
+        return new TickScaler(cashRounding.getUnit(), cashRounding.getRoundingMode());
+    }
+
+    public @NonNull TickScaler withRoundingMode(@NonNull RoundingMode roundingMode) {
+        return new TickScaler(tick, roundingMode);
+    }
+
+    @Override
+    public @NonNull BigDecimal scale(@NonNull BigDecimal value, @NonNull MathContext mathContext) {
+        return quantize(value);
+    }
+
+    /**
+     * The nearest multiple of the tick (according to the rounding mode).
+     */
+    public @NonNull BigDecimal quantize(@NonNull BigDecimal value) {
+        requireNonNull(value, "value required");
+
+        long index = indexOrNotRepresentable(value);
+        if (index != NOT_REPRESENTABLE) {
+            long unscaled = index * unscaledTick;
+            boolean overflow = Math.multiplyHigh(index, unscaledTick) != (unscaled >> (Long.SIZE - 1));
+            if (!overflow && unscaled != NOT_REPRESENTABLE) {
+                return ScaledLongs.toBigDecimal(unscaled, scale);
+            }
+        }
+
+        return value.divide(tick, 0, roundingMode)
+            .multiply(tick)
+            .setScale(scale, RoundingMode.UNNECESSARY);
+    }
+
+    /**
+     * The tick index of value, i.e.: value / tick, rounded using the rounding mode.
+     *
+     * @throws ArithmeticException if the index does not fit into a long
+     *                             (or for {@link RoundingMode#UNNECESSARY} if value is off the tick grid).
+     */
+    public long toIndex(@NonNull BigDecimal value) {
+        requireNonNull(value, "value required");
+
+        long result = indexOrNotRepresentable(value);
+        if (result != NOT_REPRESENTABLE) {
+            return result;
+        }
+
+        return value.divide(tick, 0, roundingMode)
+            .longValueExact();
+    }
+
+    public long toIndex(@NonNull AbstractFluentBigDecimal<?> value) {
+        requireNonNull(value, "value required");
+
+        return toIndex(value.getValue());
+    }
+
+    private long indexOrNotRepresentable(@NonNull BigDecimal value) {
+        long unscaled = ScaledLongs.toUnscaled(value, scale);
+        if (unscaled == NOT_REPRESENTABLE) {
+            return NOT_REPRESENTABLE;
+        }
+
+        return ScaledLongs.divideRounded(unscaled, unscaledTick, roundingMode);
+    }
+
+    /**
+     * The value of a tick index, i.e.: index * tick.
+     */
+    public @NonNull BigDecimal toValue(long index) {
+        long unscaled = index * unscaledTick;
+        boolean overflow = Math.multiplyHigh(index, unscaledTick) != (unscaled >> (Long.SIZE - 1));
+        if (overflow || unscaled == NOT_REPRESENTABLE) {
+            return BigDecimal.valueOf(index)
+                .multiply(tick)
+                .setScale(scale, RoundingMode.UNNECESSARY);
+        }
+
+        return ScaledLongs.toBigDecimal(unscaled, scale);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + '[' + tick.toPlainString() + ',' + roundingMode + ']';
+    }
+}
@@ -0,0 +1,64 @@
+package com.github.honoluluhenk.fluentbigdecimals.stream;
+
+import com.github.honoluluhenk.fluentbigdecimals.AbstractFluentBigDecimal;
+import com.github.honoluluhenk.fluentbigdecimals.Configuration;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@link Collector}s for streams of values, in the spirit of {@link Collectors}.
+ */
+public final class DecimalCollectors {
+
+    private DecimalCollectors() {
+        // utility class
+    }
+
+    /**
+     * Count, sum, min, max and average in one pass, see {@link DecimalSummaryStatistics}.
+     * <p>
+     * Accumulation is exact, so the result does not depend on the order of the values
+     * or on how a parallel stream gets split up.
+     * The rounding/scaling of the configuration is applied by the getters of the result.
+     */
+    public static <T extends AbstractFluentBigDecimal<T>>
+    @NonNull Collector<AbstractFluentBigDecimal<?>, ?, DecimalSummaryStatistics<T>> summarizing(
+        @NonNull Configuration<T> configuration
+    ) {
+        requireNonNull(configuration, "configuration required");
+
+        return Collector.of(
+            () -> new DecimalSummaryStatistics<>(configuration),
+            DecimalSummaryStatistics::accept,
+            (left, right) -> {
+                left.combine(right);
+                return left;
+            },
+            Collector.Characteristics.UNORDERED
+        );
+    }
+
+    /**
+     * Mean, variance and standard deviation in one pass, see {@link DecimalStatistics}.
+     */
+    public static <T extends AbstractFluentBigDecimal<T>>
+    @NonNull Collector<AbstractFluentBigDecimal<?>, ?, DecimalStatistics<T>> statistics(
+        @NonNull Configuration<T> configuration
+    ) {
+        requireNonNull(configuration, "configuration required");
+
+        return Collector.of(
+            () -> new DecimalStatistics<>(configuration),
+            DecimalStatistics::accept,
+            (left, right) -> {
+                left.combine(right);
+                return left;
+            },
+            Collector.Characteristics.UNORDERED
+        );
+    }
+}
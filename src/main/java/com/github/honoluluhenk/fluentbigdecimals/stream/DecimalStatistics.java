@@ -0,0 +1,229 @@
+package com.github.honoluluhenk.fluentbigdecimals.stream;
+
+import com.github.honoluluhenk.fluentbigdecimals.AbstractFluentBigDecimal;
+import com.github.honoluluhenk.fluentbigdecimals.Configuration;
+import com.github.honoluluhenk.fluentbigdecimals.internal.Configurations;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Optional;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Mean, variance and standard deviation in one pass.
+ * <p>
+ * Uses Welford's online algorithm for {@link #accept(BigDecimal)}
+ * and the parallel variant by Chan et al. for {@link #combine(DecimalStatistics)}.
+ * <p>
+ * All internal arithmetics use the {@link MathContext} of the configuration
+ * (or {@link MathContext#DECIMAL128} with the configurations rounding mode if the configuration has unlimited precision),
+ * the getters additionally apply the rounding/scaling of the configuration.
+ * <p>
+ * The state (count, mean and sum of squared deviations) is exposed so partial results can be shipped elsewhere
+ * and merged there, see {@link #of(Configuration, long, BigDecimal, BigDecimal)}.
+ * <p>
+ * Not thread safe.
+ */
+public class DecimalStatistics<T extends AbstractFluentBigDecimal<T>> {
+    private final @NonNull Configuration<T> configuration;
+    private final @NonNull MathContext mathContext;
+
+    private long count;
+    private @NonNull BigDecimal mean = BigDecimal.ZERO;
+    // sum of squared deviations from the mean
+    private @NonNull BigDecimal m2 = BigDecimal.ZERO;
+
+    public DecimalStatistics(@NonNull Configuration<T> configuration) {
+        this.configuration = requireNonNull(configuration, "configuration required");
+        this.mathContext = internalMathContext(configuration.getMathContext());
+    }
+
+    /**
+     * Restore the state of (partial) statistics, e.g. as computed on another node.
+     *
+     * @param count                  number of values
+     * @param mean                   unrounded mean, see {@link #getMeanRaw()}
+     * @param sumOfSquaredDeviations unrounded sum of squared deviations from the mean,
+     *                               see {@link #getSumOfSquaredDeviationsRaw()}
+     */
+    public static <T extends AbstractFluentBigDecimal<T>> @NonNull DecimalStatistics<T> of(
+        @NonNull Configuration<T> configuration,
+        long count,
+        @NonNull BigDecimal mean,
+        @NonNull BigDecimal sumOfSquaredDeviations
+    ) {
+        requireNonNull(mean, "mean required");
+        requireNonNull(sumOfSquaredDeviations, "sumOfSquaredDeviations required");
+        if (count < 0) {
+            throw new IllegalArgumentException("count must not be negative: " + count);
+        }
+        if (sumOfSquaredDeviations.signum() < 0) {
+            throw new IllegalArgumentException("sumOfSquaredDeviations must not be negative: " + sumOfSquaredDeviations);
+        }
+
+        DecimalStatistics<T> result = new DecimalStatistics<>(configuration);
+        result.count = count;
+        result.mean = count == 0 ? BigDecimal.ZERO : mean;
+        result.m2 = count == 0 ? BigDecimal.ZERO : sumOfSquaredDeviations;
+
+        return result;
+    }
+
+    private static @NonNull MathContext internalMathContext(@NonNull MathContext mathContext) {
+        if (mathContext.getPrecision() == 0) {
+            // unlimited precision cannot handle non-terminating divisions
+            return new MathContext(MathContext.DECIMAL128.getPrecision(), mathContext.getRoundingMode());
+        }
+
+        return mathContext;
+    }
+
+    public @NonNull Configuration<T> getConfiguration() {
+        return configuration;
+    }
+
+    public void accept(@NonNull AbstractFluentBigDecimal<?> value) {
+        requireNonNull(value, "value required");
+
+        accept(value.getValue());
+    }
+
+    public void accept(@NonNull BigDecimal value) {
+        requireNonNull(value, "value required");
+
+        count++;
+        BigDecimal delta = value.subtract(mean, mathContext);
+        mean = mean.add(delta.divide(BigDecimal.valueOf(count), mathContext), mathContext);
+        BigDecimal delta2 = value.subtract(mean, mathContext);
+        m2 = m2.add(delta.multiply(delta2, mathContext), mathContext);
+    }
+
+    /**
+     * Merge the state of other into this.
+     *
+     * @throws IllegalArgumentException if other uses a different configuration.
+     */
+    public void combine(@NonNull DecimalStatistics<T> other) {
+        requireNonNull(other, "other required");
+        if (!Configurations.roundsAlike(configuration, other.configuration)) {
+            throw new IllegalArgumentException("Configuration mismatch: " + configuration + " vs. " + other.configuration);
+        }
+        if (other.count == 0) {
+            return;
+        }
+        if (count == 0) {
+            count = other.count;
+            mean = other.mean;
+            m2 = other.m2;
+            return;
+        }
+
+        BigDecimal countA = BigDecimal.valueOf(count);
+        BigDecimal countB = BigDecimal.valueOf(other.count);
+        long total = Math.addExact(count, other.count);
+        BigDecimal countTotal = BigDecimal.valueOf(total);
+
+        BigDecimal delta = other.mean.subtract(mean, mathContext);
+        BigDecimal weightB = countB.divide(countTotal, mathContext);
+
+        mean = mean.add(delta.multiply(weightB, mathContext), mathContext);
+        BigDecimal correction = delta.multiply(delta, mathContext)
+            .multiply(countA, mathContext)
+            .multiply(weightB, mathContext);
+        m2 = m2.add(other.m2, mathContext)
+            .add(correction, mathContext);
+        count = total;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public @NonNull Optional<T> getMean() {
+        if (count == 0) {
+            return Optional.empty();
+        }
+
+        return Optional.of(configuration.of(mean));
+    }
+
+    /**
+     * The mean at internal precision, <strong>not</strong> rounded/scaled by the configuration.
+     */
+    public @NonNull T getMeanRaw() {
+        return configuration.ofRaw(mean);
+    }
+
+    /**
+     * The sum of squared deviations from the mean at internal precision,
+     * <strong>not</strong> rounded/scaled by the configuration.
+     */
+    public @NonNull T getSumOfSquaredDeviationsRaw() {
+        return configuration.ofRaw(m2);
+    }
+
+    /**
+     * Variance of the values as complete population (i.e.: divided by n).
+     */
+    public @NonNull Optional<T> getPopulationVariance() {
+        return populationVariance()
+            .map(configuration::of);
+    }
+
+    /**
+     * Variance of the values as sample (i.e.: divided by n - 1).
+     */
+    public @NonNull Optional<T> getSampleVariance() {
+        return sampleVariance()
+            .map(configuration::of);
+    }
+
+    /**
+     * Square root of {@link #getPopulationVariance()}, computed at internal precision before rounding/scaling.
+     */
+    public @NonNull Optional<T> getPopulationStandardDeviation() {
+        return populationVariance()
+            .map(variance -> configuration.of(variance.sqrt(mathContext)));
+    }
+
+    /**
+     * Square root of {@link #getSampleVariance()}, computed at internal precision before rounding/scaling.
+     */
+    public @NonNull Optional<T> getSampleStandardDeviation() {
+        return sampleVariance()
+            .map(variance -> configuration.of(variance.sqrt(mathContext)));
+    }
+
+    private @NonNull Optional<BigDecimal> populationVariance() {
+        if (count == 0) {
+            return Optional.empty();
+        }
+
+        return Optional.of(nonNegative(m2).divide(BigDecimal.valueOf(count), mathContext));
+    }
+
+    private @NonNull Optional<BigDecimal> sampleVariance() {
+        if (count < 2) {
+            return Optional.empty();
+        }
+
+        return Optional.of(nonNegative(m2).divide(BigDecimal.valueOf(count - 1), mathContext));
+    }
+
+    private static @NonNull BigDecimal nonNegative(@NonNull BigDecimal value) {
+        // rounding errors might produce tiny negative values if all values are (nearly) equal
+        return value.signum() < 0 ? BigDecimal.ZERO : value;
+    }
+
+    @Override
+    public @NonNull String toString() {
+        return getClass().getSimpleName()
+            + "[count=" + count
+            + ",mean=" + mean.toPlainString()
+            + ",m2=" + m2.toPlainString()
+            + ',' + configuration
+            + ']';
+    }
+}
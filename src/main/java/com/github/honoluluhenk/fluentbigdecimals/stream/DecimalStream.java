@@ -0,0 +1,298 @@
+package com.github.honoluluhenk.fluentbigdecimals.stream;
+
+import com.github.honoluluhenk.fluentbigdecimals.AbstractFluentBigDecimal;
+import com.github.honoluluhenk.fluentbigdecimals.Configuration;
+import com.github.honoluluhenk.fluentbigdecimals.Projection;
+import com.github.honoluluhenk.fluentbigdecimals.internal.ExactSum;
+import com.github.honoluluhenk.fluentbigdecimals.internal.ScaledLongs;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Spliterator;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.github.honoluluhenk.fluentbigdecimals.internal.ScaledLongs.NOT_REPRESENTABLE;
+import static com.github.honoluluhenk.fluentbigdecimals.internal.ScaledLongs.UNKNOWN_SCALE;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A stream of values under one {@link Configuration}, in the spirit of {@link LongStream}.
+ * <p>
+ * Elements are held as unscaled {@code long} at the scale of the configurations
+ * {@link com.github.honoluluhenk.fluentbigdecimals.scaler.Scaler}, so {@link #sum()}, {@link #min()}, {@link #max()},
+ * {@link #filterUnscaled(LongPredicate)} etc. do not allocate per element.
+ * <p>
+ * Elements are always rounded/scaled values of the configuration: sources are converted as if by
+ * {@link Configuration#of(BigDecimal)}, {@link #map(Projection)} behaves like {@link AbstractFluentBigDecimal#apply(Projection)}.
+ * Resulting values are normalized to the scale of the configuration (i.e.: {@code 5} becomes {@code 5.00} at scale 2).
+ * <p>
+ * Limitations:
+ * <ul>
+ *     <li>The configuration must have a fixed scale
+ *     (i.e.: not {@link com.github.honoluluhenk.fluentbigdecimals.scaler.NopScaler}).</li>
+ *     <li>Each element must fit into an unscaled long, i.e.: at most 18 digits at the scale of the configuration.
+ *     Otherwise an {@link ArithmeticException} is thrown (sums are not limited, though).</li>
+ * </ul>
+ * <p>
+ * Like all streams, a DecimalStream may only be consumed once.
+ */
+public final class DecimalStream<T extends AbstractFluentBigDecimal<T>> {
+    private final @NonNull Configuration<T> configuration;
+    private final int scale;
+    private final @NonNull LongStream unscaled;
+
+    private DecimalStream(@NonNull Configuration<T> configuration, int scale, @NonNull LongStream unscaled) {
+        this.configuration = configuration;
+        this.scale = scale;
+        this.unscaled = unscaled;
+    }
+
+    public static <T extends AbstractFluentBigDecimal<T>> @NonNull DecimalStream<T> of(
+        @NonNull Configuration<T> configuration,
+        @NonNull Collection<? extends AbstractFluentBigDecimal<?>> values
+    ) {
+        requireNonNull(values, "values required");
+
+        int scale = requireFixedScale(configuration);
+        long maxExact = ScaledLongs.maxExactUnscaled(configuration);
+        long[] converted = new long[values.size()];
+        int i = 0;
+        for (AbstractFluentBigDecimal<?> value : values) {
+            converted[i++] = toElement(configuration, scale, maxExact, value.getValue());
+        }
+
+        return new DecimalStream<>(configuration, scale, Arrays.stream(converted));
+    }
+
+    public static <T extends AbstractFluentBigDecimal<T>> @NonNull DecimalStream<T> of(
+        @NonNull Configuration<T> configuration,
+        @NonNull BigDecimal @NonNull ... values
+    ) {
+        requireNonNull(values, "values required");
+
+        int scale = requireFixedScale(configuration);
+        long maxExact = ScaledLongs.maxExactUnscaled(configuration);
+        long[] converted = new long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            converted[i] = toElement(configuration, scale, maxExact, values[i]);
+        }
+
+        return new DecimalStream<>(configuration, scale, Arrays.stream(converted));
+    }
+
+    /**
+     * A stream of (a copy of) unscaled values at the scale of the configuration.
+     */
+    public static <T extends AbstractFluentBigDecimal<T>> @NonNull DecimalStream<T> ofUnscaled(
+        @NonNull Configuration<T> configuration,
+        long @NonNull ... unscaled
+    ) {
+        requireNonNull(unscaled, "unscaled required");
+
+        return ofUnscaled(configuration, Arrays.spliterator(unscaled.clone()), false);
+    }
+
+    /**
+     * A stream of unscaled values at the scale of the configuration, see {@link StreamSupport#longStream(Spliterator.OfLong, boolean)}.
+     * <p>
+     * The spliterator is used as-is for splitting parallel streams.
+     */
+    public static <T extends AbstractFluentBigDecimal<T>> @NonNull DecimalStream<T> ofUnscaled(
+        @NonNull Configuration<T> configuration,
+        Spliterator.@NonNull OfLong unscaled,
+        boolean parallel
+    ) {
+        requireNonNull(unscaled, "unscaled required");
+
+        int scale = requireFixedScale(configuration);
+        long maxExact = ScaledLongs.maxExactUnscaled(configuration);
+        // values outside of the exact range need to go through rounding/scaling
+        LongStream stream = StreamSupport.longStream(unscaled, parallel)
+            .map(value -> toElement(configuration, scale, maxExact, value));
+
+        return new DecimalStream<>(configuration, scale, stream);
+    }
+
+    private static int requireFixedScale(@NonNull Configuration<?> configuration) {
+        requireNonNull(configuration, "configuration required");
+
+        int scale = ScaledLongs.fixedScale(configuration);
+        if (scale == UNKNOWN_SCALE) {
+            throw new IllegalArgumentException("Configuration has no fixed scale: " + configuration);
+        }
+
+        return scale;
+    }
+
+    private static long toElement(@NonNull Configuration<?> configuration, int scale, long maxExact, long value) {
+        if (value != NOT_REPRESENTABLE && value >= -maxExact && value <= maxExact) {
+            return value;
+        }
+
+        return toElement(configuration, scale, maxExact, ScaledLongs.toBigDecimal(value, scale));
+    }
+
+    private static long toElement(
+        @NonNull Configuration<?> configuration,
+        int scale,
+        long maxExact,
+        @NonNull BigDecimal value
+    ) {
+        requireNonNull(value, "value required");
+
+        long result = ScaledLongs.toUnscaled(value, scale);
+        if (result != NOT_REPRESENTABLE && result >= -maxExact && result <= maxExact) {
+            return result;
+        }
+
+        return requireUnscaled(configuration.of(value).getValue(), scale);
+    }
+
+    private static long requireUnscaled(@NonNull BigDecimal value, int scale) {
+        long result = ScaledLongs.toUnscaled(value, scale);
+        if (result == NOT_REPRESENTABLE) {
+            throw new ArithmeticException("Value does not fit into an unscaled long at scale " + scale + ": "
+                + value.toPlainString());
+        }
+
+        return result;
+    }
+
+    public @NonNull Configuration<T> getConfiguration() {
+        return configuration;
+    }
+
+    /**
+     * The scale of the unscaled elements, see {@link #unscaled()}.
+     */
+    public int getScale() {
+        return scale;
+    }
+
+    /**
+     * Apply the projection to each element, see {@link AbstractFluentBigDecimal#apply(Projection)}.
+     */
+    public @NonNull DecimalStream<T> map(@NonNull Projection projection) {
+        requireNonNull(projection, "projection required");
+
+        MathContext mathContext = configuration.getMathContext();
+        return withUnscaled(unscaled.map(value -> {
+            BigDecimal outcome = projection.project(ScaledLongs.toBigDecimal(value, scale), mathContext);
+            requireNonNull(outcome, "Result of projection must not be null");
+
+            BigDecimal scaled = configuration.getScaler().scale(outcome, mathContext);
+            requireNonNull(scaled, "Scaler must not return null");
+
+            return requireUnscaled(scaled, scale);
+        }));
+    }
+
+    public @NonNull DecimalStream<T> filter(@NonNull Predicate<? super T> predicate) {
+        requireNonNull(predicate, "predicate required");
+
+        return withUnscaled(unscaled.filter(value -> predicate.test(toElement(value))));
+    }
+
+    /**
+     * Like {@link #filter(Predicate)} but working on the unscaled elements (see {@link #getScale()}),
+     * i.e.: without allocation.
+     */
+    public @NonNull DecimalStream<T> filterUnscaled(@NonNull LongPredicate predicate) {
+        requireNonNull(predicate, "predicate required");
+
+        return withUnscaled(unscaled.filter(predicate));
+    }
+
+    public @NonNull DecimalStream<T> parallel() {
+        return withUnscaled(unscaled.parallel());
+    }
+
+    public @NonNull DecimalStream<T> sequential() {
+        return withUnscaled(unscaled.sequential());
+    }
+
+    public boolean isParallel() {
+        return unscaled.isParallel();
+    }
+
+    public long count() {
+        return unscaled.count();
+    }
+
+    /**
+     * The exact sum of all elements, rounded/scaled once (see {@link Configuration#of(BigDecimal)}).
+     */
+    public @NonNull T sum() {
+        ExactSum result = unscaled.collect(() -> new ExactSum(scale), ExactSum::add, ExactSum::add);
+
+        return configuration.of(result.toBigDecimal());
+    }
+
+    public @NonNull Optional<T> min() {
+        return toElement(unscaled.min());
+    }
+
+    public @NonNull Optional<T> max() {
+        return toElement(unscaled.max());
+    }
+
+    /**
+     * The exact sum divided by the count, see {@link DecimalSummaryStatistics#getAverage()}.
+     */
+    public @NonNull Optional<T> average() {
+        return summaryStatistics().getAverage();
+    }
+
+    public @NonNull DecimalSummaryStatistics<T> summaryStatistics() {
+        return unscaled.collect(
+            () -> new DecimalSummaryStatistics<>(configuration),
+            DecimalSummaryStatistics::acceptUnscaled,
+            DecimalSummaryStatistics::combine
+        );
+    }
+
+    /**
+     * The elements in their unscaled form at {@link #getScale()}.
+     */
+    public @NonNull LongStream unscaled() {
+        return unscaled;
+    }
+
+    public Spliterator.@NonNull OfLong spliterator() {
+        return unscaled.spliterator();
+    }
+
+    public @NonNull Stream<T> boxed() {
+        return unscaled.mapToObj(this::toElement);
+    }
+
+    private @NonNull DecimalStream<T> withUnscaled(@NonNull LongStream stream) {
+        return new DecimalStream<>(configuration, scale, stream);
+    }
+
+    private @NonNull T toElement(long value) {
+        return configuration.ofRaw(ScaledLongs.toBigDecimal(value, scale));
+    }
+
+    private @NonNull Optional<T> toElement(@NonNull OptionalLong value) {
+        if (!value.isPresent()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(toElement(value.getAsLong()));
+    }
+
+    @Override
+    public @NonNull String toString() {
+        return getClass().getSimpleName() + configuration;
+    }
+}
@@ -0,0 +1,197 @@
+package com.github.honoluluhenk.fluentbigdecimals.stream;
+
+import com.github.honoluluhenk.fluentbigdecimals.AbstractFluentBigDecimal;
+import com.github.honoluluhenk.fluentbigdecimals.Configuration;
+import com.github.honoluluhenk.fluentbigdecimals.internal.Configurations;
+import com.github.honoluluhenk.fluentbigdecimals.internal.ExactSum;
+import com.github.honoluluhenk.fluentbigdecimals.internal.ScaledLongs;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.math.BigDecimal;
+import java.util.LongSummaryStatistics;
+import java.util.Optional;
+
+import static com.github.honoluluhenk.fluentbigdecimals.internal.ScaledLongs.NOT_REPRESENTABLE;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Count, sum, min, max and average of values, in the spirit of {@link LongSummaryStatistics}.
+ * <p>
+ * All values are accumulated <strong>exactly</strong>,
+ * the rounding/scaling of the configuration is only applied by the getters.
+ * Values are summed up at the scale of the configuration, so results are normalized to that scale
+ * (i.e.: {@code 5} becomes {@code 5.00} at scale 2).
+ * <p>
+ * Not thread safe.
+ */
+public class DecimalSummaryStatistics<T extends AbstractFluentBigDecimal<T>> {
+    private final @NonNull Configuration<T> configuration;
+    private final int scale;
+
+    private long count;
+    private final @NonNull ExactSum sum;
+
+    // min/max of all values representable as unscaled long, max == NOT_REPRESENTABLE if there were none
+    private long minUnscaled = Long.MAX_VALUE;
+    private long maxUnscaled = NOT_REPRESENTABLE;
+    // min/max of all other values
+    private @Nullable BigDecimal minOther;
+    private @Nullable BigDecimal maxOther;
+
+    public DecimalSummaryStatistics(@NonNull Configuration<T> configuration) {
+        this.configuration = requireNonNull(configuration, "configuration required");
+        this.scale = ScaledLongs.fixedScale(configuration);
+        this.sum = new ExactSum(scale);
+    }
+
+    public @NonNull Configuration<T> getConfiguration() {
+        return configuration;
+    }
+
+    public void accept(@NonNull AbstractFluentBigDecimal<?> value) {
+        requireNonNull(value, "value required");
+
+        accept(value.getValue());
+    }
+
+    public void accept(@NonNull BigDecimal value) {
+        requireNonNull(value, "value required");
+
+        long unscaled = ScaledLongs.toUnscaled(value, scale);
+        if (unscaled != NOT_REPRESENTABLE) {
+            acceptUnscaled(unscaled);
+            return;
+        }
+
+        count++;
+        sum.add(value);
+        if (minOther == null || value.compareTo(minOther) < 0) {
+            minOther = value;
+        }
+        if (maxOther == null || value.compareTo(maxOther) > 0) {
+            maxOther = value;
+        }
+    }
+
+    /**
+     * Accept a value in its unscaled form at the scale of the configuration.
+     */
+    void acceptUnscaled(long unscaled) {
+        count++;
+        sum.add(unscaled);
+        minUnscaled = Math.min(minUnscaled, unscaled);
+        maxUnscaled = Math.max(maxUnscaled, unscaled);
+    }
+
+    /**
+     * Merge the state of other into this.
+     *
+     * @throws IllegalArgumentException if other uses a different configuration.
+     */
+    public void combine(@NonNull DecimalSummaryStatistics<T> other) {
+        requireNonNull(other, "other required");
+        if (!Configurations.roundsAlike(configuration, other.configuration)) {
+            throw new IllegalArgumentException("Configuration mismatch: " + configuration + " vs. " + other.configuration);
+        }
+
+        count += other.count;
+        sum.add(other.sum);
+        minUnscaled = Math.min(minUnscaled, other.minUnscaled);
+        maxUnscaled = Math.max(maxUnscaled, other.maxUnscaled);
+        if (other.minOther != null && (minOther == null || other.minOther.compareTo(minOther) < 0)) {
+            minOther = other.minOther;
+        }
+        if (other.maxOther != null && (maxOther == null || other.maxOther.compareTo(maxOther) > 0)) {
+            maxOther = other.maxOther;
+        }
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * The exact sum, rounded/scaled once. {@link Configuration#ZERO()} if there were no values.
+     */
+    public @NonNull T getSum() {
+        return configuration.of(sum.toBigDecimal());
+    }
+
+    /**
+     * The exact sum, <strong>not</strong> rounded/scaled.
+     */
+    public @NonNull T getSumRaw() {
+        return configuration.ofRaw(sum.toBigDecimal());
+    }
+
+    public @NonNull Optional<T> getMin() {
+        BigDecimal result = exactMin();
+        if (result == null) {
+            return Optional.empty();
+        }
+
+        return Optional.of(configuration.of(result));
+    }
+
+    public @NonNull Optional<T> getMax() {
+        BigDecimal result = exactMax();
+        if (result == null) {
+            return Optional.empty();
+        }
+
+        return Optional.of(configuration.of(result));
+    }
+
+    /**
+     * The exact sum divided by the count (see {@link AbstractFluentBigDecimal#divide(long)}).
+     */
+    public @NonNull Optional<T> getAverage() {
+        if (count == 0) {
+            return Optional.empty();
+        }
+
+        return Optional.of(getSumRaw().divide(count));
+    }
+
+    private @Nullable BigDecimal exactMin() {
+        if (maxUnscaled == NOT_REPRESENTABLE) {
+            return minOther;
+        }
+
+        BigDecimal result = ScaledLongs.toBigDecimal(minUnscaled, scale);
+        if (minOther != null && minOther.compareTo(result) < 0) {
+            return minOther;
+        }
+
+        return result;
+    }
+
+    private @Nullable BigDecimal exactMax() {
+        if (maxUnscaled == NOT_REPRESENTABLE) {
+            return maxOther;
+        }
+
+        BigDecimal result = ScaledLongs.toBigDecimal(maxUnscaled, scale);
+        if (maxOther != null && maxOther.compareTo(result) > 0) {
+            return maxOther;
+        }
+
+        return result;
+    }
+
+    @Override
+    public @NonNull String toString() {
+        return getClass().getSimpleName()
+            + "[count=" + count
+            + ",sum=" + getSumRaw().toPlainString()
+            + ",min=" + describe(exactMin())
+            + ",max=" + describe(exactMax())
+            + ',' + configuration
+            + ']';
+    }
+
+    private static @NonNull String describe(@Nullable BigDecimal value) {
+        return value == null ? "-" : value.toPlainString();
+    }
+}
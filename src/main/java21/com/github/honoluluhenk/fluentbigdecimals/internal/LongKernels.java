@@ -0,0 +1,150 @@
+package com.github.honoluluhenk.fluentbigdecimals.internal;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Bulk loops on arrays of unscaled longs, written without data dependent branches
+ * so the JIT can use conditional moves/SIMD instructions.
+ * <p>
+ * This is the JDK 21+ version from the multi-release JAR: it delegates to {@link VectorKernels}
+ * if the {@code jdk.incubator.vector} module is available (i.e.: {@code --add-modules jdk.incubator.vector})
+ * and to {@link ScalarKernels} otherwise.
+ * <p>
+ * Bitmasks hold one bit per element: bit {@code i % 64} of word {@code i / 64}.
+ * <p>
+ * The arithmetic kernels must not be called with {@link ScaledLongs#NOT_REPRESENTABLE} values.
+ * They return false if any result overflows (or is {@link ScaledLongs#NOT_REPRESENTABLE}),
+ * the content of result is undefined in this case.
+ * <p>
+ * Not part of the public API.
+ */
+public final class LongKernels {
+    private static final boolean VECTORIZED = vectorApiAvailable();
+
+    private LongKernels() {
+        // utility class
+    }
+
+    /**
+     * True if the kernels use the Vector API.
+     */
+    public static boolean isVectorized() {
+        return VECTORIZED;
+    }
+
+    private static boolean vectorApiAvailable() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return false;
+        }
+
+        try {
+            return VectorKernels.isUsable();
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Number of long words needed for a bitmask of size bits.
+     */
+    public static int words(int size) {
+        return (size + Long.SIZE - 1) >>> 6;
+    }
+
+    /**
+     * Bitmask of all values with low &lt;= value &lt;= high.
+     *
+     * @param low must be &lt;= high.
+     */
+    public static long @NonNull [] between(long @NonNull [] values, long low, long high) {
+        if (VECTORIZED) {
+            return VectorKernels.between(values, low, high);
+        }
+
+        int length = values.length;
+        long[] mask = new long[words(length)];
+        for (int word = 0; word < mask.length; word++) {
+            int from = word << 6;
+            mask[word] = ScalarKernels.between(values, from, Math.min(from + Long.SIZE, length), low, high);
+        }
+
+        return mask;
+    }
+
+    public static int cardinality(long @NonNull [] mask) {
+        int result = 0;
+        for (long word : mask) {
+            result += Long.bitCount(word);
+        }
+
+        return result;
+    }
+
+    /**
+     * result[i] = a[i] + b[i].
+     *
+     * @return false on overflow.
+     */
+    public static boolean add(long @NonNull [] a, long @NonNull [] b, long @NonNull [] result) {
+        ScalarKernels.checkLengths(a.length, b.length, result.length);
+
+        if (VECTORIZED) {
+            return VectorKernels.add(a, b, result);
+        }
+
+        return ScalarKernels.add(a, b, result, 0, a.length);
+    }
+
+    /**
+     * result[i] = a[i] - b[i].
+     *
+     * @return false on overflow.
+     */
+    public static boolean subtract(long @NonNull [] a, long @NonNull [] b, long @NonNull [] result) {
+        ScalarKernels.checkLengths(a.length, b.length, result.length);
+
+        if (VECTORIZED) {
+            return VectorKernels.subtract(a, b, result);
+        }
+
+        return ScalarKernels.subtract(a, b, result, 0, a.length);
+    }
+
+    /**
+     * result[i] = values[i] * factor.
+     *
+     * @return false on overflow.
+     */
+    public static boolean multiply(long @NonNull [] values, long factor, long @NonNull [] result) {
+        ScalarKernels.checkLengths(values.length, values.length, result.length);
+
+        return multiplyUnchecked(values, factor, result);
+    }
+
+    /**
+     * Converts unscaled values from one scale to another without rounding.
+     *
+     * @return false on overflow or if a value has more decimals than toScale.
+     */
+    public static boolean rescale(long @NonNull [] values, int fromScale, int toScale, long @NonNull [] result) {
+        ScalarKernels.checkLengths(values.length, values.length, result.length);
+        long factor = ScalarKernels.rescaleFactor(fromScale, toScale);
+        if (factor == ScaledLongs.NOT_REPRESENTABLE) {
+            return false;
+        }
+
+        if (toScale >= fromScale) {
+            return multiplyUnchecked(values, factor, result);
+        }
+
+        return ScalarKernels.divideExact(values, factor, result, 0, values.length);
+    }
+
+    private static boolean multiplyUnchecked(long @NonNull [] values, long factor, long @NonNull [] result) {
+        if (VECTORIZED) {
+            return VectorKernels.multiply(values, factor, result);
+        }
+
+        return ScalarKernels.multiply(values, factor, result, 0, values.length);
+    }
+}
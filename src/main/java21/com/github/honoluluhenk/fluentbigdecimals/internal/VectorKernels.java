@@ -0,0 +1,127 @@
+package com.github.honoluluhenk.fluentbigdecimals.internal;
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * The Vector API implementations of {@link LongKernels}.
+ * <p>
+ * Only loaded if the {@code jdk.incubator.vector} module is available.
+ * Lanes that do not fill a whole vector are handled by {@link ScalarKernels}.
+ */
+final class VectorKernels {
+    private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+
+    private VectorKernels() {
+        // utility class
+    }
+
+    /**
+     * False if the platform has no real SIMD support for longs (i.e.: one lane per vector).
+     */
+    static boolean isUsable() {
+        int lanes = SPECIES.length();
+        return lanes > 1 && Long.SIZE % lanes == 0;
+    }
+
+    static long @NonNull [] between(long @NonNull [] values, long low, long high) {
+        int length = values.length;
+        int lanes = SPECIES.length();
+        long[] mask = new long[LongKernels.words(length)];
+        // see ScalarKernels.between()
+        long range = (high - low) ^ Long.MIN_VALUE;
+
+        int fullWords = length >>> 6;
+        for (int word = 0; word < fullWords; word++) {
+            int offset = word << 6;
+            long bits = 0;
+            for (int lane = 0; lane < Long.SIZE; lane += lanes) {
+                LongVector shifted = LongVector.fromArray(SPECIES, values, offset + lane)
+                    .sub(low)
+                    .lanewise(VectorOperators.XOR, Long.MIN_VALUE);
+                bits |= shifted.compare(VectorOperators.LE, range).toLong() << lane;
+            }
+            mask[word] = bits;
+        }
+
+        int offset = fullWords << 6;
+        if (offset < length) {
+            mask[fullWords] = ScalarKernels.between(values, offset, length, low, high);
+        }
+
+        return mask;
+    }
+
+    static boolean add(long @NonNull [] a, long @NonNull [] b, long @NonNull [] result) {
+        int length = a.length;
+        int bound = SPECIES.loopBound(length);
+        LongVector invalid = LongVector.zero(SPECIES);
+        for (int i = 0; i < bound; i += SPECIES.length()) {
+            LongVector x = LongVector.fromArray(SPECIES, a, i);
+            LongVector y = LongVector.fromArray(SPECIES, b, i);
+            LongVector sum = x.add(y);
+            sum.intoArray(result, i);
+            invalid = invalid
+                .or(x.lanewise(VectorOperators.XOR, sum).and(y.lanewise(VectorOperators.XOR, sum)))
+                .or(reserved(sum));
+        }
+
+        return isValid(invalid) && ScalarKernels.add(a, b, result, bound, length);
+    }
+
+    static boolean subtract(long @NonNull [] a, long @NonNull [] b, long @NonNull [] result) {
+        int length = a.length;
+        int bound = SPECIES.loopBound(length);
+        LongVector invalid = LongVector.zero(SPECIES);
+        for (int i = 0; i < bound; i += SPECIES.length()) {
+            LongVector x = LongVector.fromArray(SPECIES, a, i);
+            LongVector y = LongVector.fromArray(SPECIES, b, i);
+            LongVector difference = x.sub(y);
+            difference.intoArray(result, i);
+            invalid = invalid
+                .or(x.lanewise(VectorOperators.XOR, y).and(x.lanewise(VectorOperators.XOR, difference)))
+                .or(reserved(difference));
+        }
+
+        return isValid(invalid) && ScalarKernels.subtract(a, b, result, bound, length);
+    }
+
+    /**
+     * There is no vectorized multiplyHigh, so this checks the magnitude of all values against
+     * {@code Long.MAX_VALUE / |factor|} instead and leaves the exact check to {@link ScalarKernels}
+     * if any value exceeds it.
+     */
+    static boolean multiply(long @NonNull [] values, long factor, long @NonNull [] result) {
+        if (factor == Long.MIN_VALUE) {
+            return ScalarKernels.multiply(values, factor, result, 0, values.length);
+        }
+
+        int length = values.length;
+        int bound = SPECIES.loopBound(length);
+        long limit = factor == 0 ? Long.MAX_VALUE : Long.MAX_VALUE / Math.abs(factor);
+        LongVector magnitude = LongVector.zero(SPECIES);
+        for (int i = 0; i < bound; i += SPECIES.length()) {
+            LongVector x = LongVector.fromArray(SPECIES, values, i);
+            x.mul(factor).intoArray(result, i);
+            magnitude = magnitude.max(x.abs());
+        }
+
+        if (magnitude.reduceLanes(VectorOperators.MAX) > limit
+            && !ScalarKernels.multiply(values, factor, result, 0, bound)) {
+            return false;
+        }
+
+        return ScalarKernels.multiply(values, factor, result, bound, length);
+    }
+
+    private static @NonNull LongVector reserved(@NonNull LongVector value) {
+        // see ScalarKernels.reserved()
+        return value.and(value.sub(1).not());
+    }
+
+    private static boolean isValid(@NonNull LongVector invalid) {
+        return !invalid.compare(VectorOperators.LT, 0).anyTrue();
+    }
+}
@@ -0,0 +1,17 @@
+open module com.github.honoluluhenk.fluentbigdecimals {
+    exports com.github.honoluluhenk.fluentbigdecimals;
+    exports com.github.honoluluhenk.fluentbigdecimals.scaler;
+    exports com.github.honoluluhenk.fluentbigdecimals.aggregate;
+    exports com.github.honoluluhenk.fluentbigdecimals.codec;
+    exports com.github.honoluluhenk.fluentbigdecimals.column;
+    exports com.github.honoluluhenk.fluentbigdecimals.concurrent;
+    exports com.github.honoluluhenk.fluentbigdecimals.currency;
+    exports com.github.honoluluhenk.fluentbigdecimals.ladder;
+    exports com.github.honoluluhenk.fluentbigdecimals.stream;
+
+    requires transitive org.checkerframework.checker.qual;
+
+    requires static jdk.incubator.vector;
+    requires static lombok;
+    requires static com.github.spotbugs.annotations;
+}
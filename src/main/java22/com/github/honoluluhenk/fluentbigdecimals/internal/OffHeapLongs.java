@@ -0,0 +1,68 @@
+package com.github.honoluluhenk.fluentbigdecimals.internal;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A fixed size, zero initialized array of longs outside of the java heap.
+ * <p>
+ * This is the JDK 22+ version from the multi-release JAR: one {@link MemorySegment} of a shared {@link Arena}
+ * (i.e.: no 2 GiB limit), the memory is released immediately on {@link #close()}.
+ * <p>
+ * Thread safe for accesses to distinct indexes, not part of the public API.
+ */
+public final class OffHeapLongs implements AutoCloseable {
+
+    private final long size;
+    private final @NonNull Arena arena;
+    private final @NonNull MemorySegment segment;
+    private final @NonNull AtomicBoolean closed = new AtomicBoolean();
+
+    private OffHeapLongs(long size, @NonNull Arena arena, @NonNull MemorySegment segment) {
+        this.size = size;
+        this.arena = arena;
+        this.segment = segment;
+    }
+
+    public static @NonNull OffHeapLongs allocate(long size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Negative size: " + size);
+        }
+
+        Arena arena = Arena.ofShared();
+        try {
+            MemorySegment segment = arena.allocate(Math.multiplyExact(size, Long.BYTES), Long.BYTES);
+            return new OffHeapLongs(size, arena, segment);
+        } catch (RuntimeException | OutOfMemoryError e) {
+            arena.close();
+            throw e;
+        }
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public long get(long index) {
+        // bounds and liveness are checked by the segment
+        return segment.getAtIndex(ValueLayout.JAVA_LONG, index);
+    }
+
+    public void set(long index, long value) {
+        segment.setAtIndex(ValueLayout.JAVA_LONG, index, value);
+    }
+
+    /**
+     * Releases the memory, all further accesses fail with {@link IllegalStateException}.
+     */
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            arena.close();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.github.honoluluhenk.fluentbigdecimals;
+
+import com.github.honoluluhenk.fluentbigdecimals.scaler.NopScaler;
+import lombok.var;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+import static java.math.RoundingMode.HALF_UP;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CompoundFactorTableTest {
+    private static final Configuration<FluentBigDecimal> PRECISE =
+        ConfigurationFactory.create(20, HALF_UP, new NopScaler());
+    private static final Configuration<FluentBigDecimal> MONETARY = ConfigurationFactory.monetary(20);
+
+    @Nested
+    class Of {
+
+        @Test
+        void computes_factors_at_full_precision() {
+            var table = CompoundFactorTable.of(PRECISE.of("0.0001"), 10950);
+
+            assertThat(table.getFactor(0))
+                .isEqualTo(PRECISE.of("1"));
+            assertThat(table.getFactor(365))
+                .isEqualTo(PRECISE.of("1.0371724113025519299"));
+            assertThat(table.getFactor(10950))
+                .isEqualTo(PRECISE.of("2.9890190410305981453"));
+        }
+
+        @Test
+        void matches_pow_for_each_period() {
+            var rate = PRECISE.of("0.0375");
+            var table = CompoundFactorTable.of(PRECISE, rate.getValue(), -50, 400);
+
+            for (int period = -50; period <= 400; period++) {
+                assertThat(table.getFactor(period).getValue())
+                    .isEqualByComparingTo(PRECISE.of("1.0375").pow(period).getValue());
+            }
+        }
+
+        @Test
+        void computes_discount_factors_for_negative_periods() {
+            var table = CompoundFactorTable.of(PRECISE, new BigDecimal("0.05"), -10, -10);
+
+            assertThat(table.getFactor(-10))
+                .isEqualTo(PRECISE.of("0.61391325354075937436"));
+        }
+
+        @Test
+        void rounds_and_scales_factors_using_configuration() {
+            var table = CompoundFactorTable.of(MONETARY, new BigDecimal("0.0001"), 0, 365);
+
+            assertThat(table.getFactor(365))
+                .isEqualTo(MONETARY.of("1.04"));
+            assertThat(table.getFactorRaw(365).getValue().round(new MathContext(25, HALF_UP)))
+                .isEqualByComparingTo("1.037172411302551929902028");
+        }
+
+        @Test
+        void rejects_empty_range() {
+            assertThrows(IllegalArgumentException.class,
+                () -> CompoundFactorTable.of(PRECISE, BigDecimal.ONE, 1, 0));
+        }
+
+        @Test
+        void rejects_unlimited_precision() {
+            var unlimited = PRECISE.withMathContext(MathContext.UNLIMITED);
+
+            assertThrows(IllegalArgumentException.class,
+                () -> CompoundFactorTable.of(unlimited, BigDecimal.ONE, 0, 1));
+        }
+    }
+
+    @Nested
+    class Compound {
+
+        @Test
+        void rounds_once_using_configuration_of_principal() {
+            var table = CompoundFactorTable.of(PRECISE.of("0.0001"), 365);
+
+            var actual = table.compound(MONETARY.of("1000.00"), 365);
+
+            // 1000 * 1.0001^365 = 1037.17241130...: rounding the factor to 2 decimals first would give 1040.00
+            assertThat(actual)
+                .isEqualTo(MONETARY.of("1037.17"));
+        }
+
+        @Test
+        void throws_outside_of_table() {
+            var table = CompoundFactorTable.of(PRECISE.of("0.0001"), 365);
+            var principal = MONETARY.of("1000.00");
+
+            assertThrows(IndexOutOfBoundsException.class, () -> table.compound(principal, 366));
+            assertThrows(IndexOutOfBoundsException.class, () -> table.getFactor(-1));
+        }
+    }
+
+    @Test
+    void has_readable_toString() {
+        var table = CompoundFactorTable.of(PRECISE.of("0.0001"), 365);
+
+        assertThat(table)
+            .hasToString("CompoundFactorTable[rate=0.0001,periods=0..365,[20,HALF_UP,NopScaler]]");
+    }
+}
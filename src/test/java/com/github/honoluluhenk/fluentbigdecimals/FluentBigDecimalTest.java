@@ -297,6 +297,26 @@ class FluentBigDecimalTest {
             assertThat(actual.toPlainString())
                 .isEqualTo(bd.toPlainString());
         }
+
+        @Test
+        void appends_and_writes_the_same_value() throws Exception {
+            FluentBigDecimal actual = FIXTURE_CONFIG.of("-543.21");
+            var writer = new java.io.StringWriter();
+            var buffer = java.nio.ByteBuffer.allocate(16);
+            var bytes = new byte[10];
+
+            assertThat(actual.appendPlain(new StringBuilder("x=")).toString())
+                .isEqualTo("x=-543.21");
+            assertThat(actual.appendPlain(writer).toString())
+                .isEqualTo("-543.21");
+            assertThat(actual.writePlainAscii(buffer))
+                .isEqualTo(7);
+            assertThat(actual.writePlainAscii(bytes, 3))
+                .isEqualTo(7);
+            assertThat(new String(bytes, 3, 7, java.nio.charset.StandardCharsets.US_ASCII))
+                .isEqualTo("-543.21");
+            assertThrows(IndexOutOfBoundsException.class, () -> actual.writePlainAscii(bytes, 4));
+        }
     }
     //</editor-fold>
 
@@ -634,6 +654,79 @@ class FluentBigDecimalTest {
     }
     //</editor-fold>
 
+    //<editor-fold defaultstate="collapsed" desc="RootsPowersLogarithms">
+    @Nested
+    class RootsPowersLogarithms {
+
+        @Test
+        void sqrt_rounds_to_precision() {
+            assertThat(FIXTURE_CONFIG.of("2").sqrt())
+                .isEqualTo(FIXTURE_CONFIG.of("1.4142"));
+        }
+
+        @Test
+        void nthRoot_rounds_to_precision() {
+            assertThat(FIXTURE_CONFIG.of("-2").nthRoot(3))
+                .isEqualTo(FIXTURE_CONFIG.of("-1.2599"));
+        }
+
+        @Test
+        void pow_int_rounds_to_precision() {
+            assertThat(FIXTURE.pow(2))
+                .isEqualTo(FIXTURE_CONFIG.of("15240"));
+        }
+
+        @Test
+        void pow_int_is_exact_with_unlimited_precision() {
+            var unlimited = ConfigurationFactory.create(MathContext.UNLIMITED, new NopScaler());
+
+            assertThat(unlimited.of("2").pow(-2))
+                .isEqualTo(unlimited.of("0.25"));
+        }
+
+        @Test
+        void all_pow_overloads_compute_power() {
+            var expected = FIXTURE_CONFIG.of("1.0247");
+
+            assertThat(FIXTURE_CONFIG.of("1.05").pow(new BigDecimal("0.5"))).isEqualTo(expected);
+            assertThat(FIXTURE_CONFIG.of("1.05").pow(FIXTURE_CONFIG.of("0.5"))).isEqualTo(expected);
+        }
+
+        @Test
+        void pow_treats_null_as_neutral_value() {
+            assertThat(FIXTURE.pow((BigDecimal) null))
+                .isEqualTo(FIXTURE);
+        }
+
+        @Test
+        void exp_rounds_to_precision() {
+            assertThat(FIXTURE_CONFIG.of("1").exp())
+                .isEqualTo(FIXTURE_CONFIG.of("2.7183"));
+        }
+
+        @Test
+        void ln_rounds_to_precision() {
+            assertThat(FIXTURE.ln())
+                .isEqualTo(FIXTURE_CONFIG.of("4.8158"));
+        }
+
+        @Test
+        void calls_scaler() {
+            var config = FIXTURE_CONFIG.withScaler(new FixedValueScaler(new BigDecimal("42")));
+
+            assertThat(config.of("2").sqrt().getValue())
+                .isEqualTo("42");
+        }
+
+        @Test
+        void throws_for_ln_of_negative_value() {
+            var value = FIXTURE_CONFIG.of("-1");
+
+            assertThrows(ArithmeticException.class, value::ln);
+        }
+    }
+    //</editor-fold>
+
     //<editor-fold defaultstate="collapsed" desc="Map">
     @Nested
     class Map {
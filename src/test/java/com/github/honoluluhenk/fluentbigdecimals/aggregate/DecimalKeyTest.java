@@ -0,0 +1,133 @@
+package com.github.honoluluhenk.fluentbigdecimals.aggregate;
+
+import com.github.honoluluhenk.fluentbigdecimals.ConfigurationFactory;
+import lombok.var;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DecimalKeyTest {
+
+    @Nested
+    class Equality {
+
+        @ParameterizedTest
+        @CsvSource({
+            "1, 1.00",
+            "0, 0.000",
+            "0, -0.0",
+            "100, 1E+2",
+            "-12.3400, -12.34",
+            "1234567890123456789.0, 1234567890123456789",
+            "12345678901234567890123456789.000, 12345678901234567890123456789",
+            "999999999999999999, 999999999999999999.0",
+        })
+        void uses_compareTo_semantics(String a, String b) {
+            var keyA = DecimalKey.of(a);
+            var keyB = DecimalKey.of(b);
+
+            assertThat(keyA)
+                .isEqualTo(keyB)
+                .hasSameHashCodeAs(keyB);
+            assertThat(keyA.compareTo(keyB))
+                .isEqualTo(0);
+        }
+
+        @ParameterizedTest
+        @CsvSource({
+            "1, 1.01",
+            "1, -1",
+            "1, 10",
+            "1234567890123456789, 1234567890123456788",
+        })
+        void differs_for_different_values(String a, String b) {
+            assertThat(DecimalKey.of(a))
+                .isNotEqualTo(DecimalKey.of(b));
+        }
+
+        @Test
+        void does_not_depend_on_the_factory() {
+            var random = new Random(42);
+            for (int i = 0; i < 10_000; i++) {
+                long unscaled = random.nextBoolean() ? random.nextLong() : random.nextInt(1000) * 1000L;
+                int scale = random.nextInt(40) - 20;
+                var value = BigDecimal.valueOf(unscaled, scale);
+
+                var expected = DecimalKey.of(value);
+
+                assertThat(DecimalKey.ofUnscaled(unscaled, scale))
+                    .isEqualTo(expected)
+                    .hasSameHashCodeAs(expected);
+                assertThat(DecimalKey.of(value.setScale(scale + 3)))
+                    .isEqualTo(expected)
+                    .hasSameHashCodeAs(expected);
+                assertThat(DecimalKey.of(new BigDecimal(value.stripTrailingZeros().unscaledValue(), value.stripTrailingZeros().scale())))
+                    .isEqualTo(expected);
+            }
+        }
+    }
+
+    @Nested
+    class Values {
+
+        @Test
+        void normalizes() {
+            assertThat(DecimalKey.of("12.3400").getValue())
+                .isEqualTo(new BigDecimal("12.34"));
+            assertThat(DecimalKey.of("1200").getValue())
+                .isEqualTo(new BigDecimal("1.2E+3"));
+            assertThat(DecimalKey.of("0.00"))
+                .isSameAs(DecimalKey.ZERO);
+        }
+
+        @Test
+        void accepts_fluent_values() {
+            assertThat(DecimalKey.of(ConfigurationFactory.monetary(20).of("1.50")))
+                .isEqualTo(DecimalKey.of("1.5"));
+        }
+
+        @Test
+        void rejects_Long_MIN_VALUE() {
+            assertThrows(IllegalArgumentException.class, () -> DecimalKey.ofUnscaled(Long.MIN_VALUE, 0));
+        }
+
+        @Test
+        void orders_by_value() {
+            assertThat(DecimalKey.of("1.5").compareTo(DecimalKey.of("1.45")))
+                .isPositive();
+            assertThat(DecimalKey.of("-1").compareTo(DecimalKey.of("12345678901234567890123")))
+                .isNegative();
+        }
+
+        @Test
+        void toString_is_plain() {
+            assertThat(DecimalKey.of("1.2E+3"))
+                .hasToString("1200");
+        }
+
+        @Test
+        void is_serializable() throws Exception {
+            var key = DecimalKey.of("12.50");
+            var bytes = new ByteArrayOutputStream();
+            try (var out = new ObjectOutputStream(bytes)) {
+                out.writeObject(key);
+            }
+
+            try (var in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+                assertThat(in.readObject())
+                    .isEqualTo(key);
+            }
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.github.honoluluhenk.fluentbigdecimals.aggregate;
+
+import com.github.honoluluhenk.fluentbigdecimals.Configuration;
+import com.github.honoluluhenk.fluentbigdecimals.ConfigurationFactory;
+import com.github.honoluluhenk.fluentbigdecimals.FluentBigDecimal;
+import com.github.honoluluhenk.fluentbigdecimals.scaler.NopScaler;
+import lombok.var;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.HashMap;
+import java.util.Random;
+
+import static com.github.honoluluhenk.fluentbigdecimals.ConfigurationFactory.FLUENT_BIGDECIMAL_FACTORY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GroupByAggregatorTest {
+    private static final Configuration<FluentBigDecimal> MONETARY = ConfigurationFactory.monetary(20);
+
+    @Nested
+    class Accept {
+
+        @Test
+        void is_empty_initially() {
+            var aggregator = new GroupByAggregator<String, FluentBigDecimal>(MONETARY);
+
+            assertThat(aggregator.isEmpty())
+                .isTrue();
+            assertThat(aggregator.getSum("a"))
+                .isEmpty();
+            assertThat(aggregator.getCount("a"))
+                .isEqualTo(0);
+        }
+
+        @Test
+        void sums_per_group() {
+            var aggregator = new GroupByAggregator<String, FluentBigDecimal>(MONETARY);
+
+            aggregator.accept("a", new BigDecimal("1.10"));
+            aggregator.accept("b", new BigDecimal("2"));
+            aggregator.accept("a", MONETARY.of("3.05"));
+
+            assertThat(aggregator.size())
+                .isEqualTo(2);
+            assertThat(aggregator.getCount("a"))
+                .isEqualTo(2);
+            assertThat(aggregator.getSum("a").map(FluentBigDecimal::toPlainString))
+                .contains("4.15");
+            assertThat(aggregator.getSum("b").map(FluentBigDecimal::toPlainString))
+                .contains("2.00");
+            assertThat(aggregator.contains("c"))
+                .isFalse();
+        }
+
+        @Test
+        void groups_by_decimal_value() {
+            var aggregator = new GroupByAggregator<DecimalKey, FluentBigDecimal>(MONETARY);
+
+            aggregator.accept(DecimalKey.of("1.0"), BigDecimal.ONE);
+            aggregator.accept(DecimalKey.of("1.00"), BigDecimal.ONE);
+            aggregator.accept(DecimalKey.of("1"), BigDecimal.ONE);
+
+            assertThat(aggregator.size())
+                .isEqualTo(1);
+            assertThat(aggregator.getCount(DecimalKey.of("1.000")))
+                .isEqualTo(3);
+        }
+
+        @Test
+        void rounds_only_on_extraction() {
+            var aggregator = new GroupByAggregator<String, FluentBigDecimal>(MONETARY);
+
+            aggregator.accept("a", new BigDecimal("0.004"));
+            aggregator.accept("a", new BigDecimal("0.004"));
+
+            assertThat(aggregator.getSum("a").map(FluentBigDecimal::toPlainString))
+                .contains("0.01");
+            assertThat(aggregator.getSumRaw("a").map(FluentBigDecimal::getValue))
+                .contains(new BigDecimal("0.008"));
+        }
+
+        @Test
+        void is_exact_on_overflow() {
+            var aggregator = new GroupByAggregator<String, FluentBigDecimal>(ConfigurationFactory.monetary(40));
+
+            aggregator.acceptUnscaled("a", Long.MAX_VALUE);
+            aggregator.acceptUnscaled("a", Long.MAX_VALUE);
+            aggregator.accept("a", new BigDecimal("1E+30"));
+
+            assertThat(aggregator.getSum("a").map(FluentBigDecimal::getValue))
+                .contains(new BigDecimal("1000000000000184467440737095516.14"));
+        }
+
+        @Test
+        void works_without_fixed_scale() {
+            var config = Configuration.createConfiguration(
+                new MathContext(20, RoundingMode.HALF_UP), new NopScaler(), FLUENT_BIGDECIMAL_FACTORY
+            );
+            var aggregator = new GroupByAggregator<String, FluentBigDecimal>(config);
+
+            aggregator.accept("a", new BigDecimal("1.001"));
+            aggregator.accept("a", new BigDecimal("2"));
+
+            assertThat(aggregator.getSum("a").map(FluentBigDecimal::getValue))
+                .contains(new BigDecimal("3.001"));
+            assertThrows(IllegalArgumentException.class, () -> aggregator.acceptUnscaled("a", 1));
+        }
+
+        @Test
+        void rejects_null_keys() {
+            var aggregator = new GroupByAggregator<String, FluentBigDecimal>(MONETARY);
+
+            assertThrows(NullPointerException.class, () -> aggregator.accept(null, BigDecimal.ONE));
+        }
+
+        @Test
+        void matches_HashMap_with_many_groups() {
+            var aggregator = new GroupByAggregator<DecimalKey, FluentBigDecimal>(MONETARY, 0);
+            var reference = new HashMap<BigDecimal, BigDecimal>();
+            var random = new Random(42);
+
+            for (int i = 0; i < 100_000; i++) {
+                var bucket = BigDecimal.valueOf(random.nextInt(5_000), 1).setScale(random.nextInt(3) + 1);
+                var value = BigDecimal.valueOf(random.nextInt(100_000), 2);
+                aggregator.accept(DecimalKey.of(bucket), value);
+                reference.merge(bucket.stripTrailingZeros(), value, BigDecimal::add);
+            }
+
+            assertThat(aggregator.size())
+                .isEqualTo(reference.size());
+            reference.forEach((bucket, sum) -> assertThat(aggregator.getSum(DecimalKey.of(bucket)).map(FluentBigDecimal::getValue))
+                .contains(sum.setScale(2)));
+        }
+    }
+
+    @Nested
+    class Results {
+
+        @Test
+        void keeps_order_of_first_occurrence() {
+            var aggregator = new GroupByAggregator<String, FluentBigDecimal>(MONETARY);
+            aggregator.accept("c", BigDecimal.ONE);
+            aggregator.accept("a", BigDecimal.ONE);
+            aggregator.accept("c", BigDecimal.ONE);
+            aggregator.accept("b", BigDecimal.ONE);
+
+            assertThat(aggregator.keys())
+                .containsExactly("c", "a", "b");
+            assertThat(aggregator.toMap().keySet())
+                .containsExactly("c", "a", "b");
+            assertThat(aggregator.toMap().get("c").toPlainString())
+                .isEqualTo("2.00");
+        }
+
+        @Test
+        void toString_shows_groups() {
+            var aggregator = new GroupByAggregator<String, FluentBigDecimal>(MONETARY);
+            aggregator.accept("a", BigDecimal.ONE);
+
+            assertThat(aggregator)
+                .hasToString("GroupByAggregator[groups=1," + MONETARY + "]");
+        }
+    }
+
+    @Nested
+    class Merge {
+
+        @Test
+        void combines_groups() {
+            var first = new GroupByAggregator<String, FluentBigDecimal>(MONETARY);
+            first.accept("a", new BigDecimal("1.5"));
+            first.accept("b", new BigDecimal("2"));
+            var second = new GroupByAggregator<String, FluentBigDecimal>(MONETARY);
+            second.accept("b", new BigDecimal("3"));
+            second.accept("c", new BigDecimal("1E+30"));
+
+            first.merge(second);
+
+            assertThat(first.keys())
+                .containsExactly("a", "b", "c");
+            assertThat(first.getCount("b"))
+                .isEqualTo(2);
+            assertThat(first.getSum("b").map(FluentBigDecimal::toPlainString))
+                .contains("5.00");
+            assertThat(first.getSumRaw("c").get().getValue())
+                .isEqualByComparingTo("1E+30");
+        }
+
+        @Test
+        void rejects_different_configurations() {
+            var first = new GroupByAggregator<String, FluentBigDecimal>(MONETARY);
+            var second = new GroupByAggregator<String, FluentBigDecimal>(ConfigurationFactory.monetary(30));
+
+            assertThrows(IllegalArgumentException.class, () -> first.merge(second));
+        }
+    }
+}
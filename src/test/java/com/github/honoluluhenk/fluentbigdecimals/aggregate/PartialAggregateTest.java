@@ -0,0 +1,225 @@
+package com.github.honoluluhenk.fluentbigdecimals.aggregate;
+
+import com.github.honoluluhenk.fluentbigdecimals.Configuration;
+import com.github.honoluluhenk.fluentbigdecimals.ConfigurationFactory;
+import com.github.honoluluhenk.fluentbigdecimals.FluentBigDecimal;
+import lombok.var;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.StreamCorruptedException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PartialAggregateTest {
+    private static final Configuration<FluentBigDecimal> MONETARY = ConfigurationFactory.monetary(30);
+
+    private static PartialAggregate aggregateOf(List<BigDecimal> values) {
+        var result = new PartialAggregate();
+        values.forEach(result::accept);
+
+        return result;
+    }
+
+    private static List<BigDecimal> randomValues(long seed) {
+        var random = new Random(seed);
+        var result = new ArrayList<BigDecimal>();
+        for (int i = 0; i < 1_000; i++) {
+            result.add(BigDecimal.valueOf(random.nextLong() / 16, random.nextInt(5)));
+        }
+
+        return result;
+    }
+
+    @Nested
+    class Accept {
+
+        @Test
+        void is_empty_initially() {
+            var aggregate = new PartialAggregate();
+
+            assertThat(aggregate.isEmpty())
+                .isTrue();
+            assertThat(aggregate.exactSum())
+                .isEqualByComparingTo("0");
+            assertThat(aggregate.getMin(MONETARY))
+                .isEmpty();
+            assertThat(aggregate.getAverage(MONETARY))
+                .isEmpty();
+        }
+
+        @Test
+        void keeps_everything_exact() {
+            var aggregate = aggregateOf(List.of(
+                new BigDecimal("0.004"),
+                new BigDecimal("0.004"),
+                new BigDecimal("1E+3"),
+                new BigDecimal("-7.5")
+            ));
+
+            assertThat(aggregate.getCount())
+                .isEqualTo(4);
+            assertThat(aggregate.exactSum())
+                .isEqualTo("992.508");
+            assertThat(aggregate.getSum(MONETARY))
+                .isEqualTo(MONETARY.of("992.51"));
+            assertThat(aggregate.getMin(MONETARY))
+                .contains(MONETARY.of("-7.5"));
+            assertThat(aggregate.getMax(MONETARY).get().getValue())
+                .isEqualByComparingTo("1000");
+            assertThat(aggregate.getAverage(MONETARY))
+                .contains(MONETARY.ofRaw(new BigDecimal("992.508")).divide(4));
+        }
+
+        @Test
+        void does_not_overflow() {
+            var aggregate = aggregateOf(List.of(
+                BigDecimal.valueOf(Long.MAX_VALUE, 2),
+                BigDecimal.valueOf(Long.MAX_VALUE, 2),
+                new BigDecimal("0.001")
+            ));
+
+            assertThat(aggregate.exactSum())
+                .isEqualTo("184467440737095516.141");
+        }
+    }
+
+    @Nested
+    class Merge {
+
+        @Test
+        void equals_single_node_computation() {
+            var all = new ArrayList<BigDecimal>();
+            var merged = new PartialAggregate();
+            for (int shard = 0; shard < 5; shard++) {
+                List<BigDecimal> values = randomValues(shard);
+                all.addAll(values);
+                merged.merge(aggregateOf(values));
+            }
+
+            var single = aggregateOf(all);
+
+            assertThat(merged.getCount())
+                .isEqualTo(single.getCount());
+            assertThat(merged.exactSum())
+                .isEqualTo(single.exactSum());
+            assertThat(merged.getSum(MONETARY))
+                .isEqualTo(single.getSum(MONETARY));
+            assertThat(merged.getMin(MONETARY))
+                .isEqualTo(single.getMin(MONETARY));
+            assertThat(merged.getMax(MONETARY))
+                .isEqualTo(single.getMax(MONETARY));
+        }
+
+        @Test
+        void is_associative() {
+            var a = aggregateOf(randomValues(1));
+            var b = aggregateOf(randomValues(2));
+            var c = aggregateOf(randomValues(3));
+
+            var left = aggregateOf(randomValues(1));
+            left.merge(b);
+            left.merge(c);
+            var bc = aggregateOf(randomValues(2));
+            bc.merge(c);
+            a.merge(bc);
+
+            assertThat(a.exactSum())
+                .isEqualTo(left.exactSum());
+        }
+
+        @Test
+        void ignores_empty_aggregates() {
+            var aggregate = aggregateOf(List.of(BigDecimal.ONE));
+            aggregate.merge(new PartialAggregate());
+
+            var empty = new PartialAggregate();
+            empty.merge(aggregate);
+
+            assertThat(empty.getCount())
+                .isEqualTo(1);
+            assertThat(empty.getMin(MONETARY))
+                .contains(MONETARY.of("1"));
+        }
+    }
+
+    @Nested
+    class WireFormat {
+
+        @Test
+        void roundtrips() {
+            var aggregate = aggregateOf(randomValues(42));
+            aggregate.accept(new BigDecimal("123456789012345678901234567890.123"));
+
+            var actual = PartialAggregate.fromByteArray(aggregate.toByteArray());
+
+            assertThat(actual.toString())
+                .isEqualTo(aggregate.toString());
+        }
+
+        @Test
+        void roundtrips_empty_aggregate() {
+            var bytes = new PartialAggregate().toByteArray();
+
+            assertThat(bytes)
+                .hasSize(2);
+            assertThat(PartialAggregate.fromByteArray(bytes).isEmpty())
+                .isTrue();
+        }
+
+        @Test
+        void is_compact() {
+            var aggregate = aggregateOf(List.of(new BigDecimal("12.34"), new BigDecimal("-1.00")));
+
+            // version + count + 3 * (scale + tag + value)
+            assertThat(aggregate.toByteArray())
+                .hasSize(2 + 3 * 4);
+        }
+
+        @Test
+        void rejects_garbage() {
+            assertThrows(IllegalArgumentException.class, () -> PartialAggregate.fromByteArray(new byte[]{42}));
+            assertThrows(IllegalArgumentException.class, () -> PartialAggregate.fromByteArray(new byte[]{1, 1}));
+            assertThrows(IllegalArgumentException.class, () -> PartialAggregate.fromByteArray(new byte[]{1, 0, 0}));
+        }
+
+        @Test
+        void rejects_out_of_range_scales_and_lengths() {
+            // version, count 1, scale 2 * 10^9
+            var hugeScale = new byte[]{1, 1, (byte) 0x80, (byte) 0xD0, (byte) 0xAC, (byte) 0xF3, 0x0E, 0, 2};
+            // version, count 1, scale 0, big tag, length 2^31 - 1
+            var hugeLength = new byte[]{1, 1, 0, 1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07};
+
+            assertThat(assertThrows(IllegalArgumentException.class, () -> PartialAggregate.fromByteArray(hugeScale)))
+                .hasCauseInstanceOf(StreamCorruptedException.class);
+            assertThat(assertThrows(IllegalArgumentException.class, () -> PartialAggregate.fromByteArray(hugeLength)))
+                .hasCauseInstanceOf(StreamCorruptedException.class);
+        }
+
+        @Test
+        void supports_java_serialization() throws Exception {
+            var aggregate = aggregateOf(randomValues(7));
+
+            var bytes = new ByteArrayOutputStream();
+            try (var out = new ObjectOutputStream(bytes)) {
+                out.writeObject(aggregate);
+            }
+            PartialAggregate actual;
+            try (var in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+                actual = (PartialAggregate) in.readObject();
+            }
+
+            assertThat(actual.toString())
+                .isEqualTo(aggregate.toString());
+        }
+    }
+}
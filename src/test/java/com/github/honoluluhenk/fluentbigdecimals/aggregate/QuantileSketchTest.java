@@ -0,0 +1,217 @@
+package com.github.honoluluhenk.fluentbigdecimals.aggregate;
+
+import com.github.honoluluhenk.fluentbigdecimals.Configuration;
+import com.github.honoluluhenk.fluentbigdecimals.ConfigurationFactory;
+import com.github.honoluluhenk.fluentbigdecimals.FluentBigDecimal;
+import com.github.honoluluhenk.fluentbigdecimals.scaler.NopScaler;
+import lombok.var;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Random;
+
+import static com.github.honoluluhenk.fluentbigdecimals.ConfigurationFactory.FLUENT_BIGDECIMAL_FACTORY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class QuantileSketchTest {
+    private static final Configuration<FluentBigDecimal> MONETARY = ConfigurationFactory.monetary(20);
+
+    private static long[] randomUnscaled(long seed, int count) {
+        var random = new Random(seed);
+        var result = new long[count];
+        for (int i = 0; i < count; i++) {
+            // skewed, like latencies
+            result[i] = (long) (Math.exp(random.nextGaussian() * 2) * 10_000);
+        }
+
+        return result;
+    }
+
+    /**
+     * Rank of value in sorted, as fraction of values less or equal.
+     */
+    private static double rankOf(long[] sorted, long value) {
+        int index = Arrays.binarySearch(sorted, value);
+        while (index + 1 < sorted.length && sorted[index + 1] == value) {
+            index++;
+        }
+
+        return (index + 1) / (double) sorted.length;
+    }
+
+    private static long unscaled(FluentBigDecimal value) {
+        return value.getValue().movePointRight(2).longValueExact();
+    }
+
+    @Nested
+    class Construction {
+
+        @Test
+        void requires_fixed_scale() {
+            var config = Configuration.createConfiguration(
+                new MathContext(20, RoundingMode.HALF_UP), new NopScaler(), FLUENT_BIGDECIMAL_FACTORY
+            );
+
+            assertThrows(IllegalArgumentException.class, () -> new QuantileSketch<>(config));
+        }
+
+        @Test
+        void requires_reasonable_k() {
+            assertThrows(IllegalArgumentException.class, () -> new QuantileSketch<>(MONETARY, 2));
+        }
+
+        @Test
+        void is_empty_initially() {
+            var sketch = new QuantileSketch<>(MONETARY);
+
+            assertThat(sketch.isEmpty())
+                .isTrue();
+            assertThat(sketch.getMedian())
+                .isEmpty();
+            assertThat(sketch.getQuantiles(0.5, 0.99))
+                .isEmpty();
+            assertThat(sketch.getMin())
+                .isEmpty();
+        }
+
+        @ParameterizedTest
+        @ValueSource(doubles = {-0.1, 1.1, Double.NaN})
+        void rejects_invalid_ranks(double rank) {
+            var sketch = new QuantileSketch<>(MONETARY);
+
+            assertThrows(IllegalArgumentException.class, () -> sketch.getQuantile(rank));
+        }
+    }
+
+    @Nested
+    class Exact {
+
+        @Test
+        void is_exact_for_few_values() {
+            var sketch = new QuantileSketch<>(MONETARY);
+            for (int i = 1; i <= 100; i++) {
+                sketch.accept(BigDecimal.valueOf(i));
+            }
+
+            assertThat(sketch.getMedian().map(FluentBigDecimal::toPlainString))
+                .contains("50.00");
+            assertThat(sketch.getQuantile(0.99).map(FluentBigDecimal::toPlainString))
+                .contains("99.00");
+            assertThat(sketch.getQuantile(0.991).map(FluentBigDecimal::toPlainString))
+                .contains("100.00");
+            assertThat(sketch.getQuantile(0).map(FluentBigDecimal::toPlainString))
+                .contains("1.00");
+            assertThat(sketch.getQuantile(1).map(FluentBigDecimal::toPlainString))
+                .contains("100.00");
+        }
+
+        @Test
+        void rounds_values_to_the_scale_of_the_configuration() {
+            var sketch = new QuantileSketch<>(MONETARY);
+
+            sketch.accept(new BigDecimal("1.005"));
+            sketch.accept(MONETARY.of("2"));
+
+            assertThat(sketch.getMin().map(FluentBigDecimal::toPlainString))
+                .contains("1.01");
+            assertThat(sketch.getMax().map(FluentBigDecimal::toPlainString))
+                .contains("2.00");
+        }
+
+        @Test
+        void rejects_values_not_fitting_into_a_long() {
+            var sketch = new QuantileSketch<>(MONETARY);
+
+            assertThrows(ArithmeticException.class, () -> sketch.accept(new BigDecimal("1E+30")));
+            assertThrows(IllegalArgumentException.class, () -> sketch.acceptUnscaled(Long.MIN_VALUE));
+        }
+    }
+
+    @Nested
+    class Approximate {
+
+        @Test
+        void stays_within_the_rank_error() {
+            var values = randomUnscaled(42, 1_000_000);
+            var sketch = new QuantileSketch<>(MONETARY);
+            Arrays.stream(values).forEach(sketch::acceptUnscaled);
+            var sorted = values.clone();
+            Arrays.sort(sorted);
+
+            assertThat(sketch.getCount())
+                .isEqualTo(values.length);
+            assertThat(sketch.getRetained())
+                .isLessThan(4 * QuantileSketch.DEFAULT_K);
+            double[] ranks = {0.01, 0.1, 0.25, 0.5, 0.75, 0.9, 0.99};
+            var quantiles = sketch.getQuantiles(ranks);
+            for (int i = 0; i < ranks.length; i++) {
+                assertThat(rankOf(sorted, unscaled(quantiles.get(i))))
+                    .describedAs("rank %s", ranks[i])
+                    .isBetween(ranks[i] - 0.02, ranks[i] + 0.02);
+            }
+            assertThat(sketch.getMin().map(QuantileSketchTest::unscaled))
+                .contains(sorted[0]);
+            assertThat(sketch.getMax().map(QuantileSketchTest::unscaled))
+                .contains(sorted[sorted.length - 1]);
+        }
+
+        @Test
+        void is_reproducible() {
+            var values = randomUnscaled(7, 100_000);
+            var first = new QuantileSketch<>(MONETARY);
+            var second = new QuantileSketch<>(MONETARY);
+            Arrays.stream(values).forEach(first::acceptUnscaled);
+            Arrays.stream(values).forEach(second::acceptUnscaled);
+
+            assertThat(first.getQuantiles(0.5, 0.9, 0.99))
+                .isEqualTo(second.getQuantiles(0.5, 0.9, 0.99));
+        }
+
+        @Test
+        void merges() {
+            var values = randomUnscaled(11, 400_000);
+            var merged = new QuantileSketch<>(MONETARY);
+            for (int part = 0; part < 4; part++) {
+                var sketch = new QuantileSketch<>(MONETARY);
+                Arrays.stream(values, part * 100_000, (part + 1) * 100_000).forEach(sketch::acceptUnscaled);
+                merged.merge(sketch);
+            }
+            var sorted = values.clone();
+            Arrays.sort(sorted);
+
+            assertThat(merged.getCount())
+                .isEqualTo(values.length);
+            assertThat(merged.getRetained())
+                .isLessThan(4 * QuantileSketch.DEFAULT_K);
+            for (double rank : new double[]{0.1, 0.5, 0.99}) {
+                assertThat(rankOf(sorted, unscaled(merged.getQuantile(rank).get())))
+                    .describedAs("rank %s", rank)
+                    .isBetween(rank - 0.02, rank + 0.02);
+            }
+        }
+
+        @Test
+        void rejects_merging_different_configurations() {
+            var sketch = new QuantileSketch<>(MONETARY);
+
+            assertThrows(IllegalArgumentException.class,
+                () -> sketch.merge(new QuantileSketch<>(ConfigurationFactory.monetary(30))));
+        }
+    }
+
+    @Test
+    void toString_shows_state() {
+        var sketch = new QuantileSketch<>(MONETARY);
+        sketch.accept(BigDecimal.ONE);
+
+        assertThat(sketch)
+            .hasToString("QuantileSketch[count=1,k=200,retained=1," + MONETARY + "]");
+    }
+}
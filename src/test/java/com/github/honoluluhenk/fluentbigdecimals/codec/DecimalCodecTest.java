@@ -0,0 +1,208 @@
+package com.github.honoluluhenk.fluentbigdecimals.codec;
+
+import com.github.honoluluhenk.fluentbigdecimals.ConfigurationFactory;
+import com.github.honoluluhenk.fluentbigdecimals.FluentBigDecimal;
+import com.github.honoluluhenk.fluentbigdecimals.NotExactException;
+import com.github.honoluluhenk.fluentbigdecimals.ScalingConfiguration;
+import lombok.var;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.math.BigDecimal;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DecimalCodecTest {
+    private static final ScalingConfiguration<FluentBigDecimal> MONETARY = ConfigurationFactory.monetary(40);
+    private static final DecimalCodec<FluentBigDecimal> CODEC = DecimalCodec.of(MONETARY);
+
+    private static byte[] write(FluentBigDecimal value) throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        CODEC.write(new DataOutputStream(bytes), value);
+
+        return bytes.toByteArray();
+    }
+
+    private static byte[] writeBlock(List<FluentBigDecimal> values) throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        CODEC.writeBlock(new DataOutputStream(bytes), values);
+
+        return bytes.toByteArray();
+    }
+
+    private static DataInputStream input(byte[] bytes) {
+        return new DataInputStream(new ByteArrayInputStream(bytes));
+    }
+
+    private static List<FluentBigDecimal> randomValues(long seed, int maxScale) {
+        var random = new Random(seed);
+        var result = new ArrayList<FluentBigDecimal>();
+        for (int i = 0; i < 1_000; i++) {
+            var configuration = MONETARY.withScale(random.nextInt(maxScale + 1));
+            result.add(configuration.of(BigDecimal.valueOf(random.nextLong() >> random.nextInt(64), random.nextInt(6))));
+        }
+
+        return result;
+    }
+
+    @Nested
+    class SingleValues {
+
+        @Test
+        void round_trips_into_configuration() throws IOException {
+            for (var value : randomValues(42, 2)) {
+                var bytes = write(value);
+
+                assertThat(CODEC.read(input(bytes)).getValue())
+                    .isEqualByComparingTo(value.getValue());
+            }
+        }
+
+        @Test
+        void uses_few_bytes() throws IOException {
+            assertThat(write(MONETARY.of("1.50")))
+                .hasSize(3);
+            assertThat(write(MONETARY.of("0.00")))
+                .hasSize(2);
+            assertThat(write(MONETARY.of("12345.67")))
+                .hasSize(5);
+        }
+
+        @Test
+        void encodes_wide_values() throws IOException {
+            var value = MONETARY.of("-12345678901234567890123456789.01");
+
+            assertThat(CODEC.read(input(write(value))))
+                .isEqualTo(value);
+        }
+
+        @Test
+        void byte_buffer_matches_data_output() throws IOException {
+            var value = MONETARY.of("-12345.67");
+            var buffer = ByteBuffer.allocate(32);
+
+            CODEC.write(buffer, value);
+            buffer.flip();
+
+            assertThat(buffer.remaining())
+                .isEqualTo(write(value).length);
+            assertThat(CODEC.read(buffer))
+                .isEqualTo(value);
+            assertThat(buffer.hasRemaining())
+                .isFalse();
+        }
+
+        @Test
+        void rounds_or_checks_exactness() throws IOException {
+            var bytes = write(MONETARY.withScale(3).of("1.005"));
+
+            assertThat(CODEC.read(input(bytes)))
+                .isEqualTo(MONETARY.of("1.01"));
+            assertThrows(NotExactException.class, () -> DecimalCodec.exact(MONETARY).read(input(bytes)));
+        }
+
+        @Test
+        void fails_on_truncated_input() throws IOException {
+            var bytes = write(MONETARY.of("-12345678901234567890123456789.01"));
+            var truncated = java.util.Arrays.copyOf(bytes, bytes.length - 1);
+
+            assertThrows(IOException.class, () -> CODEC.read(input(truncated)));
+            assertThrows(BufferUnderflowException.class, () -> CODEC.read(ByteBuffer.wrap(truncated, 0, 1)));
+        }
+
+        @Test
+        void rejects_huge_wide_lengths() {
+            // wide header (scale 0), length 2^31 - 1
+            var bytes = new byte[]{0x01, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07};
+
+            assertThrows(StreamCorruptedException.class, () -> CODEC.read(input(bytes)));
+            assertThrows(IllegalArgumentException.class, () -> CODEC.read(ByteBuffer.wrap(bytes)));
+        }
+
+        @Test
+        void rejects_scales_out_of_range() {
+            // scale 2 * 10^9, unscaled 1
+            var bytes = new byte[]{(byte) 0x80, (byte) 0xA0, (byte) 0xD9, (byte) 0xE6, 0x1D, 0x02};
+
+            assertThrows(StreamCorruptedException.class, () -> CODEC.read(input(bytes)));
+            assertThrows(IllegalArgumentException.class, () -> CODEC.read(ByteBuffer.wrap(bytes)));
+        }
+
+        @Test
+        void accepts_scales_within_precision() throws IOException {
+            var value = MONETARY.withScale(40).of("1E-40");
+
+            assertThat(CODEC.read(input(write(value))))
+                .isEqualTo(MONETARY.of("0.00"));
+        }
+    }
+
+    @Nested
+    class Blocks {
+
+        @Test
+        void round_trips() throws IOException {
+            var values = randomValues(43, 2);
+
+            var read = CODEC.readBlock(input(writeBlock(values)));
+
+            assertThat(read)
+                .hasSameSizeAs(values);
+            for (int i = 0; i < values.size(); i++) {
+                assertThat(read.get(i).getValue())
+                    .isEqualByComparingTo(values.get(i).getValue());
+            }
+        }
+
+        @Test
+        void writes_the_scale_once() throws IOException {
+            var values = Collections.nCopies(100, MONETARY.of("1.50"));
+
+            // count (1 byte), header (1 byte), 2 bytes per value
+            assertThat(writeBlock(values))
+                .hasSize(2 + 2 * 100);
+        }
+
+        @Test
+        void falls_back_to_wide_values() throws IOException {
+            var values = List.of(MONETARY.of("1.5"), MONETARY.of("123456789012345678901234567890"));
+            var buffer = ByteBuffer.allocate(64);
+
+            CODEC.writeBlock(buffer, values);
+            buffer.flip();
+
+            assertThat(CODEC.readBlock(buffer))
+                .extracting(FluentBigDecimal::getValue)
+                .containsExactly(new BigDecimal("1.5"), new BigDecimal("123456789012345678901234567890.0"));
+        }
+
+        @Test
+        void reads_empty_blocks() throws IOException {
+            assertThat(CODEC.readBlock(input(writeBlock(List.of()))))
+                .isEmpty();
+        }
+
+        @Test
+        void rejects_invalid_counts() {
+            // count 2^62
+            var bytes = new byte[]{(byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80,
+                (byte) 0x80, (byte) 0x80, 0x40, 0};
+
+            assertThrows(StreamCorruptedException.class, () -> CODEC.readBlock(input(bytes)));
+            assertThrows(IllegalArgumentException.class, () -> CODEC.readBlock(ByteBuffer.wrap(bytes)));
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.github.honoluluhenk.fluentbigdecimals.codec;
+
+import com.github.honoluluhenk.fluentbigdecimals.ConfigurationFactory;
+import com.github.honoluluhenk.fluentbigdecimals.FluentBigDecimal;
+import com.github.honoluluhenk.fluentbigdecimals.NotExactException;
+import com.github.honoluluhenk.fluentbigdecimals.ScalingConfiguration;
+import com.github.honoluluhenk.fluentbigdecimals.codec.DecimalFormatSpec.NegativeStyle;
+import lombok.var;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DecimalFormatSpecTest {
+    private static final ScalingConfiguration<FluentBigDecimal> MONETARY = ConfigurationFactory.monetary(40);
+    private static final DecimalFormatSpec<FluentBigDecimal> SWISS = DecimalFormatSpec.of(MONETARY)
+        .withGroupingSeparator('\'');
+    private static final DecimalFormatSpec<FluentBigDecimal> GERMAN = DecimalFormatSpec.of(MONETARY)
+        .withSeparators('.', ',')
+        .withCurrencySuffix(" €");
+
+    @Nested
+    class Format {
+
+        @Test
+        void groups_and_pads_decimals() {
+            assertThat(SWISS.format(MONETARY.of("1234.5")))
+                .isEqualTo("1'234.50");
+            assertThat(SWISS.format(MONETARY.of("-1234567.891")))
+                .isEqualTo("-1'234'567.89");
+            assertThat(SWISS.format(MONETARY.of("0.05")))
+                .isEqualTo("0.05");
+            assertThat(SWISS.format(MONETARY.of("999")))
+                .isEqualTo("999.00");
+            assertThat(GERMAN.format(MONETARY.of("-1234.5")))
+                .isEqualTo("-1.234,50 €");
+        }
+
+        @Test
+        void applies_negative_styles() {
+            var chf = SWISS.withCurrencyPrefix("CHF ");
+            var value = MONETARY.of("-1234.5");
+
+            assertThat(chf.format(value))
+                .isEqualTo("CHF -1'234.50");
+            assertThat(chf.withNegativeStyle(NegativeStyle.TRAILING_MINUS).format(value))
+                .isEqualTo("CHF 1'234.50-");
+            assertThat(chf.withNegativeStyle(NegativeStyle.PARENTHESES).format(value))
+                .isEqualTo("(CHF 1'234.50)");
+            assertThat(chf.withNegativeStyle(NegativeStyle.PARENTHESES).format(MONETARY.of("1234.5")))
+                .isEqualTo("CHF 1'234.50");
+        }
+
+        @Test
+        void keeps_all_decimals_and_scales() {
+            var config = MONETARY.withScale(4);
+
+            assertThat(SWISS.format(config.of("1.2345")))
+                .isEqualTo("1.2345");
+            assertThat(SWISS.withMinFractionDigits(0).format(config.of("1E+4")))
+                .isEqualTo("10'000");
+        }
+
+        @Test
+        void formats_wide_values() {
+            assertThat(SWISS.format(MONETARY.of("-12345678901234567890123.4")))
+                .isEqualTo("-12'345'678'901'234'567'890'123.40");
+        }
+
+        @Test
+        void matches_java_text_DecimalFormat() {
+            var symbols = new DecimalFormatSymbols();
+            symbols.setGroupingSeparator('\'');
+            symbols.setDecimalSeparator('.');
+            var reference = new DecimalFormat("#,##0.00##########", symbols);
+            var random = new Random(42);
+            for (int i = 0; i < 10_000; i++) {
+                var value = MONETARY.of(BigDecimal.valueOf(random.nextLong() >> random.nextInt(64), random.nextInt(3)));
+
+                assertThat(SWISS.format(value))
+                    .isEqualTo(reference.format(value.getValue()));
+            }
+        }
+
+        @Test
+        void appends_to_builders_and_writers() throws IOException {
+            var value = MONETARY.of("1234.5");
+            var writer = new StringWriter();
+
+            assertThat(SWISS.formatTo(value, new StringBuilder("= ")).toString())
+                .isEqualTo("= 1'234.50");
+            assertThat(GERMAN.formatTo(value, writer).toString())
+                .isEqualTo("1.234,50 €");
+        }
+    }
+
+    @Nested
+    class Parse {
+
+        @ParameterizedTest
+        @ValueSource(strings = {"1'234.50", "1234.5", " 1'234.50 ", "1'234.499"})
+        void parses_swiss(String text) {
+            assertThat(SWISS.parse(text))
+                .isEqualByComparingTo(MONETARY.of("1234.50"));
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"-1.234,50 €", "-1234,50", "1.234,50- €", "(1.234,50 €)"})
+        void parses_german_and_signs(String text) {
+            var german = GERMAN.withNegativeStyle(NegativeStyle.PARENTHESES);
+
+            assertThat(german.parse(text))
+                .isEqualTo(MONETARY.of("-1234.50"));
+        }
+
+        @Test
+        void parses_currency_prefix_in_any_order() {
+            var chf = SWISS.withCurrencyPrefix("CHF ");
+
+            assertThat(chf.parse("CHF -1'234.50"))
+                .isEqualTo(MONETARY.of("-1234.50"));
+            assertThat(chf.parse("-CHF 1'234.50"))
+                .isEqualTo(MONETARY.of("-1234.50"));
+            assertThat(chf.parse("CHF1'234.50"))
+                .isEqualTo(MONETARY.of("1234.50"));
+        }
+
+        @Test
+        void accepts_no_break_spaces_for_space_grouping() {
+            var french = DecimalFormatSpec.of(MONETARY)
+                .withSeparators(' ', ',');
+
+            assertThat(french.parse("1\u00A0234\u202F567,5"))
+                .isEqualByComparingTo(MONETARY.of("1234567.50"));
+            assertThat(french.format(MONETARY.of("1234567.5")))
+                .isEqualTo("1 234 567,50");
+        }
+
+        @Test
+        void parses_wide_values() {
+            assertThat(SWISS.parse("-12'345'678'901'234'567'890'123.40").getValue())
+                .isEqualTo("-12345678901234567890123.40");
+        }
+
+        @Test
+        void round_trips_formatted_values() {
+            var chf = SWISS.withCurrencyPrefix("CHF ").withNegativeStyle(NegativeStyle.PARENTHESES);
+            var random = new Random(43);
+            for (int i = 0; i < 10_000; i++) {
+                var value = MONETARY.of(BigDecimal.valueOf(random.nextLong() >> random.nextInt(64), 2));
+
+                assertThat(chf.parseExact(chf.format(value)))
+                    .isEqualTo(value);
+            }
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"", "-", "abc", "1'23.50", "12'34", "1234'567", "1''234", "'123", "1.234.5", "1'234.5'0",
+            "--1", "(-1)", "1 234"})
+        void rejects_malformed_input(String text) {
+            assertThrows(NumberFormatException.class, () -> SWISS.parse(text));
+        }
+
+        @Test
+        void parseExact_rejects_rounding() {
+            assertThrows(NotExactException.class, () -> SWISS.parseExact("1.005"));
+        }
+    }
+
+    @Test
+    void rejects_invalid_separators() {
+        assertThrows(IllegalArgumentException.class, () -> SWISS.withDecimalSeparator('\''));
+        assertThrows(IllegalArgumentException.class, () -> SWISS.withGroupingSeparator('1'));
+        assertThrows(IllegalArgumentException.class, () -> SWISS.withMinFractionDigits(-1));
+    }
+}
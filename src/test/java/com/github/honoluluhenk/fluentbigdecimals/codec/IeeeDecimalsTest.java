@@ -0,0 +1,192 @@
+package com.github.honoluluhenk.fluentbigdecimals.codec;
+
+import com.github.honoluluhenk.fluentbigdecimals.Configuration;
+import com.github.honoluluhenk.fluentbigdecimals.ConfigurationFactory;
+import com.github.honoluluhenk.fluentbigdecimals.FluentBigDecimal;
+import com.github.honoluluhenk.fluentbigdecimals.NotExactException;
+import lombok.var;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class IeeeDecimalsTest {
+    private static final Configuration<FluentBigDecimal> MONETARY = ConfigurationFactory.monetary(30);
+
+    private static BigDecimal randomValue(Random random, int maxDigits) {
+        int digits = 1 + random.nextInt(maxDigits);
+        var unscaled = new BigInteger(digits * 10 / 3 + 1, random).mod(BigInteger.TEN.pow(digits));
+
+        return new BigDecimal(random.nextBoolean() ? unscaled : unscaled.negate(), random.nextInt(60) - 30);
+    }
+
+    @Nested
+    class Decimal64 {
+
+        @Test
+        void encodes_known_bit_patterns() {
+            assertThat(IeeeDecimals.toDecimal64(BigDecimal.ONE))
+                .isEqualTo(0x31C0_0000_0000_0001L);
+            assertThat(IeeeDecimals.toDecimal64(BigDecimal.ONE.negate()))
+                .isEqualTo(0xB1C0_0000_0000_0001L);
+            assertThat(IeeeDecimals.toDecimal64(new BigDecimal("9999999999999999")))
+                .isEqualTo(0x6C73_86F2_6FC0_FFFFL);
+            assertThat(IeeeDecimals.toDecimal64(new BigDecimal("1.50")))
+                .isEqualTo(0x3180_0000_0000_0096L);
+        }
+
+        @Test
+        void round_trips_value_and_scale() {
+            var random = new Random(42);
+            for (int i = 0; i < 10_000; i++) {
+                var value = randomValue(random, 16);
+
+                var decoded = IeeeDecimals.fromDecimal64(IeeeDecimals.toDecimal64(value));
+
+                assertThat(decoded)
+                    .isEqualTo(value);
+            }
+        }
+
+        @Test
+        void clamps_trailing_zeros_into_range() {
+            var tooManyDigits = new BigDecimal("1234567890123456000000");
+            var tooLarge = new BigDecimal("1E+370");
+            var tooSmall = new BigDecimal("1.0000E-398");
+
+            assertThat(IeeeDecimals.fromDecimal64(IeeeDecimals.toDecimal64(tooManyDigits)))
+                .isEqualByComparingTo(tooManyDigits);
+            assertThat(IeeeDecimals.fromDecimal64(IeeeDecimals.toDecimal64(tooLarge)))
+                .isEqualTo("10E+369");
+            assertThat(IeeeDecimals.fromDecimal64(IeeeDecimals.toDecimal64(tooSmall)))
+                .isEqualTo("1E-398");
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"1.000000000000000000", "1234.50000000000000000", "-10000000000000000000"})
+        void drops_only_as_many_trailing_zeros_as_needed(String text) {
+            var value = new BigDecimal(text);
+            int excess = value.precision() - 16;
+
+            var decoded = IeeeDecimals.fromDecimal64(IeeeDecimals.toDecimal64(value));
+
+            assertThat(decoded)
+                .isEqualByComparingTo(value);
+            assertThat(decoded.scale())
+                .isEqualTo(value.scale() - excess);
+            assertThat(decoded.precision())
+                .isEqualTo(16);
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"12345678901234567", "1E+385", "1E-399", "0.12345678901234567"})
+        void rejects_inexact_values(String value) {
+            assertThrows(ArithmeticException.class, () -> IeeeDecimals.toDecimal64(new BigDecimal(value)));
+        }
+
+        @Test
+        void rejects_infinity_and_nan() {
+            assertThrows(ArithmeticException.class, () -> IeeeDecimals.fromDecimal64(0x7800_0000_0000_0000L));
+            assertThrows(ArithmeticException.class, () -> IeeeDecimals.fromDecimal64(0x7C00_0000_0000_0000L));
+        }
+
+        @Test
+        void decodes_non_canonical_significand_as_zero() {
+            // significand 2^53 | (2^51 - 1) > 10^16 - 1
+            assertThat(IeeeDecimals.fromDecimal64(0x6C77_FFFF_FFFF_FFFFL))
+                .isEqualTo("0");
+        }
+
+        @Test
+        void decodes_into_configuration_exactly() {
+            var value = MONETARY.of("1234.56");
+
+            var decoded = IeeeDecimals.fromDecimal64(IeeeDecimals.toDecimal64(value), MONETARY);
+
+            assertThat(decoded)
+                .isEqualTo(value);
+            assertThrows(NotExactException.class,
+                () -> IeeeDecimals.fromDecimal64(IeeeDecimals.toDecimal64(new BigDecimal("0.125")), MONETARY));
+        }
+    }
+
+    @Nested
+    class Decimal128 {
+
+        @Test
+        void encodes_known_bit_patterns() {
+            assertThat(IeeeDecimals.toDecimal128(BigDecimal.ONE))
+                .containsExactly(0x3040_0000_0000_0000L, 1L);
+            assertThat(IeeeDecimals.toDecimal128(new BigDecimal("-0.01")))
+                .containsExactly(0xB03C_0000_0000_0000L, 1L);
+            // 10^34 - 1
+            assertThat(IeeeDecimals.toDecimal128(new BigDecimal("9999999999999999999999999999999999")))
+                .containsExactly(0x3041_ED09_BEAD_87C0L, 0x378D_8E63_FFFF_FFFFL);
+        }
+
+        @Test
+        void round_trips_value_and_scale() {
+            var random = new Random(43);
+            for (int i = 0; i < 10_000; i++) {
+                var value = randomValue(random, 34);
+
+                var words = IeeeDecimals.toDecimal128(value);
+                var decoded = IeeeDecimals.fromDecimal128(words[0], words[1]);
+
+                assertThat(decoded)
+                    .isEqualTo(value);
+            }
+        }
+
+        @Test
+        void writes_into_slots() {
+            var slots = new long[4];
+
+            IeeeDecimals.toDecimal128(new BigDecimal("12.34"), slots, 2);
+
+            assertThat(slots)
+                .containsExactly(0, 0, 0x303C_0000_0000_0000L, 1234L);
+        }
+
+        @Test
+        void drops_only_as_many_trailing_zeros_as_needed() {
+            var value = new BigDecimal("1.00000000000000000000000000000000000000");
+            var words = IeeeDecimals.toDecimal128(value);
+
+            assertThat(IeeeDecimals.fromDecimal128(words[0], words[1]))
+                .isEqualTo("1.000000000000000000000000000000000");
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"12345678901234567890123456789012345", "1E+6145", "1E-6177"})
+        void rejects_inexact_values(String value) {
+            assertThrows(ArithmeticException.class, () -> IeeeDecimals.toDecimal128(new BigDecimal(value)));
+        }
+
+        @Test
+        void decodes_non_canonical_significand_as_zero() {
+            assertThat(IeeeDecimals.fromDecimal128(0x3041_FFFF_FFFF_FFFFL, -1L))
+                .isEqualTo("0");
+            assertThat(IeeeDecimals.fromDecimal128(0x6000_0000_0000_0000L, 0L).signum())
+                .isZero();
+        }
+
+        @Test
+        void decodes_into_configuration_exactly() {
+            var value = MONETARY.of("123456789012345678901234567.89");
+            var words = IeeeDecimals.toDecimal128(value);
+
+            var decoded = IeeeDecimals.fromDecimal128(words[0], words[1], MONETARY);
+
+            assertThat(decoded)
+                .isEqualTo(value);
+        }
+    }
+}
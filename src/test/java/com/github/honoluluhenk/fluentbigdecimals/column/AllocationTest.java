@@ -0,0 +1,210 @@
+package com.github.honoluluhenk.fluentbigdecimals.column;
+
+import com.github.honoluluhenk.fluentbigdecimals.CashRoundingUnits;
+import com.github.honoluluhenk.fluentbigdecimals.Configuration;
+import com.github.honoluluhenk.fluentbigdecimals.ConfigurationFactory;
+import com.github.honoluluhenk.fluentbigdecimals.FluentBigDecimal;
+import com.github.honoluluhenk.fluentbigdecimals.scaler.NopScaler;
+import lombok.var;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static java.math.RoundingMode.HALF_UP;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AllocationTest {
+    private static final Configuration<FluentBigDecimal> MONETARY = ConfigurationFactory.monetary(20);
+    private static final Configuration<FluentBigDecimal> CASH =
+        ConfigurationFactory.cashRounding(20, CashRoundingUnits.ROUND_DOT05);
+
+    private static String[] plainStrings(DecimalColumn<FluentBigDecimal> column) {
+        return column.toList().stream()
+            .map(FluentBigDecimal::toPlainString)
+            .toArray(String[]::new);
+    }
+
+    private static BigDecimal sum(DecimalColumn<FluentBigDecimal> column) {
+        return column.toList().stream()
+            .map(FluentBigDecimal::getValue)
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    /**
+     * Straightforward Hamilton's method: sort by remainder.
+     */
+    private static long[] referenceAllocation(long units, long[] ratios) {
+        var ratioSum = Arrays.stream(ratios).mapToObj(BigInteger::valueOf).reduce(BigInteger.ZERO, BigInteger::add);
+        var shares = new long[ratios.length];
+        var remainders = new BigInteger[ratios.length];
+        long distributed = 0;
+        for (int i = 0; i < ratios.length; i++) {
+            var qr = BigInteger.valueOf(units).multiply(BigInteger.valueOf(ratios[i])).divideAndRemainder(ratioSum);
+            shares[i] = qr[0].longValueExact();
+            remainders[i] = qr[1];
+            distributed += shares[i];
+        }
+        var byRemainder = IntStream.range(0, ratios.length)
+            .boxed()
+            .sorted(Comparator.<Integer, BigInteger>comparing(i -> remainders[i]).reversed()
+                .thenComparing(i -> i))
+            .mapToInt(i -> i)
+            .toArray();
+        for (int i = 0; i < units - distributed; i++) {
+            shares[byRemainder[i]]++;
+        }
+
+        return shares;
+    }
+
+    @Nested
+    class Split {
+
+        @Test
+        void distributes_remainder_to_first_shares() {
+            var actual = Allocation.split(MONETARY.of("100.00"), 3);
+
+            assertThat(plainStrings(actual))
+                .containsExactly("33.34", "33.33", "33.33");
+        }
+
+        @Test
+        void splits_negative_totals_symmetrically() {
+            var actual = Allocation.split(MONETARY.of("-100.00"), 3);
+
+            assertThat(plainStrings(actual))
+                .containsExactly("-33.34", "-33.33", "-33.33");
+        }
+
+        @Test
+        void respects_cash_rounding_unit() {
+            var actual = Allocation.split(CASH.of("100.00"), 3);
+
+            assertThat(plainStrings(actual))
+                .containsExactly("33.35", "33.35", "33.30");
+        }
+
+        @Test
+        void rounds_total_first() {
+            var actual = Allocation.split(MONETARY.ofRaw("0.999"), 2);
+
+            assertThat(plainStrings(actual))
+                .containsExactly("0.50", "0.50");
+        }
+
+        @Test
+        void adds_up_exactly_for_many_shares() {
+            var total = MONETARY.of("1234567.89");
+
+            var actual = Allocation.split(total, 300_000);
+
+            assertThat(actual.size())
+                .isEqualTo(300_000);
+            assertThat(sum(actual))
+                .isEqualByComparingTo(total.getValue());
+        }
+
+        @Test
+        void rejects_non_positive_n() {
+            var total = MONETARY.of("1");
+
+            assertThrows(IllegalArgumentException.class, () -> Allocation.split(total, 0));
+        }
+
+        @Test
+        void rejects_configuration_without_fixed_scale() {
+            var total = ConfigurationFactory.create(20, HALF_UP, new NopScaler()).of("1");
+
+            assertThrows(IllegalArgumentException.class, () -> Allocation.split(total, 2));
+        }
+    }
+
+    @Nested
+    class Allocate {
+
+        @Test
+        void distributes_by_largest_remainder() {
+            // 10.00 * (1, 2, 3) / 6 = 1.666, 3.333, 5.00: the first share has the larger remainder
+            var actual = Allocation.allocate(MONETARY.of("10.00"), new long[]{1, 2, 3});
+
+            assertThat(plainStrings(actual))
+                .containsExactly("1.67", "3.33", "5.00");
+        }
+
+        @Test
+        void gives_ties_to_lower_index() {
+            var actual = Allocation.allocate(MONETARY.of("0.01"), new long[]{0, 1, 1});
+
+            assertThat(plainStrings(actual))
+                .containsExactly("0.00", "0.01", "0.00");
+        }
+
+        @Test
+        void respects_cash_rounding_unit() {
+            var actual = Allocation.allocate(CASH.of("1.00"), new long[]{1, 1, 1, 1, 1, 1, 1});
+
+            assertThat(plainStrings(actual))
+                .containsExactly("0.15", "0.15", "0.15", "0.15", "0.15", "0.15", "0.10");
+            assertThat(sum(actual))
+                .isEqualByComparingTo("1.00");
+        }
+
+        @Test
+        void handles_ratios_whose_products_overflow() {
+            var ratios = new long[]{Long.MAX_VALUE / 3, Long.MAX_VALUE / 3, 1};
+
+            var actual = Allocation.allocate(MONETARY.of("1000000.00"), ratios);
+
+            assertThat(plainStrings(actual))
+                .containsExactly("500000.00", "500000.00", "0.00");
+        }
+
+        @Test
+        void matches_reference_implementation() {
+            var random = new Random(42);
+            for (int round = 0; round < 200; round++) {
+                long units = random.nextInt(1_000_000) - 500_000;
+                var ratios = random.longs(1 + random.nextInt(50), 0, 1 + random.nextInt(1000)).toArray();
+                ratios[0]++;
+
+                var actual = Allocation.allocate(MONETARY.of(BigDecimal.valueOf(units, 2)), ratios);
+
+                var expected = referenceAllocation(Math.abs(units), ratios);
+                for (int i = 0; i < expected.length; i++) {
+                    expected[i] *= Long.signum(units);
+                }
+                assertThat(actual.toUnscaledArray())
+                    .containsExactly(expected);
+            }
+        }
+
+        @Test
+        void adds_up_exactly_for_many_shares() {
+            var random = new Random(42);
+            var ratios = random.longs(500_000, 0, 1_000_000).toArray();
+            var total = MONETARY.of("98765432.10");
+
+            var actual = Allocation.allocate(total, ratios);
+
+            assertThat(sum(actual))
+                .isEqualByComparingTo(total.getValue());
+        }
+
+        @Test
+        void rejects_invalid_ratios() {
+            var total = MONETARY.of("1");
+
+            assertThrows(IllegalArgumentException.class, () -> Allocation.allocate(total, new long[0]));
+            assertThrows(IllegalArgumentException.class, () -> Allocation.allocate(total, new long[]{0, 0}));
+            assertThrows(IllegalArgumentException.class, () -> Allocation.allocate(total, new long[]{1, -1}));
+            assertThrows(ArithmeticException.class, () -> Allocation.allocate(total, new long[]{Long.MAX_VALUE, 1}));
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.github.honoluluhenk.fluentbigdecimals.column;
+
+import lombok.var;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BitmasksTest {
+
+    private static long[] maskOf(int size, int... indexes) {
+        var mask = Bitmasks.of(size);
+        for (int index : indexes) {
+            Bitmasks.set(mask, index, true);
+        }
+
+        return mask;
+    }
+
+    @Nested
+    class Of {
+
+        @Test
+        void creates_empty_mask() {
+            assertThat(Bitmasks.of(130))
+                .hasSize(3)
+                .containsOnly(0L);
+        }
+
+        @Test
+        void rejects_negative_size() {
+            assertThrows(IllegalArgumentException.class, () -> Bitmasks.of(-1));
+        }
+    }
+
+    @Nested
+    class GetAndSet {
+
+        @Test
+        void sets_and_clears_bits() {
+            var mask = maskOf(100, 0, 63, 64, 99);
+
+            assertThat(Bitmasks.get(mask, 63)).isTrue();
+            assertThat(Bitmasks.get(mask, 62)).isFalse();
+            assertThat(Bitmasks.cardinality(mask)).isEqualTo(4);
+
+            Bitmasks.set(mask, 63, false);
+
+            assertThat(Bitmasks.get(mask, 63)).isFalse();
+            assertThat(Bitmasks.indexes(mask)).containsExactly(0, 64, 99);
+        }
+    }
+
+    @Nested
+    class Combine {
+
+        @Test
+        void and_or_andNot() {
+            var a = maskOf(70, 1, 2, 65);
+            var b = maskOf(70, 2, 3, 65, 69);
+
+            assertThat(Bitmasks.indexes(Bitmasks.and(a, b)))
+                .containsExactly(2, 65);
+            assertThat(Bitmasks.indexes(Bitmasks.or(a, b)))
+                .containsExactly(1, 2, 3, 65, 69);
+            assertThat(Bitmasks.indexes(Bitmasks.andNot(a, b)))
+                .containsExactly(1);
+        }
+
+        @Test
+        void not_keeps_unused_bits_clear() {
+            var mask = maskOf(66, 0, 65);
+
+            var result = Bitmasks.not(mask, 66);
+
+            assertThat(Bitmasks.cardinality(result))
+                .isEqualTo(64);
+            assertThat(Bitmasks.get(result, 64)).isTrue();
+            assertThat(Bitmasks.get(result, 65)).isFalse();
+        }
+
+        @Test
+        void rejects_mismatching_lengths() {
+            assertThrows(IllegalArgumentException.class, () -> Bitmasks.and(Bitmasks.of(64), Bitmasks.of(65)));
+            assertThrows(IllegalArgumentException.class, () -> Bitmasks.not(Bitmasks.of(64), 65));
+        }
+    }
+}
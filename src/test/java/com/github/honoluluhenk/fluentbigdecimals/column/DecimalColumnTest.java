@@ -0,0 +1,218 @@
+package com.github.honoluluhenk.fluentbigdecimals.column;
+
+import com.github.honoluluhenk.fluentbigdecimals.Configuration;
+import com.github.honoluluhenk.fluentbigdecimals.ConfigurationFactory;
+import com.github.honoluluhenk.fluentbigdecimals.FluentBigDecimal;
+import com.github.honoluluhenk.fluentbigdecimals.scaler.MaxScaleScaler;
+import com.github.honoluluhenk.fluentbigdecimals.scaler.NopScaler;
+import lombok.var;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static java.math.RoundingMode.HALF_UP;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DecimalColumnTest {
+    private static final Configuration<FluentBigDecimal> MONETARY = ConfigurationFactory.monetary(30);
+
+    @Nested
+    class Of {
+
+        @Test
+        void stores_unscaled_values_at_configuration_scale() {
+            var column = DecimalColumn.of(MONETARY, List.of(MONETARY.of("1.5"), MONETARY.of("-2")));
+
+            assertThat(column.getScale())
+                .isEqualTo(2);
+            assertThat(column.toUnscaledArray())
+                .containsExactly(150, -200);
+            assertThat(column.get(0))
+                .isEqualTo(MONETARY.of("1.50"));
+        }
+
+        @Test
+        void keeps_values_exact() {
+            var column = DecimalColumn.of(MONETARY, new BigDecimal("1.005"), new BigDecimal("1"));
+
+            assertThat(column.getValue(0))
+                .isEqualTo("1.005");
+            assertThat(column.hasUnscaled(0))
+                .isFalse();
+            assertThat(column.hasUnscaled(1))
+                .isTrue();
+            assertThat(column.isAllUnscaled())
+                .isFalse();
+            assertThrows(ArithmeticException.class, () -> column.getUnscaled(0));
+            assertThrows(ArithmeticException.class, column::toUnscaledArray);
+        }
+
+        @Test
+        void supports_configurations_without_fixed_scale() {
+            var nop = ConfigurationFactory.create(10, HALF_UP, new NopScaler());
+            var column = DecimalColumn.of(nop, new BigDecimal("1.23456"));
+
+            assertThat(column.get(0).getValue())
+                .isEqualTo("1.23456");
+        }
+    }
+
+    @Nested
+    class OfUnscaled {
+
+        @Test
+        void copies_input() {
+            long[] input = {1, 2};
+            var column = DecimalColumn.ofUnscaled(MONETARY, input);
+            input[0] = 42;
+
+            assertThat(column.getUnscaled(0))
+                .isEqualTo(1);
+        }
+
+        @Test
+        void rejects_configurations_without_fixed_scale() {
+            var nop = ConfigurationFactory.create(10, HALF_UP, new NopScaler());
+
+            assertThrows(IllegalArgumentException.class, () -> DecimalColumn.ofUnscaled(nop, new long[]{1}));
+        }
+
+        @Test
+        void rejects_reserved_value() {
+            assertThrows(IllegalArgumentException.class, () -> DecimalColumn.ofUnscaled(MONETARY, new long[]{Long.MIN_VALUE}));
+        }
+    }
+
+    @Nested
+    class ToList {
+
+        @Test
+        void contains_all_values() {
+            var column = DecimalColumn.ofUnscaled(MONETARY, new long[]{1, 2});
+
+            assertThat(column.toList())
+                .containsExactly(MONETARY.of("0.01"), MONETARY.of("0.02"));
+        }
+    }
+
+    @Nested
+    class Select {
+
+        @Test
+        void picks_values_in_order_of_indexes() {
+            var column = DecimalColumn.of(MONETARY, new BigDecimal("1"), new BigDecimal("1E+30"), new BigDecimal("3"));
+
+            var selected = column.select(new int[]{2, 1, 2});
+
+            assertThat(selected.size())
+                .isEqualTo(3);
+            assertThat(selected.getUnscaled(0))
+                .isEqualTo(300);
+            assertThat(selected.getValue(1))
+                .isEqualTo(new BigDecimal("1E+30"));
+            assertThat(selected.hasUnscaled(1))
+                .isFalse();
+            assertThrows(IndexOutOfBoundsException.class, () -> column.select(new int[]{3}));
+        }
+    }
+
+    @Nested
+    class Filter {
+
+        @Test
+        void keeps_values_of_set_bits() {
+            var column = DecimalColumn.of(MONETARY, new BigDecimal("1"), new BigDecimal("-1E+30"), new BigDecimal("3"));
+
+            var filtered = column.filter(DecimalPredicates.lessThan(column, new BigDecimal("2")));
+
+            assertThat(filtered.size())
+                .isEqualTo(2);
+            assertThat(filtered.getUnscaled(0))
+                .isEqualTo(100);
+            assertThat(filtered.getValue(1))
+                .isEqualTo(new BigDecimal("-1E+30"));
+            assertThrows(IllegalArgumentException.class, () -> column.filter(new long[2]));
+        }
+    }
+
+    @Nested
+    class Arithmetic {
+        private final DecimalColumn<FluentBigDecimal> left = DecimalColumn.of(MONETARY, new BigDecimal("1.5"), new BigDecimal("-2"));
+        private final DecimalColumn<FluentBigDecimal> right = DecimalColumn.of(MONETARY, new BigDecimal("0.25"), new BigDecimal("3"));
+
+        @Test
+        void adds_and_subtracts_by_index() {
+            assertThat(left.add(right).toUnscaledArray())
+                .containsExactly(175, 100);
+            assertThat(left.subtract(right).toUnscaledArray())
+                .containsExactly(125, -500);
+        }
+
+        @Test
+        void multiplies() {
+            assertThat(left.multiply(-3).toUnscaledArray())
+                .containsExactly(-450, 600);
+        }
+
+        @Test
+        void falls_back_to_BigDecimal_on_overflow() {
+            var big = DecimalColumn.ofUnscaled(MONETARY, new long[]{Long.MAX_VALUE, 1});
+            var withOverflow = DecimalColumn.of(MONETARY, new BigDecimal("1E+30"), new BigDecimal("1.005"));
+
+            var sum = big.add(big);
+
+            assertThat(sum.hasUnscaled(0))
+                .isFalse();
+            assertThat(sum.getValue(0))
+                .isEqualTo(new BigDecimal("184467440737095516.14"));
+            assertThat(sum.getUnscaled(1))
+                .isEqualTo(2);
+            assertThat(big.multiply(2).getValue(0))
+                .isEqualTo(new BigDecimal("184467440737095516.14"));
+            assertThat(withOverflow.subtract(big).getValue(1))
+                .isEqualTo(new BigDecimal("0.995"));
+        }
+
+        @Test
+        void rejects_mismatches() {
+            var other = DecimalColumn.of(ConfigurationFactory.monetary(20), new BigDecimal("1"), new BigDecimal("2"));
+
+            assertThrows(IllegalArgumentException.class, () -> left.add(other));
+            assertThrows(IllegalArgumentException.class, () -> left.subtract(left.select(new int[]{0})));
+        }
+    }
+
+    @Nested
+    class WithConfiguration {
+
+        @Test
+        void rescales_unscaled_values() {
+            var column = DecimalColumn.of(MONETARY, new BigDecimal("1.5"), new BigDecimal("-2"));
+            var fourDigits = ConfigurationFactory.create(30, HALF_UP, new MaxScaleScaler(4));
+
+            var rescaled = column.withConfiguration(fourDigits);
+
+            assertThat(rescaled.getScale())
+                .isEqualTo(4);
+            assertThat(rescaled.toUnscaledArray())
+                .containsExactly(15000, -20000);
+            assertThat(rescaled.withConfiguration(MONETARY).toUnscaledArray())
+                .containsExactly(150, -200);
+        }
+
+        @Test
+        void keeps_values_exact() {
+            var column = DecimalColumn.of(ConfigurationFactory.create(30, HALF_UP, new MaxScaleScaler(4)), new BigDecimal("1.2345"));
+
+            var rescaled = column.withConfiguration(MONETARY);
+
+            assertThat(rescaled.hasUnscaled(0))
+                .isFalse();
+            assertThat(rescaled.getValue(0))
+                .isEqualTo(new BigDecimal("1.2345"));
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.github.honoluluhenk.fluentbigdecimals.column;
+
+import com.github.honoluluhenk.fluentbigdecimals.Configuration;
+import com.github.honoluluhenk.fluentbigdecimals.ConfigurationFactory;
+import com.github.honoluluhenk.fluentbigdecimals.FluentBigDecimal;
+import com.github.honoluluhenk.fluentbigdecimals.scaler.NopScaler;
+import lombok.var;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import static com.github.honoluluhenk.fluentbigdecimals.ConfigurationFactory.FLUENT_BIGDECIMAL_FACTORY;
+import static java.math.RoundingMode.HALF_UP;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DecimalPredicatesTest {
+    private static final Configuration<FluentBigDecimal> MONETARY = ConfigurationFactory.monetary(20);
+    private static final Configuration<FluentBigDecimal> NOP =
+        Configuration.createConfiguration(new MathContext(20, HALF_UP), new NopScaler(), FLUENT_BIGDECIMAL_FACTORY);
+
+    private static DecimalColumn<FluentBigDecimal> column(Configuration<FluentBigDecimal> configuration, String... values) {
+        return DecimalColumn.of(configuration, IntStream.range(0, values.length)
+            .mapToObj(i -> new BigDecimal(values[i]))
+            .toArray(BigDecimal[]::new));
+    }
+
+    private static int[] indexes(long[] mask) {
+        return Bitmasks.indexes(mask);
+    }
+
+    private static long[] reference(DecimalColumn<?> column, Predicate<BigDecimal> predicate) {
+        var mask = Bitmasks.of(column.size());
+        for (int i = 0; i < column.size(); i++) {
+            Bitmasks.set(mask, i, predicate.test(column.getValue(i)));
+        }
+
+        return mask;
+    }
+
+    private static BigDecimal d(String value) {
+        return new BigDecimal(value);
+    }
+
+    @Nested
+    class Comparisons {
+        private final DecimalColumn<FluentBigDecimal> column = column(MONETARY, "-2", "-1.5", "0", "1.25", "1.26", "3");
+
+        @Test
+        void greaterThan() {
+            assertThat(indexes(DecimalPredicates.greaterThan(column, d("1.25"))))
+                .containsExactly(4, 5);
+            assertThat(indexes(DecimalPredicates.greaterThan(column, d("1.251"))))
+                .containsExactly(4, 5);
+            assertThat(indexes(DecimalPredicates.greaterThan(column, d("-1.501"))))
+                .containsExactly(1, 2, 3, 4, 5);
+        }
+
+        @Test
+        void greaterThanOrEqualTo() {
+            assertThat(indexes(DecimalPredicates.greaterThanOrEqualTo(column, d("1.25"))))
+                .containsExactly(3, 4, 5);
+            assertThat(indexes(DecimalPredicates.greaterThanOrEqualTo(column, d("1.251"))))
+                .containsExactly(4, 5);
+        }
+
+        @Test
+        void lessThan() {
+            assertThat(indexes(DecimalPredicates.lessThan(column, d("1.25"))))
+                .containsExactly(0, 1, 2);
+            assertThat(indexes(DecimalPredicates.lessThan(column, d("1.251"))))
+                .containsExactly(0, 1, 2, 3);
+        }
+
+        @Test
+        void lessThanOrEqualTo() {
+            assertThat(indexes(DecimalPredicates.lessThanOrEqualTo(column, d("1.25"))))
+                .containsExactly(0, 1, 2, 3);
+            assertThat(indexes(DecimalPredicates.lessThanOrEqualTo(column, d("-1.501"))))
+                .containsExactly(0);
+        }
+
+        @Test
+        void comparesTo() {
+            assertThat(indexes(DecimalPredicates.comparesTo(column, d("1.2500"))))
+                .containsExactly(3);
+            assertThat(indexes(DecimalPredicates.comparesTo(column, d("1.255"))))
+                .isEmpty();
+            assertThat(indexes(DecimalPredicates.comparesTo(column, MONETARY.of("3"))))
+                .containsExactly(5);
+        }
+
+        @Test
+        void between() {
+            assertThat(indexes(DecimalPredicates.between(column, d("-1.5"), d("1.259"))))
+                .containsExactly(1, 2, 3);
+            assertThat(indexes(DecimalPredicates.between(column, MONETARY.of("3"), MONETARY.of("-3"))))
+                .isEmpty();
+        }
+
+        @Test
+        void isZero_and_signum() {
+            assertThat(indexes(DecimalPredicates.isZero(column)))
+                .containsExactly(2);
+            assertThat(indexes(DecimalPredicates.signum(column, -1)))
+                .containsExactly(0, 1);
+            assertThat(indexes(DecimalPredicates.signum(column, 0)))
+                .containsExactly(2);
+            assertThat(indexes(DecimalPredicates.signum(column, 1)))
+                .containsExactly(3, 4, 5);
+            assertThrows(IllegalArgumentException.class, () -> DecimalPredicates.signum(column, 2));
+        }
+
+        @Test
+        void handles_thresholds_beyond_long_range() {
+            assertThat(indexes(DecimalPredicates.greaterThan(column, d("1E+30"))))
+                .isEmpty();
+            assertThat(indexes(DecimalPredicates.greaterThan(column, d("-1E+30"))))
+                .hasSize(6);
+            assertThat(indexes(DecimalPredicates.lessThan(column, d("-1E+30"))))
+                .isEmpty();
+            assertThat(indexes(DecimalPredicates.lessThanOrEqualTo(column, d("1E+30"))))
+                .hasSize(6);
+        }
+    }
+
+    @Nested
+    class Overflow {
+
+        @Test
+        void compares_overflowing_values_exactly() {
+            var column = column(MONETARY, "1E+30", "1", "-1E+30", "92233720368547758.07");
+
+            assertThat(indexes(DecimalPredicates.greaterThan(column, d("2"))))
+                .containsExactly(0, 3);
+            assertThat(indexes(DecimalPredicates.lessThan(column, d("2"))))
+                .containsExactly(1, 2);
+            assertThat(indexes(DecimalPredicates.greaterThan(column, d("1E+29"))))
+                .containsExactly(0);
+            assertThat(indexes(DecimalPredicates.signum(column, -1)))
+                .containsExactly(2);
+        }
+
+        @Test
+        void supports_configurations_without_fixed_scale() {
+            var column = column(NOP, "3.5", "1.25", "0", "-2");
+
+            assertThat(indexes(DecimalPredicates.greaterThan(column, d("1.25"))))
+                .containsExactly(0);
+            assertThat(indexes(DecimalPredicates.between(column, d("0"), d("1.25"))))
+                .containsExactly(1, 2);
+            assertThat(indexes(DecimalPredicates.isZero(column)))
+                .containsExactly(2);
+        }
+    }
+
+    @Nested
+    class Reference {
+
+        @Test
+        void matches_compareTo() {
+            var random = new Random(42);
+            for (int round = 0; round < 100; round++) {
+                var values = new BigDecimal[random.nextInt(500)];
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = BigDecimal.valueOf(random.nextInt(2000) - 1000, 2);
+                    if (random.nextInt(20) == 0) {
+                        values[i] = values[i].scaleByPowerOfTen(25);
+                    }
+                }
+                var column = DecimalColumn.of(MONETARY, values);
+                var low = BigDecimal.valueOf(random.nextInt(2000) - 1000, 3);
+                var high = low.add(BigDecimal.valueOf(random.nextInt(10000), 3));
+
+                assertThat(DecimalPredicates.greaterThan(column, low))
+                    .isEqualTo(reference(column, v -> v.compareTo(low) > 0));
+                assertThat(DecimalPredicates.greaterThanOrEqualTo(column, low))
+                    .isEqualTo(reference(column, v -> v.compareTo(low) >= 0));
+                assertThat(DecimalPredicates.lessThan(column, low))
+                    .isEqualTo(reference(column, v -> v.compareTo(low) < 0));
+                assertThat(DecimalPredicates.lessThanOrEqualTo(column, low))
+                    .isEqualTo(reference(column, v -> v.compareTo(low) <= 0));
+                assertThat(DecimalPredicates.between(column, low, high))
+                    .isEqualTo(reference(column, v -> v.compareTo(low) >= 0 && v.compareTo(high) <= 0));
+            }
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package com.github.honoluluhenk.fluentbigdecimals.column;
+
+import com.github.honoluluhenk.fluentbigdecimals.Configuration;
+import com.github.honoluluhenk.fluentbigdecimals.ConfigurationFactory;
+import com.github.honoluluhenk.fluentbigdecimals.FluentBigDecimal;
+import com.github.honoluluhenk.fluentbigdecimals.scaler.CashRoundingScaler;
+import com.github.honoluluhenk.fluentbigdecimals.scaler.MaxScaleScaler;
+import com.github.honoluluhenk.fluentbigdecimals.scaler.NopScaler;
+import lombok.var;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Random;
+
+import static java.math.RoundingMode.HALF_UP;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DecimalSegmentArrayTest {
+    private static final Configuration<FluentBigDecimal> NARROW = ConfigurationFactory.create(7, HALF_UP, new MaxScaleScaler(2));
+    private static final Configuration<FluentBigDecimal> WIDE = ConfigurationFactory.monetary(30);
+
+    private static DecimalSegmentArray<FluentBigDecimal> array(Configuration<FluentBigDecimal> configuration, String... values) {
+        var result = DecimalSegmentArray.allocate(configuration, values.length);
+        for (int i = 0; i < values.length; i++) {
+            result.set(i, new BigDecimal(values[i]));
+        }
+
+        return result;
+    }
+
+    private static String[] plainStrings(DecimalSegmentArray<FluentBigDecimal> array) {
+        var result = new String[Math.toIntExact(array.size())];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = array.getValue(i).toPlainString();
+        }
+
+        return result;
+    }
+
+    @Nested
+    class Allocate {
+
+        @Test
+        void chooses_width_by_precision() {
+            try (var narrow = DecimalSegmentArray.allocate(NARROW, 10);
+                 var wide = DecimalSegmentArray.allocate(WIDE, 10)) {
+                assertThat(narrow.isWide()).isFalse();
+                assertThat(wide.isWide()).isTrue();
+                assertThat(narrow.getScale()).isEqualTo(2);
+                assertThat(narrow.getValue(9)).isEqualTo(new BigDecimal("0.00"));
+            }
+        }
+
+        @Test
+        void rejects_configurations_without_fixed_scale() {
+            var nop = ConfigurationFactory.create(new MathContext(20, HALF_UP), new NopScaler());
+
+            assertThrows(IllegalArgumentException.class, () -> DecimalSegmentArray.allocate(nop, 1));
+            assertThrows(IllegalArgumentException.class, () -> DecimalSegmentArray.allocate(NARROW, -1));
+        }
+    }
+
+    @Nested
+    class Set {
+
+        @Test
+        void rounds_by_configuration() {
+            try (var array = array(NARROW, "1.005", "-2", "12345.678")) {
+                assertThat(plainStrings(array))
+                    .containsExactly("1.01", "-2.00", "12345.68");
+                assertThat(array.get(0))
+                    .isEqualTo(NARROW.of("1.01"));
+            }
+        }
+
+        @Test
+        void stores_wide_values() {
+            try (var array = array(WIDE, "1234567890123456789012345.678", "-0.5")) {
+                assertThat(plainStrings(array))
+                    .containsExactly("1234567890123456789012345.68", "-0.50");
+            }
+        }
+
+        @Test
+        void fails_if_value_does_not_fit() {
+            var unlimited = ConfigurationFactory.create(new MathContext(0), new MaxScaleScaler(2));
+            try (var array = DecimalSegmentArray.allocate(unlimited, 1)) {
+                assertThrows(ArithmeticException.class, () -> array.set(0, new BigDecimal("1E+40")));
+                assertThrows(IndexOutOfBoundsException.class, () -> array.set(1, BigDecimal.ONE));
+            }
+        }
+    }
+
+    @Nested
+    class BulkOperations {
+
+        @Test
+        void add_and_subtract() {
+            try (var a = array(NARROW, "1.5", "-2", "99999.98");
+                 var b = array(NARROW, "0.25", "3", "0.01")) {
+                a.add(b);
+
+                assertThat(plainStrings(a))
+                    .containsExactly("1.75", "1.00", "99999.99");
+
+                a.subtract(b);
+
+                assertThat(plainStrings(a))
+                    .containsExactly("1.50", "-2.00", "99999.98");
+            }
+        }
+
+        @Test
+        void multiply_rounds_by_configuration() {
+            try (var a = array(NARROW, "1.5", "12345.67")) {
+                a.multiply(-3);
+
+                assertThat(plainStrings(a))
+                    .containsExactly("-4.50", "-37037.01");
+
+                a.multiply(2);
+
+                assertThat(plainStrings(a))
+                    .containsExactly("-9.00", "-74074.02");
+            }
+        }
+
+        @Test
+        void fails_like_the_configuration() {
+            try (var a = array(NARROW, "1", "99999.99", "2");
+                 var b = array(NARROW, "1", "0.01", "2")) {
+                // MaxScaleScaler: 100000.00 does not fit precision 7 with 2 decimals
+                assertThrows(ArithmeticException.class, () -> a.add(b));
+
+                assertThat(plainStrings(a))
+                    .containsExactly("2.00", "99999.99", "2.00");
+            }
+        }
+
+        @Test
+        void honors_cash_rounding() {
+            var cash = ConfigurationFactory.create(new MathContext(10, HALF_UP), CashRoundingScaler.of(new BigDecimal("0.05"), HALF_UP));
+            try (var a = array(cash, "1.05", "2.10")) {
+                a.multiply(3);
+
+                assertThat(plainStrings(a))
+                    .containsExactly("3.15", "6.30");
+            }
+        }
+
+        @Test
+        void wide_operations_match_BigDecimal() {
+            var random = new Random(42);
+            int size = 500;
+            try (var a = DecimalSegmentArray.allocate(WIDE, size);
+                 var b = DecimalSegmentArray.allocate(WIDE, size)) {
+                var expected = new BigDecimal[size];
+                for (int i = 0; i < size; i++) {
+                    var x = new BigDecimal(random.nextLong()).scaleByPowerOfTen(random.nextInt(8) - 2)
+                        .setScale(2, HALF_UP);
+                    var y = new BigDecimal(random.nextLong()).scaleByPowerOfTen(random.nextInt(8) - 2)
+                        .setScale(2, HALF_UP);
+                    a.set(i, x);
+                    b.set(i, y);
+                    expected[i] = WIDE.of(WIDE.of(x).getValue().add(y)).getValue();
+                }
+
+                a.add(b);
+
+                for (int i = 0; i < size; i++) {
+                    assertThat(a.getValue(i))
+                        .isEqualByComparingTo(expected[i]);
+                    expected[i] = WIDE.of(expected[i].subtract(b.getValue(i)).multiply(BigDecimal.valueOf(-7))).getValue();
+                }
+
+                a.subtract(b);
+                a.multiply(-7);
+
+                for (int i = 0; i < size; i++) {
+                    assertThat(a.getValue(i))
+                        .isEqualByComparingTo(expected[i]);
+                }
+            }
+        }
+
+        @Test
+        void multiply_and_divide_match_fluent_api() {
+            var random = new Random(7);
+            var rate = new BigDecimal("1.0837465");
+            for (var configuration : new Configuration[]{NARROW, WIDE}) {
+                @SuppressWarnings("unchecked")
+                Configuration<FluentBigDecimal> config = configuration;
+                int size = 500;
+                try (var a = DecimalSegmentArray.allocate(config, size)) {
+                    var expected = new FluentBigDecimal[size];
+                    for (int i = 0; i < size; i++) {
+                        long unscaled = config == NARROW ? random.nextInt(2_000_000) - 1_000_000 : random.nextLong();
+                        var value = config.of(BigDecimal.valueOf(unscaled, 2 + random.nextInt(3)));
+                        a.set(i, value.getValue());
+                        expected[i] = value.multiply(rate).divide(BigDecimal.valueOf(-3));
+                    }
+
+                    a.multiply(rate);
+                    a.divide(-3);
+
+                    for (int i = 0; i < size; i++) {
+                        assertThat(a.get(i))
+                            .isEqualTo(expected[i]);
+                    }
+                }
+            }
+        }
+
+        @Test
+        void rounds_wide_results_to_precision() {
+            try (var a = array(WIDE, "123456789012345678901234567.89", "-0.07")) {
+                a.multiply(new BigDecimal("1.5"));
+
+                assertThat(plainStrings(a))
+                    .containsExactly("185185183518518518351851851.84", "-0.11");
+
+                a.divide(7);
+
+                assertThat(plainStrings(a))
+                    .containsExactly("26455026216931216907407407.41", "-0.02");
+            }
+        }
+
+        @Test
+        void divide_fails_on_zero() {
+            try (var a = array(NARROW, "1")) {
+                assertThrows(ArithmeticException.class, () -> a.divide(0));
+            }
+        }
+
+        @Test
+        void sums_exactly() {
+            try (var narrow = array(NARROW, "9999.99", "9999.99", "-0.01");
+                 var wide = array(WIDE, "1E+25", "1.5", "-1E+25")) {
+                assertThat(narrow.sum())
+                    .isEqualTo(NARROW.of("19999.97"));
+                assertThat(wide.sum().getValue())
+                    .isEqualByComparingTo("1.5");
+            }
+        }
+
+        @Test
+        void rejects_mismatches() {
+            try (var a = array(NARROW, "1");
+                 var b = array(WIDE, "1");
+                 var c = array(NARROW, "1", "2")) {
+                assertThrows(IllegalArgumentException.class, () -> a.add(b));
+                assertThrows(IllegalArgumentException.class, () -> a.subtract(c));
+            }
+        }
+    }
+
+    @Test
+    void fails_after_close() {
+        var array = array(NARROW, "1");
+
+        array.close();
+
+        assertThrows(IllegalStateException.class, () -> array.getValue(0));
+    }
+}
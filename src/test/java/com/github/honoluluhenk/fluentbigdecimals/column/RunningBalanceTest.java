@@ -0,0 +1,167 @@
+package com.github.honoluluhenk.fluentbigdecimals.column;
+
+import com.github.honoluluhenk.fluentbigdecimals.CashRoundingUnits;
+import com.github.honoluluhenk.fluentbigdecimals.Configuration;
+import com.github.honoluluhenk.fluentbigdecimals.ConfigurationFactory;
+import com.github.honoluluhenk.fluentbigdecimals.FluentBigDecimal;
+import com.github.honoluluhenk.fluentbigdecimals.scaler.FixedScaleScaler;
+import com.github.honoluluhenk.fluentbigdecimals.scaler.NopScaler;
+import lombok.var;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static java.math.RoundingMode.HALF_UP;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RunningBalanceTest {
+
+    static Stream<Configuration<FluentBigDecimal>> configurations() {
+        return Stream.of(
+            ConfigurationFactory.monetary(20),
+            ConfigurationFactory.monetary(6),
+            ConfigurationFactory.create(6, HALF_UP, new FixedScaleScaler(2)),
+            ConfigurationFactory.create(20, HALF_UP, new FixedScaleScaler(1)),
+            ConfigurationFactory.create(6, HALF_UP, new NopScaler()),
+            ConfigurationFactory.cashRounding(20, CashRoundingUnits.ROUND_DOT05)
+        );
+    }
+
+    private static List<FluentBigDecimal> sequentialLoop(FluentBigDecimal opening, List<FluentBigDecimal> amounts) {
+        var result = new ArrayList<FluentBigDecimal>();
+        FluentBigDecimal balance = opening;
+        for (FluentBigDecimal amount : amounts) {
+            balance = balance.add(amount);
+            result.add(balance);
+        }
+
+        return result;
+    }
+
+    /**
+     * Either both produce the same balances or both fail with an {@link ArithmeticException}.
+     */
+    private static void assertSameOutcome(
+        Supplier<List<FluentBigDecimal>> expected,
+        Supplier<List<FluentBigDecimal>> actual
+    ) {
+        List<FluentBigDecimal> expectedBalances;
+        try {
+            expectedBalances = expected.get();
+        } catch (ArithmeticException e) {
+            assertThrows(ArithmeticException.class, actual::get);
+            return;
+        }
+
+        assertThat(actual.get())
+            .containsExactlyElementsOf(expectedBalances);
+    }
+
+    private static List<FluentBigDecimal> randomAmounts(Configuration<FluentBigDecimal> raw, int count, long seed) {
+        var random = new Random(seed);
+        var result = new ArrayList<FluentBigDecimal>();
+        for (int i = 0; i < count; i++) {
+            int scale = random.nextInt(4);
+            result.add(raw.ofRaw(BigDecimal.valueOf(random.nextInt(200_000) - 90_000, scale)));
+        }
+
+        return result;
+    }
+
+    @Nested
+    class OfList {
+
+        @ParameterizedTest
+        @MethodSource("com.github.honoluluhenk.fluentbigdecimals.column.RunningBalanceTest#configurations")
+        void is_identical_to_sequential_loop(Configuration<FluentBigDecimal> configuration) {
+            var amounts = randomAmounts(configuration, 5_000, 42);
+            var opening = configuration.of("12.3");
+
+            assertSameOutcome(() -> sequentialLoop(opening, amounts), () -> RunningBalance.of(opening, amounts));
+        }
+
+        @Test
+        void starts_at_zero() {
+            var configuration = ConfigurationFactory.monetary(20);
+            var amounts = List.of(configuration.of("1.10"), configuration.of("2"), configuration.of("-0.05"));
+
+            var actual = RunningBalance.of(configuration, amounts);
+
+            assertThat(actual)
+                .containsExactly(configuration.of("1.10"), configuration.of("3.10"), configuration.of("3.05"));
+        }
+
+        @Test
+        void throws_like_the_sequential_loop() {
+            var configuration = ConfigurationFactory.monetary(5);
+            var amounts = List.of(configuration.of("600"), configuration.of("600"));
+
+            assertThrows(ArithmeticException.class, () -> RunningBalance.of(configuration, amounts));
+        }
+
+        @Test
+        void handles_empty_input() {
+            var configuration = ConfigurationFactory.monetary(5);
+
+            assertThat(RunningBalance.of(configuration, List.of()))
+                .isEmpty();
+        }
+    }
+
+    @Nested
+    class OfColumn {
+
+        @ParameterizedTest
+        @MethodSource("com.github.honoluluhenk.fluentbigdecimals.column.RunningBalanceTest#configurations")
+        void is_identical_to_sequential_loop(Configuration<FluentBigDecimal> configuration) {
+            var column = DecimalColumn.of(configuration, randomAmounts(configuration, 5_000, 4711));
+            var opening = configuration.of("12.3");
+
+            assertSameOutcome(
+                () -> sequentialLoop(opening, column.toList()),
+                () -> column.runningBalance(opening).toList()
+            );
+        }
+
+        @Test
+        void stays_on_unscaled_longs() {
+            var configuration = ConfigurationFactory.monetary(20);
+            var column = DecimalColumn.ofUnscaled(configuration, new long[]{110, 200, -5});
+
+            var actual = column.runningBalance();
+
+            assertThat(actual.toUnscaledArray())
+                .containsExactly(110, 310, 305);
+        }
+
+        @Test
+        void falls_back_on_overflow() {
+            var configuration = ConfigurationFactory.monetary(40);
+            var column = DecimalColumn.ofUnscaled(configuration, new long[]{Long.MAX_VALUE, 1, -2});
+
+            var actual = column.runningBalance();
+
+            assertThat(actual.getValue(1))
+                .isEqualTo("92233720368547758.08");
+            assertThat(actual.getValue(2))
+                .isEqualTo("92233720368547758.06");
+        }
+
+        @Test
+        void throws_like_the_sequential_loop() {
+            var configuration = ConfigurationFactory.monetary(5);
+            var column = DecimalColumn.ofUnscaled(configuration, new long[]{60000, 60000});
+
+            assertThrows(ArithmeticException.class, column::runningBalance);
+        }
+    }
+}
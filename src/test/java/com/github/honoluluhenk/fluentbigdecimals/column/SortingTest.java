@@ -0,0 +1,161 @@
+package com.github.honoluluhenk.fluentbigdecimals.column;
+
+import com.github.honoluluhenk.fluentbigdecimals.Configuration;
+import com.github.honoluluhenk.fluentbigdecimals.ConfigurationFactory;
+import com.github.honoluluhenk.fluentbigdecimals.FluentBigDecimal;
+import com.github.honoluluhenk.fluentbigdecimals.scaler.NopScaler;
+import lombok.var;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static com.github.honoluluhenk.fluentbigdecimals.ConfigurationFactory.FLUENT_BIGDECIMAL_FACTORY;
+import static java.math.RoundingMode.HALF_UP;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SortingTest {
+    private static final Configuration<FluentBigDecimal> MONETARY = ConfigurationFactory.monetary(20);
+    private static final Configuration<FluentBigDecimal> NOP =
+        Configuration.createConfiguration(new MathContext(20, HALF_UP), new NopScaler(), FLUENT_BIGDECIMAL_FACTORY);
+
+    private static String[] plainStrings(DecimalColumn<FluentBigDecimal> column) {
+        return column.toList().stream()
+            .map(FluentBigDecimal::toPlainString)
+            .toArray(String[]::new);
+    }
+
+    private static DecimalColumn<FluentBigDecimal> column(Configuration<FluentBigDecimal> configuration, String... values) {
+        return DecimalColumn.of(configuration, IntStream.range(0, values.length)
+            .mapToObj(i -> new BigDecimal(values[i]))
+            .toArray(BigDecimal[]::new));
+    }
+
+    private static int[] referenceArgsort(DecimalColumn<?> column, boolean descending) {
+        Comparator<Integer> byValue = (a, b) -> column.getValue(a).compareTo(column.getValue(b));
+
+        return IntStream.range(0, column.size())
+            .boxed()
+            .sorted(descending ? byValue.reversed() : byValue)
+            .mapToInt(Integer::intValue)
+            .toArray();
+    }
+
+    private static DecimalColumn<FluentBigDecimal> randomColumn(long seed, int size, boolean withOverflow) {
+        var random = new Random(seed);
+        var values = new BigDecimal[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = BigDecimal.valueOf(random.nextInt(2000) - 1000, 2);
+            if (withOverflow && random.nextInt(10) == 0) {
+                values[i] = values[i].scaleByPowerOfTen(25);
+            }
+        }
+
+        return DecimalColumn.of(MONETARY, values);
+    }
+
+    @Nested
+    class Sort {
+
+        @Test
+        void sorts_ascending() {
+            var column = column(MONETARY, "3", "-1.5", "2.25", "0");
+
+            assertThat(plainStrings(Sorting.sort(column)))
+                .containsExactly("-1.50", "0.00", "2.25", "3.00");
+            assertThat(plainStrings(Sorting.parallelSort(column)))
+                .containsExactly("-1.50", "0.00", "2.25", "3.00");
+            assertThat(plainStrings(column.sorted()))
+                .containsExactly("-1.50", "0.00", "2.25", "3.00");
+        }
+
+        @Test
+        void falls_back_to_comparing_values() {
+            var column = column(MONETARY, "3", "1E+30", "-1E+30", "0.001");
+
+            assertThat(plainStrings(Sorting.sort(column)))
+                .containsExactly("-1000000000000000000000000000000", "0.001", "3.00", "1000000000000000000000000000000");
+        }
+
+        @Test
+        void supports_configurations_without_fixed_scale() {
+            var column = column(NOP, "3.5", "1.25", "2");
+
+            assertThat(plainStrings(Sorting.sort(column)))
+                .containsExactly("1.25", "2", "3.5");
+        }
+
+        @Test
+        void matches_comparator_sort() {
+            for (boolean withOverflow : new boolean[]{false, true}) {
+                var column = randomColumn(42, 100_000, withOverflow);
+                var expected = referenceArgsort(column, false);
+
+                assertThat(Sorting.argsort(column))
+                    .isEqualTo(expected);
+                assertThat(Sorting.parallelArgsort(column))
+                    .isEqualTo(expected);
+                assertThat(plainStrings(Sorting.parallelSort(column)))
+                    .isEqualTo(plainStrings(column.select(expected)));
+            }
+        }
+    }
+
+    @Nested
+    class TopAndBottom {
+
+        @Test
+        void selects_largest_descending() {
+            var column = column(MONETARY, "3", "-1.5", "7", "2.25", "7");
+
+            assertThat(Sorting.topIndexes(column, 3))
+                .containsExactly(2, 4, 0);
+            assertThat(plainStrings(column.top(3)))
+                .containsExactly("7.00", "7.00", "3.00");
+        }
+
+        @Test
+        void selects_smallest_ascending() {
+            var column = column(MONETARY, "3", "-1.5", "7", "-1.5", "7");
+
+            assertThat(Sorting.bottomIndexes(column, 3))
+                .containsExactly(1, 3, 0);
+            assertThat(plainStrings(Sorting.bottom(column, 1)))
+                .containsExactly("-1.50");
+        }
+
+        @Test
+        void handles_edge_cases() {
+            var column = column(MONETARY, "3", "1");
+
+            assertThat(Sorting.topIndexes(column, 0))
+                .isEmpty();
+            assertThat(Sorting.topIndexes(column, 2))
+                .containsExactly(0, 1);
+            assertThrows(IllegalArgumentException.class, () -> Sorting.topIndexes(column, 3));
+            assertThrows(IllegalArgumentException.class, () -> Sorting.bottomIndexes(column, -1));
+        }
+
+        @Test
+        void matches_comparator_sort() {
+            for (boolean withOverflow : new boolean[]{false, true}) {
+                var column = randomColumn(7, 10_000, withOverflow);
+                var descending = referenceArgsort(column, true);
+                var ascending = referenceArgsort(column, false);
+
+                for (int k : new int[]{1, 10, 1000, 10_000}) {
+                    assertThat(Sorting.topIndexes(column, k))
+                        .isEqualTo(Arrays.copyOf(descending, k));
+                    assertThat(Sorting.bottomIndexes(column, k))
+                        .isEqualTo(Arrays.copyOf(ascending, k));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.github.honoluluhenk.fluentbigdecimals.concurrent;
+
+import com.github.honoluluhenk.fluentbigdecimals.CashRoundingUnits;
+import com.github.honoluluhenk.fluentbigdecimals.Configuration;
+import com.github.honoluluhenk.fluentbigdecimals.ConfigurationFactory;
+import com.github.honoluluhenk.fluentbigdecimals.FluentBigDecimal;
+import com.github.honoluluhenk.fluentbigdecimals.scaler.NopScaler;
+import lombok.var;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static java.math.RoundingMode.HALF_UP;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AtomicFluentBigDecimalTest {
+    private static final Configuration<FluentBigDecimal> MONETARY = ConfigurationFactory.monetary(10);
+
+    static Stream<Configuration<FluentBigDecimal>> configurations() {
+        return Stream.of(
+            MONETARY,
+            ConfigurationFactory.create(10, HALF_UP, new NopScaler()),
+            ConfigurationFactory.cashRounding(10, CashRoundingUnits.ROUND_DOT05)
+        );
+    }
+
+    @Nested
+    class Add {
+
+        @Test
+        void addAndGet_returns_updated_value() {
+            var atomic = AtomicFluentBigDecimal.of(MONETARY.of("1.20"));
+
+            assertThat(atomic.addAndGet(new BigDecimal("0.30")))
+                .isEqualTo(MONETARY.of("1.50"));
+            assertThat(atomic.get())
+                .isEqualTo(MONETARY.of("1.50"));
+        }
+
+        @Test
+        void getAndAdd_returns_previous_value() {
+            var atomic = AtomicFluentBigDecimal.of(MONETARY.of("1.20"));
+
+            assertThat(atomic.getAndAdd(MONETARY.of("0.30")))
+                .isEqualTo(MONETARY.of("1.20"));
+            assertThat(atomic.get())
+                .isEqualTo(MONETARY.of("1.50"));
+        }
+
+        @ParameterizedTest
+        @MethodSource("com.github.honoluluhenk.fluentbigdecimals.concurrent.AtomicFluentBigDecimalTest#configurations")
+        void rounds_like_the_fluent_api(Configuration<FluentBigDecimal> configuration) {
+            var start = configuration.of("1.20");
+            var atomic = AtomicFluentBigDecimal.of(start);
+
+            var actual = atomic.addAndGet(new BigDecimal("0.018"));
+
+            assertThat(actual)
+                .isEqualByComparingTo(start.add(new BigDecimal("0.018")));
+        }
+
+        @Test
+        void falls_back_if_precision_is_exceeded() {
+            var atomic = AtomicFluentBigDecimal.of(MONETARY.of("99999999.99"));
+
+            assertThrows(ArithmeticException.class, () -> atomic.addAndGet(new BigDecimal("0.01")));
+            assertThat(atomic.get())
+                .isEqualTo(MONETARY.of("99999999.99"));
+        }
+
+        @ParameterizedTest
+        @MethodSource("com.github.honoluluhenk.fluentbigdecimals.concurrent.AtomicFluentBigDecimalTest#configurations")
+        void is_atomic_under_contention(Configuration<FluentBigDecimal> configuration) throws Exception {
+            var atomic = AtomicFluentBigDecimal.of(configuration);
+            int threads = 4;
+            int additions = 5_000;
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try {
+                var futures = new ArrayList<Future<?>>();
+                for (int t = 0; t < threads; t++) {
+                    futures.add(executor.submit(() -> {
+                        for (int i = 0; i < additions; i++) {
+                            atomic.addAndGet(new BigDecimal("0.05"));
+                        }
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get(1, TimeUnit.MINUTES);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            assertThat(atomic.get())
+                .isEqualByComparingTo(configuration.of("1000"));
+        }
+    }
+
+    @Nested
+    class CompareAndSet {
+
+        @Test
+        void compares_numerically() {
+            var atomic = AtomicFluentBigDecimal.of(MONETARY.of("1.5"));
+
+            boolean actual = atomic.compareAndSet(MONETARY.of("1.50"), MONETARY.of("2"));
+
+            assertThat(actual)
+                .isTrue();
+            assertThat(atomic.get().getValue())
+                .isEqualByComparingTo("2");
+        }
+
+        @Test
+        void fails_on_mismatch() {
+            var atomic = AtomicFluentBigDecimal.of(MONETARY.of("1.5"));
+
+            boolean actual = atomic.compareAndSet(MONETARY.of("1.51"), MONETARY.of("2"));
+
+            assertThat(actual)
+                .isFalse();
+            assertThat(atomic.get().getValue())
+                .isEqualByComparingTo("1.5");
+        }
+
+        @Test
+        void works_with_values_outside_of_the_long_form() {
+            var unrounded = MONETARY.ofRaw("1.005");
+            var atomic = AtomicFluentBigDecimal.of(unrounded);
+
+            assertThat(atomic.compareAndSet(MONETARY.of("1.00"), MONETARY.of("2")))
+                .isFalse();
+            assertThat(atomic.compareAndSet(unrounded, MONETARY.of("2")))
+                .isTrue();
+            assertThat(atomic.get().getValue())
+                .isEqualByComparingTo("2");
+        }
+
+        @ParameterizedTest
+        @MethodSource("com.github.honoluluhenk.fluentbigdecimals.concurrent.AtomicFluentBigDecimalTest#configurations")
+        void works_for_all_configurations(Configuration<FluentBigDecimal> configuration) {
+            var atomic = AtomicFluentBigDecimal.of(configuration.of("1.5"));
+
+            assertThat(atomic.compareAndSet(configuration.of("1.5"), configuration.of("3")))
+                .isTrue();
+            assertThat(atomic.get().getValue())
+                .isEqualByComparingTo("3");
+        }
+    }
+
+    @Nested
+    class Accumulate {
+
+        @Test
+        void accumulateAndGet_applies_projection() {
+            var atomic = AtomicFluentBigDecimal.of(MONETARY.of("10"));
+
+            var actual = atomic.accumulateAndGet((value, mc) -> value.divide(new BigDecimal("3"), mc));
+
+            assertThat(actual)
+                .isEqualTo(MONETARY.of("10").divide(new BigDecimal("3")));
+        }
+
+        @Test
+        void getAndAccumulate_returns_previous_value() {
+            var atomic = AtomicFluentBigDecimal.of(MONETARY.of("10"));
+
+            var actual = atomic.getAndAccumulate((value, mc) -> value.negate());
+
+            assertThat(actual.getValue())
+                .isEqualByComparingTo("10");
+            assertThat(atomic.get().getValue())
+                .isEqualByComparingTo("-10");
+        }
+    }
+
+    @Nested
+    class GetAndSet {
+
+        @Test
+        void starts_with_zero() {
+            assertThat(AtomicFluentBigDecimal.of(MONETARY).get().getValue())
+                .isEqualByComparingTo("0");
+        }
+
+        @Test
+        void returns_previous_value() {
+            var atomic = AtomicFluentBigDecimal.of(MONETARY.of("1"));
+
+            assertThat(atomic.getAndSet(MONETARY.of("2")).getValue())
+                .isEqualByComparingTo("1");
+            assertThat(atomic.toString())
+                .isEqualTo("FluentBigDecimal[2.00,[10,HALF_UP,MaxScaleScaler[2]]]");
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.github.honoluluhenk.fluentbigdecimals.concurrent;
+
+import com.github.honoluluhenk.fluentbigdecimals.Configuration;
+import com.github.honoluluhenk.fluentbigdecimals.ConfigurationFactory;
+import com.github.honoluluhenk.fluentbigdecimals.FluentBigDecimal;
+import com.github.honoluluhenk.fluentbigdecimals.scaler.NopScaler;
+import lombok.var;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static java.math.RoundingMode.HALF_UP;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrentDecimalMapTest {
+    private static final Configuration<FluentBigDecimal> MONETARY = ConfigurationFactory.monetary(20);
+
+    private final ConcurrentDecimalMap<String, FluentBigDecimal> map = ConcurrentDecimalMap.of(MONETARY);
+
+    @Nested
+    class AddTo {
+
+        @Test
+        void starts_with_zero() {
+            map.addTo("a", new BigDecimal("12.34"));
+
+            assertThat(map.get("a"))
+                .isEqualTo(MONETARY.of("12.34"));
+        }
+
+        @Test
+        void accumulates() {
+            map.addTo("a", new BigDecimal("12.34"));
+            map.addTo("a", MONETARY.of("-2.30"));
+            map.addTo("b", new BigDecimal("1"));
+
+            assertThat(map.get("a"))
+                .isEqualTo(MONETARY.of("10.04"));
+            assertThat(map.get("b"))
+                .isEqualTo(MONETARY.of("1.00"));
+        }
+
+        @Test
+        void keeps_exact_total_and_rounds_on_read() {
+            map.addTo("a", new BigDecimal("0.004"));
+            map.addTo("a", new BigDecimal("0.004"));
+
+            assertThat(map.get("a"))
+                .isEqualTo(MONETARY.of("0.01"));
+        }
+
+        @Test
+        void falls_back_on_long_overflow() {
+            var config = ConfigurationFactory.monetary(40);
+            var bigMap = ConcurrentDecimalMap.<String, FluentBigDecimal>of(config);
+
+            bigMap.addTo("a", new BigDecimal("90000000000000000.00"));
+            bigMap.addTo("a", new BigDecimal("90000000000000000.00"));
+            bigMap.addTo("a", new BigDecimal("0.01"));
+
+            assertThat(bigMap.get("a"))
+                .isEqualTo(config.of("180000000000000000.01"));
+        }
+
+        @Test
+        void works_without_fixed_scale() {
+            var config = ConfigurationFactory.create(5, HALF_UP, new NopScaler());
+            var nopMap = ConcurrentDecimalMap.<String, FluentBigDecimal>of(config);
+
+            nopMap.addTo("a", new BigDecimal("1.23456"));
+            nopMap.addTo("a", new BigDecimal("1"));
+
+            assertThat(nopMap.get("a"))
+                .isEqualTo(config.of("2.2346"));
+        }
+
+        @Test
+        void is_atomic_under_contention() throws Exception {
+            int threads = 4;
+            int postings = 10_000;
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try {
+                var futures = new ArrayList<Future<?>>();
+                for (int t = 0; t < threads; t++) {
+                    futures.add(executor.submit(() -> {
+                        for (int i = 0; i < postings; i++) {
+                            map.addTo("a", new BigDecimal("0.01"));
+                            map.addTo("key" + (i % 10), new BigDecimal("1.10"));
+                        }
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get(1, TimeUnit.MINUTES);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            assertThat(map.get("a"))
+                .isEqualTo(MONETARY.of("400.00"));
+            assertThat(map.get("key3"))
+                .isEqualTo(MONETARY.of("4400.00"));
+        }
+    }
+
+    @Nested
+    class Get {
+
+        @Test
+        void returns_null_for_missing_key() {
+            assertThat(map.get("missing"))
+                .isNull();
+        }
+
+        @Test
+        void getOrZero_returns_zero_for_missing_key() {
+            assertThat(map.getOrZero("missing"))
+                .isSameAs(MONETARY.ZERO());
+        }
+    }
+
+    @Nested
+    class Remove {
+
+        @Test
+        void returns_and_removes_total() {
+            map.addTo("a", new BigDecimal("1.50"));
+
+            assertThat(map.remove("a"))
+                .isEqualTo(MONETARY.of("1.50"));
+            assertThat(map.containsKey("a"))
+                .isFalse();
+            assertThat(map.remove("a"))
+                .isNull();
+        }
+
+        @Test
+        void postings_after_remove_start_a_new_total() {
+            map.addTo("a", new BigDecimal("1.50"));
+            map.remove("a");
+            map.addTo("a", new BigDecimal("2"));
+
+            assertThat(map.get("a"))
+                .isEqualTo(MONETARY.of("2.00"));
+        }
+
+        @Test
+        void clear_removes_everything() {
+            map.addTo("a", new BigDecimal("1"));
+            map.addTo("b", new BigDecimal("2"));
+
+            map.clear();
+
+            assertThat(map.isEmpty())
+                .isTrue();
+        }
+    }
+
+    @Nested
+    class Snapshot {
+
+        @Test
+        void contains_rounded_totals() {
+            map.addTo("a", new BigDecimal("1.005"));
+            map.addTo("b", new BigDecimal("2"));
+
+            var actual = map.snapshot();
+
+            assertThat(actual)
+                .hasSize(2)
+                .containsEntry("a", MONETARY.of("1.01"))
+                .containsEntry("b", MONETARY.of("2.00"));
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.github.honoluluhenk.fluentbigdecimals.concurrent;
+
+import com.github.honoluluhenk.fluentbigdecimals.Configuration;
+import com.github.honoluluhenk.fluentbigdecimals.ConfigurationFactory;
+import com.github.honoluluhenk.fluentbigdecimals.FluentBigDecimal;
+import com.github.honoluluhenk.fluentbigdecimals.scaler.NopScaler;
+import lombok.var;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static java.math.RoundingMode.HALF_UP;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DecimalAdderTest {
+    private static final Configuration<FluentBigDecimal> MONETARY = ConfigurationFactory.monetary(30);
+
+    private final DecimalAdder<FluentBigDecimal> adder = DecimalAdder.of(MONETARY);
+
+    @Nested
+    class Sum {
+
+        @Test
+        void is_zero_initially() {
+            assertThat(adder.sum())
+                .isEqualTo(MONETARY.of("0.00"));
+        }
+
+        @Test
+        void adds_up() {
+            adder.add(new BigDecimal("12.34"));
+            adder.add(MONETARY.of("-2.30"));
+            adder.add(new BigDecimal("1"));
+
+            assertThat(adder.sum())
+                .isEqualTo(MONETARY.of("11.04"));
+        }
+
+        @Test
+        void rounds_only_once() {
+            adder.add(new BigDecimal("0.004"));
+            adder.add(new BigDecimal("0.004"));
+
+            assertThat(adder.sum())
+                .isEqualTo(MONETARY.of("0.01"));
+            assertThat(adder.sumRaw().getValue())
+                .isEqualTo("0.008");
+        }
+
+        @Test
+        void spills_on_long_overflow() {
+            adder.add(new BigDecimal("90000000000000000.00"));
+            adder.add(new BigDecimal("90000000000000000.00"));
+            adder.add(new BigDecimal("0.01"));
+
+            assertThat(adder.sum())
+                .isEqualTo(MONETARY.of("180000000000000000.01"));
+        }
+
+        @Test
+        void works_without_fixed_scale() {
+            var config = ConfigurationFactory.create(5, HALF_UP, new NopScaler());
+            var nopAdder = DecimalAdder.of(config);
+
+            nopAdder.add(new BigDecimal("1.23456"));
+            nopAdder.add(new BigDecimal("1"));
+
+            assertThat(nopAdder.sum())
+                .isEqualTo(config.of("2.2346"));
+        }
+
+        @Test
+        void is_exact_under_contention() throws Exception {
+            int threads = 4;
+            int additions = 20_000;
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try {
+                var futures = new ArrayList<Future<?>>();
+                for (int t = 0; t < threads; t++) {
+                    futures.add(executor.submit(() -> {
+                        for (int i = 0; i < additions; i++) {
+                            adder.add(new BigDecimal("0.01"));
+                            adder.add(new BigDecimal("0.005"));
+                        }
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get(1, TimeUnit.MINUTES);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            assertThat(adder.sumRaw().getValue())
+                .isEqualByComparingTo("1200");
+        }
+    }
+
+    @Nested
+    class Reset {
+
+        @Test
+        void reset_clears_everything() {
+            adder.add(new BigDecimal("1.00"));
+            adder.add(new BigDecimal("0.001"));
+
+            adder.reset();
+
+            assertThat(adder.sum())
+                .isEqualTo(MONETARY.of("0.00"));
+        }
+
+        @Test
+        void sumThenReset_returns_previous_sum() {
+            adder.add(new BigDecimal("1.50"));
+
+            assertThat(adder.sumThenReset())
+                .isEqualTo(MONETARY.of("1.50"));
+            assertThat(adder.sum())
+                .isEqualTo(MONETARY.of("0.00"));
+        }
+    }
+
+    @Nested
+    class ToString {
+
+        @Test
+        void contains_exact_sum() {
+            adder.add(new BigDecimal("1.005"));
+
+            assertThat(adder.toString())
+                .isEqualTo("DecimalAdder[1.005,[30,HALF_UP,MaxScaleScaler[2]]]");
+        }
+    }
+}
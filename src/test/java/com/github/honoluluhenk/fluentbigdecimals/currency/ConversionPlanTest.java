@@ -0,0 +1,156 @@
+package com.github.honoluluhenk.fluentbigdecimals.currency;
+
+import com.github.honoluluhenk.fluentbigdecimals.CashRoundingUnits;
+import com.github.honoluluhenk.fluentbigdecimals.Configuration;
+import com.github.honoluluhenk.fluentbigdecimals.ConfigurationFactory;
+import com.github.honoluluhenk.fluentbigdecimals.FluentBigDecimal;
+import com.github.honoluluhenk.fluentbigdecimals.column.DecimalColumn;
+import com.github.honoluluhenk.fluentbigdecimals.scaler.FixedScaleScaler;
+import com.github.honoluluhenk.fluentbigdecimals.scaler.MaxScaleScaler;
+import com.github.honoluluhenk.fluentbigdecimals.scaler.NopScaler;
+import lombok.var;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static java.math.RoundingMode.HALF_EVEN;
+import static java.math.RoundingMode.HALF_UP;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ConversionPlanTest {
+    private static final CurrencyPair EUR_USD = CurrencyPair.of(Currency.getInstance("EUR"), Currency.getInstance("USD"));
+    private static final Configuration<FluentBigDecimal> SOURCE = ConfigurationFactory.monetary(20);
+
+    static Stream<Configuration<FluentBigDecimal>> targets() {
+        return Stream.of(
+            ConfigurationFactory.monetary(20),
+            ConfigurationFactory.monetary(8),
+            ConfigurationFactory.create(20, HALF_EVEN, new MaxScaleScaler(0)),
+            ConfigurationFactory.create(20, RoundingMode.FLOOR, new FixedScaleScaler(3)),
+            ConfigurationFactory.create(6, RoundingMode.DOWN, new FixedScaleScaler(2)),
+            ConfigurationFactory.cashRounding(20, CashRoundingUnits.ROUND_DOT05),
+            ConfigurationFactory.create(20, HALF_UP, new NopScaler())
+        );
+    }
+
+    private static long[] randomUnscaled(Random random, int size) {
+        var result = new long[size];
+        for (int i = 0; i < size; i++) {
+            // mostly "normal" amounts, some huge ones to exercise the fallbacks
+            result[i] = random.nextInt(10) == 0
+                ? random.nextLong() / 4
+                : random.nextInt(20_000_000) - 10_000_000;
+        }
+
+        return result;
+    }
+
+    @Nested
+    class ConvertColumn {
+
+        @ParameterizedTest
+        @MethodSource("com.github.honoluluhenk.fluentbigdecimals.currency.ConversionPlanTest#targets")
+        void matches_single_conversion(Configuration<FluentBigDecimal> target) {
+            var random = new Random(42);
+            for (String rate : new String[]{"1.0842", "162.87", "0.0000123456789", "3", "1E+3"}) {
+                var plan = new ConversionPlan<>(EUR_USD, new BigDecimal(rate), target);
+                var amounts = DecimalColumn.ofUnscaled(SOURCE, randomUnscaled(random, 500));
+
+                DecimalColumn<FluentBigDecimal> actual;
+                try {
+                    actual = plan.convert(amounts);
+                } catch (ArithmeticException e) {
+                    // precision exceeded: the single conversion must fail as well
+                    assertThrows(ArithmeticException.class, () -> {
+                        for (int i = 0; i < amounts.size(); i++) {
+                            plan.convert(amounts.get(i));
+                        }
+                    });
+                    continue;
+                }
+
+                for (int i = 0; i < amounts.size(); i++) {
+                    assertThat(actual.getValue(i))
+                        .as("%s * %s", amounts.getValue(i), rate)
+                        .isEqualByComparingTo(plan.convert(amounts.get(i)).getValue());
+                }
+            }
+        }
+
+        @Test
+        void uses_target_configuration() {
+            var target = ConfigurationFactory.create(20, HALF_UP, new MaxScaleScaler(0));
+            var plan = new ConversionPlan<>(EUR_USD, new BigDecimal("162.87"), target);
+
+            var actual = plan.convert(DecimalColumn.of(SOURCE, new BigDecimal("1.01")));
+
+            assertThat(actual.getConfiguration())
+                .isSameAs(target);
+            assertThat(actual.getValue(0))
+                .isEqualByComparingTo("164");
+        }
+    }
+
+    @Nested
+    class ConvertUnscaled {
+
+        @Test
+        void converts_to_target_scale() {
+            var target = ConfigurationFactory.create(20, HALF_UP, new MaxScaleScaler(3));
+            var plan = new ConversionPlan<>(EUR_USD, new BigDecimal("1.0842"), target);
+
+            var actual = plan.convertUnscaled(new long[]{10000, -12345, 5}, 2);
+
+            // 100.00 -> 108.420, -123.45 -> -133.844, 0.05 -> 0.054
+            assertThat(actual)
+                .containsExactly(108420, -133844, 54);
+        }
+
+        @Test
+        void rounds_half_up_symmetrically() {
+            var plan = new ConversionPlan<>(EUR_USD, new BigDecimal("0.5"), SOURCE);
+
+            assertThat(plan.convertUnscaled(new long[]{1, -1, 3, -3}, 2))
+                .containsExactly(1, -1, 2, -2);
+        }
+
+        @Test
+        void throws_if_result_does_not_fit() {
+            var plan = new ConversionPlan<>(EUR_USD, new BigDecimal("1000"), SOURCE);
+
+            assertThrows(ArithmeticException.class,
+                () -> plan.convertUnscaled(new long[]{Long.MAX_VALUE / 10}, 2));
+        }
+
+        @Test
+        void rejects_target_without_fixed_scale() {
+            var plan = new ConversionPlan<>(EUR_USD, BigDecimal.ONE, ConfigurationFactory.create(20, HALF_UP, new NopScaler()));
+
+            assertThrows(IllegalArgumentException.class, () -> plan.convertUnscaled(new long[]{1}, 2));
+        }
+    }
+
+    @Test
+    void converts_single_amount_with_one_rounding() {
+        var plan = new ConversionPlan<>(EUR_USD, new BigDecimal("1.0842"), SOURCE);
+
+        assertThat(plan.convert(SOURCE.of("99.99")))
+            .isEqualTo(SOURCE.of("108.41"));
+    }
+
+    @Test
+    void has_readable_toString() {
+        var plan = new ConversionPlan<>(EUR_USD, new BigDecimal("1.0842"), SOURCE);
+
+        assertThat(plan)
+            .hasToString("ConversionPlan[EUR/USD,multiplier=1.0842,[20,HALF_UP,MaxScaleScaler[2]]]");
+    }
+}
@@ -0,0 +1,147 @@
+package com.github.honoluluhenk.fluentbigdecimals.currency;
+
+import com.github.honoluluhenk.fluentbigdecimals.CashRoundingUnits;
+import com.github.honoluluhenk.fluentbigdecimals.ConfigurationFactory;
+import com.github.honoluluhenk.fluentbigdecimals.ScalingConfiguration;
+import com.github.honoluluhenk.fluentbigdecimals.scaler.CashRoundingScaler;
+import com.github.honoluluhenk.fluentbigdecimals.scaler.MaxScaleScaler;
+import com.github.honoluluhenk.fluentbigdecimals.scaler.NopScaler;
+import lombok.var;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.MathContext;
+import java.util.Currency;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static java.math.RoundingMode.HALF_EVEN;
+import static java.math.RoundingMode.HALF_UP;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CurrencyConfigurationsTest {
+    private static final Currency CHF = Currency.getInstance("CHF");
+    private static final Currency EUR = Currency.getInstance("EUR");
+    private static final Currency SEK = Currency.getInstance("SEK");
+
+    @Nested
+    class Get {
+
+        @ParameterizedTest
+        @CsvSource({
+            "EUR, 2",
+            "USD, 2",
+            "JPY, 0",
+            "BHD, 3",
+            "CLF, 4",
+        })
+        void uses_minor_unit_as_scale(String currencyCode, int expectedScale) {
+            var actual = CurrencyConfigurations.monetary(20).get(currencyCode);
+
+            assertThat(actual)
+                .isInstanceOf(ScalingConfiguration.class);
+            assertThat(actual.getScaler())
+                .isEqualTo(new MaxScaleScaler(expectedScale));
+            assertThat(actual.getMathContext())
+                .isEqualTo(new MathContext(20, HALF_UP));
+        }
+
+        @Test
+        void rounds_like_monetary_for_scale_2() {
+            var actual = CurrencyConfigurations.monetary(20).get(EUR).of("1.005");
+
+            assertThat(actual.getValue())
+                .isEqualTo(ConfigurationFactory.monetary(20).of("1.005").getValue());
+        }
+
+        @Test
+        void uses_NopScaler_without_minor_unit() {
+            var actual = CurrencyConfigurations.monetary(20).get("XAU");
+
+            assertThat(actual.getScaler())
+                .isInstanceOf(NopScaler.class);
+        }
+
+        @Test
+        void shares_instances() {
+            var registry = CurrencyConfigurations.monetary(20);
+
+            assertThat(registry.get(EUR))
+                .isSameAs(registry.get("EUR"));
+            assertThat(CurrencyConfigurations.monetary(20))
+                .isSameAs(registry);
+            assertThat(CurrencyConfigurations.monetary(18))
+                .isNotSameAs(registry);
+        }
+
+        @Test
+        void shares_registries_by_math_context_and_factory() {
+            var mathContext = new MathContext(20, HALF_UP);
+
+            assertThat(CurrencyConfigurations.shared(mathContext, ConfigurationFactory.FLUENT_BIGDECIMAL_FACTORY))
+                .isSameAs(CurrencyConfigurations.monetary(20));
+            assertThat(CurrencyConfigurations.shared(new MathContext(20, HALF_EVEN),
+                ConfigurationFactory.FLUENT_BIGDECIMAL_FACTORY))
+                .isNotSameAs(CurrencyConfigurations.monetary(20));
+        }
+
+        @Test
+        void shares_instances_under_contention() {
+            var registry = CurrencyConfigurations.of(new MathContext(12, HALF_EVEN), ConfigurationFactory.FLUENT_BIGDECIMAL_FACTORY);
+
+            List<CompletableFuture<Object>> futures = IntStream.range(0, 8)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> (Object) registry.get(SEK)))
+                .collect(Collectors.toList());
+
+            var first = futures.get(0).join();
+            assertThat(futures)
+                .allSatisfy(future -> assertThat(future.join()).isSameAs(first));
+        }
+    }
+
+    @Nested
+    class Cash {
+
+        @Test
+        void uses_cash_rounding_unit() {
+            var actual = CurrencyConfigurations.monetary(20).cash(CHF);
+
+            assertThat(((CashRoundingScaler) actual.getScaler()).getCashRounding().getUnit())
+                .isEqualTo("0.05");
+            assertThat(actual.of("1.02").getValue())
+                .isEqualTo("1.00");
+        }
+
+        @Test
+        void falls_back_to_regular_configuration() {
+            var registry = CurrencyConfigurations.monetary(20);
+
+            assertThat(registry.cash(EUR))
+                .isSameAs(registry.get(EUR));
+        }
+
+        @Test
+        void supports_additional_units() {
+            var registry = CurrencyConfigurations.monetary(20);
+
+            var actual = registry.withCashRounding(SEK, CashRoundingUnits.ROUND_DOT10);
+
+            assertThat(((CashRoundingScaler) actual.cash(SEK).getScaler()).getCashRounding().getUnit())
+                .isEqualTo("0.10");
+            assertThat(actual.getCashRoundingUnit(SEK))
+                .contains(CashRoundingUnits.ROUND_DOT10);
+            assertThat(registry.getCashRoundingUnit(SEK))
+                .isEmpty();
+        }
+    }
+
+    @Test
+    void has_readable_toString() {
+        assertThat(CurrencyConfigurations.monetary(20))
+            .hasToString("CurrencyConfigurations[20,HALF_UP,cash=[AUD, CAD, CHF, NZD]]");
+    }
+}
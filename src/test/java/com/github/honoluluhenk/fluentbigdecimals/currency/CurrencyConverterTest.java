@@ -0,0 +1,164 @@
+package com.github.honoluluhenk.fluentbigdecimals.currency;
+
+import com.github.honoluluhenk.fluentbigdecimals.CashRoundingUnits;
+import com.github.honoluluhenk.fluentbigdecimals.Configuration;
+import com.github.honoluluhenk.fluentbigdecimals.ConfigurationFactory;
+import com.github.honoluluhenk.fluentbigdecimals.FluentBigDecimal;
+import com.github.honoluluhenk.fluentbigdecimals.scaler.MaxScaleScaler;
+import lombok.var;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Currency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CurrencyConverterTest {
+    private static final Currency EUR = Currency.getInstance("EUR");
+    private static final Currency USD = Currency.getInstance("USD");
+    private static final Currency CHF = Currency.getInstance("CHF");
+    private static final Currency JPY = Currency.getInstance("JPY");
+    private static final Currency GBP = Currency.getInstance("GBP");
+
+    private static final Configuration<FluentBigDecimal> TEMPLATE = ConfigurationFactory.monetary(20);
+    private static final Configuration<FluentBigDecimal> CHF_CASH =
+        ConfigurationFactory.cashRounding(20, CashRoundingUnits.ROUND_DOT05);
+
+    private static final CurrencyConverter<FluentBigDecimal> CONVERTER = CurrencyConverter.builder(TEMPLATE)
+        .baseCurrency(EUR)
+        .rate(EUR, USD, "1.0842")
+        .rate(EUR, CHF, "0.9391")
+        .rate(EUR, JPY, "162.87")
+        .rate(USD, JPY, "150.25")
+        .target(CHF, CHF_CASH)
+        .build();
+
+    @Nested
+    class Configurations {
+
+        @Test
+        void derives_scale_from_minor_unit() {
+            assertThat(CONVERTER.getConfiguration(JPY).getScaler())
+                .isEqualTo(new MaxScaleScaler(0));
+            assertThat(CONVERTER.getConfiguration(USD).getScaler())
+                .isEqualTo(new MaxScaleScaler(2));
+            assertThat(CONVERTER.getConfiguration(Currency.getInstance("BHD")).getScaler())
+                .isEqualTo(new MaxScaleScaler(3));
+        }
+
+        @Test
+        void uses_template_for_currencies_without_minor_unit() {
+            assertThat(CONVERTER.getConfiguration(Currency.getInstance("XAU")))
+                .isSameAs(TEMPLATE);
+        }
+
+        @Test
+        void uses_explicit_target() {
+            assertThat(CONVERTER.getConfiguration(CHF))
+                .isSameAs(CHF_CASH);
+        }
+
+        @Test
+        void shares_configurations_between_converters() {
+            var other = CurrencyConverter.builder(ConfigurationFactory.monetary(20))
+                .build();
+
+            assertThat(other.getConfiguration(USD))
+                .isSameAs(CONVERTER.getConfiguration(USD))
+                .isSameAs(CurrencyConfigurations.monetary(20).get(USD));
+        }
+
+        @Test
+        void uses_given_registry() {
+            var registry = CurrencyConfigurations.of(TEMPLATE.getMathContext(), TEMPLATE.getFactory());
+            var converter = CurrencyConverter.builder(TEMPLATE)
+                .configurations(registry)
+                .build();
+
+            assertThat(converter.getConfiguration(USD))
+                .isSameAs(registry.get(USD))
+                .isNotSameAs(CONVERTER.getConfiguration(USD));
+        }
+    }
+
+    @Nested
+    class Rates {
+
+        @Test
+        void uses_direct_rate() {
+            assertThat(CONVERTER.plan(EUR, USD).getMultiplier())
+                .isEqualTo("1.0842");
+        }
+
+        @Test
+        void prefers_direct_rate_over_triangulation() {
+            assertThat(CONVERTER.plan(USD, JPY).getMultiplier())
+                .isEqualTo("150.25");
+        }
+
+        @Test
+        void inverts_rate() {
+            assertThat(CONVERTER.plan(USD, EUR).getMultiplier())
+                .isEqualByComparingTo("0.922339051835454713152554879174");
+        }
+
+        @Test
+        void triangulates_via_base_currency() {
+            // USD -> EUR -> CHF: (1 / 1.0842) * 0.9391
+            assertThat(CONVERTER.plan(USD, CHF).getMultiplier())
+                .isEqualByComparingTo("0.866168603578675521121564287032");
+        }
+
+        @Test
+        void uses_one_for_same_currency() {
+            assertThat(CONVERTER.plan(USD, USD).getMultiplier())
+                .isEqualTo("1");
+        }
+
+        @Test
+        void caches_plans() {
+            assertThat(CONVERTER.plan(USD, CHF))
+                .isSameAs(CONVERTER.plan(USD, CHF));
+        }
+
+        @Test
+        void throws_without_rate() {
+            assertThrows(IllegalArgumentException.class, () -> CONVERTER.plan(USD, GBP));
+        }
+
+        @Test
+        void rejects_non_positive_rates() {
+            var builder = CurrencyConverter.builder(TEMPLATE);
+
+            assertThrows(IllegalArgumentException.class, () -> builder.rate(EUR, USD, "0"));
+        }
+    }
+
+    @Nested
+    class Convert {
+
+        @Test
+        void converts_using_target_configuration() {
+            var actual = CONVERTER.convert(TEMPLATE.of("100.00"), EUR, JPY);
+
+            assertThat(actual)
+                .isEqualTo(CONVERTER.getConfiguration(JPY).of("16287"));
+        }
+
+        @Test
+        void applies_cash_rounding_of_target() {
+            // 100 * 0.9391 = 93.91
+            var actual = CONVERTER.convert(TEMPLATE.of("100.00"), EUR, CHF);
+
+            assertThat(actual)
+                .isEqualTo(CHF_CASH.of("93.90"));
+        }
+    }
+
+    @Test
+    void has_readable_toString() {
+        assertThat(CONVERTER)
+            .hasToString("CurrencyConverter[rates=4,base=EUR,[20,HALF_UP,MaxScaleScaler[2]]]");
+    }
+}
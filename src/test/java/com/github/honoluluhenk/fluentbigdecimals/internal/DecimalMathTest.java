@@ -0,0 +1,250 @@
+package com.github.honoluluhenk.fluentbigdecimals.internal;
+
+import lombok.var;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Random;
+
+import static java.math.RoundingMode.HALF_EVEN;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Expected values computed using the (correctly rounding) Python decimal module.
+ */
+class DecimalMathTest {
+
+    private static MathContext mc(int precision) {
+        return new MathContext(precision, HALF_EVEN);
+    }
+
+    @Nested
+    class Sqrt {
+
+        @ParameterizedTest
+        @CsvSource({
+            "2, 20, 1.4142135623730950488",
+            "2, 50, 1.4142135623730950488016887242096980785696718753769",
+            "1.5E-401, 20, 3.8729833462074168852E-201",
+            "4, 10, 2",
+        })
+        void computes_reference_values(String value, int precision, String expected) {
+            var actual = DecimalMath.sqrt(new BigDecimal(value), mc(precision));
+
+            assertThat(actual)
+                .isEqualByComparingTo(expected);
+        }
+
+        @Test
+        void matches_BigDecimal_sqrt() {
+            var random = new Random(42);
+            for (int i = 0; i < 200; i++) {
+                var value = BigDecimal.valueOf(random.nextLong() & Long.MAX_VALUE, random.nextInt(40) - 20);
+                int precision = 5 + random.nextInt(40);
+
+                var expected = value.sqrt(mc(precision + 20)).round(mc(precision));
+
+                assertThat(DecimalMath.sqrt(value, mc(precision)))
+                    .isEqualByComparingTo(expected);
+            }
+        }
+
+        @Test
+        void rejects_negative_values() {
+            assertThrows(ArithmeticException.class, () -> DecimalMath.sqrt(new BigDecimal("-1"), mc(10)));
+        }
+
+        @Test
+        void rejects_unlimited_precision() {
+            assertThrows(ArithmeticException.class, () -> DecimalMath.sqrt(new BigDecimal("2"), MathContext.UNLIMITED));
+        }
+    }
+
+    @Nested
+    class NthRoot {
+
+        @ParameterizedTest
+        @CsvSource({
+            "2, 3, 20, 1.2599210498948731648",
+            "2, 3, 50, 1.2599210498948731647672106072782283505702514647015",
+            "-27, 3, 10, -3",
+            "1E+100, 5, 20, 1E+20",
+            "1E+100, 1000, 20, 1.2589254117941672104",
+        })
+        void computes_reference_values(String value, int n, int precision, String expected) {
+            var actual = DecimalMath.nthRoot(new BigDecimal(value), n, mc(precision));
+
+            assertThat(actual)
+                .isEqualByComparingTo(expected);
+        }
+
+        @Test
+        void rejects_even_roots_of_negative_values() {
+            assertThrows(ArithmeticException.class, () -> DecimalMath.nthRoot(new BigDecimal("-8"), 4, mc(10)));
+        }
+    }
+
+    @Nested
+    class Exp {
+
+        @ParameterizedTest
+        @CsvSource({
+            "1, 20, 2.7182818284590452354",
+            "1, 50, 2.7182818284590452353602874713526624977572470937000",
+            "-20.5, 20, 1.2501528663867426289E-9",
+            "-20.5, 50, 1.2501528663867426289375531192312221822715946420766E-9",
+            "700, 20, 1.0142320547350045095E+304",
+            "700, 50, 1.0142320547350045094553295952312676152046795722431E+304",
+            "0, 5, 1",
+        })
+        void computes_reference_values(String value, int precision, String expected) {
+            var actual = DecimalMath.exp(new BigDecimal(value), mc(precision));
+
+            assertThat(actual)
+                .isEqualByComparingTo(expected);
+        }
+
+        @Test
+        void computes_high_precisions_without_cache() {
+            var actual = DecimalMath.exp(BigDecimal.ONE, mc(300));
+
+            assertThat(actual.round(mc(50)))
+                .isEqualByComparingTo("2.7182818284590452353602874713526624977572470937000");
+        }
+
+        @Test
+        void high_precision_calls_do_not_affect_low_precision_calls() {
+            var value = new BigDecimal("1.2345");
+            var before = DecimalMath.exp(value, mc(16));
+
+            DecimalMath.exp(value, mc(2000));
+
+            assertThat(DecimalMath.exp(value, mc(16)))
+                .isEqualTo(before);
+            // the cost of the series is driven by the length of the coefficients
+            for (var coefficient : DecimalMath.expCoefficients(30)) {
+                assertThat(coefficient.precision())
+                    .isLessThanOrEqualTo(30);
+            }
+        }
+    }
+
+    @Nested
+    class Ln {
+
+        @ParameterizedTest
+        @CsvSource({
+            "2, 20, 0.69314718055994530942",
+            "2, 50, 0.69314718055994530941723212145817656807550013436026",
+            "1E-300, 20, -690.77552789821370521",
+            "1E-300, 50, -690.77552789821370520539743640530926228033044658863",
+            "1.0000000001, 20, 9.9999999995000000000E-11",
+            "1.0000000001, 50, 9.9999999995000000000333333333308333333335333333333E-11",
+            "12345.678, 20, 9.4210613212918319765",
+            "12345.678, 50, 9.4210613212918319765267839910714460489418336300805",
+            "1, 5, 0",
+        })
+        void computes_reference_values(String value, int precision, String expected) {
+            var actual = DecimalMath.ln(new BigDecimal(value), mc(precision));
+
+            assertThat(actual)
+                .isEqualByComparingTo(expected);
+        }
+
+        @Test
+        void rejects_non_positive_values() {
+            assertThrows(ArithmeticException.class, () -> DecimalMath.ln(BigDecimal.ZERO, mc(10)));
+        }
+    }
+
+    @Nested
+    class PowInt {
+
+        @ParameterizedTest
+        @CsvSource({
+            "1.000001, 2147483647, 30, 4.36346553206647722895748495531E+932",
+            "0.999, -1000, 30, 2.71964221644285036539755346440",
+            "3, -7, 30, 0.000457247370827617741197988111568",
+            "-1.5, 5, 30, -7.59375",
+            "1.0001, 10950, 20, 2.9890190410305981453",
+            "123.45, 0, 5, 1",
+            "0, 3, 5, 0",
+        })
+        void computes_reference_values(String value, int exponent, int precision, String expected) {
+            var actual = DecimalMath.pow(new BigDecimal(value), exponent, mc(precision));
+
+            assertThat(actual)
+                .isEqualByComparingTo(expected);
+        }
+
+        @Test
+        void matches_exact_power_rounded_once() {
+            var random = new Random(42);
+            for (int i = 0; i < 200; i++) {
+                var value = BigDecimal.valueOf(random.nextInt(2_000_000) - 1_000_000, random.nextInt(8));
+                int exponent = random.nextInt(60);
+                int precision = 1 + random.nextInt(30);
+
+                var expected = value.pow(exponent).round(mc(precision));
+
+                assertThat(DecimalMath.pow(value, exponent, mc(precision)))
+                    .isEqualByComparingTo(expected);
+            }
+        }
+
+        @Test
+        void is_exact_with_unlimited_precision() {
+            assertThat(DecimalMath.pow(new BigDecimal("1.5"), 3, MathContext.UNLIMITED))
+                .isEqualTo("3.375");
+            assertThat(DecimalMath.pow(new BigDecimal("2"), -2, MathContext.UNLIMITED))
+                .isEqualTo("0.25");
+            assertThat(DecimalMath.pow(new BigDecimal("0.5"), -3, MathContext.UNLIMITED))
+                .isEqualByComparingTo("8");
+        }
+
+        @Test
+        void rejects_non_terminating_negative_powers_with_unlimited_precision() {
+            assertThrows(ArithmeticException.class,
+                () -> DecimalMath.pow(new BigDecimal("3"), -1, MathContext.UNLIMITED));
+            assertThrows(ArithmeticException.class, () -> DecimalMath.pow(BigDecimal.ZERO, -1, MathContext.UNLIMITED));
+        }
+
+        @Test
+        void rejects_negative_powers_of_zero() {
+            assertThrows(ArithmeticException.class, () -> DecimalMath.pow(BigDecimal.ZERO, -1, mc(10)));
+        }
+    }
+
+    @Nested
+    class Pow {
+
+        @ParameterizedTest
+        @CsvSource({
+            "1.05, 0.5, 20, 1.0246950765959598383",
+            "1.05, 0.5, 50, 1.0246950765959598383221038680521051990735032663455",
+            "1.0001, 365.25, 20, 1.0371983396405420746",
+            "1.0001, 365.25, 50, 1.0371983396405420745711435038054860739350836010173",
+            "7, -2.5, 20, 0.0077135606736576985146",
+            "7, -2.5, 50, 0.0077135606736576985145819701272281645064439043238555",
+            "1.5, 3.000, 10, 3.375",
+            "0, 0.5, 10, 0",
+        })
+        void computes_reference_values(String value, String exponent, int precision, String expected) {
+            var actual = DecimalMath.pow(new BigDecimal(value), new BigDecimal(exponent), mc(precision));
+
+            assertThat(actual)
+                .isEqualByComparingTo(expected);
+        }
+
+        @Test
+        void rejects_non_integral_powers_of_negative_values() {
+            assertThrows(ArithmeticException.class,
+                () -> DecimalMath.pow(new BigDecimal("-2"), new BigDecimal("0.5"), mc(10)));
+        }
+    }
+}
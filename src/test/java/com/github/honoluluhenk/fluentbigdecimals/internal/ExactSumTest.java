@@ -0,0 +1,104 @@
+package com.github.honoluluhenk.fluentbigdecimals.internal;
+
+import lombok.var;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static com.github.honoluluhenk.fluentbigdecimals.internal.ScaledLongs.NOT_REPRESENTABLE;
+import static com.github.honoluluhenk.fluentbigdecimals.internal.ScaledLongs.UNKNOWN_SCALE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExactSumTest {
+
+    @Test
+    void sums_unscaled_values() {
+        var sum = new ExactSum(2);
+        sum.add(150);
+        sum.add(new BigDecimal("0.5"));
+
+        assertThat(sum.toUnscaled())
+            .isEqualTo(200);
+        assertThat(sum.toBigDecimal())
+            .isEqualTo("2.00");
+    }
+
+    @Test
+    void spills_on_overflow() {
+        var sum = new ExactSum(0);
+        sum.add(Long.MAX_VALUE);
+        sum.add(1);
+
+        assertThat(sum.toUnscaled())
+            .isEqualTo(NOT_REPRESENTABLE);
+        assertThat(sum.toBigDecimal())
+            .isEqualTo("9223372036854775808");
+
+        sum.add(-2);
+
+        assertThat(sum.toUnscaled())
+            .isEqualTo(Long.MAX_VALUE - 1);
+    }
+
+    @Test
+    void sums_wide_values_without_spilling() {
+        var sum = new ExactSum(2);
+        sum.add(new BigDecimal("12345678901234567890123.45"));
+        sum.add(new BigDecimal("-12345678901234567890000"));
+        sum.add(Long.MAX_VALUE);
+
+        assertThat(sum.toBigDecimal())
+            .isEqualTo("92233720368547881.52");
+    }
+
+    @Test
+    void spills_on_128_bit_overflow() {
+        // 38 digits each, the sum exceeds 2^127
+        var max = new BigDecimal(BigInteger.TEN.pow(38).subtract(BigInteger.ONE));
+        var sum = new ExactSum(0);
+        sum.add(max);
+        sum.add(max);
+        sum.add(-1);
+
+        assertThat(sum.toBigDecimal())
+            .isEqualTo(max.add(max).subtract(BigDecimal.ONE));
+        assertThat(sum.toUnscaled())
+            .isEqualTo(NOT_REPRESENTABLE);
+    }
+
+    @Test
+    void spills_values_with_more_decimals() {
+        var sum = new ExactSum(2);
+        sum.add(new BigDecimal("0.001"));
+        sum.add(1);
+
+        assertThat(sum.toBigDecimal())
+            .isEqualTo("0.011");
+    }
+
+    @Test
+    void merges_other_sums() {
+        var sum = new ExactSum(1);
+        sum.add(10);
+        var other = new ExactSum(1);
+        other.add(new BigDecimal("0.05"));
+
+        sum.add(other);
+
+        assertThat(sum.toBigDecimal())
+            .isEqualTo("1.05");
+    }
+
+    @Test
+    void works_without_fixed_scale() {
+        var sum = new ExactSum(UNKNOWN_SCALE);
+        sum.add(new BigDecimal("1.10"));
+        sum.add(new BigDecimal("2"));
+
+        assertThat(sum.toBigDecimal())
+            .isEqualTo("3.10");
+        assertThat(sum.toUnscaled())
+            .isEqualTo(NOT_REPRESENTABLE);
+    }
+}
@@ -0,0 +1,273 @@
+package com.github.honoluluhenk.fluentbigdecimals.internal;
+
+import lombok.var;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FixedPoint128Test {
+    private static final int ITERATIONS = 20_000;
+
+    private static BigDecimal random(Random random, int maxDigits) {
+        int digits = 1 + random.nextInt(maxDigits);
+        var unscaled = new BigInteger(digits * 4, random)
+            .mod(BigInteger.TEN.pow(digits))
+            .add(BigInteger.ONE);
+        if (random.nextInt(5) == 0) {
+            // trailing zeros and 99..9 patterns exercise stripping and carries
+            unscaled = random.nextBoolean()
+                ? unscaled.multiply(BigInteger.TEN.pow(random.nextInt(5)))
+                : BigInteger.TEN.pow(digits).subtract(BigInteger.ONE);
+        }
+
+        var value = new BigDecimal(random.nextBoolean() ? unscaled.negate() : unscaled, random.nextInt(45) - 5);
+        return value.precision() > FixedPoint128.MAX_PRECISION ? value.round(new MathContext(38)) : value;
+    }
+
+    private static FixedPoint128 of(BigDecimal value) {
+        var result = FixedPoint128.of(value);
+        assertThat(result)
+            .isNotNull();
+
+        return result;
+    }
+
+    @Nested
+    class Conversion {
+
+        @Test
+        void round_trips() {
+            var random = new Random(42);
+            for (int i = 0; i < 1000; i++) {
+                var value = random(random, 38);
+
+                assertThat(of(value).toBigDecimal())
+                    .isEqualTo(value);
+            }
+        }
+
+        @Test
+        void converts_two_complement_words() {
+            var value = new BigDecimal("-123456789012345678901234567.89");
+            var unscaled = value.unscaledValue();
+
+            var converted = FixedPoint128.of(Int128.high(unscaled), Int128.low(unscaled), 2);
+
+            assertThat(converted.toBigDecimal())
+                .isEqualTo(value);
+            assertThat(converted.unscaledHigh())
+                .isEqualTo(Int128.high(unscaled));
+            assertThat(converted.unscaledLow())
+                .isEqualTo(Int128.low(unscaled));
+            assertThat(converted.fitsLong())
+                .isFalse();
+            assertThat(converted.precision())
+                .isEqualTo(29);
+        }
+
+        @Test
+        void converts_long_extremes() {
+            assertThat(FixedPoint128.of(Long.MIN_VALUE, 0).toBigDecimal())
+                .isEqualTo(BigDecimal.valueOf(Long.MIN_VALUE));
+            assertThat(FixedPoint128.of(Long.MIN_VALUE, 0).fitsLong())
+                .isTrue();
+            assertThat(FixedPoint128.of(Long.MAX_VALUE, 0).toBigDecimal())
+                .isEqualTo(BigDecimal.valueOf(Long.MAX_VALUE));
+        }
+
+        @Test
+        void rejects_more_than_38_digits() {
+            assertThat(FixedPoint128.of(BigDecimal.TEN.pow(38)))
+                .isNull();
+            assertThat(FixedPoint128.of(BigDecimal.TEN.pow(38).subtract(BigDecimal.ONE)))
+                .isNotNull();
+        }
+    }
+
+    @Nested
+    class MatchesBigDecimal {
+
+        @ParameterizedTest
+        @EnumSource(value = RoundingMode.class, mode = EnumSource.Mode.EXCLUDE, names = "UNNECESSARY")
+        void add_and_round(RoundingMode roundingMode) {
+            var random = new Random(42);
+            int computed = 0;
+            for (int i = 0; i < ITERATIONS; i++) {
+                var left = random(random, 38);
+                var right = random(random, i % 2 == 0 ? 38 : 18);
+                var mathContext = new MathContext(1 + random.nextInt(38), roundingMode);
+
+                var sum = of(left);
+                var difference = of(left);
+                if (sum.add(of(right)) && sum.round(mathContext)
+                    && difference.subtract(of(right)) && difference.round(mathContext)) {
+                    assertThat(sum.toBigDecimal())
+                        .describedAs("%s + %s, %s", left, right, mathContext)
+                        .isEqualTo(left.add(right, mathContext));
+                    assertThat(difference.toBigDecimal())
+                        .describedAs("%s - %s, %s", left, right, mathContext)
+                        .isEqualTo(left.subtract(right, mathContext));
+                    computed++;
+                }
+            }
+
+            assertThat(computed)
+                .isGreaterThan(ITERATIONS / 4);
+        }
+
+        @ParameterizedTest
+        @EnumSource(value = RoundingMode.class, mode = EnumSource.Mode.EXCLUDE, names = "UNNECESSARY")
+        void multiply_and_round(RoundingMode roundingMode) {
+            var random = new Random(42);
+            int computed = 0;
+            for (int i = 0; i < ITERATIONS; i++) {
+                var left = random(random, 38);
+                var right = random(random, i % 2 == 0 ? 38 : 18);
+                var mathContext = new MathContext(1 + random.nextInt(38), roundingMode);
+
+                var product = of(left);
+                if (product.multiply(of(right)) && product.round(mathContext)) {
+                    assertThat(product.toBigDecimal())
+                        .describedAs("%s * %s, %s", left, right, mathContext)
+                        .isEqualTo(left.multiply(right, mathContext));
+                    computed++;
+                }
+            }
+
+            assertThat(computed)
+                .isGreaterThan(ITERATIONS / 4);
+        }
+
+        @ParameterizedTest
+        @EnumSource(value = RoundingMode.class, mode = EnumSource.Mode.EXCLUDE, names = "UNNECESSARY")
+        void divide(RoundingMode roundingMode) {
+            var random = new Random(42);
+            int computed = 0;
+            for (int i = 0; i < ITERATIONS; i++) {
+                var left = random(random, 38);
+                var right = random(random, i % 2 == 0 ? 38 : 18);
+                var mathContext = new MathContext(1 + random.nextInt(38), roundingMode);
+
+                var quotient = of(left);
+                if (quotient.divide(of(right), mathContext)) {
+                    assertThat(quotient.toBigDecimal())
+                        .describedAs("%s / %s, %s", left, right, mathContext)
+                        .isEqualTo(left.divide(right, mathContext));
+                    computed++;
+                }
+            }
+
+            assertThat(computed)
+                .isGreaterThan(ITERATIONS / 4);
+        }
+
+        @ParameterizedTest
+        @EnumSource(value = RoundingMode.class, mode = EnumSource.Mode.EXCLUDE, names = "UNNECESSARY")
+        void setScale(RoundingMode roundingMode) {
+            var random = new Random(42);
+            int computed = 0;
+            for (int i = 0; i < ITERATIONS; i++) {
+                var value = random(random, 38);
+                int newScale = value.scale() + random.nextInt(90) - 45;
+
+                var scaled = of(value);
+                if (scaled.setScale(newScale, roundingMode)) {
+                    assertThat(scaled.toBigDecimal())
+                        .describedAs("%s, %s", value, newScale)
+                        .isEqualTo(value.setScale(newScale, roundingMode));
+                    computed++;
+                }
+            }
+
+            assertThat(computed)
+                .isGreaterThan(ITERATIONS / 4);
+        }
+    }
+
+    @Nested
+    class Examples {
+        private final BigDecimal wide = new BigDecimal("12345678901234567890.12");
+
+        @Test
+        void carries_into_an_additional_digit() {
+            var nines = of(new BigDecimal("99999999999999999999.9"));
+
+            assertThat(nines.add(of(new BigDecimal("0.05"))))
+                .isTrue();
+            assertThat(nines.round(new MathContext(21, RoundingMode.HALF_UP)))
+                .isTrue();
+            assertThat(nines.toBigDecimal())
+                .isEqualTo(new BigDecimal("1.00000000000000000000E+20"));
+        }
+
+        @Test
+        void strips_exact_quotients_to_the_preferred_scale() {
+            var quotient = of(wide);
+
+            assertThat(quotient.divide(FixedPoint128.of(2, 0), new MathContext(38)))
+                .isTrue();
+            assertThat(quotient.toBigDecimal())
+                .isEqualTo(new BigDecimal("6172839450617283945.06"));
+        }
+
+        @Test
+        void keeps_full_precision_of_inexact_quotients() {
+            var quotient = of(wide);
+
+            assertThat(quotient.divide(FixedPoint128.of(11, 0), new MathContext(25, RoundingMode.HALF_UP)))
+                .isTrue();
+            assertThat(quotient.toBigDecimal())
+                .isEqualTo(new BigDecimal("1122334445566778899.101818"));
+        }
+
+        @Test
+        void rounds_far_below_the_last_digit() {
+            var value = of(wide);
+
+            assertThat(value.setScale(-50, RoundingMode.UP))
+                .isTrue();
+            assertThat(value.toBigDecimal())
+                .isEqualTo(wide.setScale(-50, RoundingMode.UP));
+        }
+
+        @Test
+        void fails_on_128_bit_overflows() {
+            var product = of(wide);
+
+            assertThat(product.multiply(of(wide)))
+                .isFalse();
+        }
+
+        @Test
+        void fails_if_rounding_is_unnecessary_but_necessary() {
+            var mathContext = new MathContext(22, RoundingMode.UNNECESSARY);
+
+            var exact = of(wide);
+            assertThat(exact.multiply(FixedPoint128.of(10, 0)) && exact.round(mathContext))
+                .isTrue();
+            assertThat(exact.toBigDecimal())
+                .isEqualTo(new BigDecimal("123456789012345678901.2"));
+
+            var quotient = of(wide);
+            assertThat(quotient.divide(FixedPoint128.of(11, 0), mathContext))
+                .isFalse();
+        }
+
+        @Test
+        void does_not_divide_by_zero() {
+            var quotient = of(wide);
+
+            assertThat(quotient.divide(FixedPoint128.of(0, 0), new MathContext(38)))
+                .isFalse();
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.github.honoluluhenk.fluentbigdecimals.internal;
+
+import lombok.var;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class Int128Test {
+    private static final BigInteger MIN = BigInteger.ONE.shiftLeft(127).negate();
+    private static final BigInteger MAX = BigInteger.ONE.shiftLeft(127).subtract(BigInteger.ONE);
+
+    private static BigInteger random(Random random) {
+        var value = new BigInteger(random.nextInt(128), random);
+        return random.nextBoolean() ? value.negate() : value;
+    }
+
+    private static BigInteger unsigned(long value) {
+        var result = BigInteger.valueOf(value);
+        return value < 0 ? result.add(BigInteger.ONE.shiftLeft(64)) : result;
+    }
+
+    @Nested
+    class Conversion {
+
+        @Test
+        void round_trips() {
+            var random = new Random(42);
+            for (int i = 0; i < 1000; i++) {
+                var value = random(random);
+
+                assertThat(Int128.toBigInteger(Int128.high(value), Int128.low(value)))
+                    .isEqualTo(value);
+            }
+            assertThat(Int128.toBigInteger(Int128.high(MIN), Int128.low(MIN)))
+                .isEqualTo(MIN);
+            assertThat(Int128.toBigInteger(Int128.high(MAX), Int128.low(MAX)))
+                .isEqualTo(MAX);
+        }
+
+        @Test
+        void fits() {
+            assertThat(Int128.fits(MAX)).isTrue();
+            assertThat(Int128.fits(MIN)).isTrue();
+            assertThat(Int128.fits(MAX.add(BigInteger.ONE))).isFalse();
+            assertThat(Int128.fits(MIN.subtract(BigInteger.ONE))).isFalse();
+            assertThat(Int128.fitsLong(-1, -1)).isTrue();
+            assertThat(Int128.fitsLong(0, -1)).isFalse();
+        }
+    }
+
+    @Nested
+    class Arithmetic {
+
+        @Test
+        void add_and_subtract_match_BigInteger() {
+            var random = new Random(42);
+            for (int i = 0; i < 1000; i++) {
+                var a = random(random);
+                var b = random(random);
+                long aHigh = Int128.high(a);
+                long aLow = Int128.low(a);
+                long bHigh = Int128.high(b);
+                long bLow = Int128.low(b);
+
+                long sumLow = aLow + bLow;
+                long sumHigh = aHigh + bHigh + Int128.carry(aLow, sumLow);
+                var sum = a.add(b);
+                assertThat(Int128.addOverflows(aHigh, bHigh, sumHigh))
+                    .isEqualTo(!Int128.fits(sum));
+                if (Int128.fits(sum)) {
+                    assertThat(Int128.toBigInteger(sumHigh, sumLow))
+                        .isEqualTo(sum);
+                }
+
+                long differenceLow = aLow - bLow;
+                long differenceHigh = aHigh - bHigh - Int128.borrow(aLow, bLow);
+                var difference = a.subtract(b);
+                assertThat(Int128.subtractOverflows(aHigh, bHigh, differenceHigh))
+                    .isEqualTo(!Int128.fits(difference));
+                if (Int128.fits(difference)) {
+                    assertThat(Int128.toBigInteger(differenceHigh, differenceLow))
+                        .isEqualTo(difference);
+                }
+            }
+        }
+
+        @Test
+        void compareMagnitude_matches_BigInteger() {
+            var random = new Random(42);
+            for (int i = 0; i < 1000; i++) {
+                var a = random(random);
+                var b = i % 10 == 0 ? a.negate() : random(random);
+
+                assertThat(Integer.signum(Int128.compareMagnitude(Int128.high(a), Int128.low(a), Int128.high(b), Int128.low(b))))
+                    .isEqualTo(a.abs().compareTo(b.abs()));
+            }
+        }
+
+        @Test
+        void negateHigh() {
+            var value = BigInteger.ONE.shiftLeft(64);
+
+            assertThat(Int128.toBigInteger(Int128.negateHigh(Int128.high(value), Int128.low(value)), -Int128.low(value)))
+                .isEqualTo(value.negate());
+        }
+
+        @Test
+        void multiplyHighUnsigned_matches_BigInteger() {
+            var random = new Random(42);
+            var mask = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+            for (int i = 0; i < 1000; i++) {
+                long a = random.nextLong();
+                long b = i % 10 == 0 ? -1 : random.nextLong();
+
+                var expected = unsigned(a).multiply(unsigned(b)).shiftRight(64).and(mask);
+                assertThat(unsigned(Int128.multiplyHighUnsigned(a, b)))
+                    .isEqualTo(expected);
+            }
+        }
+
+        @Test
+        void divideUnsigned_matches_BigInteger() {
+            var random = new Random(42);
+            for (int i = 0; i < 1000; i++) {
+                long divisor = i % 3 == 0 ? random.nextInt(Integer.MAX_VALUE) + 1L : random.nextLong();
+                long high = Long.remainderUnsigned(random.nextLong(), divisor);
+                long low = random.nextLong();
+
+                var dividend = unsigned(high).shiftLeft(64).add(unsigned(low));
+                long quotient = Int128.divideUnsigned(high, low, divisor);
+                var expected = dividend.divideAndRemainder(unsigned(divisor));
+                assertThat(unsigned(quotient))
+                    .isEqualTo(expected[0]);
+                assertThat(unsigned(low - quotient * divisor))
+                    .isEqualTo(expected[1]);
+            }
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.github.honoluluhenk.fluentbigdecimals.internal;
+
+import lombok.var;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.BinaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LongKernelsTest {
+
+    private static long[] referenceBetween(long[] values, long low, long high) {
+        var mask = new long[LongKernels.words(values.length)];
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] >= low && values[i] <= high) {
+                mask[i >>> 6] |= 1L << i;
+            }
+        }
+
+        return mask;
+    }
+
+    private static final BigInteger MIN = BigInteger.valueOf(Long.MIN_VALUE);
+    private static final BigInteger MAX = BigInteger.valueOf(Long.MAX_VALUE);
+
+    private static long[] randomOperands(Random random, int length) {
+        // mix of small values and values close to the long range to provoke overflows
+        long[] result = new long[length];
+        for (int i = 0; i < length; i++) {
+            result[i] = random.nextInt(4) == 0
+                ? (random.nextLong() | 1) >> random.nextInt(3)
+                : random.nextInt(2_000_000) - 1_000_000;
+        }
+
+        return result;
+    }
+
+    /**
+     * The expected result or null if any element overflows (or hits Long.MIN_VALUE).
+     */
+    private static long[] reference(long[] a, long[] b, BinaryOperator<BigInteger> operator) {
+        long[] result = new long[a.length];
+        for (int i = 0; i < a.length; i++) {
+            BigInteger exact = operator.apply(BigInteger.valueOf(a[i]), BigInteger.valueOf(b[i]));
+            if (exact.compareTo(MIN) <= 0 || exact.compareTo(MAX) > 0) {
+                return null;
+            }
+            result[i] = exact.longValueExact();
+        }
+
+        return result;
+    }
+
+    private static void assertKernel(long[] expected, boolean exact, long[] result) {
+        if (expected == null) {
+            assertThat(exact).isFalse();
+        } else {
+            assertThat(exact).isTrue();
+            assertThat(result).isEqualTo(expected);
+        }
+    }
+
+    @Nested
+    class Words {
+
+        @Test
+        void rounds_up() {
+            assertThat(LongKernels.words(0)).isEqualTo(0);
+            assertThat(LongKernels.words(1)).isEqualTo(1);
+            assertThat(LongKernels.words(64)).isEqualTo(1);
+            assertThat(LongKernels.words(65)).isEqualTo(2);
+            assertThat(LongKernels.words(Integer.MAX_VALUE)).isEqualTo(1 << 25);
+        }
+    }
+
+    @Nested
+    class Between {
+
+        @Test
+        void matches_reference() {
+            var random = new Random(42);
+            for (int round = 0; round < 500; round++) {
+                var values = random.longs(random.nextInt(300), -100, 100).toArray();
+                long low = random.nextInt(200) - 100;
+                long high = low + random.nextInt(100);
+
+                assertThat(LongKernels.between(values, low, high))
+                    .isEqualTo(referenceBetween(values, low, high));
+            }
+        }
+
+        @Test
+        void handles_extremes() {
+            long[] values = {Long.MIN_VALUE, Long.MIN_VALUE + 1, -1, 0, 1, Long.MAX_VALUE - 1, Long.MAX_VALUE};
+            long[][] ranges = {
+                {Long.MIN_VALUE, Long.MAX_VALUE},
+                {Long.MIN_VALUE + 1, Long.MAX_VALUE},
+                {Long.MIN_VALUE, Long.MIN_VALUE},
+                {Long.MAX_VALUE, Long.MAX_VALUE},
+                {-1, 1},
+                {1, Long.MAX_VALUE - 1},
+            };
+
+            for (long[] range : ranges) {
+                assertThat(LongKernels.between(values, range[0], range[1]))
+                    .isEqualTo(referenceBetween(values, range[0], range[1]));
+            }
+        }
+
+        @Test
+        void handles_empty_values() {
+            assertThat(LongKernels.between(new long[0], 0, 1))
+                .isEmpty();
+        }
+    }
+
+    @Nested
+    class Cardinality {
+
+        @Test
+        void counts_set_bits() {
+            assertThat(LongKernels.cardinality(new long[]{-1, 0, 5}))
+                .isEqualTo(66);
+        }
+    }
+
+    @Nested
+    class Arithmetic {
+
+        @Test
+        void add_matches_reference() {
+            var random = new Random(42);
+            for (int round = 0; round < 500; round++) {
+                int length = random.nextInt(100);
+                var a = randomOperands(random, length);
+                var b = randomOperands(random, length);
+                var result = new long[length];
+
+                assertKernel(reference(a, b, BigInteger::add), LongKernels.add(a, b, result), result);
+            }
+        }
+
+        @Test
+        void subtract_matches_reference() {
+            var random = new Random(42);
+            for (int round = 0; round < 500; round++) {
+                int length = random.nextInt(100);
+                var a = randomOperands(random, length);
+                var b = randomOperands(random, length);
+                var result = new long[length];
+
+                assertKernel(reference(a, b, BigInteger::subtract), LongKernels.subtract(a, b, result), result);
+            }
+        }
+
+        @Test
+        void multiply_matches_reference() {
+            var random = new Random(42);
+            long[] factors = {0, 1, -1, 7, -100, 1L << 40, Long.MAX_VALUE, Long.MIN_VALUE};
+            for (int round = 0; round < 500; round++) {
+                int length = random.nextInt(100);
+                var values = randomOperands(random, length);
+                var factor = round < factors.length ? factors[round] : random.nextLong() >> random.nextInt(64);
+                var factorArray = new long[length];
+                Arrays.fill(factorArray, factor);
+                var result = new long[length];
+
+                assertKernel(
+                    reference(values, factorArray, BigInteger::multiply),
+                    LongKernels.multiply(values, factor, result),
+                    result);
+            }
+        }
+
+        @Test
+        void detects_Long_MIN_VALUE_results() {
+            var result = new long[1];
+
+            assertThat(LongKernels.add(new long[]{-Long.MAX_VALUE}, new long[]{-1}, result))
+                .isFalse();
+            assertThat(LongKernels.subtract(new long[]{-1}, new long[]{Long.MAX_VALUE}, result))
+                .isFalse();
+            assertThat(LongKernels.multiply(new long[]{1L << 62}, -2, result))
+                .isFalse();
+        }
+
+        @Test
+        void rejects_mismatching_lengths() {
+            assertThrows(IllegalArgumentException.class, () -> LongKernels.add(new long[1], new long[2], new long[1]));
+            assertThrows(IllegalArgumentException.class, () -> LongKernels.multiply(new long[1], 1, new long[2]));
+        }
+    }
+
+    @Nested
+    class Rescale {
+
+        @Test
+        void scales_up() {
+            var result = new long[3];
+
+            assertThat(LongKernels.rescale(new long[]{150, -2, 0}, 2, 4, result))
+                .isTrue();
+            assertThat(result)
+                .containsExactly(15000, -200, 0);
+        }
+
+        @Test
+        void scales_down_if_exact() {
+            var result = new long[2];
+
+            assertThat(LongKernels.rescale(new long[]{15000, -200}, 4, 2, result))
+                .isTrue();
+            assertThat(result)
+                .containsExactly(150, -2);
+            assertThat(LongKernels.rescale(new long[]{15000, -201}, 4, 2, result))
+                .isFalse();
+        }
+
+        @Test
+        void detects_overflow() {
+            var result = new long[1];
+
+            assertThat(LongKernels.rescale(new long[]{Long.MAX_VALUE / 10}, 0, 2, result))
+                .isFalse();
+            assertThat(LongKernels.rescale(new long[]{1}, 0, 19, result))
+                .isFalse();
+        }
+    }
+}
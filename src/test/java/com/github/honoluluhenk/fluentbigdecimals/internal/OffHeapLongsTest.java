@@ -0,0 +1,56 @@
+package com.github.honoluluhenk.fluentbigdecimals.internal;
+
+import lombok.var;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OffHeapLongsTest {
+
+    @Test
+    void is_zero_initialized() {
+        try (var longs = OffHeapLongs.allocate(100)) {
+            assertThat(longs.size())
+                .isEqualTo(100);
+            assertThat(longs.get(0))
+                .isEqualTo(0);
+            assertThat(longs.get(99))
+                .isEqualTo(0);
+        }
+    }
+
+    @Test
+    void stores_values() {
+        try (var longs = OffHeapLongs.allocate(3)) {
+            longs.set(0, Long.MIN_VALUE);
+            longs.set(2, Long.MAX_VALUE);
+
+            assertThat(longs.get(0))
+                .isEqualTo(Long.MIN_VALUE);
+            assertThat(longs.get(1))
+                .isEqualTo(0);
+            assertThat(longs.get(2))
+                .isEqualTo(Long.MAX_VALUE);
+        }
+    }
+
+    @Test
+    void checks_bounds() {
+        try (var longs = OffHeapLongs.allocate(3)) {
+            assertThrows(IndexOutOfBoundsException.class, () -> longs.get(3));
+            assertThrows(IndexOutOfBoundsException.class, () -> longs.set(-1, 1));
+        }
+        assertThrows(IllegalArgumentException.class, () -> OffHeapLongs.allocate(-1));
+    }
+
+    @Test
+    void fails_after_close() {
+        var longs = OffHeapLongs.allocate(3);
+
+        longs.close();
+        longs.close();
+
+        assertThrows(IllegalStateException.class, () -> longs.get(0));
+    }
+}
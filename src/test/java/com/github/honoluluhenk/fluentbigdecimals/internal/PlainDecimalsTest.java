@@ -0,0 +1,103 @@
+package com.github.honoluluhenk.fluentbigdecimals.internal;
+
+import lombok.var;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PlainDecimalsTest {
+
+    private static void assertRendersPlain(BigDecimal value) throws IOException {
+        String expected = value.toPlainString();
+
+        var builder = new StringBuilder();
+        PlainDecimals.appendPlain(builder, value);
+        var writer = new StringWriter();
+        PlainDecimals.appendPlain((Appendable) writer, value);
+        var bytes = new byte[expected.length() + 2];
+        int written = PlainDecimals.writePlainAscii(bytes, 2, value);
+        var heap = ByteBuffer.allocate(expected.length());
+        PlainDecimals.writePlainAscii(heap, value);
+        var direct = ByteBuffer.allocateDirect(expected.length());
+        PlainDecimals.writePlainAscii(direct, value);
+        var directBytes = new byte[expected.length()];
+        direct.flip().get(directBytes);
+
+        assertThat(builder.toString())
+            .isEqualTo(expected);
+        assertThat(writer.toString())
+            .isEqualTo(expected);
+        assertThat(written)
+            .isEqualTo(expected.length());
+        assertThat(new String(bytes, 2, written, StandardCharsets.US_ASCII))
+            .isEqualTo(expected);
+        assertThat(new String(heap.array(), StandardCharsets.US_ASCII))
+            .isEqualTo(expected);
+        assertThat(new String(directBytes, StandardCharsets.US_ASCII))
+            .isEqualTo(expected);
+        assertThat(PlainDecimals.length(value.unscaledValue().longValue(), value.scale()))
+            .isEqualTo(expected.length());
+    }
+
+    @Test
+    void matches_toPlainString_for_random_values() throws IOException {
+        var random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            long unscaled = random.nextLong() >> random.nextInt(64);
+            var value = BigDecimal.valueOf(unscaled, random.nextInt(50) - 25);
+
+            assertRendersPlain(value);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "0.00", "0E+3", "-1", "1E+5", "-0.001", "12.5", "100.00",
+        "9223372036854775807", "-922337203685477580.7", "0.9223372036854775807"})
+    void matches_toPlainString_at_edges(String value) throws IOException {
+        assertRendersPlain(new BigDecimal(value));
+    }
+
+    @Test
+    void falls_back_for_wide_values_and_extreme_scales() throws IOException {
+        var wide = new BigDecimal(BigInteger.TEN.pow(30).negate(), 3);
+        var tiny = new BigDecimal("1E-100");
+        var builder = new StringBuilder();
+        var buffer = ByteBuffer.allocateDirect(200);
+
+        PlainDecimals.appendPlain(builder, wide);
+        PlainDecimals.appendPlain(builder, tiny);
+        int written = PlainDecimals.writePlainAscii(buffer, tiny);
+
+        assertThat(builder.toString())
+            .isEqualTo(wide.toPlainString() + tiny.toPlainString());
+        assertThat(written)
+            .isEqualTo(102);
+    }
+
+    @Test
+    void writes_nothing_if_space_is_missing() {
+        var value = new BigDecimal("-1234.56");
+        var buffer = ByteBuffer.allocate(7);
+        var bytes = new byte[8];
+
+        assertThrows(BufferOverflowException.class, () -> PlainDecimals.writePlainAscii(buffer, value));
+        assertThrows(IndexOutOfBoundsException.class, () -> PlainDecimals.writePlainAscii(bytes, 2, value));
+
+        assertThat(buffer.position())
+            .isZero();
+        assertThat(bytes)
+            .containsOnly(0);
+    }
+}
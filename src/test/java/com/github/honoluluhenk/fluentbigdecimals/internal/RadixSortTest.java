@@ -0,0 +1,121 @@
+package com.github.honoluluhenk.fluentbigdecimals.internal;
+
+import lombok.var;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RadixSortTest {
+
+    private static long[] randomValues(Random random, int length) {
+        switch (random.nextInt(3)) {
+            case 0:
+                return random.longs(length).toArray();
+            case 1:
+                // many duplicates, few significant digits
+                return random.longs(length, -50, 50).toArray();
+            default:
+                return random.longs(length, 0, 1_000_000).toArray();
+        }
+    }
+
+    private static int[] referenceArgsort(long[] keys) {
+        return IntStream.range(0, keys.length)
+            .boxed()
+            .sorted(Comparator.comparingLong(i -> keys[i]))
+            .mapToInt(Integer::intValue)
+            .toArray();
+    }
+
+    @Nested
+    class Sort {
+
+        @Test
+        void matches_Arrays_sort() {
+            var random = new Random(42);
+            for (int round = 0; round < 200; round++) {
+                var values = randomValues(random, random.nextInt(2000));
+                var expected = values.clone();
+                Arrays.sort(expected);
+
+                RadixSort.sort(values);
+
+                assertThat(values)
+                    .isEqualTo(expected);
+            }
+        }
+
+        @Test
+        void handles_extremes() {
+            long[] values = {Long.MAX_VALUE, 0, -1, Long.MIN_VALUE + 1, 1, Long.MAX_VALUE - 1, -Long.MAX_VALUE};
+            var expected = values.clone();
+            Arrays.sort(expected);
+
+            RadixSort.sort(values);
+
+            assertThat(values)
+                .isEqualTo(expected);
+        }
+
+        @Test
+        void handles_empty_arrays() {
+            var values = new long[0];
+
+            RadixSort.sort(values);
+            RadixSort.parallelSort(values);
+
+            assertThat(RadixSort.argsort(values))
+                .isEmpty();
+        }
+
+        @Test
+        void parallel_matches_Arrays_sort() {
+            var random = new Random(42);
+            for (int round = 0; round < 5; round++) {
+                var values = randomValues(random, 200_000 + random.nextInt(1000));
+                var expected = values.clone();
+                Arrays.sort(expected);
+
+                RadixSort.parallelSort(values);
+
+                assertThat(values)
+                    .isEqualTo(expected);
+            }
+        }
+    }
+
+    @Nested
+    class Argsort {
+
+        @Test
+        void is_stable() {
+            var random = new Random(42);
+            for (int round = 0; round < 200; round++) {
+                var keys = randomValues(random, random.nextInt(2000));
+                var original = keys.clone();
+
+                assertThat(RadixSort.argsort(keys))
+                    .isEqualTo(referenceArgsort(keys));
+                assertThat(keys)
+                    .isEqualTo(original);
+            }
+        }
+
+        @Test
+        void parallel_is_stable() {
+            var random = new Random(42);
+            for (int round = 0; round < 5; round++) {
+                var keys = randomValues(random, 200_000 + random.nextInt(1000));
+
+                assertThat(RadixSort.parallelArgsort(keys))
+                    .isEqualTo(referenceArgsort(keys));
+            }
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.github.honoluluhenk.fluentbigdecimals.internal;
+
+import com.github.honoluluhenk.fluentbigdecimals.CashRoundingUnits;
+import com.github.honoluluhenk.fluentbigdecimals.scaler.CashRoundingScaler;
+import com.github.honoluluhenk.fluentbigdecimals.scaler.FixedScaleScaler;
+import com.github.honoluluhenk.fluentbigdecimals.scaler.IntegerScaler;
+import com.github.honoluluhenk.fluentbigdecimals.scaler.MaxScaleScaler;
+import com.github.honoluluhenk.fluentbigdecimals.scaler.NopScaler;
+import com.github.honoluluhenk.fluentbigdecimals.scaler.TickScaler;
+import lombok.var;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static com.github.honoluluhenk.fluentbigdecimals.internal.ScaledLongs.NOT_REPRESENTABLE;
+import static com.github.honoluluhenk.fluentbigdecimals.internal.ScaledLongs.UNKNOWN_SCALE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ScaledLongsTest {
+
+    @Nested
+    class FixedScale {
+
+        @Test
+        void knows_the_scale_of_the_predefined_scalers() {
+            assertThat(ScaledLongs.fixedScale(new MaxScaleScaler(3)))
+                .isEqualTo(3);
+            assertThat(ScaledLongs.fixedScale(new FixedScaleScaler(4)))
+                .isEqualTo(4);
+            assertThat(ScaledLongs.fixedScale(new IntegerScaler()))
+                .isEqualTo(0);
+            assertThat(ScaledLongs.fixedScale(CashRoundingScaler.of(CashRoundingUnits.ROUND_DOT05)))
+                .isEqualTo(2);
+            assertThat(ScaledLongs.fixedScale(TickScaler.of("0.25", RoundingMode.HALF_UP)))
+                .isEqualTo(2);
+        }
+
+        @Test
+        void is_unknown_for_NopScaler() {
+            assertThat(ScaledLongs.fixedScale(new NopScaler()))
+                .isEqualTo(UNKNOWN_SCALE);
+        }
+    }
+
+    @Nested
+    class ToUnscaled {
+
+        @ParameterizedTest
+        @CsvSource({
+            "12.34,    1234",
+            "12.3,     1230",
+            "12,       1200",
+            "12.3400,  1234",
+            "-0.01,    -1",
+            "0,        0",
+            "1E+3,     100000",
+            "92233720368547758.07, 9223372036854775807",
+            "-92233720368547758.07, -9223372036854775807",
+        })
+        void converts_exactly(BigDecimal value, long expected) {
+            assertThat(ScaledLongs.toUnscaled(value, 2))
+                .isEqualTo(expected);
+        }
+
+        @ParameterizedTest
+        @CsvSource({
+            "12.345",
+            "92233720368547758.08",
+            "-92233720368547758.08",
+            "123456789012345678901234567890",
+        })
+        void rejects_values_needing_rounding_or_overflowing(BigDecimal value) {
+            assertThat(ScaledLongs.toUnscaled(value, 2))
+                .isEqualTo(NOT_REPRESENTABLE);
+        }
+
+        @Test
+        void rejects_unknown_scale() {
+            assertThat(ScaledLongs.toUnscaled(BigDecimal.ONE, UNKNOWN_SCALE))
+                .isEqualTo(NOT_REPRESENTABLE);
+        }
+    }
+
+    @Nested
+    class Add {
+
+        @Test
+        void adds() {
+            assertThat(ScaledLongs.add(1234, -34))
+                .isEqualTo(1200);
+        }
+
+        @Test
+        void detects_overflow() {
+            assertThat(ScaledLongs.add(Long.MAX_VALUE, 1))
+                .isEqualTo(NOT_REPRESENTABLE);
+            assertThat(ScaledLongs.add(-Long.MAX_VALUE, -2))
+                .isEqualTo(NOT_REPRESENTABLE);
+        }
+
+        @Test
+        void is_sticky_on_not_representable() {
+            assertThat(ScaledLongs.add(NOT_REPRESENTABLE, 0))
+                .isEqualTo(NOT_REPRESENTABLE);
+            assertThat(ScaledLongs.add(0, NOT_REPRESENTABLE))
+                .isEqualTo(NOT_REPRESENTABLE);
+        }
+    }
+
+    @Nested
+    class DivideRounded {
+
+        @Test
+        void matches_BigDecimal_divide() {
+            var random = new Random(42);
+            for (int i = 0; i < 2000; i++) {
+                long dividend = random.nextInt(20001) - 10000;
+                long divisor = ScaledLongs.powerOfTen(random.nextInt(4));
+                for (RoundingMode mode : RoundingMode.values()) {
+                    if (mode == RoundingMode.UNNECESSARY) {
+                        continue;
+                    }
+                    long expected = BigDecimal.valueOf(dividend)
+                        .divide(BigDecimal.valueOf(divisor), 0, mode)
+                        .longValueExact();
+
+                    assertThat(ScaledLongs.divideRounded(dividend, divisor, mode))
+                        .as("%s / %s %s", dividend, divisor, mode)
+                        .isEqualTo(expected);
+                }
+            }
+        }
+
+        @Test
+        void handles_large_divisors() {
+            assertThat(ScaledLongs.divideRounded(Long.MAX_VALUE, ScaledLongs.powerOfTen(18), RoundingMode.HALF_UP))
+                .isEqualTo(9);
+        }
+
+        @Test
+        void throws_if_rounding_is_necessary_but_forbidden() {
+            assertThrows(ArithmeticException.class, () -> ScaledLongs.divideRounded(5, 10, RoundingMode.UNNECESSARY));
+        }
+    }
+}
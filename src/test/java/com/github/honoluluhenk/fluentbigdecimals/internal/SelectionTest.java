@@ -0,0 +1,78 @@
+package com.github.honoluluhenk.fluentbigdecimals.internal;
+
+import lombok.var;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SelectionTest {
+
+    @Nested
+    class KthSmallest {
+
+        @Test
+        void matches_sorted_array() {
+            var random = new Random(42);
+            for (int round = 0; round < 200; round++) {
+                var values = random.longs(1 + random.nextInt(500), -50, 50).toArray();
+                var sorted = values.clone();
+                Arrays.sort(sorted);
+                int k = random.nextInt(values.length);
+
+                assertThat(Selection.kthSmallest(values, k))
+                    .isEqualTo(sorted[k]);
+            }
+        }
+
+        @Test
+        void partitions_around_k() {
+            var values = new Random(42).longs(1000).toArray();
+
+            long kth = Selection.kthSmallest(values, 500);
+
+            assertThat(Arrays.stream(values, 0, 500).max().getAsLong())
+                .isLessThanOrEqualTo(kth);
+            assertThat(Arrays.stream(values, 501, 1000).min().getAsLong())
+                .isGreaterThanOrEqualTo(kth);
+        }
+
+        @Test
+        void handles_many_equal_values() {
+            var values = new long[100_000];
+
+            assertThat(Selection.kthSmallest(values, 50_000))
+                .isZero();
+        }
+
+        @Test
+        void rejects_k_out_of_range() {
+            assertThrows(IllegalArgumentException.class, () -> Selection.kthSmallest(new long[2], 2));
+        }
+    }
+
+    @Nested
+    class KthLargest {
+
+        @Test
+        void returns_maximum_for_1() {
+            assertThat(Selection.kthLargest(new long[]{3, 9, -1, 4}, 1))
+                .isEqualTo(9);
+        }
+
+        @Test
+        void returns_minimum_for_length() {
+            assertThat(Selection.kthLargest(new long[]{3, 9, -1, 4}, 4))
+                .isEqualTo(-1);
+        }
+
+        @Test
+        void rejects_k_out_of_range() {
+            assertThrows(IllegalArgumentException.class, () -> Selection.kthLargest(new long[2], 0));
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.github.honoluluhenk.fluentbigdecimals.internal;
+
+import lombok.var;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class VarIntsTest {
+
+    private static byte[] writeSigned(long value) throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        VarInts.writeSignedLong(new DataOutputStream(bytes), value);
+
+        return bytes.toByteArray();
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, 1, -1, 63, -64, 64, 1234567890123L, Long.MAX_VALUE, Long.MIN_VALUE})
+    void roundtrips_signed_values(long value) throws IOException {
+        byte[] bytes = writeSigned(value);
+
+        long actual = VarInts.readSignedLong(new DataInputStream(new ByteArrayInputStream(bytes)));
+
+        assertThat(actual)
+            .isEqualTo(value);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, 1, -1, 63, -64, 64, 1234567890123L, Long.MAX_VALUE, Long.MIN_VALUE})
+    void byte_buffer_matches_data_output(long value) throws IOException {
+        var buffer = ByteBuffer.allocate(VarInts.MAX_LONG_BYTES);
+
+        VarInts.writeSignedLong(buffer, value);
+        buffer.flip();
+
+        assertThat(buffer.duplicate().array())
+            .startsWith(writeSigned(value));
+        assertThat(buffer.remaining())
+            .isEqualTo(writeSigned(value).length);
+        assertThat(VarInts.readSignedLong(buffer))
+            .isEqualTo(value);
+    }
+
+    @Test
+    void uses_few_bytes_for_small_magnitudes() throws IOException {
+        assertThat(writeSigned(-64))
+            .hasSize(1);
+        assertThat(writeSigned(64))
+            .hasSize(2);
+        assertThat(writeSigned(Long.MIN_VALUE))
+            .hasSize(VarInts.MAX_LONG_BYTES);
+    }
+
+    @Test
+    void rejects_overlong_input() {
+        byte[] bytes = new byte[11];
+        java.util.Arrays.fill(bytes, (byte) 0x80);
+
+        assertThrows(IOException.class,
+            () -> VarInts.readUnsignedLong(new DataInputStream(new ByteArrayInputStream(bytes))));
+    }
+
+    @Test
+    void rejects_overlong_buffer() {
+        byte[] bytes = new byte[11];
+        java.util.Arrays.fill(bytes, (byte) 0x80);
+
+        assertThrows(IllegalArgumentException.class, () -> VarInts.readUnsignedLong(ByteBuffer.wrap(bytes)));
+    }
+}
@@ -0,0 +1,306 @@
+package com.github.honoluluhenk.fluentbigdecimals.ladder;
+
+import com.github.honoluluhenk.fluentbigdecimals.scaler.TickScaler;
+import lombok.var;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.OptionalLong;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PriceLadderTest {
+    private static final TickScaler TICKS = TickScaler.of("0.05", RoundingMode.HALF_UP);
+
+    private static BigDecimal price(String value) {
+        return new BigDecimal(value);
+    }
+
+    @Nested
+    class Access {
+
+        @Test
+        void is_empty_initially() {
+            var ladder = new PriceLadder<String>(TICKS);
+
+            assertThat(ladder.isEmpty())
+                .isTrue();
+            assertThat(ladder.size())
+                .isEqualTo(0);
+            assertThat(ladder.get(price("1.00")))
+                .isNull();
+            assertThat(ladder.lowestIndex())
+                .isEqualTo(OptionalLong.empty());
+            assertThat(ladder.highestIndex())
+                .isEqualTo(OptionalLong.empty());
+        }
+
+        @Test
+        void puts_and_gets_by_price() {
+            var ladder = new PriceLadder<String>(TICKS);
+
+            assertThat(ladder.put(price("101.35"), "a"))
+                .isNull();
+            assertThat(ladder.put(price("101.35"), "b"))
+                .isEqualTo("a");
+
+            assertThat(ladder.get(price("101.35")))
+                .isEqualTo("b");
+            assertThat(ladder.getAt(2027))
+                .isEqualTo("b");
+            assertThat(ladder.size())
+                .isEqualTo(1);
+        }
+
+        @Test
+        void maps_off_grid_prices_using_the_rounding_mode() {
+            var ladder = new PriceLadder<String>(TICKS);
+
+            ladder.put(price("101.351"), "a");
+
+            assertThat(ladder.get(price("101.35")))
+                .isEqualTo("a");
+            assertThat(ladder.get(price("101.374")))
+                .isEqualTo("a");
+            assertThat(ladder.get(price("101.375")))
+                .isNull();
+        }
+
+        @Test
+        void removes() {
+            var ladder = new PriceLadder<String>(TICKS);
+            ladder.put(price("1.00"), "a");
+
+            assertThat(ladder.remove(price("1.05")))
+                .isNull();
+            assertThat(ladder.remove(price("1.00")))
+                .isEqualTo("a");
+            assertThat(ladder.remove(price("1.00")))
+                .isNull();
+            assertThat(ladder.isEmpty())
+                .isTrue();
+        }
+
+        @Test
+        void computeIfAbsent_creates_once() {
+            var ladder = new PriceLadder<ArrayList<String>>(TICKS);
+
+            ladder.computeIfAbsentAt(20, index -> new ArrayList<>()).add("a");
+            ladder.computeIfAbsentAt(20, index -> new ArrayList<>()).add("b");
+
+            assertThat(ladder.get(price("1.00")))
+                .containsExactly("a", "b");
+        }
+
+        @Test
+        void rejects_null_levels() {
+            var ladder = new PriceLadder<String>(TICKS);
+
+            assertThrows(NullPointerException.class, () -> ladder.putAt(1, null));
+            assertThrows(NullPointerException.class, () -> ladder.computeIfAbsentAt(1, index -> null));
+        }
+
+        @Test
+        void converts_indexes_to_prices() {
+            var ladder = new PriceLadder<String>(TICKS);
+
+            assertThat(ladder.priceAt(2027))
+                .isEqualTo(price("101.35"));
+        }
+    }
+
+    @Nested
+    class Window {
+
+        @Test
+        void grows_in_both_directions() {
+            var ladder = new PriceLadder<Long>(TICKS, 1);
+
+            for (long i = 0; i < 100; i++) {
+                ladder.putAt(i, i);
+                ladder.putAt(-i - 1, -i - 1);
+            }
+
+            assertThat(ladder.size())
+                .isEqualTo(200);
+            for (long i = -100; i < 100; i++) {
+                assertThat(ladder.getAt(i))
+                    .isEqualTo(i);
+            }
+            assertThat(ladder.lowestIndex())
+                .isEqualTo(OptionalLong.of(-100));
+            assertThat(ladder.highestIndex())
+                .isEqualTo(OptionalLong.of(99));
+        }
+
+        @Test
+        void recenters_when_empty() {
+            var ladder = new PriceLadder<String>(TICKS, 4);
+            ladder.putAt(0, "a");
+            ladder.removeAt(0);
+
+            ladder.putAt(1_000_000_000_000L, "b");
+
+            assertThat(ladder.getAt(1_000_000_000_000L))
+                .isEqualTo("b");
+        }
+
+        @Test
+        void slides_instead_of_growing_for_drifting_prices() {
+            var ladder = new PriceLadder<Long>(TICKS, 4);
+            ladder.putAt(0, 0L);
+
+            // growing on every move would exceed the maximum capacity long before the end
+            for (long i = 1; i <= 100; i++) {
+                ladder.putAt(i * 1_000_000, i);
+                ladder.removeAt((i - 1) * 1_000_000);
+            }
+
+            assertThat(ladder.size())
+                .isEqualTo(1);
+            assertThat(ladder.getAt(100_000_000))
+                .isEqualTo(100L);
+            assertThat(ladder.lowestIndex())
+                .isEqualTo(OptionalLong.of(100_000_000));
+        }
+
+        @Test
+        void slides_both_ways_and_clears_vacated_slots() {
+            var ladder = new PriceLadder<Long>(TICKS, 64);
+            ladder.putAt(0, 0L);
+            ladder.putAt(1, 1L);
+
+            ladder.putAt(20, 20L);
+            ladder.putAt(-40, -40L);
+            ladder.removeAt(-40);
+            ladder.putAt(50, 50L);
+
+            var visited = new ArrayList<Long>();
+            ladder.forEach((level, index) -> visited.add(index));
+            assertThat(visited)
+                .containsExactly(0L, 1L, 20L, 50L);
+        }
+
+        @Test
+        void handles_extreme_tick_indexes() {
+            var ladder = new PriceLadder<String>(TICKS);
+
+            ladder.putAt(Long.MIN_VALUE, "min");
+            ladder.putAt(Long.MIN_VALUE + 1_000, "above min");
+
+            assertThat(ladder.getAt(Long.MIN_VALUE))
+                .isEqualTo("min");
+            assertThat(ladder.getAt(Long.MIN_VALUE + 1_000))
+                .isEqualTo("above min");
+            assertThat(ladder.getAt(Long.MAX_VALUE))
+                .isNull();
+
+            var high = new PriceLadder<String>(TICKS);
+            high.putAt(Long.MAX_VALUE, "max");
+            high.putAt(Long.MAX_VALUE - 1_000, "below max");
+
+            assertThat(high.highestIndex())
+                .isEqualTo(OptionalLong.of(Long.MAX_VALUE));
+            assertThat(high.lowestIndex())
+                .isEqualTo(OptionalLong.of(Long.MAX_VALUE - 1_000));
+            assertThat(high.getAt(Long.MIN_VALUE))
+                .isNull();
+        }
+
+        @Test
+        void rejects_prices_too_far_away() {
+            var ladder = new PriceLadder<String>(TICKS);
+            ladder.putAt(0, "a");
+
+            assertThrows(IllegalArgumentException.class, () -> ladder.putAt(Long.MAX_VALUE, "b"));
+            assertThat(ladder.getAt(0))
+                .isEqualTo("a");
+        }
+
+        @Test
+        void rejects_invalid_capacity() {
+            assertThrows(IllegalArgumentException.class, () -> new PriceLadder<String>(TICKS, 0));
+        }
+    }
+
+    @Nested
+    class Order {
+
+        @Test
+        void tracks_lowest_and_highest() {
+            var ladder = new PriceLadder<String>(TICKS);
+            ladder.put(price("1.00"), "a");
+            ladder.put(price("1.10"), "b");
+            ladder.put(price("1.25"), "c");
+
+            ladder.remove(price("1.00"));
+            ladder.remove(price("1.25"));
+
+            assertThat(ladder.lowestIndex())
+                .isEqualTo(OptionalLong.of(22));
+            assertThat(ladder.highestIndex())
+                .isEqualTo(OptionalLong.of(22));
+        }
+
+        @Test
+        void forEach_visits_in_ascending_order() {
+            var ladder = new PriceLadder<String>(TICKS);
+            ladder.put(price("1.10"), "b");
+            ladder.put(price("0.95"), "a");
+            ladder.put(price("2.00"), "c");
+
+            var visited = new ArrayList<String>();
+            ladder.forEach((level, index) -> visited.add(level + "@" + ladder.priceAt(index).toPlainString()));
+
+            assertThat(visited)
+                .containsExactly("a@0.95", "b@1.10", "c@2.00");
+        }
+
+        @Test
+        void behaves_like_a_TreeMap() {
+            var ladder = new PriceLadder<Integer>(TICKS, 8);
+            var reference = new TreeMap<Long, Integer>();
+            var random = new Random(42);
+
+            for (int i = 0; i < 10_000; i++) {
+                long index = random.nextInt(500) - 250;
+                if (random.nextBoolean()) {
+                    assertThat(ladder.putAt(index, i))
+                        .isEqualTo(reference.put(index, i));
+                } else {
+                    assertThat(ladder.removeAt(index))
+                        .isEqualTo(reference.remove(index));
+                }
+
+                assertThat(ladder.size())
+                    .isEqualTo(reference.size());
+                if (!reference.isEmpty()) {
+                    assertThat(ladder.lowestIndex())
+                        .isEqualTo(OptionalLong.of(reference.firstKey()));
+                    assertThat(ladder.highestIndex())
+                        .isEqualTo(OptionalLong.of(reference.lastKey()));
+                }
+            }
+
+            var keys = new ArrayList<Long>();
+            ladder.forEach((level, index) -> keys.add(index));
+            assertThat(keys)
+                .containsExactlyElementsOf(reference.keySet());
+        }
+    }
+
+    @Test
+    void toString_shows_size_and_ticks() {
+        var ladder = new PriceLadder<String>(TICKS);
+        ladder.putAt(1, "a");
+
+        assertThat(ladder)
+            .hasToString("PriceLadder[size=1,TickScaler[0.05,HALF_UP]]");
+    }
+}
@@ -0,0 +1,226 @@
+package com.github.honoluluhenk.fluentbigdecimals.scaler;
+
+import com.github.honoluluhenk.fluentbigdecimals.CashRounding;
+import com.github.honoluluhenk.fluentbigdecimals.CashRoundingUnits;
+import com.github.honoluluhenk.fluentbigdecimals.Configuration;
+import com.github.honoluluhenk.fluentbigdecimals.FluentBigDecimal;
+import com.github.honoluluhenk.fluentbigdecimals.column.Allocation;
+import lombok.var;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static com.github.honoluluhenk.fluentbigdecimals.ConfigurationFactory.FLUENT_BIGDECIMAL_FACTORY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TickScalerTest {
+    private static final MathContext MC = new MathContext(20, RoundingMode.HALF_UP);
+
+    @Nested
+    class Constructor {
+
+        @ParameterizedTest
+        @CsvSource({
+            "0",
+            "-0.05",
+        })
+        void rejects_non_positive_ticks(String tick) {
+            assertThrows(IllegalArgumentException.class, () -> TickScaler.of(tick, RoundingMode.HALF_UP));
+        }
+
+        @Test
+        void rejects_ticks_not_fitting_into_a_long() {
+            assertThrows(IllegalArgumentException.class, () -> TickScaler.of("1E+30", RoundingMode.HALF_UP));
+        }
+
+        @Test
+        void uses_at_least_scale_0() {
+            var scaler = TickScaler.of(new BigDecimal("5E+2"), RoundingMode.HALF_UP);
+
+            assertThat(scaler.getScale())
+                .isEqualTo(0);
+            assertThat(scaler.getUnscaledTick())
+                .isEqualTo(500);
+        }
+
+        @Test
+        void equals_ignores_derived_fields() {
+            assertThat(TickScaler.of("0.25", RoundingMode.HALF_UP))
+                .isEqualTo(TickScaler.of("0.25", RoundingMode.HALF_UP))
+                .isNotEqualTo(TickScaler.of("0.25", RoundingMode.DOWN))
+                .isNotEqualTo(TickScaler.of("0.5", RoundingMode.HALF_UP));
+        }
+
+        @Test
+        void toString_shows_tick_and_rounding() {
+            assertThat(TickScaler.of("0.05", RoundingMode.HALF_UP))
+                .hasToString("TickScaler[0.05,HALF_UP]");
+        }
+    }
+
+    @Nested
+    class Quantize {
+
+        @ParameterizedTest
+        @CsvSource({
+            "0.25, HALF_UP, 1.12, 1.00",
+            "0.25, HALF_UP, 1.125, 1.25",
+            "0.25, HALF_DOWN, 1.125, 1.00",
+            "0.25, HALF_EVEN, 1.375, 1.50",
+            "0.25, HALF_EVEN, 1.125, 1.00",
+            "0.25, UP, 1.01, 1.25",
+            "0.25, DOWN, 1.24, 1.00",
+            "0.25, CEILING, -1.24, -1.00",
+            "0.25, FLOOR, -1.01, -1.25",
+            "0.25, HALF_UP, -1.125, -1.25",
+            "0.0005, HALF_UP, 1.23425, 1.2345",
+            "25, HALF_UP, 1337, 1325",
+            "0.1, HALF_UP, 7, 7.0",
+        })
+        void rounds_to_multiples_of_tick(String tick, RoundingMode roundingMode, String value, String expected) {
+            var scaler = TickScaler.of(tick, roundingMode);
+
+            assertThat(scaler.quantize(new BigDecimal(value)))
+                .isEqualTo(new BigDecimal(expected));
+            assertThat(scaler.scale(new BigDecimal(value), MC))
+                .isEqualTo(new BigDecimal(expected));
+        }
+
+        @Test
+        void throws_on_UNNECESSARY_off_the_grid() {
+            var scaler = TickScaler.of("0.25", RoundingMode.UNNECESSARY);
+
+            assertThat(scaler.quantize(new BigDecimal("1.5")))
+                .isEqualTo(new BigDecimal("1.50"));
+            assertThrows(ArithmeticException.class, () -> scaler.quantize(new BigDecimal("1.1")));
+        }
+
+        @Test
+        void handles_values_not_fitting_into_a_long() {
+            var scaler = TickScaler.of("0.25", RoundingMode.HALF_UP);
+
+            assertThat(scaler.quantize(new BigDecimal("123456789012345678901234567890.13")))
+                .isEqualTo(new BigDecimal("123456789012345678901234567890.25"));
+        }
+
+        @Test
+        void matches_CashRounding() {
+            var cashRounding = CashRounding.of(CashRoundingUnits.ROUND_DOT05);
+            var scaler = TickScaler.of(cashRounding);
+            var random = new Random(42);
+
+            for (int i = 0; i < 1000; i++) {
+                var value = BigDecimal.valueOf(random.nextInt(2_000_000) - 1_000_000, 3);
+
+                assertThat(scaler.quantize(value))
+                    .describedAs("%s", value)
+                    .isEqualTo(cashRounding.round(value));
+            }
+        }
+
+        @Test
+        void matches_BigDecimal_arithmetics() {
+            var random = new Random(42);
+            for (RoundingMode roundingMode : RoundingMode.values()) {
+                if (roundingMode == RoundingMode.UNNECESSARY) {
+                    continue;
+                }
+                var tick = new BigDecimal("0.0025");
+                var scaler = TickScaler.of(tick, roundingMode);
+
+                for (int i = 0; i < 1000; i++) {
+                    var value = BigDecimal.valueOf(random.nextLong() / 1000, 6);
+                    var expected = value.divide(tick, 0, roundingMode).multiply(tick).setScale(4);
+
+                    assertThat(scaler.quantize(value))
+                        .describedAs("%s %s", value, roundingMode)
+                        .isEqualTo(expected);
+                }
+            }
+        }
+    }
+
+    @Nested
+    class Indexes {
+        private final TickScaler scaler = TickScaler.of("0.05", RoundingMode.HALF_UP);
+
+        @ParameterizedTest
+        @CsvSource({
+            "0, 0",
+            "0.05, 1",
+            "1.00, 20",
+            "1.02, 20",
+            "1.025, 21",
+            "-1.025, -21",
+            "101.35, 2027",
+        })
+        void toIndex_divides_by_tick(String value, long expected) {
+            assertThat(scaler.toIndex(new BigDecimal(value)))
+                .isEqualTo(expected);
+            assertThat(scaler.toIndex(Configuration.createConfiguration(MC, scaler, FLUENT_BIGDECIMAL_FACTORY).of(value)))
+                .isEqualTo(expected);
+        }
+
+        @Test
+        void toValue_roundtrips() {
+            for (long index = -100; index <= 100; index++) {
+                var value = scaler.toValue(index);
+
+                assertThat(value.scale())
+                    .isEqualTo(2);
+                assertThat(scaler.toIndex(value))
+                    .isEqualTo(index);
+            }
+        }
+
+        @Test
+        void handles_values_not_fitting_into_a_long() {
+            var value = scaler.toValue(Long.MAX_VALUE);
+
+            assertThat(value)
+                .isEqualTo(new BigDecimal("461168601842738790.35"));
+            assertThat(scaler.toIndex(value))
+                .isEqualTo(Long.MAX_VALUE);
+        }
+
+        @Test
+        void throws_if_index_does_not_fit_into_a_long() {
+            assertThrows(ArithmeticException.class, () -> scaler.toIndex(new BigDecimal("1E+30")));
+        }
+    }
+
+    @Nested
+    class AsScaler {
+
+        @Test
+        void works_in_configurations() {
+            var config = Configuration.createConfiguration(
+                MC, TickScaler.of("0.25", RoundingMode.HALF_UP), FLUENT_BIGDECIMAL_FACTORY
+            );
+
+            assertThat(config.of("10").multiply("1.13").toPlainString())
+                .isEqualTo("11.25");
+        }
+
+        @Test
+        void allocates_in_ticks() {
+            var config = Configuration.createConfiguration(
+                MC, TickScaler.of("0.25", RoundingMode.HALF_UP), FLUENT_BIGDECIMAL_FACTORY
+            );
+
+            var shares = Allocation.split(config.of("10"), 3);
+
+            assertThat(shares.toList())
+                .extracting(FluentBigDecimal::toPlainString)
+                .containsExactly("3.50", "3.25", "3.25");
+        }
+    }
+
+}
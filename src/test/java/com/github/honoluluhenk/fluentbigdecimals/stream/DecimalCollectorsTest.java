@@ -0,0 +1,78 @@
+package com.github.honoluluhenk.fluentbigdecimals.stream;
+
+import com.github.honoluluhenk.fluentbigdecimals.Configuration;
+import com.github.honoluluhenk.fluentbigdecimals.ConfigurationFactory;
+import com.github.honoluluhenk.fluentbigdecimals.FluentBigDecimal;
+import lombok.var;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DecimalCollectorsTest {
+    private static final Configuration<FluentBigDecimal> MONETARY = ConfigurationFactory.monetary(20);
+
+    @Nested
+    class Summarizing {
+
+        @Test
+        void computes_everything_in_one_pass() {
+            var values = List.of(MONETARY.of("1.10"), MONETARY.of("-2"), MONETARY.of("4"));
+
+            var actual = values.stream()
+                .collect(DecimalCollectors.summarizing(MONETARY));
+
+            assertThat(actual.getCount())
+                .isEqualTo(3);
+            assertThat(actual.getSum())
+                .isEqualTo(MONETARY.of("3.10"));
+            assertThat(actual.getMin())
+                .contains(MONETARY.of("-2.00"));
+            assertThat(actual.getMax())
+                .contains(MONETARY.of("4.00"));
+            assertThat(actual.getAverage())
+                .contains(MONETARY.of("3.10").divide(3));
+        }
+
+        @Test
+        void parallel_result_equals_sequential_result() {
+            var values = IntStream.range(0, 100_000)
+                .mapToObj(i -> MONETARY.ofRaw(BigDecimal.valueOf(i * 7919L % 100_003 - 50_000, i % 4)))
+                .collect(Collectors.toList());
+
+            var sequential = values.stream()
+                .collect(DecimalCollectors.summarizing(MONETARY));
+            var parallel = values.parallelStream()
+                .collect(DecimalCollectors.summarizing(MONETARY));
+
+            assertThat(parallel.getCount())
+                .isEqualTo(sequential.getCount());
+            assertThat(parallel.getSumRaw())
+                .isEqualTo(sequential.getSumRaw());
+            assertThat(parallel.getMin())
+                .isEqualTo(sequential.getMin());
+            assertThat(parallel.getMax())
+                .isEqualTo(sequential.getMax());
+            assertThat(parallel.getAverage())
+                .isEqualTo(sequential.getAverage());
+        }
+
+        @Test
+        void rounds_only_once() {
+            var values = IntStream.range(0, 3)
+                .mapToObj(i -> MONETARY.ofRaw("0.004"))
+                .collect(Collectors.toList());
+
+            var actual = values.stream()
+                .collect(DecimalCollectors.summarizing(MONETARY));
+
+            assertThat(actual.getSum())
+                .isEqualTo(MONETARY.of("0.01"));
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.github.honoluluhenk.fluentbigdecimals.stream;
+
+import com.github.honoluluhenk.fluentbigdecimals.Configuration;
+import com.github.honoluluhenk.fluentbigdecimals.ConfigurationFactory;
+import com.github.honoluluhenk.fluentbigdecimals.FluentBigDecimal;
+import com.github.honoluluhenk.fluentbigdecimals.scaler.NopScaler;
+import lombok.var;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static java.math.RoundingMode.HALF_UP;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DecimalStatisticsTest {
+    private static final Configuration<FluentBigDecimal> MONETARY = ConfigurationFactory.monetary(20);
+
+    private static DecimalStatistics<FluentBigDecimal> statisticsOf(String... values) {
+        var result = new DecimalStatistics<>(MONETARY);
+        for (String value : values) {
+            result.accept(new BigDecimal(value));
+        }
+
+        return result;
+    }
+
+    @Nested
+    class Accept {
+
+        @Test
+        void is_empty_initially() {
+            var stats = new DecimalStatistics<>(MONETARY);
+
+            assertThat(stats.getCount())
+                .isZero();
+            assertThat(stats.getMean())
+                .isEmpty();
+            assertThat(stats.getPopulationVariance())
+                .isEmpty();
+            assertThat(stats.getSampleStandardDeviation())
+                .isEmpty();
+        }
+
+        @Test
+        void computes_textbook_example() {
+            var stats = statisticsOf("2", "4", "4", "4", "5", "5", "7", "9");
+
+            assertThat(stats.getMean())
+                .contains(MONETARY.of("5.00"));
+            assertThat(stats.getPopulationVariance())
+                .contains(MONETARY.of("4.00"));
+            assertThat(stats.getPopulationStandardDeviation())
+                .contains(MONETARY.of("2.00"));
+            assertThat(stats.getSampleVariance())
+                .contains(MONETARY.of("4.57"));
+            assertThat(stats.getSampleStandardDeviation())
+                .contains(MONETARY.of("2.14"));
+        }
+
+        @Test
+        void needs_two_values_for_sample_variance() {
+            var stats = statisticsOf("3");
+
+            assertThat(stats.getPopulationVariance())
+                .contains(MONETARY.of("0"));
+            assertThat(stats.getSampleVariance())
+                .isEmpty();
+        }
+
+        @Test
+        void is_stable_for_large_offsets() {
+            var stats = statisticsOf("1000000004", "1000000007", "1000000013", "1000000016");
+
+            assertThat(stats.getSampleVariance())
+                .contains(MONETARY.of("30.00"));
+        }
+
+        @Test
+        void works_with_unlimited_precision() {
+            var unlimited = ConfigurationFactory.create(0, HALF_UP, new NopScaler());
+            var stats = new DecimalStatistics<>(unlimited);
+            stats.accept(unlimited.of("1"));
+            stats.accept(unlimited.of("2"));
+            stats.accept(unlimited.of("2"));
+
+            assertThat(stats.getMean().get().getValue())
+                .isEqualTo("1.666666666666666666666666666666667");
+        }
+    }
+
+    @Nested
+    class Combine {
+
+        @Test
+        void equals_single_pass() {
+            var all = statisticsOf("2", "4", "4", "4", "5", "5", "7", "9");
+            var left = statisticsOf("2", "4", "4");
+            var right = statisticsOf("4", "5", "5", "7", "9");
+
+            left.combine(right);
+
+            assertThat(left.getCount())
+                .isEqualTo(all.getCount());
+            assertThat(left.getMean())
+                .isEqualTo(all.getMean());
+            assertThat(left.getSampleVariance())
+                .isEqualTo(all.getSampleVariance());
+        }
+
+        @Test
+        void handles_empty_sides() {
+            var left = new DecimalStatistics<>(MONETARY);
+            left.combine(statisticsOf("1", "3"));
+            left.combine(new DecimalStatistics<>(MONETARY));
+
+            assertThat(left.getMean())
+                .contains(MONETARY.of("2"));
+        }
+
+        @Test
+        void restores_shipped_state() {
+            var remote = statisticsOf("4", "5", "5", "7", "9");
+            var local = statisticsOf("2", "4", "4");
+
+            local.combine(DecimalStatistics.of(
+                MONETARY,
+                remote.getCount(),
+                remote.getMeanRaw().getValue(),
+                remote.getSumOfSquaredDeviationsRaw().getValue()
+            ));
+
+            assertThat(local.getPopulationStandardDeviation())
+                .contains(MONETARY.of("2.00"));
+        }
+
+        @Test
+        void rejects_different_configuration() {
+            var left = new DecimalStatistics<>(MONETARY);
+            var right = new DecimalStatistics<>(ConfigurationFactory.monetary(10));
+
+            assertThrows(IllegalArgumentException.class, () -> left.combine(right));
+        }
+    }
+
+    @Test
+    void parallel_collector_matches_sequential_collector() {
+        List<FluentBigDecimal> values = IntStream.range(0, 50_000)
+            .mapToObj(i -> MONETARY.of(BigDecimal.valueOf(i * 7919L % 10_007, 2)))
+            .collect(Collectors.toList());
+
+        var sequential = values.stream()
+            .collect(DecimalCollectors.statistics(MONETARY));
+        var parallel = values.parallelStream()
+            .collect(DecimalCollectors.statistics(MONETARY));
+
+        assertThat(parallel.getMean())
+            .isEqualTo(sequential.getMean());
+        assertThat(parallel.getSampleStandardDeviation())
+            .isEqualTo(sequential.getSampleStandardDeviation());
+    }
+}
@@ -0,0 +1,181 @@
+package com.github.honoluluhenk.fluentbigdecimals.stream;
+
+import com.github.honoluluhenk.fluentbigdecimals.CashRoundingUnits;
+import com.github.honoluluhenk.fluentbigdecimals.Configuration;
+import com.github.honoluluhenk.fluentbigdecimals.ConfigurationFactory;
+import com.github.honoluluhenk.fluentbigdecimals.FluentBigDecimal;
+import com.github.honoluluhenk.fluentbigdecimals.scaler.NopScaler;
+import lombok.var;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static java.math.RoundingMode.HALF_UP;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DecimalStreamTest {
+    private static final Configuration<FluentBigDecimal> MONETARY = ConfigurationFactory.monetary(20);
+
+    @Nested
+    class Of {
+
+        @Test
+        void rounds_values_like_the_configuration() {
+            var actual = DecimalStream.of(MONETARY, new BigDecimal("1.005"), new BigDecimal("2"))
+                .unscaled()
+                .toArray();
+
+            assertThat(actual)
+                .containsExactly(101, 200);
+        }
+
+        @Test
+        void rounds_unscaled_values_if_needed() {
+            var cash = ConfigurationFactory.cashRounding(20, CashRoundingUnits.ROUND_DOT05);
+
+            var actual = DecimalStream.ofUnscaled(cash, 101, 120)
+                .boxed()
+                .collect(Collectors.toList());
+
+            assertThat(actual)
+                .containsExactly(cash.of("1.00"), cash.of("1.20"));
+        }
+
+        @Test
+        void rejects_configurations_without_fixed_scale() {
+            var nop = ConfigurationFactory.create(10, HALF_UP, new NopScaler());
+
+            assertThrows(IllegalArgumentException.class, () -> DecimalStream.of(nop, BigDecimal.ONE));
+        }
+
+        @Test
+        void rejects_values_not_fitting_into_a_long() {
+            var huge = ConfigurationFactory.monetary(30);
+
+            assertThrows(ArithmeticException.class, () -> DecimalStream.of(huge, new BigDecimal("1E20")));
+        }
+    }
+
+    @Nested
+    class Map {
+
+        @Test
+        void behaves_like_apply() {
+            var values = List.of(MONETARY.of("10"), MONETARY.of("1"), MONETARY.of("-2.5"));
+            var third = (com.github.honoluluhenk.fluentbigdecimals.Projection)
+                (value, mc) -> value.divide(new BigDecimal("3"), mc);
+
+            var actual = DecimalStream.of(MONETARY, values)
+                .map(third)
+                .boxed()
+                .collect(Collectors.toList());
+
+            assertThat(actual)
+                .containsExactlyElementsOf(values.stream().map(v -> v.apply(third)).collect(Collectors.toList()));
+        }
+    }
+
+    @Nested
+    class Filter {
+
+        @Test
+        void filters_boxed_values() {
+            var actual = DecimalStream.ofUnscaled(MONETARY, 100, -50, 20)
+                .filter(value -> value.getValue().signum() > 0)
+                .count();
+
+            assertThat(actual)
+                .isEqualTo(2);
+        }
+
+        @Test
+        void filters_unscaled_values() {
+            var actual = DecimalStream.ofUnscaled(MONETARY, 100, -50, 20)
+                .filterUnscaled(value -> value < 0)
+                .boxed()
+                .collect(Collectors.toList());
+
+            assertThat(actual)
+                .containsExactly(MONETARY.of("-0.50"));
+        }
+    }
+
+    @Nested
+    class Aggregates {
+
+        @Test
+        void sums_exactly() {
+            var actual = DecimalStream.ofUnscaled(MONETARY, Long.MAX_VALUE, Long.MAX_VALUE, 2)
+                .sum();
+
+            assertThat(actual.getValue())
+                .isEqualTo("184467440737095516.16");
+        }
+
+        @Test
+        void sums_in_parallel() {
+            long[] unscaled = LongStream.rangeClosed(1, 100_000).toArray();
+
+            var actual = DecimalStream.ofUnscaled(MONETARY, unscaled)
+                .parallel()
+                .sum();
+
+            assertThat(actual)
+                .isEqualTo(MONETARY.of("50000500.00"));
+        }
+
+        @Test
+        void sum_of_empty_stream_is_zero() {
+            assertThat(DecimalStream.ofUnscaled(MONETARY).sum().getValue())
+                .isEqualByComparingTo("0");
+        }
+
+        @Test
+        void finds_min_and_max() {
+            assertThat(DecimalStream.ofUnscaled(MONETARY, 5, -7, 3).min())
+                .contains(MONETARY.of("-0.07"));
+            assertThat(DecimalStream.ofUnscaled(MONETARY, 5, -7, 3).max())
+                .contains(MONETARY.of("0.05"));
+            assertThat(DecimalStream.ofUnscaled(MONETARY).max())
+                .isEmpty();
+        }
+
+        @Test
+        void averages_like_divide() {
+            var actual = DecimalStream.ofUnscaled(MONETARY, 100, 100, 200)
+                .average();
+
+            assertThat(actual)
+                .contains(MONETARY.of("4.00").divide(3));
+        }
+
+        @Test
+        void computes_summary_statistics() {
+            var actual = DecimalStream.ofUnscaled(MONETARY, 100, 100, 200)
+                .parallel()
+                .summaryStatistics();
+
+            assertThat(actual.getCount())
+                .isEqualTo(3);
+            assertThat(actual.getSum())
+                .isEqualTo(MONETARY.of("4.00"));
+        }
+    }
+
+    @Test
+    void spliterator_splits_for_parallel_processing() {
+        long[] unscaled = LongStream.range(0, 1024).toArray();
+
+        var spliterator = DecimalStream.ofUnscaled(MONETARY, unscaled)
+            .parallel()
+            .spliterator();
+
+        assertThat(spliterator.trySplit())
+            .isNotNull();
+    }
+}
@@ -0,0 +1,110 @@
+package com.github.honoluluhenk.fluentbigdecimals.stream;
+
+import com.github.honoluluhenk.fluentbigdecimals.Configuration;
+import com.github.honoluluhenk.fluentbigdecimals.ConfigurationFactory;
+import com.github.honoluluhenk.fluentbigdecimals.FluentBigDecimal;
+import lombok.var;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DecimalSummaryStatisticsTest {
+    private static final Configuration<FluentBigDecimal> MONETARY = ConfigurationFactory.monetary(20);
+
+    @Nested
+    class Accept {
+
+        @Test
+        void is_empty_initially() {
+            var stats = new DecimalSummaryStatistics<>(MONETARY);
+
+            assertThat(stats.getCount())
+                .isZero();
+            assertThat(stats.getSum().getValue())
+                .isEqualByComparingTo("0");
+            assertThat(stats.getMin())
+                .isEmpty();
+            assertThat(stats.getMax())
+                .isEmpty();
+            assertThat(stats.getAverage())
+                .isEmpty();
+        }
+
+        @Test
+        void accumulates_exactly_and_rounds_in_getters() {
+            var stats = new DecimalSummaryStatistics<>(MONETARY);
+            stats.accept(MONETARY.ofRaw("0.004"));
+            stats.accept(MONETARY.ofRaw("0.004"));
+            stats.accept(new BigDecimal("-1"));
+
+            assertThat(stats.getSumRaw().getValue())
+                .isEqualTo("-0.992");
+            assertThat(stats.getSum())
+                .isEqualTo(MONETARY.of("-0.99"));
+            assertThat(stats.getMin())
+                .contains(MONETARY.of("-1.00"));
+            assertThat(stats.getMax())
+                .contains(MONETARY.of("0.00"));
+        }
+
+        @Test
+        void handles_values_not_fitting_into_a_long() {
+            var stats = new DecimalSummaryStatistics<>(MONETARY);
+            stats.accept(new BigDecimal("1E17"));
+            stats.accept(new BigDecimal("-1E17"));
+            stats.accept(new BigDecimal("5"));
+
+            assertThat(stats.getSum())
+                .isEqualTo(MONETARY.of("5.00"));
+            assertThat(stats.getMin().get().getValue())
+                .isEqualByComparingTo("-1E17");
+            assertThat(stats.getMax().get().getValue())
+                .isEqualByComparingTo("1E17");
+        }
+    }
+
+    @Nested
+    class Combine {
+
+        @Test
+        void merges_all_values() {
+            var left = new DecimalSummaryStatistics<>(MONETARY);
+            left.accept(MONETARY.of("1"));
+            left.accept(new BigDecimal("1E17"));
+            var right = new DecimalSummaryStatistics<>(ConfigurationFactory.monetary(20));
+            right.accept(MONETARY.of("-3"));
+
+            left.combine(right);
+
+            assertThat(left.getCount())
+                .isEqualTo(3);
+            assertThat(left.getSum().getValue())
+                .isEqualByComparingTo("99999999999999998");
+            assertThat(left.getMin())
+                .contains(MONETARY.of("-3.00"));
+            assertThat(left.getAverage())
+                .contains(MONETARY.ofRaw(new BigDecimal("99999999999999998")).divide(3));
+        }
+
+        @Test
+        void rejects_different_configuration() {
+            var left = new DecimalSummaryStatistics<>(MONETARY);
+            var right = new DecimalSummaryStatistics<>(ConfigurationFactory.monetary(10));
+
+            assertThrows(IllegalArgumentException.class, () -> left.combine(right));
+        }
+    }
+
+    @Test
+    void has_a_readable_toString() {
+        var stats = new DecimalSummaryStatistics<>(MONETARY);
+        stats.accept(MONETARY.of("1.5"));
+
+        assertThat(stats.toString())
+            .isEqualTo("DecimalSummaryStatistics[count=1,sum=1.50,min=1.50,max=1.50,[20,HALF_UP,MaxScaleScaler[2]]]");
+    }
+}